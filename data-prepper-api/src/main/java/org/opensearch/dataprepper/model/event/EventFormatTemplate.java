@@ -0,0 +1,229 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A format string such as <code>logs-${/service}-${getMetadata("date")}</code> which is parsed once
+ * and can then be rendered for many events. Rendering gives the same result as
+ * {@link Event#formatString(String, ExpressionEvaluator, String)}, without rescanning the format or
+ * recreating the event keys for each event.
+ * <p>
+ * Instances are immutable and may be shared between threads.
+ *
+ * @since 2.16
+ */
+public final class EventFormatTemplate {
+    private static final String PLACEHOLDER_START = "${";
+    private static final String PLACEHOLDER_END = "}";
+    private static final int ESTIMATED_VALUE_LENGTH = 16;
+
+    private final String format;
+    private final Segment[] segments;
+    private final boolean malformed;
+    private final int estimatedLength;
+
+    private EventFormatTemplate(final String format, final List<Segment> segments, final boolean malformed) {
+        this.format = format;
+        this.segments = segments.toArray(new Segment[0]);
+        this.malformed = malformed;
+        int length = 0;
+        for (final Segment segment : this.segments) {
+            length += segment.literal != null ? segment.literal.length() : ESTIMATED_VALUE_LENGTH;
+        }
+        this.estimatedLength = length;
+    }
+
+    /**
+     * Parses a format string.
+     *
+     * @param format the format string
+     * @return the template
+     * @since 2.16
+     */
+    public static EventFormatTemplate compile(final String format) {
+        Objects.requireNonNull(format, "format cannot be null");
+        final List<Segment> segments = new ArrayList<>();
+        int fromIndex = 0;
+        int position;
+        while ((position = format.indexOf(PLACEHOLDER_START, fromIndex)) != -1) {
+            final int endPosition = format.indexOf(PLACEHOLDER_END, position + 1);
+            if (endPosition == -1) {
+                // Reported when rendering, so only events which are formatted fail
+                return new EventFormatTemplate(format, segments, true);
+            }
+            if (position > fromIndex) {
+                segments.add(Segment.literal(format.substring(fromIndex, position)));
+            }
+            segments.add(Segment.placeholder(format.substring(position + PLACEHOLDER_START.length(), endPosition)));
+            fromIndex = endPosition + 1;
+        }
+        if (fromIndex < format.length()) {
+            segments.add(Segment.literal(format.substring(fromIndex)));
+        }
+        return new EventFormatTemplate(format, segments, false);
+    }
+
+    /**
+     * @return the format string this template was compiled from
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * @return true if the format has no <code>${...}</code> parts, so every event renders the same string
+     */
+    public boolean isLiteral() {
+        return !malformed && (segments.length == 0 || (segments.length == 1 && segments[0].literal != null));
+    }
+
+    /**
+     * Renders the template using only event keys.
+     *
+     * @param event the event
+     * @return the formatted string
+     * @throws EventKeyNotFoundException if a key is not in the event
+     * @throws RuntimeException if the format is not properly formed
+     */
+    public String render(final Event event) {
+        return render(event, null, null);
+    }
+
+    /**
+     * Renders the template, evaluating parts which are not event keys as expressions.
+     *
+     * @param event the event
+     * @param expressionEvaluator the evaluator for expressions, or null to only use event keys
+     * @return the formatted string
+     * @throws EventKeyNotFoundException if a part is neither in the event nor a valid expression
+     * @throws RuntimeException if the format is not properly formed
+     */
+    public String render(final Event event, final ExpressionEvaluator expressionEvaluator) {
+        return render(event, expressionEvaluator, null);
+    }
+
+    /**
+     * Renders the template, evaluating parts which are not event keys as expressions.
+     *
+     * @param event the event
+     * @param expressionEvaluator the evaluator for expressions, or null to only use event keys
+     * @param defaultValue the value for parts which are neither in the event nor a valid expression,
+     *                     or null to throw for such parts
+     * @return the formatted string
+     * @throws EventKeyNotFoundException if a part is neither in the event nor a valid expression and there is no default
+     * @throws RuntimeException if the format is not properly formed
+     */
+    public String render(final Event event, final ExpressionEvaluator expressionEvaluator, final String defaultValue) {
+        if (isLiteral()) {
+            return segments.length == 0 ? format : segments[0].literal;
+        }
+
+        final StringBuilder result = new StringBuilder(estimatedLength);
+        for (final Segment segment : segments) {
+            if (segment.literal != null) {
+                result.append(segment.literal);
+                continue;
+            }
+            final Object value = segment.resolve(event, expressionEvaluator, defaultValue);
+            if (value != null) {
+                result.append(value);
+            }
+        }
+        if (malformed) {
+            // Parts before the unclosed placeholder are still resolved first, as Event.formatString does
+            throw new RuntimeException("Format string is not properly formed");
+        }
+        return result.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format;
+    }
+
+    private static final class Segment {
+        private final String literal;
+        private final String name;
+        private final EventKey eventKey;
+        private volatile ExpressionCheck expressionCheck;
+
+        private Segment(final String literal, final String name, final EventKey eventKey) {
+            this.literal = literal;
+            this.name = name;
+            this.eventKey = eventKey;
+        }
+
+        static Segment literal(final String literal) {
+            return new Segment(literal, null, null);
+        }
+
+        static Segment placeholder(final String name) {
+            EventKey eventKey;
+            try {
+                eventKey = new JacksonEventKey(name, false, EventKeyFactory.EventAction.GET);
+            } catch (final RuntimeException e) {
+                // Not a valid key, so it can only be an expression
+                eventKey = null;
+            }
+            return new Segment(null, name, eventKey);
+        }
+
+        Object resolve(final Event event, final ExpressionEvaluator expressionEvaluator, final String defaultValue) {
+            Object value = null;
+            if (eventKey != null) {
+                try {
+                    value = event.get(eventKey, Object.class);
+                } catch (final Exception ignored) {
+                    // Treated as a missing key, as Event.formatString does
+                }
+            }
+            if (value != null) {
+                return value;
+            }
+            if (expressionEvaluator != null && isValidExpression(expressionEvaluator)) {
+                return expressionEvaluator.evaluate(name, event);
+            }
+            if (defaultValue == null) {
+                throw new EventKeyNotFoundException(String.format("The key %s could not be found in the Event when formatting", name));
+            }
+            return defaultValue;
+        }
+
+        private boolean isValidExpression(final ExpressionEvaluator expressionEvaluator) {
+            final ExpressionCheck check = expressionCheck;
+            if (check != null && check.expressionEvaluator == expressionEvaluator) {
+                return check.valid;
+            }
+            final boolean valid = Boolean.TRUE.equals(expressionEvaluator.isValidExpressionStatement(name));
+            expressionCheck = new ExpressionCheck(expressionEvaluator, valid);
+            return valid;
+        }
+    }
+
+    /**
+     * Remembers whether a part is a valid expression for the evaluator it was last rendered with.
+     */
+    private static final class ExpressionCheck {
+        private final ExpressionEvaluator expressionEvaluator;
+        private final boolean valid;
+
+        private ExpressionCheck(final ExpressionEvaluator expressionEvaluator, final boolean valid) {
+            this.expressionEvaluator = expressionEvaluator;
+            this.valid = valid;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the keys which {@link JacksonEvent} creates for its string-keyed methods, such as
+ * {@link Event#get(String, Class)} and {@link Event#put(String, Object)}. Plugins which pass the
+ * same strings for every event then reuse the validated key and its compiled JSON pointer, as
+ * plugins using an {@link EventKeyFactory} already do.
+ * <p>
+ * The cache is shared by all events. It holds at most {@link #getMaximumSize()} keys and is cleared
+ * when it is full, so keys built from event data cannot grow it without bound. Data Prepper core
+ * configures the size and reports the hit and miss counts; plugins should not call this class.
+ *
+ * @since 2.16
+ */
+public final class EventKeyCache {
+    static final int DEFAULT_MAXIMUM_SIZE = 512;
+
+    private static final Map<EventKeyFactory.EventAction, Map<String, JacksonEventKey>> KEYS_BY_ACTION =
+            new EnumMap<>(EventKeyFactory.EventAction.class);
+    private static final AtomicInteger SIZE = new AtomicInteger();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static volatile int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    static {
+        for (final EventKeyFactory.EventAction eventAction : EventKeyFactory.EventAction.values()) {
+            KEYS_BY_ACTION.put(eventAction, new ConcurrentHashMap<>());
+        }
+    }
+
+    private EventKeyCache() {
+    }
+
+    /**
+     * Sets the number of keys to cache and clears the cache.
+     *
+     * @param maximumSize the maximum number of keys, or zero or less to disable caching
+     */
+    public static void setMaximumSize(final int maximumSize) {
+        EventKeyCache.maximumSize = maximumSize;
+        clear();
+    }
+
+    /**
+     * @return the maximum number of keys to cache; zero or less when caching is disabled
+     */
+    public static int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return the number of string-keyed accesses which reused a cached key
+     */
+    public static long getHitCount() {
+        return HITS.sum();
+    }
+
+    /**
+     * @return the number of string-keyed accesses which had to create a key
+     */
+    public static long getMissCount() {
+        return MISSES.sum();
+    }
+
+    /**
+     * @return the number of keys in the cache
+     */
+    public static int getSize() {
+        return SIZE.get();
+    }
+
+    /**
+     * Gets the key for a string and action, creating and caching it when needed.
+     *
+     * @param key the string key
+     * @param eventAction the action the key is used for
+     * @return the key
+     * @throws IllegalArgumentException if the key is not valid for the action
+     */
+    static JacksonEventKey getEventKey(final String key, final EventKeyFactory.EventAction eventAction) {
+        final int currentMaximumSize = maximumSize;
+        if (currentMaximumSize <= 0 || key == null) {
+            return new JacksonEventKey(key, true, eventAction);
+        }
+
+        final Map<String, JacksonEventKey> keys = KEYS_BY_ACTION.get(eventAction);
+        final JacksonEventKey cachedKey = keys.get(key);
+        if (cachedKey != null) {
+            HITS.increment();
+            return cachedKey;
+        }
+
+        MISSES.increment();
+        // Cached keys are shared between threads, so they are not lazily initialized
+        final JacksonEventKey eventKey = new JacksonEventKey(key, false, eventAction);
+        if (SIZE.get() >= currentMaximumSize) {
+            clear();
+        }
+        if (keys.putIfAbsent(key, eventKey) == null) {
+            SIZE.incrementAndGet();
+        }
+        return eventKey;
+    }
+
+    private static void clear() {
+        for (final Map<String, JacksonEventKey> keys : KEYS_BY_ACTION.values()) {
+            keys.clear();
+        }
+        SIZE.set(0);
+    }
+}
@@ -11,6 +11,7 @@ package org.opensearch.dataprepper.model.event;
 
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -24,7 +25,6 @@ import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.apache.commons.lang3.StringUtils;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
-import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,7 +40,6 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.StringJoiner;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -113,7 +112,14 @@ public class JacksonEvent implements Event {
 
     private transient EventHandle eventHandle;
 
-    private final JsonNode jsonNode;
+    private volatile JsonNode jsonNode;
+
+    /**
+     * The serialized JSON the event was created from. It is only parsed when the event data is
+     * first read, and is dropped once the event data may have been modified. It is only set to null
+     * after {@link #jsonNode} is set, so readers take a local copy and fall back to the parsed node.
+     */
+    private volatile String jsonData;
 
     static final int MAX_KEY_LENGTH = 2048;
 
@@ -133,7 +139,11 @@ public class JacksonEvent implements Event {
             this.eventMetadata = builder.eventMetadata;
         }
 
-        this.jsonNode = getInitialJsonNode(builder.data);
+        if (builder.jsonData != null) {
+            this.jsonData = builder.jsonData;
+        } else {
+            this.jsonNode = getInitialJsonNode(builder.data);
+        }
         if (builder.eventHandle != null) {
             this.eventHandle = builder.eventHandle;
         } else {
@@ -146,7 +156,11 @@ public class JacksonEvent implements Event {
     }
 
     protected JacksonEvent(final JacksonEvent otherEvent) {
-        this.jsonNode = otherEvent.jsonNode.deepCopy();
+        // jsonData is read first because it is only dropped once jsonNode has been parsed
+        final String otherJsonData = otherEvent.jsonData;
+        final JsonNode otherJsonNode = otherEvent.jsonNode;
+        this.jsonNode = otherJsonNode == null ? null : otherJsonNode.deepCopy();
+        this.jsonData = otherJsonData;
         this.eventMetadata = DefaultEventMetadata.fromEventMetadata(otherEvent.eventMetadata);
         this.eventHandle = new DefaultEventHandle(eventMetadata.getTimeReceived());
     }
@@ -171,11 +185,37 @@ public class JacksonEvent implements Event {
         return mapper.valueToTree(data);
     }
 
+    /**
+     * Returns the event data. The returned node may be modified, so the event no longer
+     * writes out the serialized JSON it was created from.
+     */
     @Override
     public JsonNode getJsonNode() {
+        return getJsonNodeForUpdate();
+    }
+
+    private JsonNode getParsedJsonNode() {
+        final JsonNode node = jsonNode;
+        return node != null ? node : parseJsonData();
+    }
+
+    private synchronized JsonNode parseJsonData() {
+        if (jsonNode == null) {
+            try {
+                jsonNode = mapper.readTree(jsonData);
+            } catch (final JsonProcessingException e) {
+                throw new IllegalArgumentException("Unable to convert data into an event");
+            }
+        }
         return jsonNode;
     }
 
+    private JsonNode getJsonNodeForUpdate() {
+        final JsonNode node = getParsedJsonNode();
+        jsonData = null;
+        return node;
+    }
+
     private Map<String, Object> normalizeKeys(final Map<String, Object> map) {
         final Map<String, Object> replacementMap = new HashMap<>();
         Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
@@ -211,7 +251,7 @@ public class JacksonEvent implements Event {
 
         final Deque<String> keys = new LinkedList<>(jacksonEventKey.getKeyPathList());
 
-        JsonNode parentNode = jsonNode;
+        JsonNode parentNode = getJsonNodeForUpdate();
 
         while (!keys.isEmpty()) {
             if (keys.size() == 1) {
@@ -250,7 +290,7 @@ public class JacksonEvent implements Event {
      */
     @Override
     public void put(final String key, final Object value) {
-        final JacksonEventKey jacksonEventKey = new JacksonEventKey(key, true, EventKeyFactory.EventAction.PUT);
+        final JacksonEventKey jacksonEventKey = EventKeyCache.getEventKey(key, EventKeyFactory.EventAction.PUT);
         put(jacksonEventKey, value);
     }
 
@@ -332,7 +372,7 @@ public class JacksonEvent implements Event {
      */
     @Override
     public <T> T get(final String key, final Class<T> clazz) {
-        final JacksonEventKey jacksonEventKey = new JacksonEventKey(key, true, EventKeyFactory.EventAction.GET);
+        final JacksonEventKey jacksonEventKey = EventKeyCache.getEventKey(key, EventKeyFactory.EventAction.GET);
         return get(jacksonEventKey, clazz);
     }
 
@@ -342,14 +382,18 @@ public class JacksonEvent implements Event {
 
     private JsonNode getNode(final String key) {
         final JsonPointer jsonPointer = toJsonPointer(key);
-        return jsonNode.at(jsonPointer);
+        return getParsedJsonNode().at(jsonPointer);
     }
 
     private JsonNode getNode(final JacksonEventKey key) {
-        return jsonNode.at(key.getJsonPointer());
+        return getParsedJsonNode().at(key.getJsonPointer());
     }
 
     private <T> T mapNodeToObject(final String key, final JsonNode node, final Class<T> clazz) {
+        if (TreeNode.class.isAssignableFrom(clazz)) {
+            // The node itself is returned and may be modified by the caller
+            jsonData = null;
+        }
         try {
             return mapper.treeToValue(node, clazz);
         } catch (final JsonProcessingException e) {
@@ -381,11 +425,14 @@ public class JacksonEvent implements Event {
      */
     @Override
     public <T> List<T> getList(final String key, final Class<T> clazz) {
-        JacksonEventKey jacksonEventKey = new JacksonEventKey(key, true, EventKeyFactory.EventAction.GET);
+        JacksonEventKey jacksonEventKey = EventKeyCache.getEventKey(key, EventKeyFactory.EventAction.GET);
         return getList(jacksonEventKey, clazz);
     }
 
     private <T> List<T> mapNodeToList(final String key, final JsonNode node, final Class<T> clazz) {
+        if (TreeNode.class.isAssignableFrom(clazz)) {
+            jsonData = null;
+        }
         try {
             final ObjectReader reader = mapper.readerFor(TypeFactory.defaultInstance().constructCollectionType(List.class, clazz));
             return reader.readValue(node);
@@ -416,12 +463,12 @@ public class JacksonEvent implements Event {
         final String trimmedKey = jacksonEventKey.getTrimmedKey();
         final int index = trimmedKey.lastIndexOf(SEPARATOR);
 
-        JsonNode baseNode = jsonNode;
+        final JsonNode rootNode = getJsonNodeForUpdate();
+        JsonNode baseNode = rootNode;
         String leafKey = trimmedKey;
 
         if (index != -1) {
-            final JsonPointer jsonPointer = toJsonPointer(trimmedKey.substring(0, index));
-            baseNode = jsonNode.at(jsonPointer);
+            baseNode = rootNode.at(jacksonEventKey.getJsonPointer().head());
             leafKey = trimmedKey.substring(index + 1);
         }
 
@@ -437,7 +484,7 @@ public class JacksonEvent implements Event {
      */
     @Override
     public void delete(final String key) {
-        final JacksonEventKey jacksonEventKey = new JacksonEventKey(key, true, EventKeyFactory.EventAction.DELETE);
+        final JacksonEventKey jacksonEventKey = EventKeyCache.getEventKey(key, EventKeyFactory.EventAction.DELETE);
         delete(jacksonEventKey);
     }
 
@@ -445,7 +492,7 @@ public class JacksonEvent implements Event {
     public void clear() {
         // Delete all entries from the event
         Iterator iter = toMap().keySet().iterator();
-        JsonNode baseNode = jsonNode;
+        JsonNode baseNode = getJsonNodeForUpdate();
         while (iter.hasNext()) {
             ((ObjectNode) baseNode).remove((String)iter.next());
         }
@@ -456,16 +503,20 @@ public class JacksonEvent implements Event {
         if(!(other instanceof JacksonEvent))
             throw new IllegalArgumentException("Unable to merge the Event. The input Event must be a JacksonEvent.");
         final JacksonEvent otherJacksonEvent = (JacksonEvent) other;
-        if(!(otherJacksonEvent.jsonNode instanceof ObjectNode)) {
+        final JsonNode otherJsonNode = otherJacksonEvent.getParsedJsonNode();
+        if(!(otherJsonNode instanceof ObjectNode)) {
             throw new IllegalArgumentException("Unable to merge the Event. The input Event must be a JacksonEvent with object data.");
         }
-        final ObjectNode otherObjectNode = (ObjectNode) otherJacksonEvent.jsonNode;
+        final ObjectNode otherObjectNode = (ObjectNode) otherJsonNode;
 
-        if(!(jsonNode instanceof ObjectNode)) {
+        final JsonNode thisJsonNode = getParsedJsonNode();
+        if(!(thisJsonNode instanceof ObjectNode)) {
             throw new UnsupportedOperationException("Unable to merge the Event. The current Event must have object data.");
         }
 
-        ((ObjectNode) jsonNode).setAll(otherObjectNode);
+        // The merged values are shared with the other event, so neither may write out its original JSON
+        otherJacksonEvent.jsonData = null;
+        ((ObjectNode) getJsonNodeForUpdate()).setAll(otherObjectNode);
     }
 
     @Override
@@ -476,7 +527,7 @@ public class JacksonEvent implements Event {
         if (!(other instanceof JacksonEvent)) {
             throw new IllegalArgumentException("Unable to merge the Event. The input Event must be a JacksonEvent.");
         }
-        if (!(jsonNode instanceof ObjectNode)) {
+        if (!(getParsedJsonNode() instanceof ObjectNode)) {
             throw new UnsupportedOperationException("Unable to merge the Event. The current Event must have object data.");
         }
 
@@ -489,7 +540,11 @@ public class JacksonEvent implements Event {
 
     @Override
     public String toJsonString() {
-        return jsonNode.toString();
+        final String unmodifiedJsonData = jsonData;
+        if (unmodifiedJsonData != null) {
+            return unmodifiedJsonData;
+        }
+        return getParsedJsonNode().toString();
     }
 
     @Override
@@ -504,7 +559,7 @@ public class JacksonEvent implements Event {
 
     @Override
     public String getAsJsonString(final String key) {
-        JacksonEventKey jacksonEventKey = new JacksonEventKey(key, true, EventKeyFactory.EventAction.GET);
+        JacksonEventKey jacksonEventKey = EventKeyCache.getEventKey(key, EventKeyFactory.EventAction.GET);
         return getAsJsonString(jacksonEventKey);
     }
 
@@ -542,47 +597,7 @@ public class JacksonEvent implements Event {
 
 
     private String formatStringInternal(final String format, final ExpressionEvaluator expressionEvaluator, final String defaultValue) {
-        int fromIndex = 0;
-        String result = "";
-        int position = 0;
-        while ((position = format.indexOf("${", fromIndex)) != -1) {
-            int endPosition = format.indexOf("}", position + 1);
-            if (endPosition == -1) {
-                throw new RuntimeException("Format string is not properly formed");
-            }
-            result += format.substring(fromIndex, position);
-            String name = format.substring(position + 2, endPosition);
-
-            Object val = null;
-
-            try {
-                val = this.get(name, Object.class);
-            } catch (final Exception ignored) {
-                // Exception likely indicates use of a Data Prepper expression
-            }
-
-            if (val == null) {
-                if (expressionEvaluator != null && expressionEvaluator.isValidExpressionStatement(name)) {
-                    val = expressionEvaluator.evaluate(name, this);
-                } else {
-                    if (defaultValue == null) {
-                        throw new EventKeyNotFoundException(String.format("The key %s could not be found in the Event when formatting", name));
-                    }
-
-                    val = defaultValue;
-                }
-            }
-
-
-            if (Objects.nonNull(val)) {
-                result += val.toString();
-            }
-            fromIndex = endPosition + 1;
-        }
-        if (fromIndex < format.length()) {
-            result += format.substring(fromIndex);
-        }
-        return result;
+        return EventFormatTemplate.compile(format).render(this, expressionEvaluator, defaultValue);
     }
 
     @Override
@@ -601,7 +616,7 @@ public class JacksonEvent implements Event {
 
     @Override
     public boolean containsKey(final String key) {
-        JacksonEventKey jacksonEventKey = new JacksonEventKey(key, true, EventKeyFactory.EventAction.GET);
+        JacksonEventKey jacksonEventKey = EventKeyCache.getEventKey(key, EventKeyFactory.EventAction.GET);
         return containsKey(jacksonEventKey);
     }
 
@@ -616,13 +631,21 @@ public class JacksonEvent implements Event {
 
     @Override
     public boolean isValueAList(final String key) {
-        JacksonEventKey jacksonEventKey = new JacksonEventKey(key, true, EventKeyFactory.EventAction.GET);
+        JacksonEventKey jacksonEventKey = EventKeyCache.getEventKey(key, EventKeyFactory.EventAction.GET);
         return isValueAList(jacksonEventKey);
     }
 
     @Override
     public Map<String, Object> toMap() {
-        return mapper.convertValue(jsonNode, MAP_TYPE_REFERENCE);
+        final String unparsedJsonData = jsonData;
+        if (unparsedJsonData != null && jsonNode == null) {
+            try {
+                return mapper.readValue(unparsedJsonData, MAP_TYPE_REFERENCE);
+            } catch (final JsonProcessingException e) {
+                throw new IllegalArgumentException("Unable to convert data into an event");
+            }
+        }
+        return mapper.convertValue(getParsedJsonNode(), MAP_TYPE_REFERENCE);
     }
 
 
@@ -675,6 +698,7 @@ public class JacksonEvent implements Event {
 
         private EventMetadata eventMetadata;
         protected Object data;
+        private String jsonData;
         private String eventType;
         private Instant timeReceived;
         private Map<String, Object> eventMetadataAttributes;
@@ -751,6 +775,24 @@ public class JacksonEvent implements Event {
          */
         public Builder<T> withData(final Object data) {
             this.data = data;
+            this.jsonData = null;
+            return this;
+        }
+
+        /**
+         * Sets the data of the event from serialized JSON. Unlike {@link #withData(Object)} with a string,
+         * the JSON is only parsed when the event data is first read, and is written out as is by
+         * {@link JacksonEvent#toJsonString()} until the event is modified. Invalid JSON is reported when
+         * the event data is first read rather than when the event is built.
+         *
+         * @param jsonData the serialized JSON
+         * @return returns the builder
+         * @since 2.16
+         */
+        public Builder<T> withJsonData(final String jsonData) {
+            checkNotNull(jsonData, "jsonData cannot be null");
+            this.jsonData = jsonData;
+            this.data = null;
             return this;
         }
 
@@ -784,7 +826,7 @@ public class JacksonEvent implements Event {
             if (getRootKey() != null && !getRootKey().isEmpty() && event.containsKey(getRootKey())) {
                 return event.getNode(getRootKey());
             }
-            return event.getJsonNode();
+            return event.getParsedJsonNode();
         }
 
 
@@ -795,7 +837,7 @@ public class JacksonEvent implements Event {
                 jsonString = searchAndFilter(getBaseNode(), "", getIncludeKeys(), RETAIN_ALL);
             } else if (getExcludeKeys() != null && !getExcludeKeys().isEmpty()) {
                 jsonString = searchAndFilter(getBaseNode(), "", getExcludeKeys(), EXCLUDE_ALL);
-            } else if (getBaseNode() !=event.getJsonNode()) {
+            } else if (getBaseNode() != event.getParsedJsonNode()) {
                 jsonString = event.getAsJsonString(getRootKey());
             } else {
                 // Some successors have its own implementation of toJsonString, such as JacksonSpan.
@@ -807,7 +849,8 @@ public class JacksonEvent implements Event {
             final String tagsKey = getTagsKey();
             if (tagsKey != null) {
                 final JsonNode tagsNode = mapper.valueToTree(event.getMetadata().getTags());
-                return jsonString.substring(0, jsonString.length() - 1) + ",\"" + tagsKey + "\":" + tagsNode.toString() + "}";
+                // Unmodified events may end with whitespace after the closing brace
+                return jsonString.substring(0, jsonString.lastIndexOf('}')) + ",\"" + tagsKey + "\":" + tagsNode.toString() + "}";
             }
             return jsonString;
         }
@@ -296,12 +296,14 @@ public class JacksonSpan extends JacksonEvent implements Span {
         }
 
         /**
-         * Sets the data of the event.
+         * Sets the data of the event. Unlike {@link JacksonEvent.Builder#withJsonData(String)}, spans parse
+         * the JSON eagerly so that the required span keys can be validated when the span is built.
          *
          * @param data JSON representation of the data
          * @return returns the builder
          * @since 2.0
          */
+        @Override
         public Builder withJsonData(final String data) {
             try {
                 this.data.putAll(mapper.readValue(data, MAP_TYPE_REFERENCE));
@@ -0,0 +1,198 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventFormatTemplateTest {
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData("{\"foo\": \"bar\", \"number\": 123, \"info\": {\"ids\": {\"id\":\"idx\"}}, \"empty\": null}")
+                .build();
+    }
+
+    @Test
+    void compile_throws_with_null_format() {
+        assertThrows(NullPointerException.class, () -> EventFormatTemplate.compile(null));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "test-${foo}-string, test-bar-string",
+            "${foo}, bar",
+            "${foo}${number}, bar123",
+            "${/info/ids/id}-test-${foo}, idx-test-bar",
+            "${info/ids/id}-${number}-test-string, idx-123-test-string",
+            "prefix-${foo}, prefix-bar",
+    })
+    void render_replaces_keys_with_event_values(final String format, final String expected) {
+        final EventFormatTemplate objectUnderTest = EventFormatTemplate.compile(format);
+
+        assertThat(objectUnderTest.render(event), equalTo(expected));
+        assertThat(objectUnderTest.render(event), equalTo(event.formatString(format)));
+        assertThat(objectUnderTest.isLiteral(), equalTo(false));
+        assertThat(objectUnderTest.getFormat(), equalTo(format));
+        assertThat(objectUnderTest.toString(), equalTo(format));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "plain-string", "closing-only}", "dollar-$-sign"})
+    void render_without_placeholders_returns_the_format(final String format) {
+        final EventFormatTemplate objectUnderTest = EventFormatTemplate.compile(format);
+
+        assertThat(objectUnderTest.isLiteral(), equalTo(true));
+        assertThat(objectUnderTest.render(event), equalTo(format));
+        assertThat(objectUnderTest.render(event, mock(ExpressionEvaluator.class)), equalTo(format));
+    }
+
+    @Test
+    void render_is_reusable_across_events() {
+        final EventFormatTemplate objectUnderTest = EventFormatTemplate.compile("index-${foo}");
+        final String value = UUID.randomUUID().toString();
+        final Event otherEvent = JacksonEvent.builder()
+                .withEventType("event")
+                .withData("{\"foo\": \"" + value + "\"}")
+                .build();
+
+        assertThat(objectUnderTest.render(event), equalTo("index-bar"));
+        assertThat(objectUnderTest.render(otherEvent), equalTo("index-" + value));
+    }
+
+    @Test
+    void render_throws_when_key_is_missing() {
+        final EventFormatTemplate objectUnderTest = EventFormatTemplate.compile("test-${boo}-string");
+
+        final EventKeyNotFoundException exception = assertThrows(EventKeyNotFoundException.class, () -> objectUnderTest.render(event));
+        assertThat(exception.getMessage(), equalTo("The key boo could not be found in the Event when formatting"));
+    }
+
+    @Test
+    void render_throws_when_value_is_null() {
+        final EventFormatTemplate objectUnderTest = EventFormatTemplate.compile("test-${empty}");
+
+        assertThrows(EventKeyNotFoundException.class, () -> objectUnderTest.render(event));
+    }
+
+    @Test
+    void render_uses_default_value_for_missing_key() {
+        final String defaultValue = UUID.randomUUID().toString();
+        final ExpressionEvaluator expressionEvaluator = mock(ExpressionEvaluator.class);
+        final EventFormatTemplate objectUnderTest = EventFormatTemplate.compile("test-${boo}-string");
+
+        assertThat(objectUnderTest.render(event, expressionEvaluator, defaultValue), equalTo("test-" + defaultValue + "-string"));
+        assertThat(objectUnderTest.render(event, null, defaultValue), equalTo("test-" + defaultValue + "-string"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test-${foo-string", "${foo}-${", "${"})
+    void render_throws_when_format_is_not_properly_formed(final String format) {
+        final EventFormatTemplate objectUnderTest = EventFormatTemplate.compile(format);
+
+        assertThat(objectUnderTest.isLiteral(), equalTo(false));
+        final RuntimeException exception = assertThrows(RuntimeException.class, () -> objectUnderTest.render(event));
+        assertThat(exception.getMessage(), equalTo("Format string is not properly formed"));
+    }
+
+    @Test
+    void render_resolves_keys_before_an_unclosed_placeholder_first() {
+        final EventFormatTemplate objectUnderTest = EventFormatTemplate.compile("${boo}-${foo");
+
+        assertThrows(EventKeyNotFoundException.class, () -> objectUnderTest.render(event));
+    }
+
+    @Test
+    void render_evaluates_expressions_which_are_not_keys() {
+        final String expression = "getMetadata(\"metadata-key\")";
+        final String expressionResult = UUID.randomUUID().toString();
+        final ExpressionEvaluator expressionEvaluator = mock(ExpressionEvaluator.class);
+        when(expressionEvaluator.isValidExpressionStatement(expression)).thenReturn(true);
+        when(expressionEvaluator.evaluate(expression, event)).thenReturn(expressionResult);
+
+        final EventFormatTemplate objectUnderTest = EventFormatTemplate.compile("${foo}-${" + expression + "}");
+
+        assertThat(objectUnderTest.render(event, expressionEvaluator), equalTo("bar-" + expressionResult));
+        verify(expressionEvaluator, never()).isValidExpressionStatement("foo");
+    }
+
+    @Test
+    void render_checks_expression_validity_once_per_evaluator() {
+        final String expression = UUID.randomUUID().toString();
+        final ExpressionEvaluator expressionEvaluator = mock(ExpressionEvaluator.class);
+        final ExpressionEvaluator otherExpressionEvaluator = mock(ExpressionEvaluator.class);
+        when(expressionEvaluator.isValidExpressionStatement(expression)).thenReturn(true);
+        when(expressionEvaluator.evaluate(expression, event)).thenReturn("first");
+        when(otherExpressionEvaluator.isValidExpressionStatement(expression)).thenReturn(true);
+        when(otherExpressionEvaluator.evaluate(expression, event)).thenReturn("second");
+
+        final EventFormatTemplate objectUnderTest = EventFormatTemplate.compile("${" + expression + "}");
+
+        assertThat(objectUnderTest.render(event, expressionEvaluator), equalTo("first"));
+        assertThat(objectUnderTest.render(event, expressionEvaluator), equalTo("first"));
+        assertThat(objectUnderTest.render(event, otherExpressionEvaluator), equalTo("second"));
+        verify(expressionEvaluator, times(1)).isValidExpressionStatement(expression);
+        verify(otherExpressionEvaluator, times(1)).isValidExpressionStatement(expression);
+    }
+
+    @Test
+    void render_omits_null_expression_results() {
+        final String expression = UUID.randomUUID().toString();
+        final ExpressionEvaluator expressionEvaluator = mock(ExpressionEvaluator.class);
+        when(expressionEvaluator.isValidExpressionStatement(expression)).thenReturn(true);
+
+        final EventFormatTemplate objectUnderTest = EventFormatTemplate.compile("a-${" + expression + "}-b");
+
+        assertThat(objectUnderTest.render(event, expressionEvaluator), equalTo("a--b"));
+    }
+
+    @Test
+    void render_throws_when_expression_is_not_valid_and_there_is_no_default() {
+        final ExpressionEvaluator expressionEvaluator = mock(ExpressionEvaluator.class);
+        when(expressionEvaluator.isValidExpressionStatement(anyString())).thenReturn(false);
+
+        final EventFormatTemplate objectUnderTest = EventFormatTemplate.compile("${not a key}");
+
+        assertThrows(EventKeyNotFoundException.class, () -> objectUnderTest.render(event, expressionEvaluator));
+    }
+
+    @Test
+    void render_treats_get_failures_as_missing_keys() {
+        final Event failingEvent = mock(Event.class);
+        when(failingEvent.get(any(EventKey.class), eq(Object.class)))
+                .thenThrow(RuntimeException.class);
+
+        final EventFormatTemplate objectUnderTest = EventFormatTemplate.compile("${foo}");
+
+        assertThat(objectUnderTest.render(failingEvent, null, "default"), equalTo("default"));
+    }
+}
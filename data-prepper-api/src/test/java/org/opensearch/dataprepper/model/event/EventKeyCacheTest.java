@@ -0,0 +1,139 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventKeyCacheTest {
+    @BeforeEach
+    void setUp() {
+        EventKeyCache.setMaximumSize(EventKeyCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        EventKeyCache.setMaximumSize(EventKeyCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    @Test
+    void getEventKey_returns_the_cached_key_for_the_same_string_and_action() {
+        final String key = UUID.randomUUID().toString();
+        final long hitCount = EventKeyCache.getHitCount();
+        final long missCount = EventKeyCache.getMissCount();
+
+        final JacksonEventKey first = EventKeyCache.getEventKey(key, EventKeyFactory.EventAction.GET);
+        final JacksonEventKey second = EventKeyCache.getEventKey(key, EventKeyFactory.EventAction.GET);
+
+        assertThat(first.getKey(), equalTo(key));
+        assertThat(first.getJsonPointer(), notNullValue());
+        assertThat(second, sameInstance(first));
+        assertThat(EventKeyCache.getMissCount() - missCount, equalTo(1L));
+        assertThat(EventKeyCache.getHitCount() - hitCount, equalTo(1L));
+        assertThat(EventKeyCache.getSize(), equalTo(1));
+    }
+
+    @Test
+    void getEventKey_caches_keys_per_action() {
+        final String key = UUID.randomUUID().toString();
+
+        final JacksonEventKey getKey = EventKeyCache.getEventKey(key, EventKeyFactory.EventAction.GET);
+        final JacksonEventKey putKey = EventKeyCache.getEventKey(key, EventKeyFactory.EventAction.PUT);
+
+        assertThat(putKey, not(sameInstance(getKey)));
+        assertThat(getKey.supports(EventKeyFactory.EventAction.PUT), equalTo(false));
+        assertThat(putKey.supports(EventKeyFactory.EventAction.PUT), equalTo(true));
+        assertThat(EventKeyCache.getEventKey(key, EventKeyFactory.EventAction.PUT), sameInstance(putKey));
+        assertThat(EventKeyCache.getSize(), equalTo(2));
+    }
+
+    @Test
+    void getEventKey_clears_the_cache_when_it_is_full() {
+        EventKeyCache.setMaximumSize(2);
+
+        final JacksonEventKey first = EventKeyCache.getEventKey("first", EventKeyFactory.EventAction.GET);
+        EventKeyCache.getEventKey("second", EventKeyFactory.EventAction.GET);
+        EventKeyCache.getEventKey("third", EventKeyFactory.EventAction.GET);
+
+        assertThat(EventKeyCache.getSize(), equalTo(1));
+        assertThat(EventKeyCache.getEventKey("first", EventKeyFactory.EventAction.GET), not(sameInstance(first)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void getEventKey_does_not_cache_when_disabled(final int maximumSize) {
+        EventKeyCache.setMaximumSize(maximumSize);
+        final String key = UUID.randomUUID().toString();
+        final long missCount = EventKeyCache.getMissCount();
+
+        final JacksonEventKey first = EventKeyCache.getEventKey(key, EventKeyFactory.EventAction.GET);
+
+        assertThat(EventKeyCache.getEventKey(key, EventKeyFactory.EventAction.GET), not(sameInstance(first)));
+        assertThat(first.getKey(), equalTo(key));
+        assertThat(EventKeyCache.getMaximumSize(), equalTo(maximumSize));
+        assertThat(EventKeyCache.getSize(), equalTo(0));
+        assertThat(EventKeyCache.getMissCount(), equalTo(missCount));
+    }
+
+    @Test
+    void getEventKey_throws_for_null_key() {
+        assertThrows(NullPointerException.class, () -> EventKeyCache.getEventKey(null, EventKeyFactory.EventAction.GET));
+    }
+
+    @Test
+    void getEventKey_throws_for_invalid_key_and_does_not_cache_it() {
+        assertThrows(IllegalArgumentException.class, () -> EventKeyCache.getEventKey("invalid&key", EventKeyFactory.EventAction.GET));
+        assertThat(EventKeyCache.getSize(), equalTo(0));
+    }
+
+    @Test
+    void setMaximumSize_clears_the_cache() {
+        EventKeyCache.getEventKey(UUID.randomUUID().toString(), EventKeyFactory.EventAction.GET);
+
+        EventKeyCache.setMaximumSize(10);
+
+        assertThat(EventKeyCache.getSize(), equalTo(0));
+        assertThat(EventKeyCache.getMaximumSize(), equalTo(10));
+    }
+
+    @Test
+    void string_keyed_event_methods_reuse_cached_keys() {
+        final String key = "info/" + UUID.randomUUID();
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("message", "value"))
+                .build();
+
+        event.put(key, "first");
+        final long hitCount = EventKeyCache.getHitCount();
+        event.put(key, "second");
+        assertThat(event.get(key, String.class), equalTo("second"));
+        assertThat(event.containsKey(key), equalTo(true));
+        event.delete(key);
+        event.delete(key);
+
+        assertThat(event.containsKey(key), equalTo(false));
+        assertThat(event.get("message", String.class), equalTo("value"));
+        assertThat(EventKeyCache.getHitCount() - hitCount, equalTo(4L));
+    }
+}
@@ -9,6 +9,8 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +32,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.containsStringIgnoringCase;
@@ -1395,4 +1401,145 @@ public class JacksonEventTest {
                 Arguments.of("1.000")
         );
     }
+
+    @Test
+    void withJsonData_writes_the_original_json_when_unmodified() {
+        final String jsonData = "{ \"a\" : 1.50, \"b\": { \"c\": \"gamma\" } }";
+        final Event jsonEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData(jsonData)
+                .build();
+
+        assertThat(jsonEvent.toJsonString(), sameInstance(jsonData));
+        assertThat(jsonEvent.get("b/c", String.class), equalTo("gamma"));
+        assertThat(jsonEvent.containsKey("a"), equalTo(true));
+        assertThat(jsonEvent.toMap().size(), equalTo(2));
+        assertThat(jsonEvent.toJsonString(), sameInstance(jsonData));
+    }
+
+    @Test
+    void withJsonData_reads_the_data_before_it_is_parsed() {
+        final Event jsonEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData("{\"a\": \"alpha\", \"list\": [1, 2]}")
+                .build();
+
+        assertThat(jsonEvent.toMap(), equalTo(Map.of("a", "alpha", "list", List.of(1, 2))));
+        assertThat(jsonEvent.getList("list", Integer.class), equalTo(List.of(1, 2)));
+    }
+
+    @Test
+    void withJsonData_serializes_the_tree_after_put() {
+        final Event jsonEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData("{ \"a\" : \"alpha\" }")
+                .build();
+
+        jsonEvent.put("b", "beta");
+
+        assertThat(jsonEvent.toJsonString(), equalTo("{\"a\":\"alpha\",\"b\":\"beta\"}"));
+    }
+
+    @Test
+    void withJsonData_serializes_the_tree_after_delete() {
+        final Event jsonEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData("{ \"a\" : \"alpha\", \"b\": \"beta\" }")
+                .build();
+
+        jsonEvent.delete("b");
+
+        assertThat(jsonEvent.toJsonString(), equalTo("{\"a\":\"alpha\"}"));
+    }
+
+    @Test
+    void withJsonData_serializes_the_tree_after_getJsonNode() {
+        final Event jsonEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData("{ \"a\" : \"alpha\" }")
+                .build();
+
+        ((ObjectNode) jsonEvent.getJsonNode()).put("b", "beta");
+
+        assertThat(jsonEvent.toJsonString(), equalTo("{\"a\":\"alpha\",\"b\":\"beta\"}"));
+    }
+
+    @Test
+    void withJsonData_serializes_the_tree_after_getting_a_node_value() {
+        final Event jsonEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData("{ \"a\" : { \"b\": \"beta\" } }")
+                .build();
+
+        final ObjectNode node = jsonEvent.get("a", ObjectNode.class);
+        node.put("c", "gamma");
+
+        assertThat(jsonEvent.toJsonString(), equalTo("{\"a\":{\"b\":\"beta\",\"c\":\"gamma\"}}"));
+    }
+
+    @Test
+    void withJsonData_copies_are_independent() {
+        final String jsonData = "{ \"a\" : \"alpha\" }";
+        final JacksonEvent jsonEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData(jsonData)
+                .build();
+
+        final JacksonEvent copiedEvent = JacksonEvent.fromEvent(jsonEvent);
+        copiedEvent.put("b", "beta");
+
+        assertThat(jsonEvent.toJsonString(), sameInstance(jsonData));
+        assertThat(copiedEvent.toJsonString(), equalTo("{\"a\":\"alpha\",\"b\":\"beta\"}"));
+    }
+
+    @Test
+    void withJsonData_with_invalid_json_throws_on_first_read() {
+        final Event jsonEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData("{ invalid")
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> jsonEvent.get("a", String.class));
+        assertThrows(IllegalArgumentException.class, jsonEvent::toMap);
+    }
+
+    @Test
+    void withJsonData_toMap_and_getJsonNode_can_run_concurrently() throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 1000; i++) {
+                final Event jsonEvent = JacksonEvent.builder()
+                        .withEventType(eventType)
+                        .withJsonData("{ \"a\" : \"alpha\", \"b\": [1, 2] }")
+                        .build();
+                final CountDownLatch startLatch = new CountDownLatch(1);
+
+                final Future<Map<String, Object>> toMapFuture = executorService.submit(() -> {
+                    startLatch.await();
+                    return jsonEvent.toMap();
+                });
+                final Future<JsonNode> jsonNodeFuture = executorService.submit(() -> {
+                    startLatch.await();
+                    return jsonEvent.getJsonNode();
+                });
+                startLatch.countDown();
+
+                assertThat(toMapFuture.get(), equalTo(Map.of("a", "alpha", "b", List.of(1, 2))));
+                assertThat(jsonNodeFuture.get().get("a").asText(), equalTo("alpha"));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void withData_after_withJsonData_uses_the_data() {
+        final Event jsonEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonData("{ \"a\" : \"alpha\" }")
+                .withData(Map.of("b", "beta"))
+                .build();
+
+        assertThat(jsonEvent.toJsonString(), equalTo("{\"b\":\"beta\"}"));
+    }
 }
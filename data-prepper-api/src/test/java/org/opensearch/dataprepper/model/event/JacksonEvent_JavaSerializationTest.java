@@ -82,6 +82,20 @@ class JacksonEvent_JavaSerializationTest {
         assertThat(deserializedEvent.getEventHandle().getInternalOriginationTime(), equalTo(objectUnderTest.getMetadata().getTimeReceived()));
     }
 
+    @Test
+    void serialize_with_unparsed_json_data_includes_data() throws IOException, ClassNotFoundException {
+        final String jsonData = "{\"" + UUID.randomUUID() + "\": \"" + UUID.randomUUID() + "\"}";
+        final JacksonEvent objectUnderTest = JacksonEvent.builder()
+                .withEventType("TEST")
+                .withJsonData(jsonData)
+                .build();
+
+        final JacksonEvent deserializedEvent = (JacksonEvent) serializeAndDeserialize(objectUnderTest);
+
+        assertThat(deserializedEvent.toJsonString(), equalTo(jsonData));
+        assertThat(deserializedEvent.toMap(), equalTo(objectUnderTest.toMap()));
+    }
+
     private Object serializeAndDeserialize(final JacksonEvent objectUnderTest) throws IOException, ClassNotFoundException {
         objectOutputStream.writeObject(objectUnderTest);
         final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
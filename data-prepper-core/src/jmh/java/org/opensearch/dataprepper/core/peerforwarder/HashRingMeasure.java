@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.core.peerforwarder.discovery.StaticPeerListProvider;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+public class HashRingMeasure {
+    private static final int NUMBER_OF_KEYS = 1024;
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5, time = 10)
+    public Object getServerIp(final BenchmarkState benchmarkState) {
+        final List<String> identificationKeyValues = benchmarkState.identificationKeyValues.get(benchmarkState.nextIndex());
+        return benchmarkState.hashRing.getServerIp(identificationKeyValues);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({"MD5", "MURMUR3"})
+        private HashAlgorithm hashAlgorithm;
+
+        @Param({"3", "20"})
+        private int numberOfPeers;
+
+        private HashRing hashRing;
+        private List<List<String>> identificationKeyValues;
+        private int index;
+
+        @Setup
+        public void setUp() {
+            final List<String> peers = new ArrayList<>();
+            for (int i = 0; i < numberOfPeers; i++) {
+                peers.add("10.10.0." + (i + 1));
+            }
+            final StaticPeerListProvider peerListProvider = new StaticPeerListProvider(peers,
+                    PluginMetrics.fromNames("hashRingMeasure", "peerForwarder"));
+            hashRing = new HashRing(peerListProvider, PeerForwarderClientFactory.NUM_VIRTUAL_NODES, hashAlgorithm);
+
+            identificationKeyValues = new ArrayList<>(NUMBER_OF_KEYS);
+            for (int i = 0; i < NUMBER_OF_KEYS; i++) {
+                identificationKeyValues.add(List.of(UUID.randomUUID().toString(), "service-" + (i % 16)));
+            }
+        }
+
+        private int nextIndex() {
+            index = (index + 1) & (NUMBER_OF_KEYS - 1);
+            return index;
+        }
+    }
+}
@@ -13,10 +13,9 @@ import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantLock;
 /**
  * AcknowledgementSetMonitor - monitors the acknowledgement sets for completion/expiration
  * <p>
@@ -24,18 +23,19 @@ import java.util.concurrent.locks.ReentrantLock;
  * by a specified time. If it is not completed, then it is considered 'expired' and it is
  * cleaned up. The 'run' method is invoked periodically to cleanup the acknowledgement sets
  * that are either completed or expired.
+ * <p>
+ * The acknowledgement sets are held in a concurrent set, so creating a new acknowledgement set
+ * never waits on a cleanup pass which is in progress.
  */
 class AcknowledgementSetMonitor implements Runnable {
     private static final Logger LOG = LoggerFactory.getLogger(AcknowledgementSetMonitor.class);
     private final Set<AcknowledgementSet> acknowledgementSets;
-    private final ReentrantLock lock;
     private final AtomicInteger numInvalidAcquires;
     private final AtomicInteger numInvalidReleases;
     private final AtomicInteger numNullHandles;
 
     public AcknowledgementSetMonitor() {
-        this.acknowledgementSets = new HashSet<>();
-        this.lock = new ReentrantLock(true);
+        this.acknowledgementSets = ConcurrentHashMap.newKeySet();
         this.numInvalidAcquires = new AtomicInteger(0);
         this.numInvalidReleases = new AtomicInteger(0);
         this.numNullHandles = new AtomicInteger(0);
@@ -50,12 +50,7 @@ class AcknowledgementSetMonitor implements Runnable {
     }
 
     public void add(final AcknowledgementSet acknowledgementSet) {
-        lock.lock();
-        try {
-            acknowledgementSets.add(acknowledgementSet);
-        } finally {
-            lock.unlock();
-        }
+        acknowledgementSets.add(acknowledgementSet);
     }
 
     /**
@@ -68,15 +63,8 @@ class AcknowledgementSetMonitor implements Runnable {
 
     @Override
     public void run() {
-        lock.lock();
-        try {
-            if (acknowledgementSets.size() > 0) {
-                acknowledgementSets.removeIf((ackSet) -> ((DefaultAcknowledgementSet) ackSet).isDone());
-            }
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-        } finally {
-            lock.unlock();
+        if (!acknowledgementSets.isEmpty()) {
+            acknowledgementSets.removeIf((ackSet) -> ((DefaultAcknowledgementSet) ackSet).isDone());
         }
     }
 }
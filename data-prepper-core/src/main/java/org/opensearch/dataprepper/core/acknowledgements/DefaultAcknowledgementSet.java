@@ -18,32 +18,40 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
+/**
+ * An {@link AcknowledgementSet} which tracks a reference count per event handle.
+ * <p>
+ * Acquires and releases only touch the counter of the handle involved, so they do not take a lock
+ * shared with the other handles of the set. The number of handles still pending is kept separately so
+ * that the release which brings it to zero can schedule the callback, and the callback is guarded so
+ * that it is only ever scheduled once.
+ */
 public class DefaultAcknowledgementSet implements AcknowledgementSet {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultAcknowledgementSet.class);
     private final Consumer<Boolean> callback;
-    private Consumer<ProgressCheck> progressCheckCallback;
-    private Instant expiryTime;
+    private volatile Consumer<ProgressCheck> progressCheckCallback;
+    private volatile Instant expiryTime;
     private final ScheduledExecutorService scheduledExecutor;
-    // This lock protects all the non-final members
-    private final ReentrantLock lock;
-    private boolean result;
+    private final AtomicBoolean result;
     private final Map<EventHandle, AtomicInteger> pendingAcknowledgments;
-    private Future<?> callbackFuture;
+    private final AtomicInteger numberOfPendingHandles;
+    private final AtomicBoolean callbackScheduled;
+    private volatile Future<?> callbackFuture;
     private final DefaultAcknowledgementSetMetrics metrics;
-    private ScheduledFuture<?> progressCheckFuture;
-    private boolean completed;
-    private boolean expired;
-    private AtomicInteger totalEventsAdded;
+    private volatile ScheduledFuture<?> progressCheckFuture;
+    private volatile boolean completed;
+    private volatile boolean expired;
+    private final AtomicInteger totalEventsAdded;
     private final boolean invokeCallbackOnExpiry;
 
     public DefaultAcknowledgementSet(final ScheduledExecutorService scheduledExecutor,
@@ -58,7 +66,7 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
                                      final DefaultAcknowledgementSetMetrics metrics,
                                      final boolean invokeCallbackOnExpiry) {
         this.callback = callback;
-        this.result = true;
+        this.result = new AtomicBoolean(true);
         this.totalEventsAdded = new AtomicInteger(0);
         this.scheduledExecutor = scheduledExecutor;
         this.expiryTime = Instant.now().plusMillis(expiryTime.toMillis());
@@ -68,8 +76,9 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
         this.invokeCallbackOnExpiry = invokeCallbackOnExpiry;
         this.completed = false;
         this.progressCheckCallback = null;
-        pendingAcknowledgments = new HashMap<>();
-        lock = new ReentrantLock(true);
+        this.pendingAcknowledgments = new ConcurrentHashMap<>();
+        this.numberOfPendingHandles = new AtomicInteger(0);
+        this.callbackScheduled = new AtomicBoolean(false);
     }
 
     public void addProgressCheck(final Consumer<ProgressCheck> progressCheckCallback, final Duration progressCheckInterval) {
@@ -89,79 +98,68 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
 
     @Override
     public void cancel() {
-        if (progressCheckFuture != null) {
-            progressCheckFuture.cancel(true);
+        final ScheduledFuture<?> currentProgressCheckFuture = progressCheckFuture;
+        if (currentProgressCheckFuture != null) {
+            currentProgressCheckFuture.cancel(true);
         }
 
-        if (callbackFuture != null) {
-            callbackFuture.cancel(false);
+        final Future<?> currentCallbackFuture = callbackFuture;
+        if (currentCallbackFuture != null) {
+            currentCallbackFuture.cancel(false);
         }
     }
 
     public void checkProgress() {
-        lock.lock();
-        int numberOfEventsPending = pendingAcknowledgments.size();
-        lock.unlock();
-        if (progressCheckCallback != null) {
-            progressCheckCallback.accept(new DefaultProgressCheck((double)numberOfEventsPending/totalEventsAdded.get()));
+        final int numberOfEventsPending = numberOfPendingHandles.get();
+        final Consumer<ProgressCheck> currentProgressCheckCallback = progressCheckCallback;
+        if (currentProgressCheckCallback != null) {
+            currentProgressCheckCallback.accept(new DefaultProgressCheck((double)numberOfEventsPending/totalEventsAdded.get()));
         }
     }
 
     @Override
     public void add(EventHandle eventHandle) {
-        lock.lock();
-        try {
-            InternalEventHandle internalEventHandle = (InternalEventHandle)eventHandle;
-            internalEventHandle.addAcknowledgementSet(this);
-            pendingAcknowledgments.put(eventHandle, new AtomicInteger(1));
-            totalEventsAdded.incrementAndGet();
-        } finally {
-            lock.unlock();
+        InternalEventHandle internalEventHandle = (InternalEventHandle)eventHandle;
+        internalEventHandle.addAcknowledgementSet(this);
+        if (pendingAcknowledgments.put(eventHandle, new AtomicInteger(1)) == null) {
+            numberOfPendingHandles.incrementAndGet();
         }
+        totalEventsAdded.incrementAndGet();
     }
 
     public void acquire(final EventHandle eventHandle) {
-        lock.lock();
-        try {
-            if (!pendingAcknowledgments.containsKey(eventHandle)) {
-                LOG.warn("Unexpected event handle acquire");
-                metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME);
-                return;
-            }
-            pendingAcknowledgments.get(eventHandle).incrementAndGet();
-        } finally {
-            lock.unlock();
+        final AtomicInteger referenceCount = pendingAcknowledgments.get(eventHandle);
+        if (referenceCount == null || !incrementIfPositive(referenceCount)) {
+            LOG.warn("Unexpected event handle acquire");
+            metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME);
         }
     }
 
     public boolean isDone() {
-        lock.lock();
-        try {
-            if (callbackFuture != null && callbackFuture.isDone()) {
-                if (!expired) {
-                    metrics.increment(DefaultAcknowledgementSetMetrics.COMPLETED_METRIC_NAME);
-                }
-                return true;
+        final Future<?> currentCallbackFuture = callbackFuture;
+        if (currentCallbackFuture != null && currentCallbackFuture.isDone()) {
+            if (!expired) {
+                metrics.increment(DefaultAcknowledgementSetMetrics.COMPLETED_METRIC_NAME);
+            }
+            return true;
+        }
+        if (!expired && Instant.now().isAfter(expiryTime)) {
+            expired = true;
+            final ScheduledFuture<?> currentProgressCheckFuture = progressCheckFuture;
+            if (currentProgressCheckFuture != null) {
+                currentProgressCheckFuture.cancel(false);
             }
-            if (!expired && Instant.now().isAfter(expiryTime)) {
-                expired = true;
-                if (progressCheckFuture != null) {
-                    progressCheckFuture.cancel(false);
-                }
-                metrics.increment(DefaultAcknowledgementSetMetrics.EXPIRED_METRIC_NAME);
-                if (invokeCallbackOnExpiry) {
-                    result = false;
-                    callbackFuture = scheduledExecutor.submit(() -> callback.accept(result));
-                    return false;
-                } else if (callbackFuture != null) {
-                    callbackFuture.cancel(true);
-                    callbackFuture = null;
-                    LOG.warn("AcknowledgementSet expired");
-                }
-                return true;
+            metrics.increment(DefaultAcknowledgementSetMetrics.EXPIRED_METRIC_NAME);
+            if (invokeCallbackOnExpiry) {
+                result.set(false);
+                scheduleCallback();
+                return false;
+            } else if (currentCallbackFuture != null) {
+                currentCallbackFuture.cancel(true);
+                callbackFuture = null;
+                LOG.warn("AcknowledgementSet expired");
             }
-        } finally {
-            lock.unlock();
+            return true;
         }
         return false;
     }
@@ -172,47 +170,77 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
 
     @Override
     public void complete() {
-        lock.lock();
-        try {
-            completed = true;
-            if (pendingAcknowledgments.size() == 0) {
-                if (progressCheckFuture != null) {
-                    progressCheckFuture.cancel(false);
-                }
-                callbackFuture = scheduledExecutor.submit(() -> callback.accept(this.result));
-            }
-        } finally {
-            lock.unlock();
+        completed = true;
+        if (numberOfPendingHandles.get() == 0) {
+            scheduleCallback();
         }
     }
 
     @Override
     public boolean release(final EventHandle eventHandle, final boolean result) {
-        lock.lock();
         // Result indicates negative or positive acknowledgement. Even if one of the
         // events in the set report negative acknowledgement, then the end result
         // is negative acknowledgement
-        this.result = this.result && result;
-        try {
-            if (!pendingAcknowledgments.containsKey(eventHandle) ||
-                pendingAcknowledgments.get(eventHandle).get() == 0) {
-                return false;
-            }
-            if (pendingAcknowledgments.get(eventHandle).decrementAndGet() == 0) {
-                pendingAcknowledgments.remove(eventHandle);
-                if (completed && pendingAcknowledgments.size() == 0) {
-                    if (progressCheckFuture != null) {
-                        progressCheckFuture.cancel(false);
-                    }
-                    callbackFuture = scheduledExecutor.submit(() -> callback.accept(this.result));
-                    return true;
-                } else if (pendingAcknowledgments.size() == 0) {
-                    LOG.debug("Acknowledgement set is not completed. Delaying callback until it is completed");
-                }
+        if (!result) {
+            this.result.set(false);
+        }
+        final AtomicInteger referenceCount = pendingAcknowledgments.get(eventHandle);
+        if (referenceCount == null) {
+            return false;
+        }
+        final int remainingReferences = decrementIfPositive(referenceCount);
+        if (remainingReferences < 0) {
+            return false;
+        }
+        if (remainingReferences == 0 && pendingAcknowledgments.remove(eventHandle, referenceCount)) {
+            final int remainingHandles = numberOfPendingHandles.decrementAndGet();
+            if (completed && remainingHandles == 0) {
+                return scheduleCallback();
+            } else if (remainingHandles == 0) {
+                LOG.debug("Acknowledgement set is not completed. Delaying callback until it is completed");
             }
-        } finally {
-            lock.unlock();
         }
         return false;
     }
+
+    private boolean scheduleCallback() {
+        if (!callbackScheduled.compareAndSet(false, true)) {
+            return false;
+        }
+        final ScheduledFuture<?> currentProgressCheckFuture = progressCheckFuture;
+        if (currentProgressCheckFuture != null) {
+            currentProgressCheckFuture.cancel(false);
+        }
+        final long readyNanos = System.nanoTime();
+        callbackFuture = scheduledExecutor.submit(() -> {
+            try {
+                callback.accept(result.get());
+            } finally {
+                metrics.recordCallbackLatency(Duration.ofNanos(System.nanoTime() - readyNanos));
+            }
+        });
+        return true;
+    }
+
+    private static boolean incrementIfPositive(final AtomicInteger referenceCount) {
+        int current;
+        do {
+            current = referenceCount.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!referenceCount.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private static int decrementIfPositive(final AtomicInteger referenceCount) {
+        int current;
+        do {
+            current = referenceCount.get();
+            if (current <= 0) {
+                return -1;
+            }
+        } while (!referenceCount.compareAndSet(current, current - 1));
+        return current - 1;
+    }
 }
@@ -10,19 +10,24 @@
 package org.opensearch.dataprepper.core.acknowledgements;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 
+import java.time.Duration;
+
 public class DefaultAcknowledgementSetMetrics {
     static final String CREATED_METRIC_NAME = "numberOfAcknowledgementSetsCreated";
     static final String COMPLETED_METRIC_NAME = "numberOfAcknowledgementSetsCompleted";
     static final String EXPIRED_METRIC_NAME = "numberOfAcknowledgementSetsExpired";
     static final String INVALID_ACQUIRES_METRIC_NAME = "numberOfInvalidAcknowledgementAcquires";
     static final String INVALID_RELEASES_METRIC_NAME = "numberOfInvalidAcknowledgementReleases";
+    static final String CALLBACK_LATENCY_METRIC_NAME = "acknowledgementSetCallbackLatency";
     private final Counter numberOfAcknowledgementSetsCreated;
     private final Counter numberOfAcknowledgementSetsCompleted;
     private final Counter numberOfAcknowledgementSetsExpired;
     private final Counter numberOfInvalidAcknowledgementAcquires;
     private final Counter numberOfInvalidAcknowledgementReleases;
+    private final Timer callbackLatency;
 
     public DefaultAcknowledgementSetMetrics(PluginMetrics pluginMetrics) {
         numberOfAcknowledgementSetsCreated = pluginMetrics.counter(CREATED_METRIC_NAME);
@@ -30,8 +35,19 @@ public class DefaultAcknowledgementSetMetrics {
         numberOfAcknowledgementSetsExpired = pluginMetrics.counter(EXPIRED_METRIC_NAME);
         numberOfInvalidAcknowledgementAcquires = pluginMetrics.counter(INVALID_ACQUIRES_METRIC_NAME);
         numberOfInvalidAcknowledgementReleases = pluginMetrics.counter(INVALID_RELEASES_METRIC_NAME);
+        callbackLatency = pluginMetrics.timer(CALLBACK_LATENCY_METRIC_NAME);
+    }
+
+    /**
+     * Records the time from an acknowledgement set becoming ready for its callback until the callback returns.
+     * This includes any time spent waiting for a callback executor thread.
+     *
+     * @param latency the callback latency
+     */
+    public void recordCallbackLatency(final Duration latency) {
+        callbackLatency.record(latency);
     }
-    
+
     public void increment(String metricName) throws IllegalArgumentException {
         switch (metricName) {
             case CREATED_METRIC_NAME:
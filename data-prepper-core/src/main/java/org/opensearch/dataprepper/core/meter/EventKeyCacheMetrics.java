@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.meter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.opensearch.dataprepper.model.event.EventKeyCache;
+
+/**
+ * Provides metrics for the cache of keys used by string-keyed event methods.
+ */
+public class EventKeyCacheMetrics implements MeterBinder {
+    static final String EVENT_KEY_CACHE_HITS = "event.key.cache.hits";
+    static final String EVENT_KEY_CACHE_MISSES = "event.key.cache.misses";
+    static final String EVENT_KEY_CACHE_SIZE = "event.key.cache.size";
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder(EVENT_KEY_CACHE_HITS, this, metrics -> EventKeyCache.getHitCount())
+                .description("The number of string-keyed event accesses which reused a cached key")
+                .register(registry);
+        FunctionCounter.builder(EVENT_KEY_CACHE_MISSES, this, metrics -> EventKeyCache.getMissCount())
+                .description("The number of string-keyed event accesses which created a key")
+                .register(registry);
+        Gauge.builder(EVENT_KEY_CACHE_SIZE, this, metrics -> EventKeyCache.getSize())
+                .description("The number of keys in the event key cache")
+                .register(registry);
+    }
+}
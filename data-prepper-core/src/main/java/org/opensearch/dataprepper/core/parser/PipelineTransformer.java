@@ -249,7 +249,7 @@ public class PipelineTransformer {
             final Pipeline pipeline = new Pipeline(pipelineName, source, buffer, decoratedProcessorSets, sinks, router,
                     eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, processorThreads, readBatchDelay,
                     dataPrepperConfiguration.getProcessorShutdownTimeout(), dataPrepperConfiguration.getSinkShutdownTimeout(),
-                    getPeerForwarderDrainTimeout(dataPrepperConfiguration));
+                    getPeerForwarderDrainTimeout(dataPrepperConfiguration), dataPrepperConfiguration.getMaxInFlightSinkBatches());
 
 
             if (pipelineDefinedBuffer instanceof SupportsPipelineRunner) {
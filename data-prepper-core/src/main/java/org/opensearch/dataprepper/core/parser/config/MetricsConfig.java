@@ -25,6 +25,7 @@ import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import org.opensearch.dataprepper.core.meter.EMFLoggingMeterRegistry;
 import org.opensearch.dataprepper.core.meter.EMFLoggingRegistryConfig;
+import org.opensearch.dataprepper.core.meter.EventKeyCacheMetrics;
 import org.opensearch.dataprepper.core.meter.JvmMemoryAggregateMetrics;
 import org.opensearch.dataprepper.core.parser.model.DataPrepperConfiguration;
 import org.opensearch.dataprepper.core.parser.model.MetricRegistryType;
@@ -88,6 +89,11 @@ public class MetricsConfig {
         return new JvmMemoryAggregateMetrics();
     }
 
+    @Bean
+    public EventKeyCacheMetrics eventKeyCacheMetrics() {
+        return new EventKeyCacheMetrics();
+    }
+
     private void configureMetricRegistry(final Map<String, String> metricTags,
                                          final List<MetricTagFilter> metricTagFilters,
                                          final List<String> disabledMetrics,
@@ -20,6 +20,8 @@ import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration;
 import org.opensearch.dataprepper.core.pipeline.PipelineShutdownOption;
 import org.opensearch.dataprepper.event.EventConfiguration;
 import org.opensearch.dataprepper.event.EventConfigurationContainer;
+import org.opensearch.dataprepper.expression.ExpressionConfiguration;
+import org.opensearch.dataprepper.expression.ExpressionConfigurationContainer;
 import org.opensearch.dataprepper.model.configuration.PipelineExtensions;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.plugin.ExperimentalConfiguration;
@@ -37,8 +39,9 @@ import java.util.Objects;
 /**
  * Class to hold configuration for DataPrepper, including server port and Log4j settings
  */
-public class DataPrepperConfiguration implements ExtensionsConfiguration, EventConfigurationContainer, ExperimentalConfigurationContainer {
+public class DataPrepperConfiguration implements ExtensionsConfiguration, EventConfigurationContainer, ExpressionConfigurationContainer, ExperimentalConfigurationContainer {
     static final Duration DEFAULT_SHUTDOWN_DURATION = Duration.ofSeconds(30L);
+    static final int DEFAULT_MAX_IN_FLIGHT_SINK_BATCHES = 1;
     public static final String DEFAULT_FAILURE_PIPELINE_NAME = "dlq_pipeline";
 
     private static final String DEFAULT_SOURCE_COORDINATION_STORE = "in_memory";
@@ -57,6 +60,7 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
     private SourceCoordinationConfig sourceCoordinationConfig;
     private PipelineShutdownOption pipelineShutdown;
     private EventConfiguration eventConfiguration;
+    private ExpressionConfiguration expressionConfiguration;
     private Map<String, String> metricTags = new HashMap<>();
     private List<MetricTagFilter> metricTagFilters = new LinkedList<>();
     private List<String> disabledMetrics = new LinkedList<>();
@@ -64,6 +68,7 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
     private PeerForwarderConfiguration peerForwarderConfiguration;
     private Duration processorShutdownTimeout;
     private Duration sinkShutdownTimeout;
+    private int maxInFlightSinkBatches = DEFAULT_MAX_IN_FLIGHT_SINK_BATCHES;
     private ExperimentalConfiguration experimental;
     private PipelineExtensions pipelineExtensions;
     private String failurePipelineName = DEFAULT_FAILURE_PIPELINE_NAME;
@@ -107,10 +112,12 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
             @JsonProperty("sink_shutdown_timeout")
             @JsonAlias("sinkShutdownTimeout")
             final Duration sinkShutdownTimeout,
+            @JsonProperty("max_in_flight_sink_batches") final Integer maxInFlightSinkBatches,
             @JsonProperty("circuit_breakers") final CircuitBreakerConfig circuitBreakerConfig,
             @JsonProperty("source_coordination") final SourceCoordinationConfig sourceCoordinationConfig,
             @JsonProperty("pipeline_shutdown") final PipelineShutdownOption pipelineShutdown,
             @JsonProperty("event") final EventConfiguration eventConfiguration,
+            @JsonProperty("expression") final ExpressionConfiguration expressionConfiguration,
             @JsonProperty("experimental") final ExperimentalConfiguration experimental,
             @JsonProperty("extensions")
             @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -123,6 +130,7 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
                 : sourceCoordinationConfig;
         this.pipelineShutdown = pipelineShutdown != null ? pipelineShutdown : DEFAULT_PIPELINE_SHUTDOWN;
         this.eventConfiguration = eventConfiguration != null ? eventConfiguration : EventConfiguration.defaultConfiguration();
+        this.expressionConfiguration = expressionConfiguration != null ? expressionConfiguration : ExpressionConfiguration.defaultConfiguration();
         setSsl(ssl);
         this.keyStoreFilePath = keyStoreFilePath != null ? keyStoreFilePath : "";
         this.keyStorePassword = keyStorePassword != null ? keyStorePassword : "";
@@ -144,6 +152,11 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
         if (this.sinkShutdownTimeout.isNegative()) {
             throw new IllegalArgumentException("sinkShutdownTimeout must be non-negative.");
         }
+
+        this.maxInFlightSinkBatches = maxInFlightSinkBatches != null ? maxInFlightSinkBatches : DEFAULT_MAX_IN_FLIGHT_SINK_BATCHES;
+        if (this.maxInFlightSinkBatches < 1) {
+            throw new IllegalArgumentException("maxInFlightSinkBatches must be at least 1.");
+        }
         this.experimental = experimental != null ? experimental : ExperimentalConfiguration.defaultConfiguration();
 
         this.pipelineExtensions = pipelineExtensions;
@@ -254,6 +267,17 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
         return sinkShutdownTimeout;
     }
 
+    /**
+     * Gets the number of processed batches a process worker may have written to sinks without waiting for
+     * the sinks to complete. The default of 1 keeps processors and sinks in lock-step.
+     *
+     * @return The maximum number of in-flight sink batches per process worker
+     * @since 2.16
+     */
+    public int getMaxInFlightSinkBatches() {
+        return maxInFlightSinkBatches;
+    }
+
     public CircuitBreakerConfig getCircuitBreakerConfig() {
         return circuitBreakerConfig;
     }
@@ -268,6 +292,11 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
         return eventConfiguration;
     }
 
+    @Override
+    public ExpressionConfiguration getExpressionConfiguration() {
+        return expressionConfiguration;
+    }
+
     @Override
     public PipelineExtensions getPipelineExtensions() {
         return pipelineExtensions;
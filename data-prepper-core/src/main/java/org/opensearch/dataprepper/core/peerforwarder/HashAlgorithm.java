@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+/**
+ * The hash function used by {@link HashRing} to place hosts and identification keys on the ring. Every
+ * Data Prepper host in a cluster must use the same algorithm, otherwise the same identification keys
+ * can be forwarded to different hosts.
+ *
+ * @since 2.16
+ */
+public enum HashAlgorithm {
+    /**
+     * The 128-bit MD5 digest. This is the original placement and is the default.
+     */
+    MD5,
+    /**
+     * The first 64 bits of the non-cryptographic murmur3 128-bit hash.
+     */
+    MURMUR3
+}
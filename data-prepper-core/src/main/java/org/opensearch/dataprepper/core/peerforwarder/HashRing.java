@@ -9,44 +9,65 @@
 
 package org.opensearch.dataprepper.core.peerforwarder;
 
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.linecorp.armeria.client.Endpoint;
 import org.opensearch.dataprepper.core.peerforwarder.discovery.PeerListProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.annotation.concurrent.NotThreadSafe;
-import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.TreeMap;
 import java.util.function.Consumer;
 
 /**
  * Consistent hashing implementation used to map identification keys to Data Prepper hosts.
  * See https://en.wikipedia.org/wiki/Consistent_hashing for more information.
+ * <p>
+ * The ring is held as sorted primitive arrays and looked up with a binary search. With {@link HashAlgorithm#MD5}
+ * each position keeps the full 128-bit digest, so keys map to exactly the same hosts as a ring of
+ * {@link java.math.BigInteger} digests. The ring is replaced as a whole when the peer list changes, so lookups
+ * may run concurrently with a rebuild.
  */
-@NotThreadSafe
 public class HashRing implements Consumer<List<Endpoint>> {
     private static final Logger LOG = LoggerFactory.getLogger(HashRing.class);
     private static final String MD5 = "MD5";
     private static final String DELIMITER = ",";
+    private static final byte[] DELIMITER_BYTES = DELIMITER.getBytes();
+    private static final int MD5_DIGEST_LENGTH = 16;
+    private static final HashFunction MURMUR3_128 = Hashing.murmur3_128();
+    private static final ThreadLocal<MessageDigest> MD5_DIGEST = ThreadLocal.withInitial(HashRing::createMd5Digest);
+    private static final ThreadLocal<byte[]> MD5_DIGEST_BUFFER = ThreadLocal.withInitial(() -> new byte[MD5_DIGEST_LENGTH]);
 
     /* Number of virtual nodes per Data Prepper host to be present on the hash ring */
     private final int numVirtualNodes;
 
     private final PeerListProvider peerListProvider;
 
-    private TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+    private final HashAlgorithm hashAlgorithm;
+
+    private volatile Ring ring = Ring.EMPTY;
 
     public HashRing(final PeerListProvider peerListProvider, final int numVirtualNodes) {
+        this(peerListProvider, numVirtualNodes, HashAlgorithm.MD5);
+    }
+
+    public HashRing(final PeerListProvider peerListProvider, final int numVirtualNodes, final HashAlgorithm hashAlgorithm) {
         Objects.requireNonNull(peerListProvider);
+        Objects.requireNonNull(hashAlgorithm);
         this.peerListProvider = peerListProvider;
         this.numVirtualNodes = numVirtualNodes;
+        this.hashAlgorithm = hashAlgorithm;
 
         buildHashServerMap();
 
@@ -54,31 +75,37 @@ public class HashRing implements Consumer<List<Endpoint>> {
     }
 
     public Optional<String> getServerIp(final List<String> identificationKeyValues) {
-        if (hashServerMap.isEmpty()) {
+        final Ring currentRing = ring;
+        if (currentRing.isEmpty()) {
             return Optional.empty();
         }
 
-        final byte[] identificationKeysInBytes = String.join(DELIMITER, identificationKeyValues).getBytes();
-
-        final MessageDigest md;
-        try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
+        if (hashAlgorithm == HashAlgorithm.MURMUR3) {
+            final Hasher hasher = MURMUR3_128.newHasher();
+            boolean first = true;
+            for (final String identificationKeyValue : identificationKeyValues) {
+                if (!first) {
+                    hasher.putBytes(DELIMITER_BYTES);
+                }
+                hasher.putString(String.valueOf(identificationKeyValue), StandardCharsets.UTF_8);
+                first = false;
+            }
+            return Optional.of(currentRing.getHigherOrFirst(hasher.hash().asLong(), 0L));
         }
 
-        md.update(identificationKeysInBytes);
-        final BigInteger hashcode = new BigInteger(md.digest());
-
-        // obtain Map.Entry with key greater than the hashcode
-        final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(hashcode);
-
-        if (entry == null) {
-            // return first node if no key is greater than the hashcode
-            return Optional.of(hashServerMap.firstEntry().getValue());
-        } else {
-            return Optional.of(entry.getValue());
+        final MessageDigest md = MD5_DIGEST.get();
+        md.reset();
+        boolean first = true;
+        for (final String identificationKeyValue : identificationKeyValues) {
+            if (!first) {
+                md.update(DELIMITER_BYTES);
+            }
+            // Matches String.join, which writes "null" for null values
+            md.update(String.valueOf(identificationKeyValue).getBytes());
+            first = false;
         }
+        final byte[] digest = digestMd5(md);
+        return Optional.of(currentRing.getHigherOrFirst(readLong(digest, 0), readLong(digest, 8)));
     }
 
     @Override
@@ -87,36 +114,147 @@ public class HashRing implements Consumer<List<Endpoint>> {
     }
 
     private void buildHashServerMap() {
-        final TreeMap<BigInteger, String> newHashValueMap = new TreeMap<>();
         final List<String> endpoints = peerListProvider.getPeerList();
 
         LOG.info("Building hash ring with endpoints: {}", endpoints);
+        final List<RingPosition> positions = new ArrayList<>(endpoints.size() * numVirtualNodes);
         for (final String serverIp : endpoints) {
-            addServerIpToHashMap(serverIp, newHashValueMap);
+            addServerIpPositions(serverIp, positions);
         }
 
-        this.hashServerMap = newHashValueMap;
+        this.ring = Ring.fromPositions(positions);
     }
 
-    private void addServerIpToHashMap(final String serverIp, final Map<BigInteger, String> targetMap) {
+    private void addServerIpPositions(final String serverIp, final List<RingPosition> positions) {
         final byte[] serverIpInBytes = serverIp.getBytes();
-        final MessageDigest md;
 
-        try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
+        if (hashAlgorithm == HashAlgorithm.MURMUR3) {
+            for (int i = 0; i < numVirtualNodes; i++) {
+                final long hash = MURMUR3_128.newHasher()
+                        .putBytes(serverIpInBytes)
+                        .putInt(i)
+                        .hash()
+                        .asLong();
+                positions.add(new RingPosition(hash, 0L, serverIp));
+            }
+            return;
         }
 
+        final MessageDigest md = createMd5Digest();
         final ByteBuffer intBuffer = ByteBuffer.allocate(4);
         for (int i = 0; i < numVirtualNodes; i++) {
             md.update(serverIpInBytes);
             intBuffer.putInt(i);
             md.update(intBuffer.array());
-            final BigInteger hashcode = new BigInteger(md.digest());
-            targetMap.putIfAbsent(hashcode, serverIp);
-            md.reset();
+            final byte[] digest = md.digest();
+            positions.add(new RingPosition(readLong(digest, 0), readLong(digest, 8), serverIp));
             intBuffer.clear();
         }
     }
+
+    private static MessageDigest createMd5Digest() {
+        try {
+            return MessageDigest.getInstance(MD5);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("unreachable", e);
+        }
+    }
+
+    private static byte[] digestMd5(final MessageDigest md) {
+        final byte[] digest = MD5_DIGEST_BUFFER.get();
+        try {
+            md.digest(digest, 0, MD5_DIGEST_LENGTH);
+        } catch (DigestException e) {
+            throw new AssertionError("unreachable", e);
+        }
+        return digest;
+    }
+
+    private static long readLong(final byte[] bytes, final int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + Long.BYTES; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * Orders positions the same way as a signed {@link java.math.BigInteger} built from the high bits
+     * followed by the low bits.
+     */
+    private static int comparePositions(final long highBits, final long lowBits,
+                                        final long otherHighBits, final long otherLowBits) {
+        final int highComparison = Long.compare(highBits, otherHighBits);
+        return highComparison != 0 ? highComparison : Long.compareUnsigned(lowBits, otherLowBits);
+    }
+
+    private static final class RingPosition {
+        private final long highBits;
+        private final long lowBits;
+        private final String serverIp;
+
+        private RingPosition(final long highBits, final long lowBits, final String serverIp) {
+            this.highBits = highBits;
+            this.lowBits = lowBits;
+            this.serverIp = serverIp;
+        }
+    }
+
+    private static final class Ring {
+        private static final Ring EMPTY = new Ring(new long[0], new long[0], new String[0]);
+
+        private final long[] highBits;
+        private final long[] lowBits;
+        private final String[] serverIps;
+
+        private Ring(final long[] highBits, final long[] lowBits, final String[] serverIps) {
+            this.highBits = highBits;
+            this.lowBits = lowBits;
+            this.serverIps = serverIps;
+        }
+
+        private static Ring fromPositions(final List<RingPosition> positions) {
+            // The sort is stable, so the first host added at a colliding position keeps it.
+            final RingPosition[] sortedPositions = positions.toArray(new RingPosition[0]);
+            Arrays.sort(sortedPositions, Comparator.comparingLong((RingPosition position) -> position.highBits)
+                    .thenComparing((left, right) -> Long.compareUnsigned(left.lowBits, right.lowBits)));
+
+            final long[] highBits = new long[sortedPositions.length];
+            final long[] lowBits = new long[sortedPositions.length];
+            final String[] serverIps = new String[sortedPositions.length];
+            int size = 0;
+            for (final RingPosition position : sortedPositions) {
+                if (size > 0 && highBits[size - 1] == position.highBits && lowBits[size - 1] == position.lowBits) {
+                    continue;
+                }
+                highBits[size] = position.highBits;
+                lowBits[size] = position.lowBits;
+                serverIps[size] = position.serverIp;
+                size++;
+            }
+            return new Ring(Arrays.copyOf(highBits, size), Arrays.copyOf(lowBits, size), Arrays.copyOf(serverIps, size));
+        }
+
+        private boolean isEmpty() {
+            return serverIps.length == 0;
+        }
+
+        /**
+         * @return the host at the first position greater than the given hash, or the first host when no
+         * position is greater
+         */
+        private String getHigherOrFirst(final long hashHighBits, final long hashLowBits) {
+            int low = 0;
+            int high = serverIps.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (comparePositions(highBits[mid], lowBits[mid], hashHighBits, hashLowBits) > 0) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low == serverIps.length ? serverIps[0] : serverIps[low];
+        }
+    }
 }
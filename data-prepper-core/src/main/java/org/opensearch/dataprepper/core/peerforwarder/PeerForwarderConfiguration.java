@@ -13,6 +13,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.apache.commons.lang3.StringUtils;
 import org.opensearch.dataprepper.core.parser.model.DataPrepperConfiguration;
+import org.opensearch.dataprepper.core.peerforwarder.codec.BinaryCodecFormat;
 import org.opensearch.dataprepper.core.peerforwarder.discovery.DiscoveryMode;
 
 import java.time.Duration;
@@ -71,6 +72,8 @@ public class PeerForwarderConfiguration {
     private Integer forwardingBatchQueueDepth = 1;
     private Duration forwardingBatchTimeout = DEFAULT_FORWARDING_BATCH_TIMEOUT;
     private boolean binaryCodec = true;
+    private BinaryCodecFormat binaryCodecFormat = BinaryCodecFormat.JAVA;
+    private HashAlgorithm hashAlgorithm = HashAlgorithm.MD5;
     private List<Set<String>> excludeIdentificationKeys;
 
     public PeerForwarderConfiguration() {}
@@ -110,7 +113,9 @@ public class PeerForwarderConfiguration {
             @JsonProperty("forwarding_batch_size") final Integer forwardingBatchSize,
             @JsonProperty("forwarding_batch_queue_depth") final Integer forwardingBatchQueueDepth,
             @JsonProperty("forwarding_batch_timeout") final Duration forwardingBatchTimeout,
-            @JsonProperty("binary_codec") final Boolean binaryCodec
+            @JsonProperty("binary_codec") final Boolean binaryCodec,
+            @JsonProperty("binary_codec_format") final String binaryCodecFormat,
+            @JsonProperty("hash_algorithm") final String hashAlgorithm
     ) {
         setServerPort(serverPort);
         setRequestTimeout(requestTimeout);
@@ -145,6 +150,8 @@ public class PeerForwarderConfiguration {
         setForwardingBatchQueueDepth(forwardingBatchQueueDepth);
         setForwardingBatchTimeout(forwardingBatchTimeout);
         setBinaryCodec(binaryCodec == null || binaryCodec);
+        setBinaryCodecFormat(binaryCodecFormat);
+        setHashAlgorithm(hashAlgorithm);
         checkForCertAndKeyFileInS3();
         validateSslAndAuthentication();
         this.excludeIdentificationKeys = excludeIdentificationKeys;
@@ -277,6 +284,14 @@ public class PeerForwarderConfiguration {
         return binaryCodec;
     }
 
+    public BinaryCodecFormat getBinaryCodecFormat() {
+        return binaryCodecFormat;
+    }
+
+    public HashAlgorithm getHashAlgorithm() {
+        return hashAlgorithm;
+    }
+
     private void setServerPort(final Integer serverPort) {
         if (serverPort != null) {
             if (serverPort < 0 || serverPort > 65535) {
@@ -570,4 +585,16 @@ public class PeerForwarderConfiguration {
     private void setBinaryCodec(final boolean binaryCodec) {
         this.binaryCodec = binaryCodec;
     }
+
+    private void setBinaryCodecFormat(final String binaryCodecFormat) {
+        if (binaryCodecFormat != null) {
+            this.binaryCodecFormat = BinaryCodecFormat.valueOf(binaryCodecFormat.toUpperCase());
+        }
+    }
+
+    private void setHashAlgorithm(final String hashAlgorithm) {
+        if (hashAlgorithm != null) {
+            this.hashAlgorithm = HashAlgorithm.valueOf(hashAlgorithm.toUpperCase());
+        }
+    }
 }
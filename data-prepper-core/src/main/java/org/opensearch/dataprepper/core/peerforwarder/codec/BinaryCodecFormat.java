@@ -0,0 +1,27 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+/**
+ * The wire format used by peer forwarding when {@code binary_codec} is enabled. All peers in a cluster
+ * must use the same format.
+ *
+ * @since 2.16
+ */
+public enum BinaryCodecFormat {
+    /**
+     * Java serialization, guarded by an {@link java.io.ObjectInputFilter}.
+     */
+    JAVA,
+    /**
+     * The varint-framed format written by {@link CompactPeerForwarderCodec}.
+     */
+    COMPACT
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.opensearch.dataprepper.core.peerforwarder.model.PeerForwardingEvents;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link PeerForwarderCodec} which writes a compact, schema-less binary frame.
+ * <p>
+ * The frame starts with a format version, followed by the destination plugin id and pipeline name and then
+ * each event. Lengths and counts are written as unsigned varints, so small events and short strings cost only
+ * a byte of framing. Event data and attributes are carried as UTF-8 JSON, exactly as
+ * {@link JacksonPeerForwarderCodec} does, but without the per-event {@code WireEvent} object tree or the
+ * Java serialization stream headers.
+ *
+ * @since 2.16
+ */
+public class CompactPeerForwarderCodec implements PeerForwarderCodec {
+    static final int FORMAT_VERSION = 1;
+    private static final String TRACE_EVENT_TYPE = "TRACE";
+    private static final TypeReference<Map<String, Object>> ATTRIBUTES_TYPE = new TypeReference<>() {};
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+
+    private final ObjectMapper objectMapper;
+    private final int maxEventsPerRequest;
+
+    public CompactPeerForwarderCodec(final ObjectMapper objectMapper, final int maxEventsPerRequest) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        if (maxEventsPerRequest < 1) {
+            throw new IllegalArgumentException("maxEventsPerRequest must be at least 1.");
+        }
+        this.maxEventsPerRequest = maxEventsPerRequest;
+    }
+
+    @Override
+    public byte[] serialize(final PeerForwardingEvents peerForwardingEvents) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        outputStream.write(FORMAT_VERSION);
+        writeString(outputStream, peerForwardingEvents.getDestinationPluginId());
+        writeString(outputStream, peerForwardingEvents.getDestinationPipelineName());
+
+        final List<Event> events = peerForwardingEvents.getEvents();
+        if (events == null) {
+            writeUnsignedVarInt(outputStream, 0);
+        } else {
+            writeUnsignedVarInt(outputStream, events.size() + 1);
+            for (final Event event : events) {
+                writeEvent(outputStream, event);
+            }
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public PeerForwardingEvents deserialize(final byte[] bytes) throws IOException {
+        final InputStream inputStream = new ByteArrayInputStream(bytes);
+        final int formatVersion = inputStream.read();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported peer forwarder frame version: " + formatVersion);
+        }
+        final String destinationPluginId = readString(inputStream);
+        final String destinationPipelineName = readString(inputStream);
+
+        final int encodedEventCount = readUnsignedVarInt(inputStream);
+        List<Event> events = null;
+        if (encodedEventCount > 0) {
+            final int eventCount = encodedEventCount - 1;
+            if (eventCount > maxEventsPerRequest) {
+                throw new IOException("Peer forwarder request has " + eventCount +
+                        " events which exceeds the maximum of " + maxEventsPerRequest);
+            }
+            events = new ArrayList<>(eventCount);
+            for (int i = 0; i < eventCount; i++) {
+                events.add(readEvent(inputStream));
+            }
+        }
+        if (inputStream.available() > 0) {
+            throw new IOException("Unexpected trailing bytes in peer forwarder request");
+        }
+        return new PeerForwardingEvents(events, destinationPluginId, destinationPipelineName);
+    }
+
+    private void writeEvent(final OutputStream outputStream, final Event event) throws IOException {
+        final EventMetadata metadata = event.getMetadata();
+        writeString(outputStream, metadata.getEventType());
+
+        final Instant timeReceived = metadata.getTimeReceived();
+        if (timeReceived == null) {
+            outputStream.write(0);
+        } else {
+            outputStream.write(1);
+            writeUnsignedVarLong(outputStream, zigZagEncode(timeReceived.getEpochSecond()));
+            writeUnsignedVarInt(outputStream, timeReceived.getNano());
+        }
+
+        final Map<String, Object> attributes = metadata.getAttributes();
+        writeBytes(outputStream, attributes == null || attributes.isEmpty() ? null : objectMapper.writeValueAsBytes(attributes));
+        writeString(outputStream, event.toJsonString());
+    }
+
+    private Event readEvent(final InputStream inputStream) throws IOException {
+        final String eventType = readString(inputStream);
+        if (eventType == null) {
+            throw new IOException("Peer forwarder event is missing its event type");
+        }
+
+        Instant timeReceived = null;
+        final int timeReceivedFlag = readByte(inputStream);
+        if (timeReceivedFlag == 1) {
+            final long epochSecond = zigZagDecode(readUnsignedVarLong(inputStream));
+            timeReceived = Instant.ofEpochSecond(epochSecond, readUnsignedVarInt(inputStream));
+        } else if (timeReceivedFlag != 0) {
+            throw new IOException("Invalid time received marker in peer forwarder event");
+        }
+
+        final byte[] attributeBytes = readBytes(inputStream);
+        final Map<String, Object> attributes = attributeBytes == null ? null : objectMapper.readValue(attributeBytes, ATTRIBUTES_TYPE);
+
+        final String eventData = readString(inputStream);
+        if (eventData == null) {
+            throw new IOException("Peer forwarder event is missing its data");
+        }
+
+        final DefaultEventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType(eventType)
+                .withTimeReceived(timeReceived)
+                .withAttributes(attributes)
+                .build();
+
+        if (eventType.equalsIgnoreCase(TRACE_EVENT_TYPE)) {
+            return JacksonSpan.builder()
+                    .withJsonData(eventData)
+                    .withEventMetadata(eventMetadata)
+                    .build();
+        }
+        return JacksonEvent.builder()
+                .withJsonData(eventData)
+                .withEventMetadata(eventMetadata)
+                .build();
+    }
+
+    private static void writeString(final OutputStream outputStream, final String value) throws IOException {
+        writeBytes(outputStream, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(final InputStream inputStream) throws IOException {
+        final byte[] bytes = readBytes(inputStream);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the length plus one so that zero can represent null.
+     */
+    private static void writeBytes(final OutputStream outputStream, final byte[] bytes) throws IOException {
+        if (bytes == null) {
+            writeUnsignedVarInt(outputStream, 0);
+            return;
+        }
+        writeUnsignedVarInt(outputStream, bytes.length + 1);
+        outputStream.write(bytes);
+    }
+
+    private static byte[] readBytes(final InputStream inputStream) throws IOException {
+        final int encodedLength = readUnsignedVarInt(inputStream);
+        if (encodedLength == 0) {
+            return null;
+        }
+        final int length = encodedLength - 1;
+        if (length > inputStream.available()) {
+            throw new EOFException("Peer forwarder request is truncated");
+        }
+        final byte[] bytes = new byte[length];
+        if (inputStream.readNBytes(bytes, 0, length) != length) {
+            throw new EOFException("Peer forwarder request is truncated");
+        }
+        return bytes;
+    }
+
+    private static void writeUnsignedVarInt(final OutputStream outputStream, final int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            outputStream.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        outputStream.write(remaining);
+    }
+
+    private static int readUnsignedVarInt(final InputStream inputStream) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final int b = readByte(inputStream);
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Varint in peer forwarder request is out of range");
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in peer forwarder request");
+    }
+
+    private static void writeUnsignedVarLong(final OutputStream outputStream, final long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            outputStream.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        outputStream.write((int) remaining);
+    }
+
+    private static long readUnsignedVarLong(final InputStream inputStream) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final int b = readByte(inputStream);
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in peer forwarder request");
+    }
+
+    private static int readByte(final InputStream inputStream) throws IOException {
+        final int b = inputStream.read();
+        if (b < 0) {
+            throw new EOFException("Peer forwarder request is truncated");
+        }
+        return b;
+    }
+
+    private static long zigZagEncode(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long zigZagDecode(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -77,7 +77,7 @@ public class JacksonPeerForwarderCodec implements PeerForwarderCodec {
                     .build();
         } else {
             event = JacksonEvent.builder()
-                    .withData(wireEvent.getEventData())
+                    .withJsonData(wireEvent.getEventData())
                     .withEventMetadata(eventMetadata)
                     .build();
         }
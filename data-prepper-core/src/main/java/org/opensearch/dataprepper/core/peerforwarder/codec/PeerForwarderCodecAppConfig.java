@@ -27,8 +27,14 @@ public class PeerForwarderCodecAppConfig {
             final PeerForwarderConfiguration peerForwarderConfiguration,
             final ObjectInputFilter objectInputFilter,
             @Qualifier("peerForwarderObjectMapper") final ObjectMapper objectMapper) {
-        return peerForwarderConfiguration.getBinaryCodec() ?
-                new JavaPeerForwarderCodec(objectInputFilter) : new JacksonPeerForwarderCodec(objectMapper);
+        if (!peerForwarderConfiguration.getBinaryCodec()) {
+            return new JacksonPeerForwarderCodec(objectMapper);
+        }
+        if (peerForwarderConfiguration.getBinaryCodecFormat() == BinaryCodecFormat.COMPACT) {
+            final ObjectMapper jsonObjectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+            return new CompactPeerForwarderCodec(jsonObjectMapper, getMaxEventsPerRequest(peerForwarderConfiguration));
+        }
+        return new JavaPeerForwarderCodec(objectInputFilter);
     }
 
     @Bean(name = "peerForwarderObjectMapper")
@@ -46,12 +52,7 @@ public class PeerForwarderCodecAppConfig {
     public ObjectInputFilter objectInputFilter(final PeerForwarderConfiguration peerForwarderConfiguration) {
         final String baseModelPackage = "org.opensearch.dataprepper.model";
 
-        Integer maxArrayLength = peerForwarderConfiguration.getForwardingBatchSize();
-        if(maxArrayLength == null) {
-            maxArrayLength = PeerForwarderConfiguration.MAX_FORWARDING_BATCH_SIZE;
-        } else if(maxArrayLength < 10) {
-            maxArrayLength = 10;
-        }
+        final int maxArrayLength = getMaxEventsPerRequest(peerForwarderConfiguration);
 
         final String pattern =
                 "maxarray=" + maxArrayLength + ";" +
@@ -84,4 +85,12 @@ public class PeerForwarderCodecAppConfig {
 
         return new LoggingObjectInputFilter(filter);
     }
+
+    private static int getMaxEventsPerRequest(final PeerForwarderConfiguration peerForwarderConfiguration) {
+        final Integer forwardingBatchSize = peerForwarderConfiguration.getForwardingBatchSize();
+        if(forwardingBatchSize == null) {
+            return PeerForwarderConfiguration.MAX_FORWARDING_BATCH_SIZE;
+        }
+        return Math.max(forwardingBatchSize, 10);
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline;
+
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.dataprepper.model.event.DefaultEventHandle;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Package-protected helper which releases the events that a processor dropped from a batch. The input events
+ * are captured by batch position into a reusable array, and the events which survived the processor are marked
+ * in a reusable {@link BitSet} keyed by those positions. Processors which keep the order of the events they
+ * return are matched with a single in-order pass; otherwise, the output events are matched by identity.
+ * Instances are reused across batches and must only be used by one thread at a time.
+ */
+class EventAcknowledgementTracker {
+    private final Counter invalidEventHandlesCounter;
+    private final BitSet outputPositions = new BitSet();
+    private final Set<Object> outputEvents = Collections.newSetFromMap(new IdentityHashMap<>());
+    private Object[] inputEvents = new Object[0];
+    private int inputEventCount;
+
+    EventAcknowledgementTracker(final Counter invalidEventHandlesCounter) {
+        this.invalidEventHandlesCounter = invalidEventHandlesCounter;
+    }
+
+    void captureInputRecords(final Collection<Record<Event>> records) {
+        ensureCapacity(records.size());
+        int position = 0;
+        for (final Record<Event> record : records) {
+            inputEvents[position++] = record.getData();
+        }
+        inputEventCount = position;
+    }
+
+    void captureInputEvents(final List<Event> events) {
+        ensureCapacity(events.size());
+        int position = 0;
+        for (final Event event : events) {
+            inputEvents[position++] = event;
+        }
+        inputEventCount = position;
+    }
+
+    /**
+     * Releases the captured input events which are not present in the output records, and then clears the
+     * captured input events.
+     *
+     * @param outputRecords the records returned by the processor
+     */
+    void releaseEventsMissingFrom(final Collection<Record<Event>> outputRecords) {
+        outputPositions.clear();
+        if (!markOutputPositionsInOrder(outputRecords)) {
+            outputPositions.clear();
+            markOutputPositionsByIdentity(outputRecords);
+        }
+
+        for (int position = 0; position < inputEventCount; position++) {
+            final EventHandle eventHandle = ((Event) inputEvents[position]).getEventHandle();
+            if (eventHandle != null && !outputPositions.get(position)) {
+                if (eventHandle instanceof DefaultEventHandle) {
+                    eventHandle.release(true);
+                } else {
+                    invalidEventHandlesCounter.increment();
+                }
+            }
+        }
+
+        clear();
+    }
+
+    void clear() {
+        Arrays.fill(inputEvents, 0, inputEventCount, null);
+        inputEventCount = 0;
+    }
+
+    private boolean markOutputPositionsInOrder(final Collection<Record<Event>> outputRecords) {
+        int position = 0;
+        for (final Record<Event> outputRecord : outputRecords) {
+            final Object outputEvent = outputRecord.getData();
+            while (position < inputEventCount && inputEvents[position] != outputEvent) {
+                position++;
+            }
+            if (position == inputEventCount) {
+                return false;
+            }
+            outputPositions.set(position++);
+        }
+        return true;
+    }
+
+    private void markOutputPositionsByIdentity(final Collection<Record<Event>> outputRecords) {
+        for (final Record<Event> outputRecord : outputRecords) {
+            outputEvents.add(outputRecord.getData());
+        }
+        for (int position = 0; position < inputEventCount; position++) {
+            if (outputEvents.contains(inputEvents[position])) {
+                outputPositions.set(position);
+            }
+        }
+        outputEvents.clear();
+    }
+
+    private void ensureCapacity(final int size) {
+        if (inputEvents.length < size) {
+            inputEvents = new Object[Math.max(size, inputEvents.length * 2)];
+        }
+    }
+}
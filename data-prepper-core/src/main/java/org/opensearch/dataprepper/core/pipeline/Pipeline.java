@@ -76,6 +76,7 @@ public class Pipeline implements HeadlessPipeline {
     private final Duration processorShutdownTimeout;
     private final Duration sinkShutdownTimeout;
     private final Duration peerForwarderDrainTimeout;
+    private final int maxInFlightSinkBatches;
     private final ExecutorService processorExecutorService;
     private final ExecutorService sinkExecutorService;
     private final EventFactory eventFactory;
@@ -104,6 +105,7 @@ public class Pipeline implements HeadlessPipeline {
      * @param processorShutdownTimeout  configured or default timeout before forcefully terminating the processor workers
      * @param peerForwarderDrainTimeout configured or default timeout before considering the peer forwarder drained and ready for termination
      * @param sinkShutdownTimeout       configured or default timeout before forcefully terminating the sink workers
+     * @param maxInFlightSinkBatches    configured or default number of batches each process worker may have in sinks at once
      */
     public Pipeline(
             @Nonnull final String name,
@@ -119,7 +121,8 @@ public class Pipeline implements HeadlessPipeline {
             final int readBatchTimeoutInMillis,
             final Duration processorShutdownTimeout,
             final Duration sinkShutdownTimeout,
-            final Duration peerForwarderDrainTimeout) {
+            final Duration peerForwarderDrainTimeout,
+            final int maxInFlightSinkBatches) {
         Preconditions.checkArgument(processorSets.stream().allMatch(
                 processorSet -> Objects.nonNull(processorSet) && (processorSet.size() == 1 || processorSet.size() == processorThreads)));
         this.name = name;
@@ -137,6 +140,7 @@ public class Pipeline implements HeadlessPipeline {
         this.processorShutdownTimeout = processorShutdownTimeout;
         this.sinkShutdownTimeout = sinkShutdownTimeout;
         this.peerForwarderDrainTimeout = peerForwarderDrainTimeout;
+        this.maxInFlightSinkBatches = maxInFlightSinkBatches;
         this.processorExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
                 new PipelineThreadFactory(format("%s-processor-worker", name)), this);
 
@@ -203,6 +207,14 @@ public class Pipeline implements HeadlessPipeline {
         return peerForwarderDrainTimeout;
     }
 
+    /**
+     * @return the number of processed batches each {@link ProcessWorker} may have written to sinks before it
+     * waits for the oldest of them to complete.
+     */
+    public int getMaxInFlightSinkBatches() {
+        return maxInFlightSinkBatches;
+    }
+
     /**
      * @return a list of {@link Processor} of this pipeline or an empty list .
      */
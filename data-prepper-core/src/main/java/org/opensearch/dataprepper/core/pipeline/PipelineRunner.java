@@ -17,5 +17,10 @@ package org.opensearch.dataprepper.core.pipeline;
 public interface PipelineRunner {
     void runAllProcessorsAndPublishToSinks();
 
+    /**
+     * Waits for every batch which is still being written by the sinks and checkpoints it.
+     */
+    void drainInFlightSinkBatches();
+
     Pipeline getPipeline();
 }
@@ -16,21 +16,19 @@ import org.opensearch.dataprepper.core.pipeline.common.FutureHelperResult;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.buffer.Buffer;
-import org.opensearch.dataprepper.model.event.DefaultEventHandle;
 import org.opensearch.dataprepper.model.event.Event;
-import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.Future;
-import java.util.stream.Collectors;
 
 public class PipelineRunnerImpl implements PipelineRunner {
     private static final Logger LOG = LoggerFactory.getLogger(PipelineRunnerImpl.class);
@@ -40,12 +38,30 @@ public class PipelineRunnerImpl implements PipelineRunner {
     private final Pipeline pipeline;
     private final PluginMetrics pluginMetrics;
     private final ProcessorProvider processorProvider;
+    private final int maxInFlightSinkBatches;
+    private final Deque<InFlightSinkBatch> inFlightSinkBatches = new ArrayDeque<>();
+    private final ThreadLocal<EventAcknowledgementTracker> acknowledgementTrackers;
 
     public PipelineRunnerImpl(final Pipeline pipeline, final ProcessorProvider processorProvider) {
+        this(pipeline, processorProvider, 1);
+    }
+
+    /**
+     * Creates a runner which allows up to {@code maxInFlightSinkBatches} processed batches to be written by the
+     * sinks while the next batch is read and processed. Each batch is checkpointed only once its sinks complete.
+     * A value of 1 waits for the sinks after every batch.
+     *
+     * @param pipeline               the pipeline to run
+     * @param processorProvider      provides the processors for each batch
+     * @param maxInFlightSinkBatches the maximum number of batches which may be in the sinks at once
+     */
+    public PipelineRunnerImpl(final Pipeline pipeline, final ProcessorProvider processorProvider, final int maxInFlightSinkBatches) {
         this.pipeline = pipeline;
         this.pluginMetrics = PluginMetrics.fromNames("PipelineRunner", pipeline.getName());
         this.processorProvider = processorProvider;
+        this.maxInFlightSinkBatches = maxInFlightSinkBatches;
         this.invalidEventHandlesCounter = pluginMetrics.counter(INVALID_EVENT_HANDLES);
+        this.acknowledgementTrackers = ThreadLocal.withInitial(() -> new EventAcknowledgementTracker(invalidEventHandlesCounter));
     }
 
     @Override
@@ -55,9 +71,51 @@ public class PipelineRunnerImpl implements PipelineRunner {
         final CheckpointState checkpointState = recordsReadFromBuffer.getValue();
         List<Processor> currentProcessors = processorProvider.getProcessors();
         records = runProcessorsAndProcessAcknowledgements(currentProcessors, records);
-        postToSink(getPipeline(), records);
-        // Checkpoint the current batch read from the buffer after being processed by processors and sinks.
-        getBuffer().checkpoint(checkpointState);
+        if (maxInFlightSinkBatches <= 1) {
+            postToSink(getPipeline(), records);
+            // Checkpoint the current batch read from the buffer after being processed by processors and sinks.
+            getBuffer().checkpoint(checkpointState);
+            return;
+        }
+
+        checkpointCompletedSinkBatches();
+        final boolean batchIsEmpty = records.isEmpty();
+        inFlightSinkBatches.addLast(new InFlightSinkBatch(publishToSinks(getPipeline(), records), checkpointState));
+        // Nothing is left to overlap with when the buffer is idle, so let the sinks catch up.
+        final int allowedInFlightSinkBatches = batchIsEmpty ? 0 : maxInFlightSinkBatches - 1;
+        while (inFlightSinkBatches.size() > allowedInFlightSinkBatches) {
+            awaitOldestSinkBatch();
+        }
+    }
+
+    @Override
+    public void drainInFlightSinkBatches() {
+        while (!inFlightSinkBatches.isEmpty()) {
+            awaitOldestSinkBatch();
+        }
+    }
+
+    @VisibleForTesting
+    int getInFlightSinkBatchCount() {
+        return inFlightSinkBatches.size();
+    }
+
+    private List<Future<Void>> publishToSinks(final Pipeline pipeline, final Collection<Record> records) {
+        LOG.debug("Pipeline Worker: Submitting {} processed records to sinks without waiting", records.size());
+        return pipeline.publishToSinks(records);
+    }
+
+    private void checkpointCompletedSinkBatches() {
+        while (!inFlightSinkBatches.isEmpty() && inFlightSinkBatches.peekFirst().isDone()) {
+            awaitOldestSinkBatch();
+        }
+    }
+
+    private void awaitOldestSinkBatch() {
+        final InFlightSinkBatch sinkBatch = inFlightSinkBatches.removeFirst();
+        FutureHelper.awaitFuturesIndefinitely(sinkBatch.sinkFutures);
+        // Checkpoint the batch read from the buffer only after all of its sinks have completed.
+        getBuffer().checkpoint(sinkBatch.checkpointState);
     }
 
     @VisibleForTesting
@@ -78,51 +136,44 @@ public class PipelineRunnerImpl implements PipelineRunner {
 
     @VisibleForTesting
     void processAcknowledgements(final List<Event> inputEvents, final Collection<Record<Event>> outputRecords) {
-        final Set<Event> outputEventsSet = outputRecords.stream().map(Record::getData).collect(Collectors.toSet());
         // For each event in the input events list that is not present in the output events, send positive acknowledgement, if acknowledgements are enabled for it
-        inputEvents.forEach(event -> {
-            final EventHandle eventHandle = event.getEventHandle();
-            if (eventHandle != null) {
-                if (!outputEventsSet.contains(event)) {
-                    if (eventHandle instanceof DefaultEventHandle) {
-                        eventHandle.release(true);
-                    } else {
-                        invalidEventHandlesCounter.increment();
-                    }
-                }
-            }
-        });
+        final EventAcknowledgementTracker acknowledgementTracker = acknowledgementTrackers.get();
+        acknowledgementTracker.captureInputEvents(inputEvents);
+        acknowledgementTracker.releaseEventsMissingFrom(outputRecords);
     }
 
     @VisibleForTesting
     Collection runProcessorsAndProcessAcknowledgements(List<Processor> processors, Collection records) {
+        final EventAcknowledgementTracker acknowledgementTracker = acknowledgementTrackers.get();
         //Should Empty list from buffer should be sent to the processors? For now sending as the Stateful processors expects it.
         for (final Processor processor : processors) {
 
-            List<Event> inputEvents = null;
-            if (getPipeline().areAcknowledgementsEnabled()) {
-                inputEvents = ((List<Record<Event>>) records).stream().map(Record::getData).collect(Collectors.toList());
+            final boolean acknowledgementsEnabled = getPipeline().areAcknowledgementsEnabled();
+            if (acknowledgementsEnabled) {
+                acknowledgementTracker.captureInputRecords(records);
             }
 
             try {
                 records = processor.execute(records);
                 // acknowledge missing events only if the processor is not holding events
-                if (!processor.holdsEvents() && inputEvents != null) {
-                    processAcknowledgements(inputEvents, records);
+                if (!processor.holdsEvents() && acknowledgementsEnabled) {
+                    acknowledgementTracker.releaseEventsMissingFrom(records);
                 }
             } catch (final Exception e) {
                 if (pipeline.getFailurePipeline() != null) {
                     LOG.error("A processor threw an exception. This batch of Events will be sent to DLQ. ", e);
                     pipeline.getFailurePipeline().sendEvents(records);
-                } else if (inputEvents != null) {
+                } else if (acknowledgementsEnabled) {
                     LOG.error("A processor threw an exception. This batch of Events will be dropped, and their EventHandles will be released: ", e);
-                    processAcknowledgements(inputEvents, Collections.emptyList());
+                    acknowledgementTracker.releaseEventsMissingFrom(Collections.emptyList());
                 }
 
                 records = Collections.emptyList();
                 break;
             }
         }
+        // Drop references to events which were captured but not released, such as for processors holding events.
+        acknowledgementTracker.clear();
         return records;
     }
 
@@ -149,4 +200,23 @@ public class PipelineRunnerImpl implements PipelineRunner {
     Buffer getBuffer() {
         return getPipeline().getBuffer();
     }
+
+    private static class InFlightSinkBatch {
+        private final List<Future<Void>> sinkFutures;
+        private final CheckpointState checkpointState;
+
+        private InFlightSinkBatch(final List<Future<Void>> sinkFutures, final CheckpointState checkpointState) {
+            this.sinkFutures = sinkFutures;
+            this.checkpointState = checkpointState;
+        }
+
+        private boolean isDone() {
+            for (final Future<Void> sinkFuture : sinkFutures) {
+                if (!sinkFuture.isDone()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
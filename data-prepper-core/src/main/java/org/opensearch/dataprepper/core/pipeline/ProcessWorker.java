@@ -33,7 +33,7 @@ public class ProcessWorker implements Runnable {
         this.readBuffer = readBuffer;
         this.processors = processorProvider.getProcessors();
         this.pipeline = pipeline;
-        this.pipelineRunner = new PipelineRunnerImpl(pipeline, processorProvider);
+        this.pipelineRunner = new PipelineRunnerImpl(pipeline, processorProvider, pipeline.getMaxInFlightSinkBatches());
     }
 
     @Override
@@ -78,6 +78,11 @@ public class ProcessWorker implements Runnable {
             doRun();
         }
         LOG.info("Processor shutdown phase 5 complete.");
+
+        // Phase 6 - wait for batches still in the sinks, which may remain when buffers are force stopped
+        LOG.info("Beginning processor shutdown phase 6, waiting for in-flight sink batches.");
+        pipelineRunner.drainInFlightSinkBatches();
+        LOG.info("Processor shutdown phase 6 complete.");
     }
 
     private void doRun() {
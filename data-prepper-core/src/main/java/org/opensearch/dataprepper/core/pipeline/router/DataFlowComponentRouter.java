@@ -13,9 +13,9 @@ import org.opensearch.dataprepper.core.parser.DataFlowComponent;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
 import java.util.function.BiConsumer;
 
@@ -25,30 +25,34 @@ import java.util.function.BiConsumer;
  */
 class DataFlowComponentRouter {
     static final String DEFAULT_ROUTE = "_default";
-    <C> void route(final Collection<Record> allRecords,
-                   final DataFlowComponent<C> dataFlowComponent,
-                   final Map<Record, Set<String>> recordsToRoutes,
-                   final RouterGetRecordStrategy getRecordStrategy,
-                   final BiConsumer<C, Collection<Record>> componentRecordsConsumer) {
+
+    /**
+     * Routes the records to a single component.
+     *
+     * @return the indexes of the records which were sent to the component
+     */
+    <C> BitSet route(final List<Record> allRecords,
+                     final DataFlowComponent<C> dataFlowComponent,
+                     final RouteMatches routeMatches,
+                     final RouterGetRecordStrategy getRecordStrategy,
+                     final BiConsumer<C, Collection<Record>> componentRecordsConsumer) {
 
         final Collection<Record> recordsForComponent;
+        final BitSet recordIndexesForComponent;
         final Set<String> dataFlowComponentRoutes =  dataFlowComponent.getRoutes();
 
         if (dataFlowComponentRoutes.isEmpty()) {
             recordsForComponent = getRecordStrategy.getAllRecords(allRecords);
+            recordIndexesForComponent = new BitSet(allRecords.size());
+            recordIndexesForComponent.set(0, allRecords.size());
         } else {
-            recordsForComponent = new ArrayList<>();
-            for (Record record : allRecords) {
-                final Set<String> routesForEvent = recordsToRoutes
-                        .getOrDefault(record, Collections.emptySet());
-
-                if (routesForEvent.size() == 0 && dataFlowComponentRoutes.contains(DEFAULT_ROUTE)) {
-                    recordsForComponent.add(getRecordStrategy.getRecord(record));
-                } else if (routesForEvent.stream().anyMatch(dataFlowComponentRoutes::contains)) {
-                    recordsForComponent.add(getRecordStrategy.getRecord(record));
-                }
+            recordIndexesForComponent = routeMatches.getRecordIndexesMatchingAny(dataFlowComponentRoutes);
+            recordsForComponent = new ArrayList<>(recordIndexesForComponent.cardinality());
+            for (int i = recordIndexesForComponent.nextSetBit(0); i >= 0; i = recordIndexesForComponent.nextSetBit(i + 1)) {
+                recordsForComponent.add(getRecordStrategy.getRecord(allRecords.get(i)));
             }
         }
         componentRecordsConsumer.accept(dataFlowComponent.getComponent(), recordsForComponent);
+        return recordIndexesForComponent;
     }
 }
@@ -16,12 +16,11 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 class RouteEventEvaluator {
 
@@ -35,43 +34,66 @@ class RouteEventEvaluator {
         this.routes = routes;
     }
 
-    Map<Record, Set<String>> evaluateEventRoutes(final Collection<Record> records) {
-        final Map<Record, Set<String>> recordsToRoutes = new HashMap<>();
+    /**
+     * Evaluates each route condition across the whole batch.
+     *
+     * @param records the batch of records, indexed in iteration order
+     * @return the record indexes matched by each route
+     */
+    RouteMatches evaluateEventRoutes(final List<Record> records) {
+        final int recordCount = records.size();
+        final Event[] events = new Event[recordCount];
 
         int nonEventRecords = 0;
-
+        int index = 0;
         for (Record record : records) {
-
             final Object data = record.getData();
-
             if (data instanceof Event) {
-                final Event event = (Event) data;
-                final Set<String> matchedRoutes = findMatchedRoutes(event);
-                recordsToRoutes.put(record, matchedRoutes);
+                events[index] = (Event) data;
             } else {
                 nonEventRecords++;
-                recordsToRoutes.put(record, Collections.emptySet());
             }
+            index++;
         }
 
         if (nonEventRecords > 0) {
             LOG.warn("Received {} records which are not events. These will have no routes applied.", nonEventRecords);
         }
 
-        return recordsToRoutes;
-    }
+        if (routes.isEmpty() || nonEventRecords == recordCount) {
+            return RouteMatches.noMatches(recordCount);
+        }
+
+        final Map<String, BitSet> routeToRecordIndexes = new HashMap<>();
+        final BitSet recordsMatchingAnyRoute = new BitSet(recordCount);
 
-    private Set<String> findMatchedRoutes(final Event event) {
-        final Set<String> matchRoutes = new HashSet<>();
         for (ConditionalRoute route : routes) {
+            final BitSet matchedRecordIndexes = findMatchedRecordIndexes(route, events);
+            routeToRecordIndexes.merge(route.getName(), matchedRecordIndexes, (existing, matched) -> {
+                existing.or(matched);
+                return existing;
+            });
+            recordsMatchingAnyRoute.or(matchedRecordIndexes);
+        }
+
+        return new RouteMatches(recordCount, routeToRecordIndexes, recordsMatchingAnyRoute);
+    }
+
+    private BitSet findMatchedRecordIndexes(final ConditionalRoute route, final Event[] events) {
+        final BitSet matchedRecordIndexes = new BitSet(events.length);
+        final String condition = route.getCondition();
+        for (int i = 0; i < events.length; i++) {
+            if (events[i] == null) {
+                continue;
+            }
             try {
-                if (evaluator.evaluateConditional(route.getCondition(), event)) {
-                    matchRoutes.add(route.getName());
+                if (evaluator.evaluateConditional(condition, events[i])) {
+                    matchedRecordIndexes.set(i);
                 }
             } catch (final Exception ex) {
                 LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex);
             }
         }
-        return matchRoutes;
+        return matchedRecordIndexes;
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline.router;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import static org.opensearch.dataprepper.core.pipeline.router.DataFlowComponentRouter.DEFAULT_ROUTE;
+
+/**
+ * Package-protected, columnar result of evaluating the routes for a batch of records. Each
+ * route is represented by a {@link BitSet} over the indexes of the records in the batch, so
+ * that components can select records without a set of route names per record.
+ */
+class RouteMatches {
+    private final int recordCount;
+    private final Map<String, BitSet> routeToRecordIndexes;
+    private final BitSet recordsMatchingAnyRoute;
+
+    RouteMatches(final int recordCount, final Map<String, BitSet> routeToRecordIndexes, final BitSet recordsMatchingAnyRoute) {
+        this.recordCount = recordCount;
+        this.routeToRecordIndexes = routeToRecordIndexes;
+        this.recordsMatchingAnyRoute = recordsMatchingAnyRoute;
+    }
+
+    static RouteMatches noMatches(final int recordCount) {
+        return new RouteMatches(recordCount, Collections.emptyMap(), new BitSet(recordCount));
+    }
+
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Gets the indexes of the records which match at least one of the given routes. Records which
+     * match no route at all are included when the routes contain {@link DataFlowComponentRouter#DEFAULT_ROUTE}.
+     *
+     * @param routes the routes of a component
+     * @return a new {@link BitSet} which the caller may modify
+     */
+    BitSet getRecordIndexesMatchingAny(final Set<String> routes) {
+        final BitSet recordIndexes = new BitSet(recordCount);
+        for (final String route : routes) {
+            final BitSet routeRecordIndexes = routeToRecordIndexes.get(route);
+            if (routeRecordIndexes != null) {
+                recordIndexes.or(routeRecordIndexes);
+            }
+        }
+
+        if (routes.contains(DEFAULT_ROUTE)) {
+            final BitSet unmatchedRecordIndexes = new BitSet(recordCount);
+            unmatchedRecordIndexes.set(0, recordCount);
+            unmatchedRecordIndexes.andNot(recordsMatchingAnyRoute);
+            recordIndexes.or(unmatchedRecordIndexes);
+        }
+
+        return recordIndexes;
+    }
+}
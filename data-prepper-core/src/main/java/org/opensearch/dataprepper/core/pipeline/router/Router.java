@@ -13,17 +13,20 @@ import org.opensearch.dataprepper.core.parser.DataFlowComponent;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
  * Provides routing of event records over a collection of {@link DataFlowComponent} objects.
+ * Routes are evaluated once per batch into per-route {@link BitSet}s over the record indexes,
+ * and components select their records from those bitsets.
  */
 public class Router {
     private final RouteEventEvaluator routeEventEvaluator;
@@ -48,7 +51,8 @@ public class Router {
 
         final Map<C, Collection<Record>> componentRecords = new LinkedHashMap<>();
 
-        final Map<Record, Set<String>> recordsToRoutes = routeEventEvaluator.evaluateEventRoutes(allRecords);
+        final List<Record> indexedRecords = (allRecords instanceof List) ? (List<Record>) allRecords : new ArrayList<>(allRecords);
+        final RouteMatches routeMatches = routeEventEvaluator.evaluateEventRoutes(indexedRecords);
 
         boolean allRecordsRouted = false;
 
@@ -59,27 +63,24 @@ public class Router {
             }
         }
 
-        final Set<Record> recordsUnRouted = (allRecordsRouted) ? null : new HashSet<>(allRecords);
+        final BitSet recordsRouted = (allRecordsRouted) ? null : new BitSet(indexedRecords.size());
 
         for (DataFlowComponent<C> dataFlowComponent : dataFlowComponents) {
-            dataFlowComponentRouter.route(allRecords, dataFlowComponent, recordsToRoutes, getRecordStrategy, (component, records) -> { 
-                if (recordsUnRouted != null) {
-                    for (final Record record: records) {
-                        recordsUnRouted.remove(record);
-                    }
-                }
-                componentRecords.put(component, records);
-            });
+            final BitSet recordIndexesForComponent = dataFlowComponentRouter.route(indexedRecords, dataFlowComponent, routeMatches, getRecordStrategy, componentRecords::put);
+            if (recordsRouted != null) {
+                recordsRouted.or(recordIndexesForComponent);
+            }
         }
 
         for (Map.Entry<C, Collection<Record>> entry : componentRecords.entrySet()) {
             componentRecordsConsumer.accept(entry.getKey(), entry.getValue());
         }
 
-        if (recordsUnRouted != null) {
-            for (Record record: recordsUnRouted) {
-                if (record.getData() instanceof Event) {
-                    noRouteHandler.accept((Event)record.getData());
+        if (recordsRouted != null) {
+            for (int i = recordsRouted.nextClearBit(0); i < indexedRecords.size(); i = recordsRouted.nextClearBit(i + 1)) {
+                final Object data = indexedRecords.get(i).getData();
+                if (data instanceof Event) {
+                    noRouteHandler.accept((Event) data);
                 }
             }
         }
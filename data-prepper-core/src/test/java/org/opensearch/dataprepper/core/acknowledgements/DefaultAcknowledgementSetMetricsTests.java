@@ -10,6 +10,7 @@
 package org.opensearch.dataprepper.core.acknowledgements;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +18,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 
+import java.time.Duration;
+
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -34,6 +37,8 @@ public class DefaultAcknowledgementSetMetricsTests {
     private Counter invalidAcquiresCounter;
     @Mock
     private Counter invalidReleasesCounter;
+    @Mock
+    private Timer callbackLatencyTimer;
     private DefaultAcknowledgementSetMetrics metrics;
 
     @Mock
@@ -47,6 +52,7 @@ public class DefaultAcknowledgementSetMetricsTests {
         when(pluginMetrics.counter(DefaultAcknowledgementSetMetrics.EXPIRED_METRIC_NAME)).thenReturn(expiredCounter);
         when(pluginMetrics.counter(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME)).thenReturn(invalidAcquiresCounter);
         when(pluginMetrics.counter(DefaultAcknowledgementSetMetrics.INVALID_RELEASES_METRIC_NAME)).thenReturn(invalidReleasesCounter);
+        when(pluginMetrics.timer(DefaultAcknowledgementSetMetrics.CALLBACK_LATENCY_METRIC_NAME)).thenReturn(callbackLatencyTimer);
     }
 
     public DefaultAcknowledgementSetMetrics createObjectUnderTest() {
@@ -67,5 +73,12 @@ public class DefaultAcknowledgementSetMetricsTests {
         metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_RELEASES_METRIC_NAME);
         verify(invalidReleasesCounter, times(1)).increment();
     }
-}
 
+    @Test
+    public void recordCallbackLatency_records_to_timer() {
+        metrics = createObjectUnderTest();
+        final Duration latency = Duration.ofMillis(25);
+        metrics.recordCallbackLatency(latency);
+        verify(callbackLatencyTimer, times(1)).record(latency);
+    }
+}
@@ -22,11 +22,17 @@ import org.opensearch.dataprepper.test.helper.ReflectivelySetField;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import static org.awaitility.Awaitility.await;
@@ -36,6 +42,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -350,4 +357,66 @@ class DefaultAcknowledgementSetTests {
                 .until(() -> defaultAcknowledgementSet.isDone());
         assertThat(acknowledgementSetResult, equalTo(null));
     }
+
+    @Test
+    void callback_latency_is_recorded_when_callback_completes() {
+        defaultAcknowledgementSet = createObjectUnderTestWithCallback(
+            (flag) -> {
+                acknowledgementSetResult = flag;
+            }
+        );
+        defaultAcknowledgementSet.add(event);
+        defaultAcknowledgementSet.complete();
+        assertThat(defaultAcknowledgementSet.release(handle, true), equalTo(true));
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> verify(metrics).recordCallbackLatency(any(Duration.class)));
+        assertThat(acknowledgementSetResult, equalTo(true));
+    }
+
+    @Test
+    void concurrent_releases_invoke_callback_exactly_once() throws Exception {
+        final int numberOfHandles = 500;
+        final int numberOfAcquiresPerHandle = 4;
+        final AtomicInteger callbackCount = new AtomicInteger(0);
+        defaultAcknowledgementSet = createObjectUnderTestWithCallback(
+            (flag) -> {
+                callbackCount.incrementAndGet();
+                acknowledgementSetResult = flag;
+            }
+        );
+        final List<DefaultEventHandle> handles = new ArrayList<>();
+        for (int i = 0; i < numberOfHandles; i++) {
+            final DefaultEventHandle eventHandle = mock(DefaultEventHandle.class);
+            defaultAcknowledgementSet.add(eventHandle);
+            for (int j = 0; j < numberOfAcquiresPerHandle; j++) {
+                defaultAcknowledgementSet.acquire(eventHandle);
+            }
+            handles.add(eventHandle);
+        }
+        defaultAcknowledgementSet.complete();
+
+        final ExecutorService releaseExecutor = Executors.newFixedThreadPool(8);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final List<Future<?>> releaseFutures = new ArrayList<>();
+        for (final DefaultEventHandle eventHandle : handles) {
+            for (int j = 0; j <= numberOfAcquiresPerHandle; j++) {
+                releaseFutures.add(releaseExecutor.submit(() -> {
+                    startLatch.await();
+                    return defaultAcknowledgementSet.release(eventHandle, true);
+                }));
+            }
+        }
+        startLatch.countDown();
+        for (final Future<?> releaseFuture : releaseFutures) {
+            releaseFuture.get(10, TimeUnit.SECONDS);
+        }
+        releaseExecutor.shutdown();
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(callbackCount.get(), equalTo(1)));
+        assertThat(acknowledgementSetResult, equalTo(true));
+        assertThat(defaultAcknowledgementSet.release(handles.get(0), true), equalTo(false));
+        verify(metrics, times(0)).increment(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME);
+    }
 }
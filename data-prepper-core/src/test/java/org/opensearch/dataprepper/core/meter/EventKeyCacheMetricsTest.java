@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.meter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.opensearch.dataprepper.core.meter.EventKeyCacheMetrics.EVENT_KEY_CACHE_HITS;
+import static org.opensearch.dataprepper.core.meter.EventKeyCacheMetrics.EVENT_KEY_CACHE_MISSES;
+import static org.opensearch.dataprepper.core.meter.EventKeyCacheMetrics.EVENT_KEY_CACHE_SIZE;
+
+class EventKeyCacheMetricsTest {
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private EventKeyCacheMetrics createObjectUnderTest() {
+        return new EventKeyCacheMetrics();
+    }
+
+    @Test
+    void bindTo_registers_cache_meters_with_MeterRegistry() {
+        createObjectUnderTest().bindTo(meterRegistry);
+
+        assertThat(meterRegistry.getMeters().size(), equalTo(3));
+        assertThat(meterRegistry.find(EVENT_KEY_CACHE_HITS).functionCounter(), notNullValue());
+        assertThat(meterRegistry.find(EVENT_KEY_CACHE_MISSES).functionCounter(), notNullValue());
+        assertThat(meterRegistry.find(EVENT_KEY_CACHE_SIZE).gauge(), notNullValue());
+    }
+
+    @Test
+    void meters_report_string_keyed_event_accesses() {
+        final EventKeyCacheMetrics objectUnderTest = createObjectUnderTest();
+        objectUnderTest.bindTo(meterRegistry);
+        final FunctionCounter hits = meterRegistry.find(EVENT_KEY_CACHE_HITS).functionCounter();
+        final FunctionCounter misses = meterRegistry.find(EVENT_KEY_CACHE_MISSES).functionCounter();
+        final Gauge size = meterRegistry.find(EVENT_KEY_CACHE_SIZE).gauge();
+        final double initialHits = hits.count();
+        final double initialMisses = misses.count();
+
+        final String key = UUID.randomUUID().toString();
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of(key, "value"))
+                .build();
+        event.get(key, String.class);
+        event.get(key, String.class);
+
+        assertThat(hits.count(), greaterThanOrEqualTo(initialHits + 1));
+        assertThat(misses.count(), greaterThanOrEqualTo(initialMisses + 1));
+        assertThat(size.value(), greaterThanOrEqualTo(1.0));
+    }
+}
@@ -63,6 +63,7 @@ public class DataPrepperConfigurationTests {
                 makeConfig(TestDataProvider.VALID_DATA_PREPPER_SOME_DEFAULT_CONFIG_FILE);
         Assert.assertEquals(DataPrepperConfiguration.DEFAULT_CONFIG.getServerPort(), dataPrepperConfiguration.getServerPort());
         Assert.assertNull(dataPrepperConfiguration.getPipelineExtensions());
+        Assert.assertNotNull(dataPrepperConfiguration.getExpressionConfiguration());
     }
 
     @Test
@@ -187,6 +188,30 @@ public class DataPrepperConfigurationTests {
         assertThat(sinkShutdownTimeout, equalTo(Duration.ofSeconds(1)));
     }
 
+    @Test
+    void testConfigWithValidMaxInFlightSinkBatches() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
+                TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE_WITH_MAX_IN_FLIGHT_SINK_BATCHES);
+
+        assertThat(dataPrepperConfiguration, notNullValue());
+        assertThat(dataPrepperConfiguration.getMaxInFlightSinkBatches(), equalTo(3));
+    }
+
+    @Test
+    void testConfigWithDefaultMaxInFlightSinkBatches() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
+                TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE_WITH_SINK_SHUTDOWN_TIMEOUT);
+
+        assertThat(dataPrepperConfiguration.getMaxInFlightSinkBatches(), equalTo(DataPrepperConfiguration.DEFAULT_MAX_IN_FLIGHT_SINK_BATCHES));
+        assertThat(new DataPrepperConfiguration().getMaxInFlightSinkBatches(), equalTo(DataPrepperConfiguration.DEFAULT_MAX_IN_FLIGHT_SINK_BATCHES));
+    }
+
+    @Test
+    void testConfigWithZeroMaxInFlightSinkBatches() {
+        assertThrows(ValueInstantiationException.class, () -> makeConfig(
+                TestDataProvider.INVALID_DATA_PREPPER_CONFIG_FILE_WITH_ZERO_MAX_IN_FLIGHT_SINK_BATCHES));
+    }
+
     @Test
     void testConfigWithISO8601ShutdownTimeouts() throws IOException {
         final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
@@ -12,14 +12,25 @@ package org.opensearch.dataprepper.core.peerforwarder;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opensearch.dataprepper.core.peerforwarder.discovery.PeerListProvider;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -137,4 +148,67 @@ class HashRingTest {
         // Second call during rebuild
         verify(peerListProvider, times(2)).getPeerList();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testMd5RingMatchesBigIntegerRing() throws Exception {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashAlgorithm.MD5);
+        final TreeMap<BigInteger, String> referenceRing = createReferenceMd5Ring(SERVER_IPS, MULTIPLE_VIRTUAL_NODE_COUNT);
+
+        for (int i = 0; i < 1000; i++) {
+            final List<String> identificationKeyValues = Arrays.asList(UUID.randomUUID().toString(), Integer.toString(i), null);
+            final MessageDigest md = MessageDigest.getInstance("MD5");
+            md.update(String.join(",", identificationKeyValues).getBytes());
+            final Map.Entry<BigInteger, String> entry = referenceRing.higherEntry(new BigInteger(md.digest()));
+            final String expected = entry == null ? referenceRing.firstEntry().getValue() : entry.getValue();
+
+            Assertions.assertEquals(Optional.of(expected), hashRing.getServerIp(identificationKeyValues));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(HashAlgorithm.class)
+    void testGetServerIpIsStableAndUsesAllServers(final HashAlgorithm hashAlgorithm) {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, hashAlgorithm);
+
+        final Set<String> serversUsed = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            final List<String> identificationKeyValues = List.of("key" + i, "value" + i);
+            final Optional<String> result = hashRing.getServerIp(identificationKeyValues);
+
+            Assertions.assertTrue(result.isPresent());
+            Assertions.assertEquals(result, hashRing.getServerIp(new ArrayList<>(identificationKeyValues)));
+            serversUsed.add(result.get());
+        }
+        Assertions.assertEquals(new HashSet<>(SERVER_IPS), serversUsed);
+    }
+
+    @ParameterizedTest
+    @EnumSource(HashAlgorithm.class)
+    void testGetServerIpWithEmptyPeerList(final HashAlgorithm hashAlgorithm) {
+        when(peerListProvider.getPeerList()).thenReturn(Collections.emptyList());
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, hashAlgorithm);
+
+        Assertions.assertFalse(hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1).isPresent());
+    }
+
+    @Test
+    void testNullHashAlgorithmThrows() {
+        Assertions.assertThrows(NullPointerException.class, () -> new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT, null));
+    }
+
+    private static TreeMap<BigInteger, String> createReferenceMd5Ring(final List<String> serverIps, final int numVirtualNodes) throws Exception {
+        final TreeMap<BigInteger, String> referenceRing = new TreeMap<>();
+        for (final String serverIp : serverIps) {
+            final MessageDigest md = MessageDigest.getInstance("MD5");
+            final ByteBuffer intBuffer = ByteBuffer.allocate(4);
+            for (int i = 0; i < numVirtualNodes; i++) {
+                md.update(serverIp.getBytes());
+                intBuffer.putInt(i);
+                md.update(intBuffer.array());
+                referenceRing.putIfAbsent(new BigInteger(md.digest()), serverIp);
+                intBuffer.clear();
+            }
+        }
+        return referenceRing;
+    }
+}
@@ -58,6 +58,7 @@ class PeerForwarderClientFactoryTest {
     void testCreateHashRing_with_endpoints_should_return() {
         when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.STATIC);
         when(peerForwarderConfiguration.getStaticEndpoints()).thenReturn(Collections.singletonList("10.10.0.1"));
+        when(peerForwarderConfiguration.getHashAlgorithm()).thenReturn(HashAlgorithm.MD5);
 
         HashRing hashRing = createObjectUnderTest().createHashRing();
         assertThat(hashRing, new IsInstanceOf(HashRing.class));
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.TestDataProvider;
+import org.opensearch.dataprepper.core.peerforwarder.codec.BinaryCodecFormat;
 import org.opensearch.dataprepper.core.peerforwarder.discovery.DiscoveryMode;
 import org.opensearch.dataprepper.pipeline.parser.DataPrepperDurationDeserializer;
 
@@ -71,6 +72,23 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(1));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(DEFAULT_FORWARDING_BATCH_TIMEOUT));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getBinaryCodecFormat(), equalTo(BinaryCodecFormat.JAVA));
+        assertThat(peerForwarderConfiguration.getHashAlgorithm(), equalTo(HashAlgorithm.MD5));
+    }
+
+    @Test
+    void testValidPeerForwarderConfig_with_murmur3_hash_algorithm() throws IOException {
+        final PeerForwarderConfiguration peerForwarderConfiguration = makeConfig("src/test/resources/valid_peer_forwarder_config_with_murmur3_hash_algorithm.yml");
+
+        assertThat(peerForwarderConfiguration.getHashAlgorithm(), equalTo(HashAlgorithm.MURMUR3));
+    }
+
+    @Test
+    void testValidPeerForwarderConfig_with_compact_binary_codec_format() throws IOException {
+        final PeerForwarderConfiguration peerForwarderConfiguration = makeConfig("src/test/resources/valid_peer_forwarder_config_with_compact_codec.yml");
+
+        assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getBinaryCodecFormat(), equalTo(BinaryCodecFormat.COMPACT));
     }
 
     @Test
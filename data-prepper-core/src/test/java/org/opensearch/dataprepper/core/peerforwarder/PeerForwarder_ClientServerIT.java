@@ -616,7 +616,9 @@ class PeerForwarder_ClientServerIT {
                 null,
                 null,
                 null,
-                binaryCodec
+                binaryCodec,
+                null,
+                null
         );
     }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.core.peerforwarder.model.PeerForwardingEvents;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompactPeerForwarderCodecTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+    private static final int MAX_EVENTS_PER_REQUEST = 10;
+    private String pipelineName;
+    private String pluginId;
+
+    @BeforeEach
+    void setUp() {
+        pipelineName = UUID.randomUUID().toString();
+        pluginId = UUID.randomUUID().toString();
+    }
+
+    private CompactPeerForwarderCodec createObjectUnderTest() {
+        return new CompactPeerForwarderCodec(OBJECT_MAPPER, MAX_EVENTS_PER_REQUEST);
+    }
+
+    @Test
+    void constructor_with_null_ObjectMapper_throws_exception() {
+        assertThrows(NullPointerException.class, () -> new CompactPeerForwarderCodec(null, MAX_EVENTS_PER_REQUEST));
+    }
+
+    @Test
+    void constructor_with_non_positive_max_events_throws_exception() {
+        assertThrows(IllegalArgumentException.class, () -> new CompactPeerForwarderCodec(OBJECT_MAPPER, 0));
+    }
+
+    @Test
+    void testCodec_round_trips_event_data_and_metadata() throws IOException {
+        final Instant timeReceived = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+        final Event event = JacksonLog.builder()
+                .withData(Map.of("message", "hello é", "count", 3, "nested", Map.of("key", "value")))
+                .withEventMetadata(DefaultEventMetadata.builder()
+                        .withEventType("LOG")
+                        .withTimeReceived(timeReceived)
+                        .withAttributes(Map.of("attributeKey", "attributeValue"))
+                        .build())
+                .build();
+
+        final PeerForwardingEvents outputEvents = createObjectUnderTest().deserialize(
+                createObjectUnderTest().serialize(new PeerForwardingEvents(List.of(event), pluginId, pipelineName)));
+
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(pluginId));
+        assertThat(outputEvents.getDestinationPipelineName(), equalTo(pipelineName));
+        assertThat(outputEvents.getEvents().size(), equalTo(1));
+        final Event outputEvent = outputEvents.getEvents().get(0);
+        assertThat(outputEvent.toMap(), equalTo(event.toMap()));
+        assertThat(outputEvent.toJsonString(), equalTo(event.toJsonString()));
+        assertThat(outputEvent.getMetadata().getEventType(), equalTo("LOG"));
+        assertThat(outputEvent.getMetadata().getTimeReceived(), equalTo(timeReceived));
+        assertThat(outputEvent.getMetadata().getAttributes(), equalTo(Map.of("attributeKey", "attributeValue")));
+    }
+
+    @Test
+    void testCodec_with_time_received_before_epoch() throws IOException {
+        final Instant timeReceived = Instant.ofEpochSecond(-86_400L, 5);
+        final Event event = JacksonLog.builder()
+                .withData(Map.of("key", "value"))
+                .withTimeReceived(timeReceived)
+                .build();
+
+        final PeerForwardingEvents outputEvents = createObjectUnderTest().deserialize(
+                createObjectUnderTest().serialize(new PeerForwardingEvents(List.of(event), pluginId, pipelineName)));
+
+        assertThat(outputEvents.getEvents().get(0).getMetadata().getTimeReceived(), equalTo(timeReceived));
+    }
+
+    @Test
+    void testCodec_with_null_events_and_destination() throws IOException {
+        final PeerForwardingEvents outputEvents = createObjectUnderTest().deserialize(
+                createObjectUnderTest().serialize(new PeerForwardingEvents(null, null, pipelineName)));
+
+        assertThat(outputEvents.getEvents(), nullValue());
+        assertThat(outputEvents.getDestinationPluginId(), nullValue());
+        assertThat(outputEvents.getDestinationPipelineName(), equalTo(pipelineName));
+    }
+
+    @Test
+    void serialize_is_smaller_than_java_serialization() throws Exception {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(MAX_EVENTS_PER_REQUEST);
+
+        final byte[] compactBytes = createObjectUnderTest().serialize(inputEvents);
+        final byte[] javaBytes = new JavaPeerForwarderCodec(filterInfo -> ObjectInputFilter.Status.ALLOWED)
+                .serialize(inputEvents);
+
+        assertThat(compactBytes.length, lessThan(javaBytes.length));
+    }
+
+    @Test
+    void deserialize_with_more_events_than_allowed_throws() throws IOException {
+        final byte[] bytes = new CompactPeerForwarderCodec(OBJECT_MAPPER, MAX_EVENTS_PER_REQUEST + 1)
+                .serialize(generatePeerForwardingEvents(MAX_EVENTS_PER_REQUEST + 1));
+
+        final CompactPeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    @Test
+    void deserialize_with_unknown_version_throws() throws IOException {
+        final byte[] bytes = createObjectUnderTest().serialize(generatePeerForwardingEvents(1));
+        bytes[0] = (byte) (CompactPeerForwarderCodec.FORMAT_VERSION + 1);
+
+        final CompactPeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 5, 20})
+    void deserialize_with_truncated_input_throws(final int bytesToKeep) throws IOException {
+        final byte[] bytes = createObjectUnderTest().serialize(generatePeerForwardingEvents(2));
+        final byte[] truncatedBytes = Arrays.copyOf(bytes, Math.min(bytesToKeep, bytes.length - 1));
+
+        final CompactPeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(truncatedBytes));
+    }
+
+    @Test
+    void deserialize_with_trailing_bytes_throws() throws IOException {
+        final byte[] bytes = createObjectUnderTest().serialize(generatePeerForwardingEvents(1));
+        final byte[] bytesWithTrailer = Arrays.copyOf(bytes, bytes.length + 1);
+
+        final CompactPeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytesWithTrailer));
+    }
+
+    private PeerForwardingEvents generatePeerForwardingEvents(final int numEvents) {
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            final Event event = JacksonLog.builder()
+                    .withData(Map.of("key1", UUID.randomUUID().toString(), "key2", i))
+                    .withEventType("LOG")
+                    .build();
+            events.add(event);
+        }
+        return new PeerForwardingEvents(events, pluginId, pipelineName);
+    }
+}
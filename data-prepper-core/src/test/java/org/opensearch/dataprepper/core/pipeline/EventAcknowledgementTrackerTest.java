@@ -0,0 +1,155 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline;
+
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.DefaultEventHandle;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventAcknowledgementTrackerTest {
+    private static final int BATCH_SIZE = 6;
+
+    @Mock
+    private Counter invalidEventHandlesCounter;
+
+    private List<Event> events;
+    private List<DefaultEventHandle> eventHandles;
+    private List<Record<Event>> records;
+
+    @BeforeEach
+    void setUp() {
+        events = new ArrayList<>();
+        eventHandles = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final Event event = mock(Event.class);
+            final DefaultEventHandle eventHandle = mock(DefaultEventHandle.class);
+            lenient().when(event.getEventHandle()).thenReturn(eventHandle);
+            events.add(event);
+            eventHandles.add(eventHandle);
+        }
+        records = events.stream().map(Record::new).collect(Collectors.toList());
+    }
+
+    private EventAcknowledgementTracker createObjectUnderTest() {
+        return new EventAcknowledgementTracker(invalidEventHandlesCounter);
+    }
+
+    @Test
+    void releaseEventsMissingFrom_same_records_releases_nothing() {
+        final EventAcknowledgementTracker objectUnderTest = createObjectUnderTest();
+        objectUnderTest.captureInputRecords(records);
+
+        objectUnderTest.releaseEventsMissingFrom(records);
+
+        eventHandles.forEach(eventHandle -> verify(eventHandle, never()).release(true));
+        verifyNoInteractions(invalidEventHandlesCounter);
+    }
+
+    @Test
+    void releaseEventsMissingFrom_filtered_records_releases_dropped_events() {
+        final EventAcknowledgementTracker objectUnderTest = createObjectUnderTest();
+        objectUnderTest.captureInputRecords(records);
+
+        objectUnderTest.releaseEventsMissingFrom(List.of(records.get(1), records.get(2), records.get(5)));
+
+        verifyReleased(0, 3, 4);
+    }
+
+    @Test
+    void releaseEventsMissingFrom_reordered_records_with_new_events_releases_dropped_events() {
+        final EventAcknowledgementTracker objectUnderTest = createObjectUnderTest();
+        objectUnderTest.captureInputRecords(records);
+
+        objectUnderTest.releaseEventsMissingFrom(List.of(
+                records.get(4), new Record<>(mock(Event.class)), records.get(0), records.get(2)));
+
+        verifyReleased(1, 3, 5);
+    }
+
+    @Test
+    void releaseEventsMissingFrom_empty_output_releases_all_events() {
+        final EventAcknowledgementTracker objectUnderTest = createObjectUnderTest();
+        objectUnderTest.captureInputEvents(events);
+
+        objectUnderTest.releaseEventsMissingFrom(Collections.emptyList());
+
+        verifyReleased(0, 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void releaseEventsMissingFrom_does_not_release_events_from_previous_batches() {
+        final EventAcknowledgementTracker objectUnderTest = createObjectUnderTest();
+        objectUnderTest.captureInputRecords(records);
+        objectUnderTest.releaseEventsMissingFrom(records);
+
+        objectUnderTest.captureInputRecords(records.subList(0, 2));
+        objectUnderTest.releaseEventsMissingFrom(List.of(records.get(1)));
+
+        verifyReleased(0);
+    }
+
+    @Test
+    void releaseEventsMissingFrom_after_clear_releases_nothing() {
+        final EventAcknowledgementTracker objectUnderTest = createObjectUnderTest();
+        objectUnderTest.captureInputRecords(records);
+        objectUnderTest.clear();
+
+        objectUnderTest.releaseEventsMissingFrom(Collections.emptyList());
+
+        eventHandles.forEach(eventHandle -> verify(eventHandle, never()).release(true));
+    }
+
+    @Test
+    void releaseEventsMissingFrom_with_other_event_handles_increments_counter() {
+        final Event eventWithOtherHandle = mock(Event.class);
+        final EventHandle otherEventHandle = mock(EventHandle.class);
+        when(eventWithOtherHandle.getEventHandle()).thenReturn(otherEventHandle);
+        final Event eventWithoutHandle = mock(Event.class);
+        final EventAcknowledgementTracker objectUnderTest = createObjectUnderTest();
+        objectUnderTest.captureInputEvents(List.of(eventWithOtherHandle, eventWithoutHandle));
+
+        objectUnderTest.releaseEventsMissingFrom(Collections.emptyList());
+
+        verify(invalidEventHandlesCounter).increment();
+        verify(otherEventHandle, never()).release(true);
+    }
+
+    private void verifyReleased(final int... positions) {
+        final List<Integer> releasedPositions = IntStream.of(positions).boxed().collect(Collectors.toList());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            if (releasedPositions.contains(i)) {
+                verify(eventHandles.get(i)).release(true);
+            } else {
+                verify(eventHandles.get(i), never()).release(true);
+            }
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -41,9 +42,12 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
@@ -54,6 +58,7 @@ import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -442,4 +447,159 @@ class PipelineRunnerTest {
             verify(buffer).checkpoint(checkpointState);
         }
     }
+
+    @Nested
+    class PipelinedRunAllProcessorsAndPublishToSinksTests {
+        private static final int MAX_IN_FLIGHT_SINK_BATCHES = 2;
+
+        @Mock
+        private CheckpointState secondCheckpointState;
+        @Mock
+        private CheckpointState emptyCheckpointState;
+
+        private PipelineRunnerImpl createPipelinedObjectUnderTest() {
+            try (final MockedStatic<PluginMetrics> pluginMetricsStatic = mockStatic(PluginMetrics.class)) {
+                pluginMetricsStatic.when(() -> PluginMetrics.fromNames("PipelineRunner", pipeline.getName()))
+                        .thenReturn(pluginMetrics);
+
+                return new PipelineRunnerImpl(pipeline, processorProvider, MAX_IN_FLIGHT_SINK_BATCHES);
+            }
+        }
+
+        @BeforeEach
+        void setUp() {
+            setupPipeline(false);
+            when(pipeline.getBuffer()).thenReturn(buffer);
+            when(pipeline.getReadBatchTimeoutInMillis()).thenReturn(BUFFER_READ_TIMEOUT_MILLIS);
+            when(pipeline.getName()).thenReturn(MOCK_PIPELINE_NAME);
+            when(processorProvider.getProcessors()).thenReturn(processors);
+            when(processor.execute(anyCollection())).thenAnswer(a -> a.getArgument(0));
+        }
+
+        @Test
+        void run_does_not_wait_for_sinks_or_checkpoint_while_under_limit() {
+            final Collection recordsList = new ArrayList<>(List.of(record));
+            when(buffer.read(BUFFER_READ_TIMEOUT_MILLIS)).thenReturn(new AbstractMap.SimpleEntry<>(recordsList, checkpointState));
+            when(pipeline.publishToSinks(anyCollection())).thenReturn(Collections.singletonList(new CompletableFuture<>()));
+
+            final PipelineRunnerImpl pipelineRunner = createPipelinedObjectUnderTest();
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+
+            verify(pipeline).publishToSinks(recordsList);
+            verify(buffer, never()).checkpoint(any());
+            assertThat(pipelineRunner.getInFlightSinkBatchCount(), equalTo(1));
+        }
+
+        @Test
+        void run_checkpoints_completed_batches_before_publishing_the_next() {
+            final CompletableFuture<Void> firstSinkFuture = new CompletableFuture<>();
+            final Collection firstRecords = new ArrayList<>(List.of(record));
+            final Collection secondRecords = new ArrayList<>(List.of(mock(Record.class)));
+            when(buffer.read(BUFFER_READ_TIMEOUT_MILLIS)).thenReturn(
+                    new AbstractMap.SimpleEntry<>(firstRecords, checkpointState),
+                    new AbstractMap.SimpleEntry<>(secondRecords, secondCheckpointState));
+            when(pipeline.publishToSinks(anyCollection())).thenReturn(
+                    Collections.singletonList(firstSinkFuture),
+                    Collections.singletonList(new CompletableFuture<>()));
+
+            final PipelineRunnerImpl pipelineRunner = createPipelinedObjectUnderTest();
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            firstSinkFuture.complete(null);
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+
+            verify(buffer).checkpoint(checkpointState);
+            verify(buffer, never()).checkpoint(secondCheckpointState);
+            assertThat(pipelineRunner.getInFlightSinkBatchCount(), equalTo(1));
+        }
+
+        @Test
+        void run_waits_for_oldest_batch_when_limit_is_reached() {
+            final CompletableFuture<Void> firstSinkFuture = new CompletableFuture<>();
+            final Collection firstRecords = new ArrayList<>(List.of(record));
+            final Collection secondRecords = new ArrayList<>(List.of(mock(Record.class)));
+            when(buffer.read(BUFFER_READ_TIMEOUT_MILLIS)).thenReturn(
+                    new AbstractMap.SimpleEntry<>(firstRecords, checkpointState),
+                    new AbstractMap.SimpleEntry<>(secondRecords, secondCheckpointState));
+            when(pipeline.publishToSinks(anyCollection())).thenReturn(
+                    Collections.singletonList(firstSinkFuture),
+                    Collections.singletonList(new CompletableFuture<>()));
+
+            final PipelineRunnerImpl pipelineRunner = createPipelinedObjectUnderTest();
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            CompletableFuture.runAsync(() -> firstSinkFuture.complete(null),
+                    CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+
+            assertTrue(firstSinkFuture.isDone());
+            verify(buffer).checkpoint(checkpointState);
+            verify(buffer, never()).checkpoint(secondCheckpointState);
+            assertThat(pipelineRunner.getInFlightSinkBatchCount(), equalTo(1));
+        }
+
+        @Test
+        void run_with_empty_batch_waits_for_all_in_flight_batches() {
+            final Collection firstRecords = new ArrayList<>(List.of(record));
+            when(buffer.read(BUFFER_READ_TIMEOUT_MILLIS)).thenReturn(
+                    new AbstractMap.SimpleEntry<>(firstRecords, checkpointState),
+                    new AbstractMap.SimpleEntry<>(new ArrayList<>(), emptyCheckpointState));
+            final CompletableFuture<Void> firstSinkFuture = new CompletableFuture<>();
+            when(pipeline.publishToSinks(anyCollection())).thenReturn(
+                    Collections.singletonList(firstSinkFuture),
+                    Collections.singletonList(CompletableFuture.completedFuture(null)));
+
+            final PipelineRunnerImpl pipelineRunner = createPipelinedObjectUnderTest();
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            CompletableFuture.runAsync(() -> firstSinkFuture.complete(null),
+                    CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+
+            final InOrder inOrder = inOrder(buffer);
+            inOrder.verify(buffer).checkpoint(checkpointState);
+            inOrder.verify(buffer).checkpoint(emptyCheckpointState);
+            assertThat(pipelineRunner.getInFlightSinkBatchCount(), equalTo(0));
+        }
+
+        @Test
+        void drainInFlightSinkBatches_waits_for_and_checkpoints_every_in_flight_batch() {
+            final Collection firstRecords = new ArrayList<>(List.of(record));
+            final Collection secondRecords = new ArrayList<>(List.of(mock(Record.class)));
+            when(buffer.read(BUFFER_READ_TIMEOUT_MILLIS)).thenReturn(
+                    new AbstractMap.SimpleEntry<>(firstRecords, checkpointState),
+                    new AbstractMap.SimpleEntry<>(secondRecords, secondCheckpointState));
+            final CompletableFuture<Void> firstSinkFuture = new CompletableFuture<>();
+            when(pipeline.publishToSinks(anyCollection())).thenReturn(
+                    Collections.singletonList(firstSinkFuture),
+                    Collections.singletonList(CompletableFuture.completedFuture(null)));
+
+            final PipelineRunnerImpl pipelineRunner = createPipelinedObjectUnderTest();
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            CompletableFuture.runAsync(() -> firstSinkFuture.complete(null),
+                    CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            pipelineRunner.drainInFlightSinkBatches();
+
+            final InOrder inOrder = inOrder(buffer);
+            inOrder.verify(buffer).checkpoint(checkpointState);
+            inOrder.verify(buffer).checkpoint(secondCheckpointState);
+            assertThat(pipelineRunner.getInFlightSinkBatchCount(), equalTo(0));
+        }
+
+        @Test
+        void run_checkpoints_batches_with_failed_sinks() {
+            final Collection recordsList = new ArrayList<>(List.of(record));
+            when(buffer.read(BUFFER_READ_TIMEOUT_MILLIS)).thenReturn(
+                    new AbstractMap.SimpleEntry<>(recordsList, checkpointState),
+                    new AbstractMap.SimpleEntry<>(new ArrayList<>(), emptyCheckpointState));
+            when(pipeline.publishToSinks(anyCollection())).thenReturn(
+                    Collections.singletonList(CompletableFuture.failedFuture(new RuntimeException())),
+                    Collections.singletonList(CompletableFuture.completedFuture(null)));
+
+            final PipelineRunnerImpl pipelineRunner = createPipelinedObjectUnderTest();
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+
+            verify(buffer).checkpoint(checkpointState);
+            verify(buffer).checkpoint(emptyCheckpointState);
+        }
+    }
 }
\ No newline at end of file
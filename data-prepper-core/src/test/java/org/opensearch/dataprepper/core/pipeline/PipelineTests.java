@@ -83,6 +83,7 @@ import static org.mockito.Mockito.when;
 class PipelineTests {
     private static final int TEST_READ_BATCH_TIMEOUT = 500;
     private static final int TEST_PROCESSOR_THREADS = 1;
+    private static final int TEST_MAX_IN_FLIGHT_SINK_BATCHES = 1;
     private static final String TEST_PIPELINE_NAME = "test-pipeline";
     private static final String FAILURE_PIPELINE_NAME = "failure-pipeline";
 
@@ -125,7 +126,7 @@ class PipelineTests {
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, buffer,
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router, eventFactory, 
                 acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
         assertThat("Pipeline isStopRequested is expected to be false", testPipeline.isStopRequested(), is(false));
         assertThat("Pipeline is expected to have a default buffer", testPipeline.getBuffer(), notNullValue());
         assertTrue("Pipeline processors should be empty", testPipeline.getProcessorSets().isEmpty());
@@ -148,7 +149,7 @@ class PipelineTests {
                 Collections.singletonList(Collections.singletonList(testProcessor)),
                 Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
         assertThat("Pipeline isStopRequested is expected to be false", testPipeline.isStopRequested(), is(false));
         assertThat("Pipeline is expected to have a default buffer", testPipeline.getBuffer(), notNullValue());
         assertEquals("Pipeline processorSets size should be 1", 1, testPipeline.getProcessorSets().size());
@@ -171,7 +172,7 @@ class PipelineTests {
                 Collections.singletonList(Collections.singletonList(testProcessor)),
                 Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
         assertThat("Pipeline isStopRequested is expected to be false", testPipeline.isStopRequested(), is(false));
         assertThat("Pipeline is expected to have a default buffer", testPipeline.getBuffer(), notNullValue());
         assertEquals("Pipeline processorSets size should be 1", 1, testPipeline.getProcessorSets().size());
@@ -195,7 +196,7 @@ class PipelineTests {
                 Collections.singletonList(Collections.singletonList(testProcessor)),
                 Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
         Instant startTime = Instant.now();
         testPipeline.execute();
         assertFalse(testPipeline.isReady());
@@ -223,7 +224,7 @@ class PipelineTests {
                 Collections.singletonList(Collections.singletonList(testProcessor)),
                 Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
         Instant startTime = Instant.now();
         testPipeline.execute();
         assertFalse(testPipeline.isReady());
@@ -248,7 +249,7 @@ class PipelineTests {
             final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                     Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
                     eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
             testPipeline.execute();
         } catch (Exception ex) {
             assertThat("Incorrect exception message", ex.getMessage().contains("Source is expected to fail"));
@@ -267,7 +268,7 @@ class PipelineTests {
             testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                     Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
                     eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
             testPipeline.execute();
             Thread.sleep(TEST_READ_BATCH_TIMEOUT);
         } catch (Exception ex) {
@@ -309,7 +310,7 @@ class PipelineTests {
             testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                     Collections.singletonList(Collections.singletonList(testProcessor)), Collections.singletonList(sinkDataFlowComponent),
                     router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                    TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
             testPipeline.execute();
             Thread.sleep(TEST_READ_BATCH_TIMEOUT);
         } catch (Exception ex) {
@@ -333,7 +334,7 @@ class PipelineTests {
             testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                     Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router, eventFactory,
                     acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
             testPipeline.execute();
             Thread.sleep(TEST_READ_BATCH_TIMEOUT);
         } catch (final InterruptedException e) {
@@ -357,7 +358,7 @@ class PipelineTests {
             testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                     Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router, eventFactory,
                     acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
             testPipeline.execute();
             Thread.sleep(TEST_READ_BATCH_TIMEOUT);
         } catch (final InterruptedException e) {
@@ -375,7 +376,7 @@ class PipelineTests {
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
                 eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
 
         assertEquals(testSource, testPipeline.getSource());
     }
@@ -389,7 +390,7 @@ class PipelineTests {
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
 
         assertEquals(1, testPipeline.getSinks().size());
         assertEquals(testSink, testPipeline.getSinks().iterator().next());
@@ -404,7 +405,7 @@ class PipelineTests {
         when(buffer.areAcknowledgementsEnabled()).thenReturn(isEnabled);
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, source, buffer, Collections.emptyList(),
                 Collections.emptyList(), router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
 
         assertEquals(isEnabled, testPipeline.areAcknowledgementsEnabled());
     }
@@ -418,7 +419,7 @@ class PipelineTests {
         when(buffer.areAcknowledgementsEnabled()).thenReturn(isEnabled);
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, source, buffer, Collections.emptyList(),
                 Collections.emptyList(), router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
 
         assertTrue(testPipeline.areAcknowledgementsEnabled());
     }
@@ -456,7 +457,7 @@ class PipelineTests {
         private Pipeline createObjectUnderTest() {
             return new Pipeline(TEST_PIPELINE_NAME, mockSource, mock(Buffer.class), Collections.emptyList(),
                     dataFlowComponents, router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                    TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
         }
 
         @Test
@@ -623,7 +624,7 @@ class PipelineTests {
         testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
                 eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
 
         PipelineObserver pipelineObserver = mock(PipelineObserver.class);
         testPipeline.addShutdownObserver(pipelineObserver);
@@ -646,7 +647,7 @@ class PipelineTests {
         testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
                 eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
 
         PipelineObserver pipelineObserver = mock(PipelineObserver.class);
         testPipeline.addShutdownObserver(pipelineObserver);
@@ -668,7 +669,7 @@ class PipelineTests {
         testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
                 eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
         assertThat(testPipeline.isForceStopReadingBuffers(), equalTo(false));
     }
 
@@ -681,7 +682,7 @@ class PipelineTests {
         testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
                 eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
 
         testPipeline.shutdown(DataPrepperShutdownOptions.builder().withBufferReadTimeout(Duration.ofMillis(1)).build());
         Thread.sleep(2);
@@ -699,13 +700,13 @@ class PipelineTests {
                 Collections.singletonList(Collections.singletonList(testProcessor)),
                 Collections.singletonList(sinkDataFlowComponent), router,
                 eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
         HeadlessPipelineSource headlessPipelineSource = mock(HeadlessPipelineSource.class);
         Pipeline failurePipeline = new Pipeline(FAILURE_PIPELINE_NAME, headlessPipelineSource, new BlockingBuffer(FAILURE_PIPELINE_NAME),
                 Collections.emptyList(),
                 Collections.singletonList(sinkDataFlowComponent), router,
                 eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_SINK_BATCHES);
 
         testPipeline.setFailurePipeline(failurePipeline);
         assertThat(((AbstractBuffer)testPipeline.getBuffer()).getFailurePipeline(), equalTo(failurePipeline));
@@ -12,6 +12,7 @@ package org.opensearch.dataprepper.core.pipeline;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedConstruction;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,6 +25,7 @@ import java.util.List;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -113,6 +115,21 @@ public class ProcessWorkerTest {
         verify(pipelineRunner, atLeast(2)).runAllProcessorsAndPublishToSinks();
     }
 
+    @Test
+    void testProcessWorkerShutdownProcessDrainsInFlightSinkBatchesLast() {
+        processors = List.of(processor);
+        when(pipeline.getPeerForwarderDrainTimeout()).thenReturn(Duration.ofMillis(1));
+        when(processor.isReadyForShutdown()).thenReturn(true);
+        when(processorProvider.getProcessors()).thenReturn(processors);
+
+        final ProcessWorker processWorker = createObjectUnderTest();
+        processWorker.run();
+
+        final InOrder inOrder = inOrder(processor, pipelineRunner);
+        inOrder.verify(processor).prepareForShutdown();
+        inOrder.verify(pipelineRunner).drainInFlightSinkBatches();
+    }
+
     @Test
     void testProcessWorkerShutdownProcessForceStopReadingBuffers() {
         processors = List.of(processor);
@@ -129,5 +146,6 @@ public class ProcessWorkerTest {
         processWorker.run();
 
         verify(pipelineRunner, atLeastOnce()).runAllProcessorsAndPublishToSinks();
+        verify(pipelineRunner).drainInFlightSinkBatches();
     }
 }
@@ -19,9 +19,11 @@ import org.opensearch.dataprepper.core.parser.DataFlowComponent;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -30,6 +32,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
@@ -50,7 +54,7 @@ class DataFlowComponentRouterTest {
     @Mock
     private RouterGetRecordStrategy getRecordStrategy;
 
-    private Collection<Record> recordsIn;
+    private List<Record> recordsIn;
 
     private static class TestComponent {
     }
@@ -68,6 +72,20 @@ class DataFlowComponentRouterTest {
         return new DataFlowComponentRouter();
     }
 
+    private RouteMatches toRouteMatches(final Map<Record, Set<String>> recordsToRoutes) {
+        final Map<String, BitSet> routeToRecordIndexes = new HashMap<>();
+        final BitSet recordsMatchingAnyRoute = new BitSet();
+        int index = 0;
+        for (final Record record : recordsIn) {
+            for (final String route : recordsToRoutes.getOrDefault(record, Collections.emptySet())) {
+                routeToRecordIndexes.computeIfAbsent(route, r -> new BitSet()).set(index);
+                recordsMatchingAnyRoute.set(index);
+            }
+            index++;
+        }
+        return new RouteMatches(recordsIn.size(), routeToRecordIndexes, recordsMatchingAnyRoute);
+    }
+
     @Test
     void route_with_null_strategy_throws() {
         getRecordStrategy = null;
@@ -79,7 +97,7 @@ class DataFlowComponentRouterTest {
         getRecordStrategy = null;
         final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                 .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
-        assertThrows(NullPointerException.class, () -> createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer));
+        assertThrows(NullPointerException.class, () -> createObjectUnderTest().route(recordsIn, dataFlowComponent, toRouteMatches(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer));
     }
 
     @Nested
@@ -99,9 +117,10 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            final BitSet routedRecordIndexes = createObjectUnderTest().route(recordsIn, dataFlowComponent, toRouteMatches(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
+            assertThat(routedRecordIndexes.cardinality(), equalTo(recordsIn.size()));
         }
 
         @Test
@@ -109,7 +128,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> allWithRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, allWithRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRouteMatches(allWithRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -120,7 +139,7 @@ class DataFlowComponentRouterTest {
 
             final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRouteMatches(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -147,7 +166,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRouteMatches(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, Collections.emptyList());
         }
@@ -157,7 +176,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRouteMatches(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, Collections.emptyList());
         }
@@ -168,7 +187,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRouteMatches(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -179,7 +198,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> allMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(knownRoute)));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, allMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRouteMatches(allMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -197,9 +216,13 @@ class DataFlowComponentRouterTest {
                 applyRoute = !applyRoute;
             }
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, someMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            final BitSet routedRecordIndexes = createObjectUnderTest().route(recordsIn, dataFlowComponent, toRouteMatches(someMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, expectedRecords);
+            assertThat(routedRecordIndexes.cardinality(), equalTo(expectedRecords.size()));
+            for (int i = 0; i < recordsIn.size(); i++) {
+                assertThat(routedRecordIndexes.get(i), equalTo(i % 2 == 1));
+            }
         }
 
         @Test
@@ -208,7 +231,7 @@ class DataFlowComponentRouterTest {
 
             final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRouteMatches(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -236,7 +259,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRouteMatches(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, Collections.emptyList());
         }
@@ -246,7 +269,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRouteMatches(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, Collections.emptyList());
         }
@@ -257,7 +280,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRouteMatches(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -269,9 +292,9 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> allMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(knownRoute)));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent2, allMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent2, toRouteMatches(allMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
             verify(componentRecordsConsumer).accept(null, Collections.emptyList());
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, allMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRouteMatches(allMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
 
@@ -284,7 +307,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> allMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(knownRoute)));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, allMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRouteMatches(allMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -302,7 +325,7 @@ class DataFlowComponentRouterTest {
                 applyRoute = !applyRoute;
             }
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, someMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRouteMatches(someMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, expectedRecords);
         }
@@ -313,7 +336,7 @@ class DataFlowComponentRouterTest {
 
             final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, toRouteMatches(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
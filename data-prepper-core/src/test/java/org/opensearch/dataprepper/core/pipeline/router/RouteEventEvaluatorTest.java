@@ -23,10 +23,9 @@ import org.opensearch.dataprepper.model.configuration.ConditionalRoute;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 
-import java.util.Collection;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
@@ -37,9 +36,6 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.anEmptyMap;
-import static org.hamcrest.Matchers.empty;
-import static org.hamcrest.Matchers.hasKey;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -68,45 +64,31 @@ class RouteEventEvaluatorTest {
         }
 
         @Test
-        void evaluateEventRoutes_with_empty_Records_returns_empty_map() {
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
+        void evaluateEventRoutes_with_empty_Records_returns_empty_matches() {
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
 
-            assertThat(recordsToRoutes, notNullValue());
-            assertThat(recordsToRoutes, is(anEmptyMap()));
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches.getRecordCount(), equalTo(0));
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_all_empty_routes() {
-            final Collection<Record> records = createEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
-
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
+        void evaluateEventRoutes_with_Event_Records_returns_no_matching_routes() {
+            final List<Record> records = createEventRecords();
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(records);
 
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
-            }
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches.getRecordCount(), equalTo(records.size()));
+            assertNoRouteMatched(routeMatches, Set.of(UUID.randomUUID().toString()));
         }
 
         @Test
-        void evaluateEventRoutes_with_non_Event_Records_returns_map_with_all_empty_routes() {
-            final Collection<Record> records = createNonEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
-
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
+        void evaluateEventRoutes_with_non_Event_Records_returns_no_matching_routes() {
+            final List<Record> records = createNonEventRecords();
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(records);
 
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
-            }
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches.getRecordCount(), equalTo(records.size()));
+            assertNoRouteMatched(routeMatches, Set.of(UUID.randomUUID().toString()));
         }
     }
 
@@ -130,115 +112,124 @@ class RouteEventEvaluatorTest {
         }
 
         @Test
-        void evaluateEventRoutes_with_empty_Records_returns_empty_map() {
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
+        void evaluateEventRoutes_with_empty_Records_returns_empty_matches() {
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
 
-            assertThat(recordsToRoutes, notNullValue());
-            assertThat(recordsToRoutes, is(anEmptyMap()));
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches.getRecordCount(), equalTo(0));
 
             verifyNoInteractions(evaluator);
         }
 
-
         @Test
-        void evaluateEventRoutes_with_non_Event_Records_returns_map_with_all_empty_routes() {
-            final Collection<Record> records = createNonEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
-
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
+        void evaluateEventRoutes_with_non_Event_Records_returns_no_matching_routes() {
+            final List<Record> records = createNonEventRecords();
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(records);
 
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
-            }
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches.getRecordCount(), equalTo(records.size()));
+            assertNoRouteMatched(routeMatches, allRouteNames);
 
             verifyNoInteractions(evaluator);
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_matching_routes() {
+        void evaluateEventRoutes_with_Event_Records_returns_matching_routes() {
             final List<Record> records = createEventRecords();
 
-            final Record recordMatchingAllRoutes = records.get(1);
             final Event eventMatchingAllRoutes = (Event) records.get(1).getData();
             for (ConditionalRoute route : routes) {
                 when(evaluator.evaluateConditional(route.getCondition(), eventMatchingAllRoutes))
                         .thenReturn(true);
 
-                for (Record record : records) {
-                    if(recordMatchingAllRoutes == record)
+                for (int i = 0; i < records.size(); i++) {
+                    if (i == 1)
                         continue;
 
-                    when(evaluator.evaluate(route.getCondition(), (Event) record.getData()))
+                    when(evaluator.evaluateConditional(route.getCondition(), (Event) records.get(i).getData()))
                             .thenReturn(false);
                 }
             }
 
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
-
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
-
-            final Set<String> actualRoutes = recordsToRoutes.get(recordMatchingAllRoutes);
-            assertThat(actualRoutes.size(), equalTo(routes.size()));
-            assertThat(actualRoutes, equalTo(allRouteNames));
-
-            for (Map.Entry<Record, Set<String>> recordSetEntry : recordsToRoutes.entrySet()) {
-                if(recordSetEntry.getKey() == recordMatchingAllRoutes)
-                    continue;
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(records);
 
-                assertThat(recordSetEntry.getValue(), is(empty()));
-            }
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches.getRecordCount(), equalTo(records.size()));
+            assertOnlySecondRecordMatched(routeMatches, records);
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_matching_routes_excludes_exceptions() {
+        void evaluateEventRoutes_with_Event_Records_returns_matching_routes_excludes_exceptions() {
             final List<Record> records = createEventRecords();
 
-            final Record recordMatchingAllRoutes = records.get(1);
             final Event eventMatchingAllRoutes = (Event) records.get(1).getData();
             for (ConditionalRoute route : routes) {
                 when(evaluator.evaluateConditional(route.getCondition(), eventMatchingAllRoutes))
                         .thenReturn(true);
 
-                for (Record record : records) {
-                    if(recordMatchingAllRoutes == record)
+                for (int i = 0; i < records.size(); i++) {
+                    if (i == 1)
                         continue;
 
-                    when(evaluator.evaluateConditional(route.getCondition(), (Event) record.getData()))
+                    when(evaluator.evaluateConditional(route.getCondition(), (Event) records.get(i).getData()))
                             .thenThrow(RuntimeException.class);
                 }
             }
 
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(records);
 
-            assertThat(recordsToRoutes, notNullValue());
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches.getRecordCount(), equalTo(records.size()));
+            assertOnlySecondRecordMatched(routeMatches, records);
+        }
 
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
+        @Test
+        void evaluateEventRoutes_with_mixed_Records_only_evaluates_Events() {
+            final List<Record> records = createEventRecords();
+            final Record nonEventRecord = mock(Record.class);
+            when(nonEventRecord.getData()).thenReturn(UUID.randomUUID().toString());
+            records.add(1, nonEventRecord);
+            for (ConditionalRoute route : routes) {
+                for (Record record : records) {
+                    if (record.getData() instanceof Event) {
+                        when(evaluator.evaluateConditional(route.getCondition(), (Event) record.getData()))
+                                .thenReturn(true);
+                    }
+                }
             }
 
-            final Set<String> actualRoutes = recordsToRoutes.get(recordMatchingAllRoutes);
-            assertThat(actualRoutes.size(), equalTo(routes.size()));
-            assertThat(actualRoutes, equalTo(allRouteNames));
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(records);
 
-            for (Map.Entry<Record, Set<String>> recordSetEntry : recordsToRoutes.entrySet()) {
-                if(recordSetEntry.getKey() == recordMatchingAllRoutes)
-                    continue;
+            final BitSet expected = new BitSet();
+            expected.set(0, records.size());
+            expected.clear(1);
+            for (String routeName : allRouteNames) {
+                assertThat(routeMatches.getRecordIndexesMatchingAny(Set.of(routeName)), equalTo(expected));
+            }
+            final BitSet expectedDefault = new BitSet();
+            expectedDefault.set(1);
+            assertThat(routeMatches.getRecordIndexesMatchingAny(Set.of(DataFlowComponentRouter.DEFAULT_ROUTE)), equalTo(expectedDefault));
+        }
 
-                assertThat(recordSetEntry.getValue(), is(empty()));
+        private void assertOnlySecondRecordMatched(final RouteMatches routeMatches, final List<Record> records) {
+            final BitSet expected = new BitSet();
+            expected.set(1);
+            for (String routeName : allRouteNames) {
+                assertThat(routeMatches.getRecordIndexesMatchingAny(Set.of(routeName)), equalTo(expected));
             }
+            assertThat(routeMatches.getRecordIndexesMatchingAny(allRouteNames), equalTo(expected));
+
+            final BitSet expectedDefault = new BitSet();
+            expectedDefault.set(0, records.size());
+            expectedDefault.clear(1);
+            assertThat(routeMatches.getRecordIndexesMatchingAny(Set.of(DataFlowComponentRouter.DEFAULT_ROUTE)), equalTo(expectedDefault));
         }
+    }
 
+    private void assertNoRouteMatched(final RouteMatches routeMatches, final Set<String> routeNames) {
+        assertThat(routeMatches.getRecordIndexesMatchingAny(routeNames).isEmpty(), is(true));
+        assertThat(routeMatches.getRecordIndexesMatchingAny(Set.of(DataFlowComponentRouter.DEFAULT_ROUTE)).cardinality(),
+                equalTo(routeMatches.getRecordCount()));
     }
 
     private List<Record> createEventRecords() {
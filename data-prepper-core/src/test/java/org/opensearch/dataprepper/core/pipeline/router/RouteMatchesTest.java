@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline.router;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.opensearch.dataprepper.core.pipeline.router.DataFlowComponentRouter.DEFAULT_ROUTE;
+
+class RouteMatchesTest {
+    private static final int RECORD_COUNT = 6;
+
+    private String routeA;
+    private String routeB;
+    private BitSet routeARecords;
+    private BitSet routeBRecords;
+
+    @BeforeEach
+    void setUp() {
+        routeA = UUID.randomUUID().toString();
+        routeB = UUID.randomUUID().toString();
+        routeARecords = bitSetOf(0, 2);
+        routeBRecords = bitSetOf(2, 3);
+    }
+
+    private RouteMatches createObjectUnderTest() {
+        final BitSet recordsMatchingAnyRoute = new BitSet();
+        recordsMatchingAnyRoute.or(routeARecords);
+        recordsMatchingAnyRoute.or(routeBRecords);
+        return new RouteMatches(RECORD_COUNT, Map.of(routeA, routeARecords, routeB, routeBRecords), recordsMatchingAnyRoute);
+    }
+
+    @Test
+    void getRecordCount_returns_record_count() {
+        assertThat(createObjectUnderTest().getRecordCount(), equalTo(RECORD_COUNT));
+    }
+
+    @Test
+    void getRecordIndexesMatchingAny_returns_union_of_routes() {
+        assertThat(createObjectUnderTest().getRecordIndexesMatchingAny(Set.of(routeA)), equalTo(bitSetOf(0, 2)));
+        assertThat(createObjectUnderTest().getRecordIndexesMatchingAny(Set.of(routeA, routeB)), equalTo(bitSetOf(0, 2, 3)));
+    }
+
+    @Test
+    void getRecordIndexesMatchingAny_with_unknown_route_returns_empty() {
+        assertThat(createObjectUnderTest().getRecordIndexesMatchingAny(Set.of(UUID.randomUUID().toString())).isEmpty(), is(true));
+    }
+
+    @Test
+    void getRecordIndexesMatchingAny_with_default_route_includes_unmatched_records() {
+        assertThat(createObjectUnderTest().getRecordIndexesMatchingAny(Set.of(DEFAULT_ROUTE)), equalTo(bitSetOf(1, 4, 5)));
+        assertThat(createObjectUnderTest().getRecordIndexesMatchingAny(Set.of(DEFAULT_ROUTE, routeB)), equalTo(bitSetOf(1, 2, 3, 4, 5)));
+    }
+
+    @Test
+    void getRecordIndexesMatchingAny_does_not_modify_route_bitsets() {
+        final RouteMatches objectUnderTest = createObjectUnderTest();
+        objectUnderTest.getRecordIndexesMatchingAny(Set.of(routeA)).set(5);
+
+        assertThat(routeARecords, equalTo(bitSetOf(0, 2)));
+        assertThat(objectUnderTest.getRecordIndexesMatchingAny(Set.of(routeA)), equalTo(bitSetOf(0, 2)));
+    }
+
+    @Test
+    void noMatches_routes_all_records_to_default_route_only() {
+        final RouteMatches objectUnderTest = RouteMatches.noMatches(3);
+
+        assertThat(objectUnderTest.getRecordCount(), equalTo(3));
+        assertThat(objectUnderTest.getRecordIndexesMatchingAny(Set.of(routeA)).isEmpty(), is(true));
+        assertThat(objectUnderTest.getRecordIndexesMatchingAny(Set.of(DEFAULT_ROUTE)), equalTo(bitSetOf(0, 1, 2)));
+    }
+
+    private static BitSet bitSetOf(final int... indexes) {
+        final BitSet bitSet = new BitSet();
+        for (final int index : indexes) {
+            bitSet.set(index);
+        }
+        return bitSet;
+    }
+}
@@ -21,16 +21,15 @@ import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -59,7 +58,7 @@ class RouterTest {
 
     private Consumer<Event> noRouteHandler;
 
-    private Collection<Record> recordsIn;
+    private List<Record> recordsIn;
 
     private static class TestComponent {
     }
@@ -118,17 +117,15 @@ class RouterTest {
     @Nested
     class WithEmptyRecords {
 
-        private Map<Record, Set<String>> recordsToRoutes;
+        private RouteMatches routeMatches;
 
         @BeforeEach
         void setUp() {
             recordsIn = Collections.emptyList();
             dataFlowComponents = Collections.emptyList();
 
-            recordsToRoutes = Collections.singletonMap(
-                    mock(Record.class), Collections.singleton(UUID.randomUUID().toString())
-            );
-            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+            routeMatches = mock(RouteMatches.class);
+            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(routeMatches);
         }
 
         @Test
@@ -143,7 +140,7 @@ class RouterTest {
 
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
-            verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(recordsToRoutes), eq(getRecordStrategy), any(BiConsumer.class));
+            verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(routeMatches), eq(getRecordStrategy), any(BiConsumer.class));
         }
 
         @Test
@@ -158,7 +155,7 @@ class RouterTest {
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
             for (DataFlowComponent<TestComponent> dataFlowComponent : dataFlowComponents) {
-                verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(recordsToRoutes), eq(getRecordStrategy), any(BiConsumer.class));
+                verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(routeMatches), eq(getRecordStrategy), any(BiConsumer.class));
             }
         }
     }
@@ -179,12 +176,16 @@ class RouterTest {
             Object notAnEvent = mock(Object.class);
             lenient().when(record4.getData()).thenReturn(notAnEvent);
             List<Record> recordsIn = List.of(record1, record2, record3, record4);
-            Map<Record, Set<String>> recordsToRoutes = new HashMap<>();
-            recordsToRoutes.put(record1, Set.of(UUID.randomUUID().toString()));
-            recordsToRoutes.put(record2, Set.of(UUID.randomUUID().toString()));
-            recordsToRoutes.put(record3, Set.of());
-            recordsToRoutes.put(record4, Set.of());
-            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+            final String route1 = UUID.randomUUID().toString();
+            final String route2 = UUID.randomUUID().toString();
+            final BitSet route1Records = new BitSet();
+            route1Records.set(0);
+            final BitSet route2Records = new BitSet();
+            route2Records.set(1);
+            final BitSet routedRecords = new BitSet();
+            routedRecords.set(0, 2);
+            RouteMatches routeMatches = new RouteMatches(recordsIn.size(), Map.of(route1, route1Records, route2, route2Records), routedRecords);
+            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(routeMatches);
             dataFlowComponents = new ArrayList<>();
             for (int i = 0; i < 5; i++) {
                 final DataFlowComponent dataFlowComponent = mock(DataFlowComponent.class);
@@ -192,11 +193,13 @@ class RouterTest {
                 final Set<String> routes = Set.of(UUID.randomUUID().toString());
                 when(dataFlowComponent.getRoutes()).thenReturn(routes);
             }
+            when(dataFlowComponentRouter.route(eq(recordsIn), any(DataFlowComponent.class), eq(routeMatches), eq(getRecordStrategy), any(BiConsumer.class)))
+                    .thenReturn(routedRecords);
 
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
             for (DataFlowComponent<TestComponent> dataFlowComponent : dataFlowComponents) {
-                verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(recordsToRoutes), eq(getRecordStrategy), any(BiConsumer.class));
+                verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(routeMatches), eq(getRecordStrategy), any(BiConsumer.class));
             }
             // Verify noRouteHandler gets invoked only for record3 and not
             // for record4, because record4 has non-Event type data
@@ -217,12 +220,16 @@ class RouterTest {
             Object notAnEvent = mock(Object.class);
             lenient().when(record4.getData()).thenReturn(notAnEvent);
             List<Record> recordsIn = List.of(record1, record2, record3, record4);
-            Map<Record, Set<String>> recordsToRoutes = new HashMap<>();
-            recordsToRoutes.put(record1, Set.of(UUID.randomUUID().toString()));
-            recordsToRoutes.put(record2, Set.of(UUID.randomUUID().toString()));
-            recordsToRoutes.put(record3, Set.of());
-            recordsToRoutes.put(record4, Set.of());
-            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+            final String route1 = UUID.randomUUID().toString();
+            final String route2 = UUID.randomUUID().toString();
+            final BitSet route1Records = new BitSet();
+            route1Records.set(0);
+            final BitSet route2Records = new BitSet();
+            route2Records.set(1);
+            final BitSet routedRecords = new BitSet();
+            routedRecords.set(0, 2);
+            RouteMatches routeMatches = new RouteMatches(recordsIn.size(), Map.of(route1, route1Records, route2, route2Records), routedRecords);
+            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(routeMatches);
             dataFlowComponents = new ArrayList<>();
             for (int i = 0; i < 5; i++) {
                 final DataFlowComponent dataFlowComponent = mock(DataFlowComponent.class);
@@ -234,7 +241,7 @@ class RouterTest {
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
             for (DataFlowComponent<TestComponent> dataFlowComponent : dataFlowComponents) {
-                verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(recordsToRoutes), eq(getRecordStrategy), any(BiConsumer.class));
+                verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(routeMatches), eq(getRecordStrategy), any(BiConsumer.class));
             }
             // Verify noRouteHandler gets invoked only for record3 and not
             // for record4, because record4 has non-Event type data
@@ -253,17 +260,21 @@ class RouterTest {
             Record record4 = mock(Record.class);
             Object notAnEvent = mock(Object.class);
             List<Record> recordsIn = List.of(record1, record2, record3, record4);
-            Map<Record, Set<String>> recordsToRoutes = new HashMap<>();
-            recordsToRoutes.put(record1, Set.of(UUID.randomUUID().toString()));
-            recordsToRoutes.put(record2, Set.of(UUID.randomUUID().toString()));
-            recordsToRoutes.put(record3, Set.of());
-            recordsToRoutes.put(record4, Set.of());
-            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+            final String route1 = UUID.randomUUID().toString();
+            final String route2 = UUID.randomUUID().toString();
+            final BitSet route1Records = new BitSet();
+            route1Records.set(0);
+            final BitSet route2Records = new BitSet();
+            route2Records.set(1);
+            final BitSet routedRecords = new BitSet();
+            routedRecords.set(0, 2);
+            RouteMatches routeMatches = new RouteMatches(recordsIn.size(), Map.of(route1, route1Records, route2, route2Records), routedRecords);
+            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(routeMatches);
             dataFlowComponents = new ArrayList<>();
             for (int i = 0; i < 5; i++) {
                 final DataFlowComponent dataFlowComponent = mock(DataFlowComponent.class);
                 dataFlowComponents.add(dataFlowComponent);
-                final Set<String> routes = i ==0 ? Collections.emptySet() : Set.of(UUID.randomUUID().toString());
+                final Set<String> routes = i ==0 ? Collections.emptySet() : Set.of(i % 2 == 0 ? route1 : route2);
                 when(dataFlowComponent.getRoutes()).thenReturn(routes);
             }
             when(getRecordStrategy.getAllRecords(any())).thenReturn(recordsIn);
@@ -277,7 +288,7 @@ class RouterTest {
     @Nested
     class WithRecords {
 
-        private Map<Record, Set<String>> recordsToRoutes;
+        private RouteMatches routeMatches;
 
         @BeforeEach
         void setUp() {
@@ -287,10 +298,8 @@ class RouterTest {
             ;
             dataFlowComponents = Collections.emptyList();
 
-            recordsToRoutes = recordsIn
-                    .stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
-            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+            routeMatches = mock(RouteMatches.class);
+            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(routeMatches);
         }
 
         @Test
@@ -300,7 +309,7 @@ class RouterTest {
 
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
-            verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(recordsToRoutes), eq(getRecordStrategy), any(BiConsumer.class));
+            verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(routeMatches), eq(getRecordStrategy), any(BiConsumer.class));
         }
 
         @Test
@@ -315,7 +324,7 @@ class RouterTest {
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
             for (DataFlowComponent<TestComponent> dataFlowComponent : dataFlowComponents) {
-                verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(recordsToRoutes), eq(getRecordStrategy), any(BiConsumer.class));
+                verify(dataFlowComponentRouter).route(eq(recordsIn), eq(dataFlowComponent), eq(routeMatches), eq(getRecordStrategy), any(BiConsumer.class));
             }
         }
 
@@ -328,7 +337,7 @@ class RouterTest {
                 dataFlowComponents.add(dataFlowComponent);
             }
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
-            verify(dataFlowComponentRouter, times(5)).route(eq(recordsIn), eq(dataFlowComponent), eq(recordsToRoutes), eq(getRecordStrategy), any(BiConsumer.class));
+            verify(dataFlowComponentRouter, times(5)).route(eq(recordsIn), eq(dataFlowComponent), eq(routeMatches), eq(getRecordStrategy), any(BiConsumer.class));
         }
     }
 }
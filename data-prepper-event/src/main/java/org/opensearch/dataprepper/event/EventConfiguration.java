@@ -20,6 +20,8 @@ public class EventConfiguration {
 
     /**
      * Gets the maximum number of cached {@link org.opensearch.dataprepper.model.event.EventKey} objects.
+     * This applies both to the {@link org.opensearch.dataprepper.model.event.EventKeyFactory} and to the
+     * keys created for string-keyed {@link org.opensearch.dataprepper.model.event.Event} methods.
      *
      * @return the cache maximum count
      */
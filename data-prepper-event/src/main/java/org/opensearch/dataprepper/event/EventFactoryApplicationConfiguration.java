@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.event;
 
+import org.opensearch.dataprepper.model.event.EventKeyCache;
 import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -32,6 +33,7 @@ class EventFactoryApplicationConfiguration {
     EventKeyFactory eventKeyFactory(
             @Named("innerEventKeyFactory") final EventKeyFactory eventKeyFactory,
             final EventConfiguration eventConfiguration) {
+        EventKeyCache.setMaximumSize(eventConfiguration.getMaximumCachedKeys());
         if(eventConfiguration.getMaximumCachedKeys() <= 0) {
             return eventKeyFactory;
         }
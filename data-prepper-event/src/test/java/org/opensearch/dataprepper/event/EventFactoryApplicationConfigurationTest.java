@@ -5,10 +5,13 @@
 
 package org.opensearch.dataprepper.event;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.model.event.EventKeyCache;
 import org.opensearch.dataprepper.model.event.EventKeyFactory;
 
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.sameInstance;
@@ -17,6 +20,11 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 class EventFactoryApplicationConfigurationTest {
+    @AfterEach
+    void tearDown() {
+        EventKeyCache.setMaximumSize(EventConfiguration.defaultConfiguration().getMaximumCachedKeys());
+    }
+
     private EventFactoryApplicationConfiguration createObjectUnderTest() {
         return new EventFactoryApplicationConfiguration();
     }
@@ -31,6 +39,7 @@ class EventFactoryApplicationConfigurationTest {
         final EventKeyFactory actualEventKeyFactory = createObjectUnderTest().eventKeyFactory(innerEventKeyFactory, eventConfiguration);
 
         assertThat(actualEventKeyFactory, sameInstance(innerEventKeyFactory));
+        assertThat(EventKeyCache.getMaximumSize(), equalTo(cacheMax));
     }
 
     @ParameterizedTest
@@ -44,5 +53,6 @@ class EventFactoryApplicationConfigurationTest {
 
         assertThat(actualEventKeyFactory, not(sameInstance(innerEventKeyFactory)));
         assertThat(actualEventKeyFactory, instanceOf(CachingEventKeyFactory.class));
+        assertThat(EventKeyCache.getMaximumSize(), equalTo(cacheMax));
     }
 }
\ No newline at end of file
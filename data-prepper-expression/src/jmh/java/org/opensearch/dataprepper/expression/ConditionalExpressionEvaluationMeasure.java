@@ -13,6 +13,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -45,22 +46,40 @@ public class ConditionalExpressionEvaluationMeasure {
         return evaluator.evaluate("/key == \"a\"", benchmarkState.event);
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public Object evaluate_compound_route_expression(final BenchmarkState benchmarkState) {
+        final GenericExpressionEvaluator evaluator = benchmarkState.evaluator;
+        return evaluator.evaluate("/status >= 200 and /status < 300 and /key =~ \"^this.*\" and /level in {\"INFO\", \"WARN\"}", benchmarkState.event);
+    }
+
     @State(Scope.Benchmark)
     public static class BenchmarkState {
+        @Param({"false", "true"})
+        private boolean compiled;
         private GenericExpressionEvaluator evaluator;
         private Event event;
 
         @Setup
         public void setUp() {
+            final ExpressionConfiguration expressionConfiguration = new ExpressionConfiguration();
+            expressionConfiguration.setCompiled(compiled);
+
             final AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
             applicationContext.scan("org.opensearch.dataprepper.expression");
+            applicationContext.registerBean(ExpressionConfigurationContainer.class, () -> () -> expressionConfiguration);
             applicationContext.refresh();
 
             evaluator = applicationContext.getBean(GenericExpressionEvaluator.class);
 
             final EventFactory eventFactory = TestEventFactory.getTestEventFactory();
 
-            final Map<String, Object> eventData = Map.of("key", "this is a test string with more than 10 characters");
+            final Map<String, Object> eventData = Map.of(
+                    "key", "this is a test string with more than 10 characters",
+                    "status", 200,
+                    "level", "INFO");
 
             event = eventFactory.eventBuilder(LogEventBuilder.class)
                     .withData(eventData)
@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.event.TestEventFactory;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventFactory;
+import org.opensearch.dataprepper.model.event.EventFormatTemplate;
+import org.opensearch.dataprepper.model.event.LogEventBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Map;
+
+/**
+ * Compares formatting an event with {@link Event#formatString(String, ExpressionEvaluator)} against
+ * rendering a precompiled {@link EventFormatTemplate}.
+ */
+public class EventFormatMeasure {
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public String formatString(final BenchmarkState benchmarkState) {
+        return benchmarkState.event.formatString(benchmarkState.format, benchmarkState.evaluator);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public String render_template(final BenchmarkState benchmarkState) {
+        return benchmarkState.template.render(benchmarkState.event, benchmarkState.evaluator);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({
+                "logs-otel-v1",
+                "logs-${service}-${/info/region}",
+                "logs-${service}-${getMetadata(\"date\")}"
+        })
+        private String format;
+        private GenericExpressionEvaluator evaluator;
+        private EventFormatTemplate template;
+        private Event event;
+
+        @Setup
+        public void setUp() {
+            final ExpressionConfiguration expressionConfiguration = new ExpressionConfiguration();
+
+            final AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
+            applicationContext.scan("org.opensearch.dataprepper.expression");
+            applicationContext.registerBean(ExpressionConfigurationContainer.class, () -> () -> expressionConfiguration);
+            applicationContext.refresh();
+
+            evaluator = applicationContext.getBean(GenericExpressionEvaluator.class);
+            template = EventFormatTemplate.compile(format);
+
+            final EventFactory eventFactory = TestEventFactory.getTestEventFactory();
+
+            final Map<String, Object> eventData = Map.of(
+                    "service", "checkout",
+                    "info", Map.of("region", "us-east-1"),
+                    "message", "a log message which is not part of the format");
+
+            event = eventFactory.eventBuilder(LogEventBuilder.class)
+                    .withData(eventData)
+                    .build();
+            event.getMetadata().setAttribute("date", "2024.06.01");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.16
+ * A statement which has been compiled once into a reusable evaluation plan. Implementations are immutable
+ * and may be shared by any number of threads.
+ */
+interface CompiledExpression {
+    /**
+     * Evaluates this plan against an event.
+     *
+     * @param event the event to evaluate against
+     * @return the result of the statement
+     */
+    Object evaluate(final Event event);
+
+    /**
+     * @return true if the result does not depend on the event and was computed at compile time
+     */
+    default boolean isConstant() {
+        return false;
+    }
+}
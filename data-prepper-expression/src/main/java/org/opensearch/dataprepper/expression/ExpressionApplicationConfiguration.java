@@ -0,0 +1,23 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+
+import javax.inject.Named;
+
+@Named
+class ExpressionApplicationConfiguration {
+    @Bean
+    ExpressionConfiguration expressionConfiguration(
+            @Autowired(required = false) final ExpressionConfigurationContainer expressionConfigurationContainer) {
+        if (expressionConfigurationContainer == null || expressionConfigurationContainer.getExpressionConfiguration() == null) {
+            return ExpressionConfiguration.defaultConfiguration();
+        }
+        return expressionConfigurationContainer.getExpressionConfiguration();
+    }
+}
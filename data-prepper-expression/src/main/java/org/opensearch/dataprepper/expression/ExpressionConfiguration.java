@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Data Prepper configuration for the expression language.
+ */
+public class ExpressionConfiguration {
+    @JsonProperty("compiled")
+    private boolean compiled = false;
+
+    public static ExpressionConfiguration defaultConfiguration() {
+        return new ExpressionConfiguration();
+    }
+
+    /**
+     * Gets whether statements are compiled once into reusable evaluation plans instead of walking
+     * the parse tree for every event.
+     *
+     * @return true if compiled evaluation is enabled
+     */
+    boolean isCompiled() {
+        return compiled;
+    }
+
+    void setCompiled(final boolean compiled) {
+        this.compiled = compiled;
+    }
+}
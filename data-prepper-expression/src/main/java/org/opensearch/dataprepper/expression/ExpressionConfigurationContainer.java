@@ -0,0 +1,10 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+public interface ExpressionConfigurationContainer {
+    ExpressionConfiguration getExpressionConfiguration();
+}
@@ -13,6 +13,8 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Public class that {@link org.opensearch.dataprepper.model.processor.Processor},
@@ -20,13 +22,24 @@ import java.util.List;
  */
 @Named
 class GenericExpressionEvaluator implements ExpressionEvaluator {
+    static final int MAXIMUM_COMPILED_EXPRESSIONS = 1024;
+
     private final Parser<ParseTree> parser;
     private final Evaluator<ParseTree, Event> evaluator;
+    private final ParseTreeCompiler parseTreeCompiler;
+    private final Map<String, CompiledExpression> compiledExpressions;
 
     @Inject
-    public GenericExpressionEvaluator(final Parser<ParseTree> parser, final Evaluator<ParseTree, Event> evaluator) {
+    public GenericExpressionEvaluator(final Parser<ParseTree> parser,
+                                      final Evaluator<ParseTree, Event> evaluator,
+                                      final ParseTreeCompiler parseTreeCompiler,
+                                      final ExpressionConfiguration expressionConfiguration) {
         this.parser = parser;
         this.evaluator = evaluator;
+        this.parseTreeCompiler = parseTreeCompiler;
+        this.compiledExpressions = expressionConfiguration != null && expressionConfiguration.isCompiled()
+                ? new ConcurrentHashMap<>()
+                : null;
     }
 
     /**
@@ -36,6 +49,9 @@ class GenericExpressionEvaluator implements ExpressionEvaluator {
      */
     @Override
     public Object evaluate(final String statement, final Event context) {
+        if (compiledExpressions != null) {
+            return evaluateCompiled(statement, context);
+        }
         ParseTree parseTree = null;
         try {
             parseTree = parser.parse(statement);
@@ -49,6 +65,38 @@ class GenericExpressionEvaluator implements ExpressionEvaluator {
         }
     }
 
+    /**
+     * Evaluates using a plan which is compiled on first use and then shared by all threads. Statements which
+     * fail to compile are not cached, so they fail on every evaluation just as they do in the parse tree mode.
+     * The cache is cleared when it holds {@link #MAXIMUM_COMPILED_EXPRESSIONS} plans, so statements built from
+     * dynamic values cannot grow it without bound.
+     */
+    private Object evaluateCompiled(final String statement, final Event context) {
+        CompiledExpression compiledExpression = compiledExpressions.get(statement);
+        if (compiledExpression == null) {
+            final ParseTree parseTree;
+            try {
+                parseTree = parser.parse(statement);
+            } catch (final Exception exception) {
+                throw new ExpressionParsingException("Unable to parse statement \"" + statement + "\"", exception);
+            }
+            try {
+                compiledExpression = parseTreeCompiler.compile(parseTree);
+            } catch (final Exception exception) {
+                throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
+            }
+            if (compiledExpressions.size() >= MAXIMUM_COMPILED_EXPRESSIONS) {
+                compiledExpressions.clear();
+            }
+            compiledExpressions.putIfAbsent(statement, compiledExpression);
+        }
+        try {
+            return compiledExpression.evaluate(context);
+        } catch (final Exception exception) {
+            throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
+        }
+    }
+
     @Override
     public Boolean isValidExpressionStatement(final String statement) {
         try {
@@ -0,0 +1,289 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionBaseListener;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Stack;
+
+/**
+ * @since 2.16
+ * Walks a {@link org.antlr.v4.runtime.tree.ParseTree} once and builds a {@link CompiledExpression} closure tree.
+ * The traversal follows {@link ParseTreeEvaluatorListener} exactly, but pushes sub-expressions instead of values
+ * so that operator and function placement is decided only once per statement. Json pointers are resolved to
+ * {@link EventKey}s up front, and operators whose operands are all literals are folded into constants.
+ */
+class ParseTreeCompilerListener extends DataPrepperExpressionBaseListener {
+
+    private final OperatorProvider operatorProvider;
+    private final ParseTreeCoercionService coercionService;
+    private final Stack<Integer> operatorSymbolStack = new Stack<>();
+    private final Stack<CompiledExpression> operandStack = new Stack<>();
+    private final Stack<FunctionCompileContext> functionContextStack = new Stack<>();
+    private boolean listStart;
+    private Set<Object> setMembers;
+    private int functionArgDepth = 0;
+
+    ParseTreeCompilerListener(final OperatorProvider operatorProvider, final ParseTreeCoercionService coercionService) {
+        this.operatorProvider = operatorProvider;
+        this.coercionService = coercionService;
+    }
+
+    CompiledExpression getResult() {
+        if (operandStack.size() != 1) {
+            throw new IllegalStateException("The ParseTreeCompilerListener has not been walked through exactly once by " +
+                    "a ParseTreeWalker.");
+        }
+        return operandStack.peek();
+    }
+
+    @Override
+    public void enterFunction(final DataPrepperExpressionParser.FunctionContext ctx) {
+        functionContextStack.push(new FunctionCompileContext(ctx.Identifier().getText(), operandStack.size()));
+    }
+
+    @Override
+    public void exitFunction(final DataPrepperExpressionParser.FunctionContext ctx) {
+        final FunctionCompileContext functionContext = functionContextStack.pop();
+        final CompiledExpression[] arguments = new CompiledExpression[operandStack.size() - functionContext.stackSizeAtEntry];
+        for (int i = arguments.length - 1; i >= 0; i--) {
+            arguments[i] = operandStack.pop();
+        }
+        operandStack.push(new FunctionExpression(coercionService, functionContext.functionName, arguments));
+    }
+
+    @Override
+    public void enterFunctionArg(final DataPrepperExpressionParser.FunctionArgContext ctx) {
+        functionArgDepth++;
+    }
+
+    @Override
+    public void exitFunctionArg(final DataPrepperExpressionParser.FunctionArgContext ctx) {
+        functionArgDepth--;
+    }
+
+    @Override
+    public void visitTerminal(final TerminalNode node) {
+        final int nodeType = node.getSymbol().getType();
+        if (nodeType == DataPrepperExpressionParser.EOF || nodeType == DataPrepperExpressionParser.Identifier) {
+            return;
+        }
+
+        if (!functionContextStack.isEmpty()) {
+            if (nodeType == DataPrepperExpressionParser.COMMA) {
+                return;
+            }
+            if (functionArgDepth > 0) {
+                if (nodeType == DataPrepperExpressionParser.JsonPointer) {
+                    operandStack.push(new ConstantExpression(coercionService.createEventKey(node.getText())));
+                    return;
+                }
+                if (nodeType == DataPrepperExpressionParser.EscapedJsonPointer) {
+                    operandStack.push(new ConstantExpression(unquote(node.getText())));
+                    return;
+                }
+            }
+        }
+
+        if (operatorProvider.containsOperator(nodeType) || nodeType == DataPrepperExpressionParser.LPAREN) {
+            operatorSymbolStack.push(nodeType);
+        } else if (nodeType == DataPrepperExpressionParser.LBRACE) {
+            listStart = true;
+            setMembers = new HashSet<>();
+        } else if (nodeType == DataPrepperExpressionParser.RBRACE) {
+            listStart = false;
+            validateSetMembers(setMembers);
+            operandStack.push(new ConstantExpression(Collections.unmodifiableSet(setMembers)));
+        } else if (nodeType == DataPrepperExpressionParser.RPAREN) {
+            operatorSymbolStack.pop();
+        } else if (nodeType == DataPrepperExpressionParser.JsonPointer) {
+            operandStack.push(new EventValueExpression(coercionService, coercionService.createEventKey(node.getText())));
+        } else if (nodeType == DataPrepperExpressionParser.EscapedJsonPointer) {
+            operandStack.push(new EventValueExpression(coercionService, coercionService.createEventKey(unquote(node.getText()))));
+        } else {
+            final Object literal = coercionService.coercePrimaryTerminalNode(node, null);
+            if (listStart) {
+                if (!(literal instanceof Integer) || (((int) literal) != DataPrepperExpressionParser.COMMA)) {
+                    setMembers.add(literal);
+                }
+            } else {
+                operandStack.push(new ConstantExpression(literal));
+            }
+        }
+    }
+
+    @Override
+    public void visitErrorNode(final ErrorNode node) {
+        throw new RuntimeException("Hit error node in the parse tree: " + node.getText());
+    }
+
+    @Override
+    public void exitEveryRule(final ParserRuleContext ctx) {
+        if (!operatorSymbolStack.isEmpty()) {
+            final int operatorSymbol = operatorSymbolStack.peek();
+            if (operatorSymbol != DataPrepperExpressionParser.LPAREN) {
+                final Operator<?> op = operatorProvider.getOperator(operatorSymbol);
+                if (op.shouldEvaluate(ctx)) {
+                    operatorSymbolStack.pop();
+                    final CompiledExpression[] operands = new CompiledExpression[op.getNumberOfOperands(ctx)];
+                    for (int i = operands.length - 1; i >= 0; i--) {
+                        operands[i] = operandStack.pop();
+                    }
+                    operandStack.push(foldConstants(new OperatorExpression(op, operands, getPartialStatementFromContext(ctx))));
+                }
+            }
+        }
+    }
+
+    private static CompiledExpression foldConstants(final OperatorExpression operatorExpression) {
+        for (final CompiledExpression operand : operatorExpression.operands) {
+            if (!operand.isConstant()) {
+                return operatorExpression;
+            }
+        }
+        try {
+            return new ConstantExpression(operatorExpression.evaluate(null));
+        } catch (final Exception e) {
+            // Keep the operator so the same error surfaces when an event is evaluated.
+            return operatorExpression;
+        }
+    }
+
+    private static void validateSetMembers(final Set<Object> setMembers) {
+        int numbers = 0;
+        int strings = 0;
+        int booleans = 0;
+        for (final Object member : setMembers) {
+            if (member instanceof Number) {
+                numbers++;
+            } else if (member instanceof String) {
+                strings++;
+            } else if (member instanceof Boolean) {
+                booleans++;
+            }
+        }
+        if (numbers != setMembers.size() && strings != setMembers.size() && booleans != setMembers.size()) {
+            throw new RuntimeException("All set members should be of same type");
+        }
+    }
+
+    private static String unquote(final String nodeStringValue) {
+        return nodeStringValue.substring(1, nodeStringValue.length() - 1);
+    }
+
+    private static String getPartialStatementFromContext(final ParserRuleContext ctx) {
+        final Token startToken = ctx.getStart();
+        final Token stopToken = ctx.getStop();
+        final String fullStatement = startToken.getInputStream().toString();
+        return fullStatement.substring(startToken.getStartIndex(), stopToken.getStopIndex() + 1);
+    }
+
+    private static final class FunctionCompileContext {
+        final String functionName;
+        final int stackSizeAtEntry;
+
+        FunctionCompileContext(final String functionName, final int stackSizeAtEntry) {
+            this.functionName = functionName;
+            this.stackSizeAtEntry = stackSizeAtEntry;
+        }
+    }
+
+    static final class ConstantExpression implements CompiledExpression {
+        private final Object value;
+
+        ConstantExpression(final Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object evaluate(final Event event) {
+            return value;
+        }
+
+        @Override
+        public boolean isConstant() {
+            return true;
+        }
+    }
+
+    static final class EventValueExpression implements CompiledExpression {
+        private final ParseTreeCoercionService coercionService;
+        private final EventKey eventKey;
+
+        EventValueExpression(final ParseTreeCoercionService coercionService, final EventKey eventKey) {
+            this.coercionService = coercionService;
+            this.eventKey = eventKey;
+        }
+
+        @Override
+        public Object evaluate(final Event event) {
+            return coercionService.resolveEventKeyValue(eventKey, event);
+        }
+    }
+
+    static final class FunctionExpression implements CompiledExpression {
+        private final ParseTreeCoercionService coercionService;
+        private final String functionName;
+        private final CompiledExpression[] arguments;
+
+        FunctionExpression(final ParseTreeCoercionService coercionService, final String functionName,
+                           final CompiledExpression[] arguments) {
+            this.coercionService = coercionService;
+            this.functionName = functionName;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public Object evaluate(final Event event) {
+            final List<Object> argumentValues = new ArrayList<>(arguments.length);
+            for (final CompiledExpression argument : arguments) {
+                argumentValues.add(argument.evaluate(event));
+            }
+            return coercionService.evaluateFunction(functionName, argumentValues, event);
+        }
+    }
+
+    static final class OperatorExpression implements CompiledExpression {
+        private final Operator<?> operator;
+        private final CompiledExpression[] operands;
+        private final String partialStatement;
+
+        OperatorExpression(final Operator<?> operator, final CompiledExpression[] operands, final String partialStatement) {
+            this.operator = operator;
+            this.operands = operands;
+            this.partialStatement = partialStatement;
+        }
+
+        @Override
+        public Object evaluate(final Event event) {
+            final Object[] args = new Object[operands.length];
+            for (int i = 0; i < operands.length; i++) {
+                args[i] = operands[i].evaluate(event);
+            }
+            try {
+                return operator.evaluate(args);
+            } catch (final Exception e) {
+                if (e instanceof IllegalArgumentException && operator.isBooleanOperator()) {
+                    return false;
+                }
+                throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: "
+                        + partialStatement, e);
+            }
+        }
+    }
+}
@@ -20,4 +20,15 @@ abstract class BaseExpressionEvaluatorIT {
     protected AnnotationConfigApplicationContext createApplicationContext() {
         return new AnnotationConfigApplicationContext(TestExpressionSpringConfig.class);
     }
+
+    protected static AnnotationConfigApplicationContext createCompiledApplicationContext() {
+        final ExpressionConfiguration expressionConfiguration = new ExpressionConfiguration();
+        expressionConfiguration.setCompiled(true);
+
+        final AnnotationConfigApplicationContext compiledApplicationContext = new AnnotationConfigApplicationContext();
+        compiledApplicationContext.register(TestExpressionSpringConfig.class);
+        compiledApplicationContext.registerBean(ExpressionConfigurationContainer.class, () -> () -> expressionConfiguration);
+        compiledApplicationContext.refresh();
+        return compiledApplicationContext;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExpressionApplicationConfigurationTest {
+
+    private ExpressionApplicationConfiguration createObjectUnderTest() {
+        return new ExpressionApplicationConfiguration();
+    }
+
+    @Test
+    void expressionConfiguration_returns_default_when_container_is_null() {
+        final ExpressionConfiguration expressionConfiguration = createObjectUnderTest().expressionConfiguration(null);
+
+        assertThat(expressionConfiguration, notNullValue());
+        assertThat(expressionConfiguration.isCompiled(), equalTo(false));
+    }
+
+    @Test
+    void expressionConfiguration_returns_default_when_container_has_no_configuration() {
+        final ExpressionConfigurationContainer container = mock(ExpressionConfigurationContainer.class);
+
+        final ExpressionConfiguration expressionConfiguration = createObjectUnderTest().expressionConfiguration(container);
+
+        assertThat(expressionConfiguration, notNullValue());
+        assertThat(expressionConfiguration.isCompiled(), equalTo(false));
+    }
+
+    @Test
+    void expressionConfiguration_returns_configuration_from_container() {
+        final ExpressionConfiguration configured = new ExpressionConfiguration();
+        configured.setCompiled(true);
+        final ExpressionConfigurationContainer container = mock(ExpressionConfigurationContainer.class);
+        when(container.getExpressionConfiguration()).thenReturn(configured);
+
+        final ExpressionConfiguration expressionConfiguration = createObjectUnderTest().expressionConfiguration(container);
+
+        assertThat(expressionConfiguration, sameInstance(configured));
+        assertThat(expressionConfiguration.isCompiled(), equalTo(true));
+    }
+}
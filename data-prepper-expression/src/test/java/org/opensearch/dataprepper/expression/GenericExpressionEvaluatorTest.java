@@ -6,6 +6,8 @@
 package org.opensearch.dataprepper.expression;
 
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -39,6 +41,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class GenericExpressionEvaluatorTest {
@@ -168,6 +171,99 @@ class GenericExpressionEvaluatorTest {
         assertThat(result.equals(expectedDynamicExpressions), equalTo(true));
     }
 
+    @Nested
+    class WithCompiledEvaluation {
+        @Mock
+        private ParseTreeCompiler parseTreeCompiler;
+        @Mock
+        private CompiledExpression compiledExpression;
+        private GenericExpressionEvaluator objectUnderTest;
+
+        @BeforeEach
+        void setUp() {
+            final ExpressionConfiguration expressionConfiguration = new ExpressionConfiguration();
+            expressionConfiguration.setCompiled(true);
+            objectUnderTest = new GenericExpressionEvaluator(parser, evaluator, parseTreeCompiler, expressionConfiguration);
+        }
+
+        @Test
+        void evaluate_compiles_statement_once_and_reuses_plan() {
+            final String statement = UUID.randomUUID().toString();
+            final ParseTree parseTree = mock(ParseTree.class);
+            final Event event = mock(Event.class);
+            final String expected = UUID.randomUUID().toString();
+
+            doReturn(parseTree).when(parser).parse(eq(statement));
+            doReturn(compiledExpression).when(parseTreeCompiler).compile(eq(parseTree));
+            doReturn(expected).when(compiledExpression).evaluate(eq(event));
+
+            assertThat(objectUnderTest.evaluate(statement, event), equalTo(expected));
+            assertThat(objectUnderTest.evaluate(statement, event), equalTo(expected));
+
+            verify(parser).parse(eq(statement));
+            verify(parseTreeCompiler).compile(eq(parseTree));
+            verify(compiledExpression, times(2)).evaluate(eq(event));
+            verifyNoInteractions(evaluator);
+        }
+
+        @Test
+        void evaluate_clears_compiled_plans_when_cache_is_full() {
+            final ParseTree parseTree = mock(ParseTree.class);
+            final Event event = mock(Event.class);
+            doReturn(parseTree).when(parser).parse(anyString());
+            doReturn(compiledExpression).when(parseTreeCompiler).compile(eq(parseTree));
+
+            final String firstStatement = UUID.randomUUID().toString();
+            objectUnderTest.evaluate(firstStatement, event);
+            for (int i = 1; i < GenericExpressionEvaluator.MAXIMUM_COMPILED_EXPRESSIONS; i++) {
+                objectUnderTest.evaluate(UUID.randomUUID().toString(), event);
+            }
+            objectUnderTest.evaluate(firstStatement, event);
+            verify(parser, times(1)).parse(eq(firstStatement));
+
+            objectUnderTest.evaluate(UUID.randomUUID().toString(), event);
+            objectUnderTest.evaluate(firstStatement, event);
+
+            verify(parser, times(2)).parse(eq(firstStatement));
+            verify(parseTreeCompiler, times(GenericExpressionEvaluator.MAXIMUM_COMPILED_EXPRESSIONS + 2)).compile(eq(parseTree));
+        }
+
+        @Test
+        void evaluate_throws_ExpressionParsingException_when_parse_fails() {
+            final String statement = UUID.randomUUID().toString();
+            doThrow(new RuntimeException()).when(parser).parse(eq(statement));
+
+            assertThrows(ExpressionParsingException.class, () -> objectUnderTest.evaluate(statement, null));
+
+            verifyNoInteractions(parseTreeCompiler);
+        }
+
+        @Test
+        void evaluate_throws_ExpressionEvaluationException_and_does_not_cache_when_compile_fails() {
+            final String statement = UUID.randomUUID().toString();
+            final ParseTree parseTree = mock(ParseTree.class);
+            doReturn(parseTree).when(parser).parse(eq(statement));
+            doThrow(new RuntimeException()).when(parseTreeCompiler).compile(eq(parseTree));
+
+            assertThrows(ExpressionEvaluationException.class, () -> objectUnderTest.evaluate(statement, null));
+            assertThrows(ExpressionEvaluationException.class, () -> objectUnderTest.evaluate(statement, null));
+
+            verify(parseTreeCompiler, times(2)).compile(eq(parseTree));
+        }
+
+        @Test
+        void evaluate_throws_ExpressionEvaluationException_when_compiled_plan_fails() {
+            final String statement = UUID.randomUUID().toString();
+            final ParseTree parseTree = mock(ParseTree.class);
+            final Event event = mock(Event.class);
+            doReturn(parseTree).when(parser).parse(eq(statement));
+            doReturn(compiledExpression).when(parseTreeCompiler).compile(eq(parseTree));
+            doThrow(new RuntimeException()).when(compiledExpression).evaluate(eq(event));
+
+            assertThrows(ExpressionEvaluationException.class, () -> objectUnderTest.evaluate(statement, event));
+        }
+    }
+
     static class FormatExpressionsToExtractedDynamicKeysArgumentProvider implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(final ExtensionContext context) {
@@ -0,0 +1,18 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Runs every {@link GenericExpressionEvaluator_ArithmeticIT} case with compiled evaluation enabled.
+ */
+class GenericExpressionEvaluator_CompiledArithmeticIT extends GenericExpressionEvaluator_ArithmeticIT {
+    @Override
+    protected AnnotationConfigApplicationContext createApplicationContext() {
+        return createCompiledApplicationContext();
+    }
+}
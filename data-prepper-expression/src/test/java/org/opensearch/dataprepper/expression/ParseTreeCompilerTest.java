@@ -0,0 +1,195 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.event.TestEventKeyFactory;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class ParseTreeCompilerTest {
+    private final ParseTreeWalker walker = new ParseTreeWalker();
+    private final ParseTreeParser parseTreeParser = new ParseTreeParser(new ParseTreeParserConfiguration().dataPrepperExpressionParser());
+    private final OperatorConfiguration operatorConfiguration = new OperatorConfiguration();
+    private final ParseTreeCoercionService coercionService = new ParseTreeCoercionService(
+            new LiteralTypeConversionsConfiguration().literalTypeConversions(),
+            new ExpressionFunctionProvider(List.of(new LengthExpressionFunction(), new ContainsExpressionFunction(),
+                    new StartsWithExpressionFunction())),
+            TestEventKeyFactory.getTestEventFactory());
+    private final List<Operator<?>> operators = Arrays.asList(
+            new AndOperator(), new OrOperator(),
+            operatorConfiguration.inSetOperator(), operatorConfiguration.notInSetOperator(),
+            operatorConfiguration.equalOperator(), operatorConfiguration.notEqualOperator(operatorConfiguration.equalOperator()),
+            operatorConfiguration.greaterThanOperator(), operatorConfiguration.greaterThanOrEqualOperator(),
+            operatorConfiguration.lessThanOperator(), operatorConfiguration.lessThanOrEqualOperator(),
+            operatorConfiguration.regexEqualOperator(), operatorConfiguration.regexNotEqualOperator(),
+            operatorConfiguration.typeOfOperator(),
+            operatorConfiguration.addOperator(),
+            operatorConfiguration.subtractOperator(),
+            operatorConfiguration.multiplyOperator(),
+            operatorConfiguration.divideOperator(),
+            operatorConfiguration.modOperator(),
+            new NotOperator()
+    );
+    private final OperatorProvider operatorProvider = new OperatorProvider(operators);
+    private final ParseTreeEvaluator parseTreeEvaluator = new ParseTreeEvaluator(operatorProvider, walker, coercionService);
+
+    private ParseTreeCompiler createObjectUnderTest() {
+        return new ParseTreeCompiler(operatorProvider, walker, coercionService);
+    }
+
+    private Event createTestEvent() {
+        return JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of(
+                        "status", 200,
+                        "message", "hello world",
+                        "ratio", 1.5,
+                        "flag", true,
+                        "nested", Map.of("key", "value")))
+                .build();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "true",
+            "null",
+            "\"a string\"",
+            "/status",
+            "\"/status\"",
+            "/missing",
+            "/status == 200",
+            "/status != 200",
+            "/status > 100 and /status < 300",
+            "/status >= 500 or /flag == true",
+            "not /flag",
+            "not (/status == 200)",
+            "(/status == 200) and (/message == \"hello world\")",
+            "/status in {200, 201, 202}",
+            "/status not in {400, 500}",
+            "/message in {\"hello world\", \"other\"}",
+            "/message =~ \"^hello.*\"",
+            "/message !~ \"^bye.*\"",
+            "/status typeof integer",
+            "/message typeof string",
+            "/status + 1",
+            "/status - 1 * 2",
+            "(/status + 1) * 2",
+            "/status / /status",
+            "/status % /status",
+            "-/status",
+            "/ratio * 2",
+            "/message + \"!\"",
+            "1 + 2 * 3",
+            "5 > 3 and 2 < 1",
+            "length(/message)",
+            "length(/message) > 5",
+            "length(\"abc\") == 3",
+            "contains(/message, \"world\")",
+            "startsWith(/message, \"hello\") and /status == 200",
+            "length(\"/nested/key\")",
+            "/nested/key == \"value\"",
+            "2 > true",
+            "/message > 3",
+            "/missing == null",
+            "/missing != null and /status == 200"
+    })
+    void compiled_expression_matches_parse_tree_evaluation(final String statement) {
+        final Event event = createTestEvent();
+        final ParseTree parseTree = parseTreeParser.parse(statement);
+
+        final CompiledExpression compiledExpression = createObjectUnderTest().compile(parseTree);
+
+        final Object expected = parseTreeEvaluator.evaluate(parseTree, event);
+        assertThat(compiledExpression.evaluate(event), equalTo(expected));
+        assertThat(compiledExpression.evaluate(event), equalTo(expected));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1 + 2 * 3", "\"a\" == \"a\"", "5 > 3 and 2 < 1", "2 > true", "{1, 2}", "not false"})
+    void literal_only_statements_are_folded_into_constants(final String statement) {
+        final CompiledExpression compiledExpression = createObjectUnderTest().compile(parseTreeParser.parse(statement));
+
+        assertThat(compiledExpression.isConstant(), is(true));
+        assertThat(compiledExpression.evaluate(null),
+                equalTo(parseTreeEvaluator.evaluate(parseTreeParser.parse(statement), createTestEvent())));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/status == 200", "length(\"abc\")", "length(\"abc\") == 3"})
+    void statements_with_event_values_or_functions_are_not_constant(final String statement) {
+        final CompiledExpression compiledExpression = createObjectUnderTest().compile(parseTreeParser.parse(statement));
+
+        assertThat(compiledExpression.isConstant(), is(false));
+    }
+
+    @Test
+    void set_literals_are_compiled_to_immutable_sets() {
+        final CompiledExpression compiledExpression = createObjectUnderTest().compile(parseTreeParser.parse("{\"a\", \"b\"}"));
+
+        final Set<?> result = (Set<?>) compiledExpression.evaluate(createTestEvent());
+        assertThat(result, equalTo(Set.of("a", "b")));
+        assertThrows(UnsupportedOperationException.class, result::clear);
+    }
+
+    @Test
+    void operator_which_fails_on_literals_is_not_folded_and_fails_on_evaluation() {
+        final CompiledExpression compiledExpression = createObjectUnderTest().compile(parseTreeParser.parse("5 % 0"));
+
+        assertThat(compiledExpression.isConstant(), is(false));
+        final ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+                () -> compiledExpression.evaluate(createTestEvent()));
+        assertThat(exception.getMessage(), equalTo("Unable to evaluate the part of input statement: 5 % 0"));
+    }
+
+    @Test
+    void compile_with_mixed_set_member_types_throws() {
+        final ParseTree parseTree = parseTreeParser.parse("/status in {1, \"a\"}");
+        final ParseTreeCompiler objectUnderTest = createObjectUnderTest();
+
+        assertThrows(RuntimeException.class, () -> objectUnderTest.compile(parseTree));
+    }
+
+    @Test
+    void getResult_after_walking_twice_throws() {
+        final ParseTree parseTree = parseTreeParser.parse("true");
+        final ParseTreeCompilerListener listener = new ParseTreeCompilerListener(operatorProvider, coercionService);
+        walker.walk(listener, parseTree);
+        walker.walk(listener, parseTree);
+
+        assertThrows(IllegalStateException.class, listener::getResult);
+    }
+
+    @Test
+    void visitErrorNode_throws() {
+        final ParseTreeCompilerListener listener = new ParseTreeCompilerListener(operatorProvider, coercionService);
+
+        assertThrows(RuntimeException.class, () -> listener.visitErrorNode(mock(ErrorNode.class)));
+    }
+
+    @Test
+    void boolean_operator_with_invalid_operands_evaluates_to_false() {
+        final CompiledExpression compiledExpression = createObjectUnderTest().compile(parseTreeParser.parse("/message > 3"));
+
+        assertThat(compiledExpression.evaluate(createTestEvent()), equalTo(false));
+    }
+}
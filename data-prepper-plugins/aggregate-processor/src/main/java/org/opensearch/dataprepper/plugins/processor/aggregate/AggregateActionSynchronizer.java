@@ -12,10 +12,14 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.Collections;
 
@@ -39,9 +43,15 @@ import static org.opensearch.dataprepper.logging.DataPrepperMarkers.NOISY;
 class AggregateActionSynchronizer {
     static final String ACTION_HANDLE_EVENTS_PROCESSING_ERRORS = "actionHandleEventsProcessingErrors";
     static final String ACTION_CONCLUDE_GROUP_EVENTS_PROCESSING_ERRORS = "actionConcludeGroupProcessingErrors";
+    static final String ACTION_HANDLE_EVENTS_TIME = "actionHandleEventsTime";
+    static final String ACTION_CONCLUDE_GROUP_TIME = "actionConcludeGroupTime";
+    static final String ACTION_CONCLUDE_GROUP_LAG = "actionConcludeGroupLag";
 
     private final Counter actionHandleEventsProcessingErrors;
     private final Counter actionConcludeGroupEventsProcessingErrors;
+    private final Timer actionHandleEventsTimer;
+    private final Timer actionConcludeGroupTimer;
+    private final Timer actionConcludeGroupLagTimer;
 
     private final AggregateAction aggregateAction;
     private final AggregateGroupManager aggregateGroupManager;
@@ -60,6 +70,9 @@ class AggregateActionSynchronizer {
 
         this.actionHandleEventsProcessingErrors = pluginMetrics.counter(ACTION_HANDLE_EVENTS_PROCESSING_ERRORS);
         this.actionConcludeGroupEventsProcessingErrors = pluginMetrics.counter(ACTION_CONCLUDE_GROUP_EVENTS_PROCESSING_ERRORS);
+        this.actionHandleEventsTimer = pluginMetrics.timer(ACTION_HANDLE_EVENTS_TIME);
+        this.actionConcludeGroupTimer = pluginMetrics.timer(ACTION_CONCLUDE_GROUP_TIME);
+        this.actionConcludeGroupLagTimer = pluginMetrics.timer(ACTION_CONCLUDE_GROUP_LAG);
     }
 
     AggregateActionOutput concludeGroup(final IdentificationKeysHasher.IdentificationKeysMap hash, final AggregateGroup aggregateGroup, final boolean forceConclude) {
@@ -73,7 +86,12 @@ class AggregateActionSynchronizer {
             try {
                 if (aggregateGroup.shouldConcludeGroup(aggregateGroupManager.getGroupDuration()) || forceConclude) {
                     LOG.debug("Start critical section in concludeGroup");
+                    if (!forceConclude) {
+                        recordConcludeGroupLag(aggregateGroup);
+                    }
+                    final long startNanos = System.nanoTime();
                     actionOutput = aggregateAction.concludeGroup(aggregateGroup);
+                    actionConcludeGroupTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
                     aggregateGroupManager.closeGroup(hash, aggregateGroup);
                 }
             } catch (final Exception e) {
@@ -101,7 +119,9 @@ class AggregateActionSynchronizer {
             if (!disableGroupAcknowledgments) {
                 aggregateGroup.attachToEventAcknowledgementSet(event);
             }
+            final long startNanos = System.nanoTime();
             handleEventResponse = aggregateAction.handleEvent(event, aggregateGroup);
+            actionHandleEventsTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
             aggregateGroupManager.putGroupWithHash(hash, aggregateGroup);
         } catch (final Exception e) {
             LOG.error(NOISY, "Error while handling event, event will be processed by remainder of the pipeline: ", e);
@@ -114,6 +134,21 @@ class AggregateActionSynchronizer {
         return handleEventResponse;
     }
 
+    /**
+     * Records how long after its group_duration elapsed a group was concluded. Groups with a custom
+     * conclude condition are not tied to group_duration and are skipped.
+     */
+    private void recordConcludeGroupLag(final AggregateGroup aggregateGroup) {
+        final Instant groupStart = aggregateGroup.getGroupStart();
+        if (groupStart == null || aggregateGroup.hasCustomShouldConclude()) {
+            return;
+        }
+        final Duration lag = Duration.between(groupStart.plus(aggregateGroupManager.getGroupDuration()), Instant.now());
+        if (!lag.isNegative()) {
+            actionConcludeGroupLagTimer.record(lag);
+        }
+    }
+
     static class AggregateActionSynchronizerProvider {
         public AggregateActionSynchronizer provide(final AggregateAction aggregateAction,
                                                    final AggregateGroupManager aggregateGroupManager,
@@ -14,38 +14,88 @@ import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Tracks the active {@link AggregateGroup}s. Groups are indexed by the time at which they are due
+ * to conclude, in buckets of {@link #EXPIRY_BUCKET_MILLIS}, so that {@link #getGroupsToConclude(boolean)}
+ * only visits groups which are due rather than every active group. Groups whose action supplies a
+ * custom conclude condition cannot be scheduled this way and are checked on every call instead.
+ */
 class AggregateGroupManager {
+    static final long EXPIRY_BUCKET_MILLIS = 100L;
+    private static final long DUE_IMMEDIATELY = 0L;
 
     private final Map<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> allGroups = Maps.newConcurrentMap();
+    private final Map<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> customConcludeGroups = Maps.newConcurrentMap();
+    private final TreeMap<Long, List<ExpiryEntry>> expiryBuckets = new TreeMap<>();
+    private final Lock expiryLock = new ReentrantLock();
     private final Duration groupDuration;
+    private final long groupDurationMillis;
     private final boolean acknowledgeOnConclude;
 
     AggregateGroupManager(final Duration groupDuration, final boolean acknowledgeOnConclude) {
         this.groupDuration = groupDuration;
+        this.groupDurationMillis = groupDuration.toMillis();
         this.acknowledgeOnConclude = acknowledgeOnConclude;
     }
 
     AggregateGroup getAggregateGroup(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
-        return allGroups.computeIfAbsent(identificationKeysMap, (hash) -> new AggregateGroup(identificationKeysMap.getKeyMap()));
+        return allGroups.computeIfAbsent(identificationKeysMap, (hash) -> {
+            final AggregateGroup aggregateGroup = new AggregateGroup(identificationKeysMap.getKeyMap());
+            scheduleExpiry(new ExpiryEntry(identificationKeysMap, aggregateGroup, getConcludeTimeMillis(aggregateGroup)));
+            return aggregateGroup;
+        });
     }
 
-
     List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> getGroupsToConclude(final boolean forceConclude) {
         final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = new ArrayList<>();
-        for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : allGroups.entrySet()) {
-            if (groupEntry.getValue().shouldConcludeGroup(groupDuration) || forceConclude) {
+        if (forceConclude) {
+            groupsToConclude.addAll(allGroups.entrySet());
+            return groupsToConclude;
+        }
+
+        for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : customConcludeGroups.entrySet()) {
+            if (groupEntry.getValue().shouldConcludeGroup(groupDuration)) {
                 groupsToConclude.add(groupEntry);
             }
         }
+
+        final long nowMillis = Instant.now().toEpochMilli();
+        final List<ExpiryEntry> entriesToReschedule = new ArrayList<>();
+        expiryLock.lock();
+        try {
+            while (!expiryBuckets.isEmpty() && expiryBuckets.firstKey() <= nowMillis) {
+                for (final ExpiryEntry expiryEntry : expiryBuckets.pollFirstEntry().getValue()) {
+                    if (!isCurrent(expiryEntry)) {
+                        continue;
+                    }
+                    if (expiryEntry.aggregateGroup.shouldConcludeGroup(groupDuration)) {
+                        groupsToConclude.add(new AbstractMap.SimpleImmutableEntry<>(expiryEntry.hash, expiryEntry.aggregateGroup));
+                    }
+                    // Keep the entry until the group is closed, so a group which fails to conclude is retried.
+                    entriesToReschedule.add(expiryEntry);
+                }
+            }
+            for (final ExpiryEntry expiryEntry : entriesToReschedule) {
+                addToBucket(expiryEntry, Math.max(expiryEntry.concludeTimeMillis, nowMillis + 1));
+            }
+        } finally {
+            expiryLock.unlock();
+        }
         return groupsToConclude;
     }
 
     void closeGroup(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
         allGroups.remove(hashKeyMap, group);
+        customConcludeGroups.remove(hashKeyMap, group);
 
         if (acknowledgeOnConclude) {
             EventHandle handle = group.getEventHandle();
@@ -57,7 +107,12 @@ class AggregateGroupManager {
     }
 
     void putGroupWithHash(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
-        allGroups.put(hashKeyMap, group);
+        final AggregateGroup previousGroup = allGroups.put(hashKeyMap, group);
+        if (group.hasCustomShouldConclude()) {
+            customConcludeGroups.put(hashKeyMap, group);
+        } else if (previousGroup != group) {
+            scheduleExpiry(new ExpiryEntry(hashKeyMap, group, getConcludeTimeMillis(group)));
+        }
     }
 
     long getAllGroupsSize() {
@@ -67,4 +122,48 @@ class AggregateGroupManager {
     Duration getGroupDuration() {
         return this.groupDuration;
     }
+
+    /**
+     * An entry is stale once its group has been closed, replaced, restarted or moved to the custom
+     * conclude groups. A newer entry is always scheduled when such a group becomes active again.
+     */
+    private boolean isCurrent(final ExpiryEntry expiryEntry) {
+        final AggregateGroup aggregateGroup = expiryEntry.aggregateGroup;
+        return allGroups.get(expiryEntry.hash) == aggregateGroup
+                && !customConcludeGroups.containsKey(expiryEntry.hash)
+                && getConcludeTimeMillis(aggregateGroup) == expiryEntry.concludeTimeMillis;
+    }
+
+    private long getConcludeTimeMillis(final AggregateGroup aggregateGroup) {
+        final Instant groupStart = aggregateGroup.getGroupStart();
+        return groupStart == null ? DUE_IMMEDIATELY : groupStart.toEpochMilli() + groupDurationMillis;
+    }
+
+    private void scheduleExpiry(final ExpiryEntry expiryEntry) {
+        expiryLock.lock();
+        try {
+            addToBucket(expiryEntry, expiryEntry.concludeTimeMillis);
+        } finally {
+            expiryLock.unlock();
+        }
+    }
+
+    private void addToBucket(final ExpiryEntry expiryEntry, final long dueTimeMillis) {
+        final long bucket = Math.floorDiv(dueTimeMillis + EXPIRY_BUCKET_MILLIS - 1, EXPIRY_BUCKET_MILLIS) * EXPIRY_BUCKET_MILLIS;
+        expiryBuckets.computeIfAbsent(bucket, key -> new ArrayList<>()).add(expiryEntry);
+    }
+
+    private static final class ExpiryEntry {
+        private final IdentificationKeysHasher.IdentificationKeysMap hash;
+        private final AggregateGroup aggregateGroup;
+        private final long concludeTimeMillis;
+
+        private ExpiryEntry(final IdentificationKeysHasher.IdentificationKeysMap hash,
+                            final AggregateGroup aggregateGroup,
+                            final long concludeTimeMillis) {
+            this.hash = hash;
+            this.aggregateGroup = aggregateGroup;
+            this.concludeTimeMillis = concludeTimeMillis;
+        }
+    }
 }
@@ -12,6 +12,7 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,7 +25,9 @@ import org.mockito.quality.Strictness;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -32,7 +35,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -76,6 +82,15 @@ public class AggregateActionSynchronizerTest {
     @Mock
     private Counter actionConcludeGroupEventsProcessingErrors;
 
+    @Mock
+    private Timer actionHandleEventsTimer;
+
+    @Mock
+    private Timer actionConcludeGroupTimer;
+
+    @Mock
+    private Timer actionConcludeGroupLagTimer;
+
     @Mock
     private AggregateProcessorConfig aggregateProcessorConfig;
 
@@ -93,6 +108,9 @@ public class AggregateActionSynchronizerTest {
 
         when(pluginMetrics.counter(AggregateActionSynchronizer.ACTION_HANDLE_EVENTS_PROCESSING_ERRORS)).thenReturn(actionHandleEventsProcessingErrors);
         when(pluginMetrics.counter(AggregateActionSynchronizer.ACTION_CONCLUDE_GROUP_EVENTS_PROCESSING_ERRORS)).thenReturn(actionConcludeGroupEventsProcessingErrors);
+        when(pluginMetrics.timer(AggregateActionSynchronizer.ACTION_HANDLE_EVENTS_TIME)).thenReturn(actionHandleEventsTimer);
+        when(pluginMetrics.timer(AggregateActionSynchronizer.ACTION_CONCLUDE_GROUP_TIME)).thenReturn(actionConcludeGroupTimer);
+        when(pluginMetrics.timer(AggregateActionSynchronizer.ACTION_CONCLUDE_GROUP_LAG)).thenReturn(actionConcludeGroupLagTimer);
     }
 
     private AggregateActionSynchronizer createObjectUnderTest() {
@@ -136,6 +154,45 @@ public class AggregateActionSynchronizerTest {
         assertThat(concludeGroupEvents.get(0), equalTo(event));
     }
 
+    @Test
+    void concludeGroup_records_conclude_time_and_lag_past_group_duration() {
+        final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
+        when(concludeGroupLock.tryLock()).thenReturn(true);
+        when(aggregateGroup.getGroupStart()).thenReturn(Instant.now().minusSeconds(5));
+        when(aggregateAction.concludeGroup(aggregateGroup)).thenReturn(new AggregateActionOutput(List.of(event)));
+
+        objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, false);
+
+        verify(actionConcludeGroupTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(actionConcludeGroupLagTimer).record(any(Duration.class));
+    }
+
+    @Test
+    void concludeGroup_does_not_record_lag_for_custom_conclude_or_forced_groups() {
+        final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
+        when(concludeGroupLock.tryLock()).thenReturn(true);
+        when(aggregateGroup.getGroupStart()).thenReturn(Instant.now().minusSeconds(5));
+        when(aggregateGroup.hasCustomShouldConclude()).thenReturn(true);
+        when(aggregateAction.concludeGroup(aggregateGroup)).thenReturn(new AggregateActionOutput(List.of(event)));
+
+        objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, false);
+        when(aggregateGroup.hasCustomShouldConclude()).thenReturn(false);
+        objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, true);
+
+        verify(actionConcludeGroupTimer, times(2)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(actionConcludeGroupLagTimer, never()).record(any(Duration.class));
+    }
+
+    @Test
+    void handleEventForGroup_records_handle_time() {
+        final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
+        when(aggregateAction.handleEvent(event, aggregateGroup)).thenReturn(aggregateActionResponse);
+
+        objectUnderTest.handleEventForGroup(event, identificationKeysMap, aggregateGroup);
+
+        verify(actionHandleEventsTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
     @Test
     void locks_are_unlocked_and_empty_optional_returned_when_aggregateAction_concludeGroup_throws_exception() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -27,7 +28,9 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -148,6 +151,83 @@ public class AggregateGroupManagerTest {
         }
     }
 
+    @Test
+    void getGroupsToConclude_does_not_check_groups_which_are_not_due() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup groupNotDue = mock(AggregateGroup.class);
+        when(groupNotDue.getGroupStart()).thenReturn(Instant.now());
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, groupNotDue);
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+
+        assertThat(groupsToConclude.size(), equalTo(0));
+        verify(groupNotDue, never()).shouldConcludeGroup(any(Duration.class));
+    }
+
+    @Test
+    void getGroupsToConclude_returns_due_group_until_it_is_closed() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup dueGroup = mock(AggregateGroup.class);
+        when(dueGroup.getGroupStart()).thenReturn(Instant.now().minus(TEST_GROUP_DURATION).minusSeconds(1));
+        when(dueGroup.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, dueGroup);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1));
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> retriedGroups = waitForGroupsToConclude();
+        assertThat(retriedGroups.size(), equalTo(1));
+        assertThat(retriedGroups.get(0).getValue(), equalTo(dueGroup));
+
+        aggregateGroupManager.closeGroup(identificationKeysMap, dueGroup);
+
+        assertThat(waitForGroupsToConclude().size(), equalTo(0));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(0L));
+    }
+
+    @Test
+    void getGroupsToConclude_checks_groups_with_custom_conclude_on_every_call() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup customGroup = mock(AggregateGroup.class);
+        when(customGroup.hasCustomShouldConclude()).thenReturn(true);
+        when(customGroup.getGroupStart()).thenReturn(Instant.now());
+        when(customGroup.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(false, true);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, customGroup);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(0));
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), equalTo(customGroup));
+    }
+
+    @Test
+    void getGroupsToConclude_with_many_groups_returns_only_due_groups() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final int numberOfGroups = 1000;
+        for (int i = 0; i < numberOfGroups; i++) {
+            final AggregateGroup aggregateGroup = mock(AggregateGroup.class);
+            final boolean isDue = i % 10 == 0;
+            when(aggregateGroup.getGroupStart()).thenReturn(isDue ? Instant.now().minus(TEST_GROUP_DURATION).minusSeconds(1) : Instant.now());
+            when(aggregateGroup.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(isDue);
+            aggregateGroupManager.putGroupWithHash(new IdentificationKeysHasher.IdentificationKeysMap(Map.<Object, Object>of("key", i)), aggregateGroup);
+        }
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(numberOfGroups / 10));
+    }
+
+    private List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> waitForGroupsToConclude() {
+        try {
+            Thread.sleep(AggregateGroupManager.EXPIRY_BUCKET_MILLIS * 2);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return aggregateGroupManager.getGroupsToConclude(false);
+    }
+
     @Test
     void closeGroup_with_acknowledge_on_conclude_releases_event_handle() {
         aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, true);
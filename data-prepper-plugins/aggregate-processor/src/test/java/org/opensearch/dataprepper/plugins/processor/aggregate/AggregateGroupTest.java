@@ -54,6 +54,16 @@ public class AggregateGroupTest {
         assertThat(aggregateGroup.shouldConcludeGroup(TEST_GROUP_DURATION), equalTo(false));
     }
 
+    @Test
+    void hasCustomShouldConclude_is_true_only_after_setCustomShouldConclude() {
+        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+        assertThat(aggregateGroup.hasCustomShouldConclude(), equalTo(false));
+
+        aggregateGroup.setCustomShouldConclude(duration -> true);
+
+        assertThat(aggregateGroup.hasCustomShouldConclude(), equalTo(true));
+    }
+
     private void reflectivelySetField(final AggregateGroup aggregateGroup, final String fieldName, final Object value) throws NoSuchFieldException, IllegalAccessException {
         final Field field = AggregateGroup.class.getDeclaredField(fieldName);
         try {
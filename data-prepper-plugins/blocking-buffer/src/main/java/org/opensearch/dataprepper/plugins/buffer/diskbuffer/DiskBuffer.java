@@ -0,0 +1,247 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import org.opensearch.dataprepper.model.annotations.Experimental;
+import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * A persistent {@link Buffer} which writes events to an append-only log of memory-mapped segment files.
+ * <p>
+ * Writes return once the events are in the log, after which their event handles are released, in the same
+ * way as the {@code kafka} buffer. Segments are only deleted once every record in them has been checkpointed,
+ * and after a restart the buffer replays every record which was not checkpointed. Delivery is therefore
+ * at-least-once. The data lives in the page cache rather than on the JVM heap, so the heap circuit breaker
+ * does not apply to writes into this buffer.
+ *
+ * @since 2.16
+ */
+@Experimental
+@DataPrepperPlugin(name = "disk_buffer", pluginType = Buffer.class, pluginConfigurationType = DiskBufferConfig.class)
+public class DiskBuffer extends AbstractBuffer<Record<Event>> {
+    private static final Logger LOG = LoggerFactory.getLogger(DiskBuffer.class);
+    private static final String DISK_BUFFER = "DiskBuffer";
+    static final String BUFFER_USAGE_METRIC = "bufferUsage";
+    static final String DISK_USAGE_METRIC = "diskUsage";
+    private static final long FSYNC_EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+    private final SegmentLog segmentLog;
+    private final EventSerializer eventSerializer;
+    private final int batchSize;
+    private final String pipelineName;
+    private final ScheduledExecutorService fsyncExecutor;
+
+    /**
+     * Creates a DiskBuffer which stores its segments in the given directory.
+     *
+     * @param directory      the directory for this buffer's files, which must not be shared with another buffer
+     * @param segmentSize    the size in bytes of each segment file
+     * @param maxDiskSize    the maximum number of bytes of segment files
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param fsyncPolicy    when written segments are forced to the storage device
+     * @param fsyncInterval  the interval between forces for {@link FsyncPolicy#INTERVAL}
+     * @param pipelineName   the name of the associated Pipeline
+     */
+    public DiskBuffer(final Path directory,
+                      final long segmentSize,
+                      final long maxDiskSize,
+                      final int batchSize,
+                      final FsyncPolicy fsyncPolicy,
+                      final Duration fsyncInterval,
+                      final String pipelineName) {
+        super(DISK_BUFFER, pipelineName);
+        if (segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(format("segment_size must not be larger than %d bytes.", Integer.MAX_VALUE));
+        }
+        if (maxDiskSize < 2 * segmentSize) {
+            throw new IllegalArgumentException("max_disk_size must be at least twice the segment_size.");
+        }
+        this.batchSize = batchSize;
+        this.pipelineName = pipelineName;
+        this.eventSerializer = new EventSerializer(new ObjectMapper());
+        try {
+            this.segmentLog = new SegmentLog(directory, (int) segmentSize,
+                    (int) Math.min(maxDiskSize / segmentSize, Integer.MAX_VALUE), fsyncPolicy == FsyncPolicy.ALWAYS);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(format("Pipeline [%s] - Unable to open the disk buffer in %s", pipelineName, directory), e);
+        }
+
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            final long fsyncIntervalMillis = fsyncInterval.toMillis();
+            fsyncExecutor = Executors.newSingleThreadScheduledExecutor();
+            fsyncExecutor.scheduleWithFixedDelay(this::sync, fsyncIntervalMillis, fsyncIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            fsyncExecutor = null;
+        }
+
+        pluginMetrics.gauge(DISK_USAGE_METRIC, segmentLog, SegmentLog::getDiskUsageBytes);
+        pluginMetrics.gauge(BUFFER_USAGE_METRIC, segmentLog, log -> (double) log.getDiskUsageBytes() / maxDiskSize * 100);
+    }
+
+    /**
+     * Mandatory constructor for Data Prepper Component - This constructor is used by Data Prepper runtime engine to construct an
+     * instance of {@link DiskBuffer} using an instance of {@link DiskBufferConfig}. The buffer stores its files in a
+     * sub-directory of the configured path named after the pipeline.
+     *
+     * @param diskBufferConfig    instance takes values from yaml
+     * @param pipelineDescription instance with metadata information about the pipeline
+     */
+    @DataPrepperPluginConstructor
+    public DiskBuffer(final DiskBufferConfig diskBufferConfig, final PipelineDescription pipelineDescription) {
+        this(Paths.get(checkNotNull(diskBufferConfig, "DiskBufferConfig cannot be null").getPath(), pipelineDescription.getPipelineName()),
+                diskBufferConfig.getSegmentSize().getBytes(),
+                diskBufferConfig.getMaxDiskSize().getBytes(),
+                diskBufferConfig.getBatchSize(),
+                diskBufferConfig.getFsyncPolicy(),
+                diskBufferConfig.getFsyncInterval(),
+                pipelineDescription.getPipelineName());
+    }
+
+    @Override
+    public void doWrite(final Record<Event> record, final int timeoutInMillis) throws TimeoutException {
+        try {
+            doWriteAll(Collections.singletonList(record), timeoutInMillis);
+        } catch (final TimeoutException | RuntimeException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void doWriteAll(final Collection<Record<Event>> records, final int timeoutInMillis) throws Exception {
+        final List<byte[]> entries = new ArrayList<>(records.size());
+        for (final Record<Event> record : records) {
+            entries.add(eventSerializer.serialize(record.getData()));
+        }
+
+        try {
+            segmentLog.append(entries, timeoutInMillis);
+        } catch (final InterruptedException e) {
+            LOG.error("Pipeline [{}] - Interrupted while waiting to write {} records to the disk buffer", pipelineName, records.size(), e);
+            Thread.currentThread().interrupt();
+            throw new TimeoutException(format("Pipeline [%s] - Interrupted while waiting for disk buffer space.", pipelineName));
+        } catch (final TimeoutException e) {
+            throw new TimeoutException(format("Pipeline [%s] - Disk buffer is full, timed out waiting for space for %d records.",
+                    pipelineName, records.size()));
+        }
+
+        // The buffer owns the records from here on; the copies read back from disk carry new event handles.
+        for (final Record<Event> record : records) {
+            final EventHandle eventHandle = record.getData().getEventHandle();
+            if (eventHandle != null) {
+                eventHandle.release(true);
+            }
+        }
+    }
+
+    @Override
+    public Map.Entry<Collection<Record<Event>>, CheckpointState> doRead(final int timeoutInMillis) {
+        final SegmentLog.ReadBatch readBatch;
+        try {
+            readBatch = segmentLog.read(batchSize, timeoutInMillis);
+        } catch (final InterruptedException e) {
+            LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+            throw new RuntimeException(e);
+        }
+
+        final List<byte[]> entries = readBatch.getEntries();
+        if (entries.isEmpty()) {
+            return new AbstractMap.SimpleEntry<>(Collections.emptyList(), new CheckpointState(0));
+        }
+
+        final List<Record<Event>> records = new ArrayList<>(entries.size());
+        for (final byte[] entry : entries) {
+            try {
+                records.add(new Record<>(eventSerializer.deserialize(entry)));
+            } catch (final IOException e) {
+                LOG.error("Pipeline [{}] - Dropping an entry of the disk buffer which could not be read.", pipelineName, e);
+            }
+        }
+        updateLatency(records);
+        return new AbstractMap.SimpleEntry<>(records, new DiskBufferCheckpointState(records.size(), readBatch.getPosition()));
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        if (!(checkpointState instanceof DiskBufferCheckpointState)) {
+            return;
+        }
+        try {
+            segmentLog.complete(((DiskBufferCheckpointState) checkpointState).getBatchPosition());
+        } catch (final IOException e) {
+            LOG.error("Pipeline [{}] - Failed to write the disk buffer checkpoint. Records may be replayed after a restart.", pipelineName, e);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return segmentLog.isEmpty() && getRecordsInFlight() == 0;
+    }
+
+    @Override
+    public boolean isWrittenOffHeapOnly() {
+        return true;
+    }
+
+    @Override
+    public void shutdown() {
+        if (fsyncExecutor != null) {
+            fsyncExecutor.shutdown();
+            try {
+                if (!fsyncExecutor.awaitTermination(FSYNC_EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    fsyncExecutor.shutdownNow();
+                }
+            } catch (final InterruptedException e) {
+                fsyncExecutor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        sync();
+    }
+
+    private void sync() {
+        try {
+            segmentLog.sync();
+        } catch (final RuntimeException e) {
+            LOG.error("Pipeline [{}] - Failed to sync the disk buffer segments.", pipelineName, e);
+        }
+    }
+}
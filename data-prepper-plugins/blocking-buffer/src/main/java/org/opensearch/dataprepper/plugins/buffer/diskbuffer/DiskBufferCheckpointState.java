@@ -0,0 +1,29 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import org.opensearch.dataprepper.model.CheckpointState;
+
+/**
+ * A {@link CheckpointState} which remembers the position of the batch that its records were read from, so that
+ * checkpointing can commit that position in the log.
+ */
+class DiskBufferCheckpointState extends CheckpointState {
+    private final SegmentLog.BatchPosition batchPosition;
+
+    DiskBufferCheckpointState(final int numRecordsToBeChecked, final SegmentLog.BatchPosition batchPosition) {
+        super(numRecordsToBeChecked);
+        this.batchPosition = batchPosition;
+    }
+
+    SegmentLog.BatchPosition getBatchPosition() {
+        return batchPosition;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+import java.time.Duration;
+
+public class DiskBufferConfig {
+    public static final int DEFAULT_BATCH_SIZE = 200;
+    static final String DEFAULT_SEGMENT_SIZE = "64mb";
+    static final String DEFAULT_MAX_DISK_SIZE = "1gb";
+    static final Duration DEFAULT_FSYNC_INTERVAL = Duration.ofSeconds(1);
+
+    @JsonProperty("path")
+    @NotNull
+    private String path;
+
+    @JsonProperty("segment_size")
+    private ByteCount segmentSize = ByteCount.parse(DEFAULT_SEGMENT_SIZE);
+
+    @JsonProperty("max_disk_size")
+    private ByteCount maxDiskSize = ByteCount.parse(DEFAULT_MAX_DISK_SIZE);
+
+    @JsonProperty("batch_size")
+    @Min(1)
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    @JsonProperty("fsync_policy")
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.INTERVAL;
+
+    @JsonProperty("fsync_interval")
+    private Duration fsyncInterval = DEFAULT_FSYNC_INTERVAL;
+
+    public String getPath() {
+        return path;
+    }
+
+    public ByteCount getSegmentSize() {
+        return segmentSize;
+    }
+
+    public ByteCount getMaxDiskSize() {
+        return maxDiskSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public Duration getFsyncInterval() {
+        return fsyncInterval;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Converts events to and from the entries stored in the disk buffer. The event data is stored as its
+ * JSON string, preceded by the metadata which is needed to rebuild the event.
+ */
+class EventSerializer {
+    static final int FORMAT_VERSION = 1;
+    private static final String TRACE_EVENT_TYPE = "TRACE";
+    private static final TypeReference<Map<String, Object>> ATTRIBUTES_TYPE = new TypeReference<>() {};
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private final ObjectMapper objectMapper;
+
+    EventSerializer(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    byte[] serialize(final Event event) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        final DataOutputStream outputStream = new DataOutputStream(byteArrayOutputStream);
+        final EventMetadata metadata = event.getMetadata();
+
+        outputStream.writeByte(FORMAT_VERSION);
+        writeNullableString(outputStream, metadata.getEventType());
+        writeNullableInstant(outputStream, metadata.getTimeReceived());
+        writeNullableInstant(outputStream, metadata.getExternalOriginationTime());
+
+        final Set<String> tags = metadata.getTags();
+        outputStream.writeInt(tags.size());
+        for (final String tag : tags) {
+            outputStream.writeUTF(tag);
+        }
+
+        final Map<String, Object> attributes = metadata.getAttributes();
+        writeBytes(outputStream, attributes == null || attributes.isEmpty() ? new byte[0] : objectMapper.writeValueAsBytes(attributes));
+        writeBytes(outputStream, event.toJsonString().getBytes(StandardCharsets.UTF_8));
+        outputStream.flush();
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    Event deserialize(final byte[] entry) throws IOException {
+        final DataInputStream inputStream = new DataInputStream(new ByteArrayInputStream(entry));
+        final int formatVersion = inputStream.readUnsignedByte();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported disk buffer entry version: " + formatVersion);
+        }
+
+        final String eventType = readNullableString(inputStream);
+        final Instant timeReceived = readNullableInstant(inputStream);
+        final Instant externalOriginationTime = readNullableInstant(inputStream);
+
+        final int tagCount = inputStream.readInt();
+        final Set<String> tags = new HashSet<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(inputStream.readUTF());
+        }
+
+        final byte[] attributeBytes = readBytes(inputStream);
+        final Map<String, Object> attributes = attributeBytes.length == 0 ? null : objectMapper.readValue(attributeBytes, ATTRIBUTES_TYPE);
+        final String eventData = new String(readBytes(inputStream), StandardCharsets.UTF_8);
+
+        final EventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType(eventType)
+                .withTimeReceived(timeReceived)
+                .withExternalOriginationTime(externalOriginationTime)
+                .withTags(tags)
+                .withAttributes(attributes)
+                .build();
+
+        if (TRACE_EVENT_TYPE.equalsIgnoreCase(eventType)) {
+            return JacksonSpan.builder()
+                    .withJsonData(eventData)
+                    .withEventMetadata(eventMetadata)
+                    .build();
+        }
+        return JacksonEvent.builder()
+                .withJsonData(eventData)
+                .withEventMetadata(eventMetadata)
+                .build();
+    }
+
+    private static void writeNullableString(final DataOutputStream outputStream, final String value) throws IOException {
+        outputStream.writeBoolean(value != null);
+        if (value != null) {
+            outputStream.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(final DataInputStream inputStream) throws IOException {
+        return inputStream.readBoolean() ? inputStream.readUTF() : null;
+    }
+
+    private static void writeNullableInstant(final DataOutputStream outputStream, final Instant value) throws IOException {
+        outputStream.writeBoolean(value != null);
+        if (value != null) {
+            outputStream.writeLong(value.getEpochSecond());
+            outputStream.writeInt(value.getNano());
+        }
+    }
+
+    private static Instant readNullableInstant(final DataInputStream inputStream) throws IOException {
+        return inputStream.readBoolean() ? Instant.ofEpochSecond(inputStream.readLong(), inputStream.readInt()) : null;
+    }
+
+    private static void writeBytes(final DataOutputStream outputStream, final byte[] bytes) throws IOException {
+        outputStream.writeInt(bytes.length);
+        outputStream.write(bytes);
+    }
+
+    private static byte[] readBytes(final DataInputStream inputStream) throws IOException {
+        final int length = inputStream.readInt();
+        if (length < 0 || length > inputStream.available()) {
+            throw new IOException("Disk buffer entry is truncated.");
+        }
+        final byte[] bytes = new byte[length];
+        inputStream.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Controls when the {@code disk_buffer} forces written segments to the storage device.
+ */
+public enum FsyncPolicy {
+    /**
+     * Forces the segment at the end of every write call, so a whole {@code writeAll} batch shares one fsync.
+     */
+    ALWAYS("always"),
+    /**
+     * Forces dirty segments on a fixed interval. A host crash can lose up to one interval of writes.
+     */
+    INTERVAL("interval"),
+    /**
+     * Leaves flushing to the operating system. Writes survive a process crash but not a host crash.
+     */
+    NONE("none");
+
+    private static final Map<String, FsyncPolicy> OPTIONS_MAP = Arrays.stream(FsyncPolicy.values())
+            .collect(Collectors.toMap(
+                    value -> value.option,
+                    value -> value
+            ));
+
+    private final String option;
+
+    FsyncPolicy(final String option) {
+        this.option = option;
+    }
+
+    @JsonValue
+    public String getOption() {
+        return option;
+    }
+
+    @JsonCreator
+    static FsyncPolicy fromOptionValue(final String option) {
+        return OPTIONS_MAP.get(option.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,554 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import static java.lang.String.format;
+
+/**
+ * An append-only log of byte entries stored in memory-mapped segment files of a fixed size.
+ * <p>
+ * Each entry is framed by its length and the CRC32 of its payload. Entries never span segments, and the
+ * unused tail of a full segment stays zeroed, which reads as the end of that segment. Entries are read in
+ * batches, and each batch position is handed back through {@link #complete(BatchPosition)} once processed.
+ * The end of the oldest contiguous run of completed batches is committed to a checkpoint file, and every
+ * segment before it is deleted. After a restart, reading resumes from the committed position, so entries which were read but not
+ * completed are read again.
+ */
+class SegmentLog {
+    private static final Logger LOG = LoggerFactory.getLogger(SegmentLog.class);
+    static final int ENTRY_HEADER_BYTES = 8;
+    static final String SEGMENT_FILE_SUFFIX = ".segment";
+    static final String CHECKPOINT_FILE_NAME = "checkpoint";
+    private static final String CHECKPOINT_TEMP_FILE_NAME = "checkpoint.tmp";
+    private static final int CHECKPOINT_BYTES = 16;
+    private static final int ZERO_FILL_CHUNK_BYTES = 8192;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final boolean forceOnWrite;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dataAvailable = lock.newCondition();
+    private final Condition spaceAvailable = lock.newCondition();
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private final Deque<BatchPosition> pendingBatches = new ArrayDeque<>();
+
+    private Segment writeSegment;
+    private int writeOffset;
+    private Segment readSegment;
+    private int readOffset;
+    private long committedSegmentId;
+    private int committedOffset;
+
+    /**
+     * Opens the log in the given directory, recovering any segments and checkpoint left by a previous run.
+     *
+     * @param directory the directory which holds the segment and checkpoint files
+     * @param segmentSize the size in bytes of each new segment file
+     * @param maxSegments the maximum number of segment files on disk at once
+     * @param forceOnWrite whether {@link #append(List, long)} forces the written segments before returning
+     * @throws IOException if the directory or its files cannot be read or created
+     */
+    SegmentLog(final Path directory, final int segmentSize, final int maxSegments, final boolean forceOnWrite) throws IOException {
+        if (segmentSize <= ENTRY_HEADER_BYTES) {
+            throw new IllegalArgumentException(format("segmentSize must be larger than %d bytes.", ENTRY_HEADER_BYTES));
+        }
+        if (maxSegments < 2) {
+            throw new IllegalArgumentException("maxSegments must be at least 2.");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.forceOnWrite = forceOnWrite;
+        recover();
+    }
+
+    /**
+     * Appends the entries as one unit. The call waits for enough segments to be reclaimed to hold all
+     * of the entries, so either every entry is appended or none is.
+     *
+     * @param entries the entries to append
+     * @param timeoutInMillis how long to wait for space
+     * @throws SizeOverflowException if the entries could never fit within the log
+     * @throws TimeoutException if space was not reclaimed in time
+     * @throws InterruptedException if interrupted while waiting for space
+     * @throws IOException if a new segment cannot be created
+     */
+    void append(final List<byte[]> entries, final long timeoutInMillis)
+            throws IOException, SizeOverflowException, TimeoutException, InterruptedException {
+        for (final byte[] entry : entries) {
+            if (entry.length > segmentSize - ENTRY_HEADER_BYTES) {
+                throw new SizeOverflowException(format("Entry of %d bytes does not fit in a segment of %d bytes.",
+                        entry.length, segmentSize));
+            }
+        }
+
+        final List<Segment> segmentsToForce = new ArrayList<>();
+        lock.lockInterruptibly();
+        try {
+            final int newSegmentsNeeded = countNewSegmentsNeeded(entries);
+            if (newSegmentsNeeded + 1 > maxSegments) {
+                throw new SizeOverflowException(format("Writing %d entries needs %d new segments but at most %d segments are allowed.",
+                        entries.size(), newSegmentsNeeded, maxSegments));
+            }
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+            while (segments.size() + newSegmentsNeeded > maxSegments) {
+                if (remainingNanos <= 0) {
+                    throw new TimeoutException("Disk buffer is full, timed out waiting for segments to be reclaimed.");
+                }
+                remainingNanos = spaceAvailable.awaitNanos(remainingNanos);
+            }
+
+            for (final byte[] entry : entries) {
+                if (writeOffset + ENTRY_HEADER_BYTES + entry.length > writeSegment.capacity) {
+                    segmentsToForce.add(writeSegment);
+                    rollWriteSegment();
+                }
+                writeEntry(entry);
+            }
+            segmentsToForce.add(writeSegment);
+            dataAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (forceOnWrite) {
+            for (final Segment segment : segmentsToForce) {
+                segment.buffer.force();
+            }
+        }
+    }
+
+    /**
+     * Reads up to {@code maxEntries} entries, waiting up to the timeout for the batch to fill.
+     *
+     * @param maxEntries the maximum number of entries to return
+     * @param timeoutInMillis how long to wait for entries
+     * @return the batch of entries, whose position must be passed to {@link #complete(BatchPosition)} once processed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ReadBatch read(final int maxEntries, final long timeoutInMillis) throws InterruptedException {
+        final List<byte[]> entries = new ArrayList<>(maxEntries);
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        lock.lockInterruptibly();
+        try {
+            drainEntries(entries, maxEntries);
+            while (entries.size() < maxEntries && remainingNanos > 0) {
+                remainingNanos = dataAvailable.awaitNanos(remainingNanos);
+                drainEntries(entries, maxEntries);
+            }
+            skipExhaustedSegments();
+
+            final ReadBatch readBatch = new ReadBatch(entries, new BatchPosition(readSegment.id, readOffset));
+            if (!entries.isEmpty()) {
+                pendingBatches.addLast(readBatch.getPosition());
+            }
+            return readBatch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks the batch as processed. Once every earlier batch is also complete, the position after the batch is
+     * committed and the segments before it are deleted.
+     *
+     * @param batchPosition the position of a non-empty batch returned by {@link #read(int, long)}
+     * @throws IOException if the checkpoint cannot be written
+     */
+    void complete(final BatchPosition batchPosition) throws IOException {
+        lock.lock();
+        try {
+            batchPosition.completed = true;
+            BatchPosition lastCompletedBatch = null;
+            while (!pendingBatches.isEmpty() && pendingBatches.peekFirst().completed) {
+                lastCompletedBatch = pendingBatches.pollFirst();
+            }
+            if (lastCompletedBatch == null) {
+                return;
+            }
+
+            committedSegmentId = lastCompletedBatch.endSegmentId;
+            committedOffset = lastCompletedBatch.endOffset;
+            writeCheckpoint();
+            reclaimSegments();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forces every segment written since the last sync to the storage device.
+     */
+    void sync() {
+        final List<Segment> dirtySegments = new ArrayList<>();
+        lock.lock();
+        try {
+            for (final Segment segment : segments.values()) {
+                if (segment.dirty) {
+                    segment.dirty = false;
+                    dirtySegments.add(segment);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (final Segment segment : dirtySegments) {
+            segment.buffer.force();
+        }
+    }
+
+    /**
+     * @return true if every entry has been read and every read batch has been completed
+     */
+    boolean isEmpty() {
+        lock.lock();
+        try {
+            skipExhaustedSegments();
+            return pendingBatches.isEmpty() && readSegment == writeSegment && readOffset == writeOffset;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getSegmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getDiskUsageBytes() {
+        lock.lock();
+        try {
+            long diskUsageBytes = 0;
+            for (final Segment segment : segments.values()) {
+                diskUsageBytes += segment.capacity;
+            }
+            return diskUsageBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int countNewSegmentsNeeded(final List<byte[]> entries) {
+        int newSegmentsNeeded = 0;
+        int offset = writeOffset;
+        int capacity = writeSegment.capacity;
+        for (final byte[] entry : entries) {
+            final int entryBytes = ENTRY_HEADER_BYTES + entry.length;
+            if (offset + entryBytes > capacity) {
+                newSegmentsNeeded++;
+                offset = 0;
+                capacity = segmentSize;
+            }
+            offset += entryBytes;
+        }
+        return newSegmentsNeeded;
+    }
+
+    private void rollWriteSegment() throws IOException {
+        final long nextSegmentId = writeSegment.id + 1;
+        writeSegment = Segment.open(segmentPath(nextSegmentId), nextSegmentId, segmentSize);
+        segments.put(nextSegmentId, writeSegment);
+        writeOffset = 0;
+    }
+
+    private void writeEntry(final byte[] entry) {
+        final CRC32 crc = new CRC32();
+        crc.update(entry);
+
+        final ByteBuffer payloadBuffer = writeSegment.buffer.duplicate();
+        payloadBuffer.position(writeOffset + ENTRY_HEADER_BYTES);
+        payloadBuffer.put(entry);
+        writeSegment.buffer.putInt(writeOffset + 4, (int) crc.getValue());
+        writeSegment.buffer.putInt(writeOffset, entry.length);
+
+        writeOffset += ENTRY_HEADER_BYTES + entry.length;
+        writeSegment.dirty = true;
+    }
+
+    private void drainEntries(final List<byte[]> entries, final int maxEntries) {
+        while (entries.size() < maxEntries) {
+            if (readSegment == writeSegment && readOffset >= writeOffset) {
+                return;
+            }
+            final byte[] entry = readEntry(readSegment, readOffset);
+            if (entry == null) {
+                if (readSegment == writeSegment) {
+                    throw new IllegalStateException(format("Invalid entry at offset %d of the active segment %s.",
+                            readOffset, readSegment.path));
+                }
+                if (readOffset + ENTRY_HEADER_BYTES <= readSegment.capacity && readSegment.buffer.getInt(readOffset) != 0) {
+                    LOG.warn("Skipping the rest of segment {} after an invalid entry at offset {}.", readSegment.path, readOffset);
+                }
+                advanceReadSegment();
+                continue;
+            }
+            entries.add(entry);
+            readOffset += ENTRY_HEADER_BYTES + entry.length;
+        }
+    }
+
+    /**
+     * Moves the read position past the zeroed tail of full segments, so that the position recorded for a batch
+     * does not keep an otherwise finished segment on disk.
+     */
+    private void skipExhaustedSegments() {
+        while (readSegment != writeSegment
+                && (readOffset + ENTRY_HEADER_BYTES > readSegment.capacity || readSegment.buffer.getInt(readOffset) == 0)) {
+            advanceReadSegment();
+        }
+    }
+
+    private void advanceReadSegment() {
+        readSegment = segments.higherEntry(readSegment.id).getValue();
+        readOffset = 0;
+    }
+
+    /**
+     * @return the payload of the entry at the offset, or null if there is no complete and valid entry there
+     */
+    private static byte[] readEntry(final Segment segment, final int offset) {
+        if (offset + ENTRY_HEADER_BYTES > segment.capacity) {
+            return null;
+        }
+        final int length = segment.buffer.getInt(offset);
+        if (length <= 0 || length > segment.capacity - offset - ENTRY_HEADER_BYTES) {
+            return null;
+        }
+        final int expectedCrc = segment.buffer.getInt(offset + 4);
+
+        final byte[] entry = new byte[length];
+        final ByteBuffer payloadBuffer = segment.buffer.duplicate();
+        payloadBuffer.position(offset + ENTRY_HEADER_BYTES);
+        payloadBuffer.get(entry);
+
+        final CRC32 crc = new CRC32();
+        crc.update(entry);
+        return (int) crc.getValue() == expectedCrc ? entry : null;
+    }
+
+    private void reclaimSegments() throws IOException {
+        boolean reclaimed = false;
+        while (segments.firstKey() < committedSegmentId) {
+            final Segment segment = segments.pollFirstEntry().getValue();
+            Files.deleteIfExists(segment.path);
+            reclaimed = true;
+        }
+        if (reclaimed) {
+            spaceAvailable.signalAll();
+        }
+    }
+
+    /**
+     * The checkpoint is replaced atomically but is not forced. Losing the latest checkpoint in a host crash only
+     * means that some entries are read again.
+     */
+    private void writeCheckpoint() throws IOException {
+        final ByteBuffer checkpoint = ByteBuffer.allocate(CHECKPOINT_BYTES);
+        checkpoint.putLong(committedSegmentId);
+        checkpoint.putInt(committedOffset);
+        final CRC32 crc = new CRC32();
+        crc.update(checkpoint.array(), 0, checkpoint.position());
+        checkpoint.putInt((int) crc.getValue());
+
+        final Path tempCheckpointPath = directory.resolve(CHECKPOINT_TEMP_FILE_NAME);
+        Files.write(tempCheckpointPath, checkpoint.array());
+        Files.move(tempCheckpointPath, directory.resolve(CHECKPOINT_FILE_NAME),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private ByteBuffer readCheckpoint() throws IOException {
+        final Path checkpointPath = directory.resolve(CHECKPOINT_FILE_NAME);
+        if (!Files.exists(checkpointPath)) {
+            return null;
+        }
+        final ByteBuffer checkpoint = ByteBuffer.wrap(Files.readAllBytes(checkpointPath));
+        if (checkpoint.remaining() == CHECKPOINT_BYTES) {
+            final CRC32 crc = new CRC32();
+            crc.update(checkpoint.array(), 0, CHECKPOINT_BYTES - 4);
+            if ((int) crc.getValue() == checkpoint.getInt(CHECKPOINT_BYTES - 4)) {
+                return checkpoint;
+            }
+        }
+        LOG.warn("Ignoring the invalid checkpoint file {}. All segments will be read again.", checkpointPath);
+        return null;
+    }
+
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+        final ByteBuffer checkpoint = readCheckpoint();
+        long startSegmentId = checkpoint == null ? 0 : checkpoint.getLong(0);
+        int startOffset = checkpoint == null ? 0 : checkpoint.getInt(8);
+
+        for (final long segmentId : listSegmentIds()) {
+            final Path path = segmentPath(segmentId);
+            if (checkpoint != null && segmentId < startSegmentId) {
+                Files.deleteIfExists(path);
+            } else {
+                segments.put(segmentId, Segment.open(path, segmentId, -1));
+            }
+        }
+
+        if (segments.isEmpty()) {
+            segments.put(startSegmentId, Segment.open(segmentPath(startSegmentId), startSegmentId, segmentSize));
+            startOffset = 0;
+        } else if (!segments.containsKey(startSegmentId)) {
+            startSegmentId = segments.firstKey();
+            startOffset = 0;
+        }
+
+        writeSegment = segments.lastEntry().getValue();
+        writeOffset = writeSegment.id == startSegmentId ? Math.min(startOffset, writeSegment.capacity) : 0;
+        byte[] entry;
+        while ((entry = readEntry(writeSegment, writeOffset)) != null) {
+            writeOffset += ENTRY_HEADER_BYTES + entry.length;
+        }
+        zeroFrom(writeSegment, writeOffset);
+
+        readSegment = segments.get(startSegmentId);
+        readOffset = Math.min(startOffset, readSegment.capacity);
+        if (readSegment == writeSegment) {
+            readOffset = Math.min(readOffset, writeOffset);
+        }
+        committedSegmentId = readSegment.id;
+        committedOffset = readOffset;
+
+        if (segments.size() > 1 || writeOffset > readOffset) {
+            LOG.info("Recovered {} disk buffer segments from {}.", segments.size(), directory);
+        }
+    }
+
+    /**
+     * Clears whatever a torn write left after the last valid entry, so it cannot be mistaken for an entry later.
+     */
+    private static void zeroFrom(final Segment segment, final int offset) {
+        final ByteBuffer tailBuffer = segment.buffer.duplicate();
+        tailBuffer.position(offset);
+        final byte[] zeros = new byte[ZERO_FILL_CHUNK_BYTES];
+        while (tailBuffer.hasRemaining()) {
+            tailBuffer.put(zeros, 0, Math.min(zeros.length, tailBuffer.remaining()));
+        }
+    }
+
+    private List<Long> listSegmentIds() throws IOException {
+        final List<Long> segmentIds = new ArrayList<>();
+        try (final DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory, "*" + SEGMENT_FILE_SUFFIX)) {
+            for (final Path path : directoryStream) {
+                final String fileName = path.getFileName().toString();
+                try {
+                    segmentIds.add(Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_FILE_SUFFIX.length())));
+                } catch (final NumberFormatException e) {
+                    LOG.warn("Ignoring unexpected file {} in the disk buffer directory.", path);
+                }
+            }
+        }
+        Collections.sort(segmentIds);
+        return segmentIds;
+    }
+
+    private Path segmentPath(final long segmentId) {
+        return directory.resolve(format("%020d%s", segmentId, SEGMENT_FILE_SUFFIX));
+    }
+
+    /**
+     * Entries read together, along with the position after the last of them.
+     */
+    static class ReadBatch {
+        private final List<byte[]> entries;
+        private final BatchPosition position;
+
+        private ReadBatch(final List<byte[]> entries, final BatchPosition position) {
+            this.entries = entries;
+            this.position = position;
+        }
+
+        List<byte[]> getEntries() {
+            return entries;
+        }
+
+        BatchPosition getPosition() {
+            return position;
+        }
+    }
+
+    /**
+     * The position after a batch, which is committed once this batch and every batch read before it are
+     * complete. It is kept apart from the entries so that they are not held in memory until then.
+     */
+    static class BatchPosition {
+        private final long endSegmentId;
+        private final int endOffset;
+        private boolean completed;
+
+        private BatchPosition(final long endSegmentId, final int endOffset) {
+            this.endSegmentId = endSegmentId;
+            this.endOffset = endOffset;
+        }
+    }
+
+    private static final class Segment {
+        private final long id;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private boolean dirty;
+
+        private Segment(final long id, final Path path, final MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.buffer = buffer;
+            this.capacity = buffer.capacity();
+        }
+
+        /**
+         * Maps the segment file. The mapping stays valid after the channel is closed and is released
+         * when the buffer is garbage collected.
+         *
+         * @param size the size of a new segment, or -1 to map an existing segment at its current size
+         */
+        private static Segment open(final Path path, final long id, final int size) throws IOException {
+            try (final FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final long mappedSize = size < 0 ? Math.min(channel.size(), Integer.MAX_VALUE) : size;
+                return new Segment(id, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize));
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A preallocated multi-producer/multi-consumer ring of slots. Each slot carries a sequence number which tells
+ * producers when the slot is free for a given lap and consumers when the slot has been published.
+ * <p>
+ * This queue does not track capacity on its own. Callers must only {@link #claim(int)} positions which they hold
+ * capacity for, so that a claimed slot is always freed by a consumer within one lap of the ring.
+ *
+ * @param <T> the type of elements held in this ring
+ */
+class MpmcRingQueue<T> {
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    MpmcRingQueue(final int minimumCapacity) {
+        if (minimumCapacity <= 0 || minimumCapacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Ring capacity must be between 1 and " + MAXIMUM_CAPACITY);
+        }
+        final int capacity = minimumCapacity == 1 ? 1 : Integer.highestOneBit(minimumCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Claims a contiguous range of positions for a single producer.
+     *
+     * @param count the number of positions to claim
+     * @return the first claimed position
+     */
+    long claim(final int count) {
+        return tail.getAndAdd(count);
+    }
+
+    /**
+     * Publishes an element into a position previously returned by {@link #claim(int)}. Waits for a consumer
+     * which is still releasing the slot from the previous lap.
+     *
+     * @param position the claimed position
+     * @param element the element to publish
+     */
+    void publish(final long position, final T element) {
+        final int index = (int) (position & mask);
+        while (sequences.get(index) != position) {
+            Thread.onSpinWait();
+        }
+        slots.lazySet(index, element);
+        sequences.set(index, position + 1);
+    }
+
+    /**
+     * Removes up to {@code maxElements} published elements from the head of the ring, in order, and adds them
+     * to the given collection. Only a contiguous run of published elements is taken.
+     *
+     * @param target the collection to add elements to
+     * @param maxElements the maximum number of elements to take
+     * @return the number of elements added
+     */
+    int drainTo(final Collection<? super T> target, final int maxElements) {
+        while (true) {
+            final long currentHead = head.get();
+            int available = 0;
+            while (available < maxElements) {
+                final long position = currentHead + available;
+                if (sequences.get((int) (position & mask)) != position + 1) {
+                    break;
+                }
+                available++;
+            }
+            if (available == 0) {
+                return 0;
+            }
+            if (head.compareAndSet(currentHead, currentHead + available)) {
+                for (int i = 0; i < available; i++) {
+                    final long position = currentHead + i;
+                    final int index = (int) (position & mask);
+                    target.add(slots.get(index));
+                    slots.lazySet(index, null);
+                    sequences.set(index, position + mask + 1);
+                }
+                return available;
+            }
+        }
+    }
+
+    /**
+     * Returns true when no position has been claimed beyond what has been consumed. Claimed positions which
+     * are not yet published count as non-empty.
+     *
+     * @return true if the ring is empty
+     */
+    boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+}
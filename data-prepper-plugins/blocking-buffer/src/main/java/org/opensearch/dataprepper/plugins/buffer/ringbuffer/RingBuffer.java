@@ -0,0 +1,235 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static org.opensearch.dataprepper.plugins.buffer.ringbuffer.RingBufferConfig.DEFAULT_BATCH_SIZE;
+import static org.opensearch.dataprepper.plugins.buffer.ringbuffer.RingBufferConfig.DEFAULT_BUFFER_CAPACITY;
+
+/**
+ * A bounded in-memory {@link Buffer} built on a preallocated multi-producer/multi-consumer ring. Capacity is
+ * tracked the same way as the {@code bounded_blocking} buffer: a slot is held from {@link #write(Record, int)}
+ * until the record is checkpointed. Writers of a batch claim all of their slots with a single atomic operation,
+ * and readers drain a contiguous run of published records per claim, so neither path takes a lock or
+ * allocates a queue node per record.
+ */
+@DataPrepperPlugin(name = "ring_buffer", pluginType = Buffer.class, pluginConfigurationType = RingBufferConfig.class)
+public class RingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(RingBuffer.class);
+    private static final String RING_BUFFER = "RingBuffer";
+    private static final String BUFFER_USAGE_METRIC = "bufferUsage";
+    public static final String CAPACITY_USED_METRIC = "capacityUsed";
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 200;
+    private static final long MAX_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+    private static final long ZERO_TIMEOUT_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final String pipelineName;
+    private final MpmcRingQueue<T> ring;
+    private final AtomicInteger availableCapacity;
+
+    /**
+     * Creates a RingBuffer with the given (fixed) capacity.
+     *
+     * @param bufferCapacity the capacity of the buffer
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param pipelineName   the name of the associated Pipeline
+     */
+    public RingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName) {
+        super(RING_BUFFER, pipelineName);
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.pipelineName = pipelineName;
+        this.ring = new MpmcRingQueue<>(bufferCapacity);
+        this.availableCapacity = new AtomicInteger(bufferCapacity);
+
+        final PluginMetrics pluginMetrics = PluginMetrics.fromNames(RING_BUFFER, pipelineName);
+
+        pluginMetrics.gauge(CAPACITY_USED_METRIC, availableCapacity, capacity -> bufferCapacity - capacity.get());
+        pluginMetrics.gauge(BUFFER_USAGE_METRIC, availableCapacity, capacity -> ((double) bufferCapacity - capacity.get()) / bufferCapacity * 100);
+    }
+
+    /**
+     * Mandatory constructor for Data Prepper Component - This constructor is used by Data Prepper runtime engine to construct an
+     * instance of {@link RingBuffer} using an instance of {@link RingBufferConfig}.
+     *
+     * @param ringBufferConfig    instance takes values from yaml
+     * @param pipelineDescription instance with metadata information about the pipeline
+     */
+    @DataPrepperPluginConstructor
+    public RingBuffer(final RingBufferConfig ringBufferConfig, final PipelineDescription pipelineDescription) {
+        this(checkNotNull(ringBufferConfig, "RingBufferConfig cannot be null").getBufferSize(),
+                ringBufferConfig.getBatchSize(),
+                pipelineDescription.getPipelineName());
+    }
+
+    public RingBuffer(final String pipelineName) {
+        this(DEFAULT_BUFFER_CAPACITY, DEFAULT_BATCH_SIZE, pipelineName);
+    }
+
+    @Override
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record, "record cannot be null");
+        try {
+            if (!acquireCapacity(1, timeoutInMillis)) {
+                throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for a slot",
+                        pipelineName));
+            }
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write the record", pipelineName, ex);
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Buffer is full, timed out waiting for a slot");
+        }
+        ring.publish(ring.claim(1), record);
+    }
+
+    @Override
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        final int size = records.size();
+        if (size > bufferCapacity) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the number of records: %d", size));
+        }
+        for (final T record : records) {
+            checkNotNull(record, "record cannot be null");
+        }
+        try {
+            if (!acquireCapacity(size, timeoutInMillis)) {
+                throw new TimeoutException(
+                        format("Pipeline [%s] - Buffer does not have enough capacity left for the number of records: %d, " +
+                                        "timed out waiting for slots.",
+                                pipelineName, size));
+            }
+        } catch (final InterruptedException ex) {
+            LOG.error("Pipeline [{}] - Buffer does not have enough capacity left for the number of records: {}, " +
+                            "interrupted while waiting to write the records",
+                    pipelineName, size, ex);
+            Thread.currentThread().interrupt();
+            throw new TimeoutException(
+                    format("Pipeline [%s] - Buffer does not have enough capacity left for the number of records: %d, " +
+                                    "timed out waiting for slots.",
+                            pipelineName, size));
+        }
+        long position = ring.claim(size);
+        for (final T record : records) {
+            ring.publish(position++, record);
+        }
+    }
+
+    /**
+     * Retrieves and removes a batch of records from the head of the ring. When the timeout is zero, this waits
+     * briefly for the first record and then returns whatever is available. Otherwise, this keeps draining until
+     * a full batch is read or the timeout elapses.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
+        final List<T> records = new ArrayList<>(batchSize);
+
+        if (timeoutInMillis == 0) {
+            drainUntil(records, 1, System.nanoTime() + ZERO_TIMEOUT_POLL_NANOS);
+            if (records.size() < batchSize) {
+                ring.drainTo(records, batchSize - records.size());
+            }
+        } else {
+            drainUntil(records, batchSize, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis));
+        }
+
+        updateLatency(records);
+        final CheckpointState checkpointState = new CheckpointState(records.size());
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        availableCapacity.addAndGet(checkpointState.getNumRecordsToBeChecked());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ring.isEmpty() && getRecordsInFlight() == 0;
+    }
+
+    private void drainUntil(final List<T> records, final int minimumRecords, final long deadlineNanos) {
+        int idleCount = 0;
+        while (records.size() < minimumRecords) {
+            if (ring.drainTo(records, batchSize - records.size()) > 0) {
+                idleCount = 0;
+                continue;
+            }
+            if (System.nanoTime() - deadlineNanos >= 0) {
+                return;
+            }
+            if (Thread.interrupted()) {
+                LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+                throw new RuntimeException(new InterruptedException());
+            }
+            idle(idleCount++, deadlineNanos);
+        }
+    }
+
+    private boolean acquireCapacity(final int count, final int timeoutInMillis) throws InterruptedException {
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        int idleCount = 0;
+        while (true) {
+            final int available = availableCapacity.get();
+            if (available >= count) {
+                if (availableCapacity.compareAndSet(available, available - count)) {
+                    return true;
+                }
+                continue;
+            }
+            if (System.nanoTime() - deadlineNanos >= 0) {
+                return false;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            idle(idleCount++, deadlineNanos);
+        }
+    }
+
+    private static void idle(final int idleCount, final long deadlineNanos) {
+        if (idleCount < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (idleCount < YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            final long remainingNanos = deadlineNanos - System.nanoTime();
+            LockSupport.parkNanos(Math.max(1L, Math.min(MAX_PARK_NANOS, remainingNanos)));
+        }
+    }
+}
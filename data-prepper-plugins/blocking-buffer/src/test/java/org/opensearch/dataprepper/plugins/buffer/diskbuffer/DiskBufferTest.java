@@ -0,0 +1,265 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DiskBufferTest {
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final long TEST_SEGMENT_SIZE = 4096;
+    private static final long TEST_MAX_DISK_SIZE = 4 * TEST_SEGMENT_SIZE;
+    private static final int TEST_BATCH_SIZE = 3;
+    private static final int TEST_WRITE_TIMEOUT = 10;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setup() {
+        Metrics.globalRegistry.getRegistries().forEach(Metrics.globalRegistry::remove);
+        Metrics.globalRegistry.getMeters().forEach(Metrics.globalRegistry::remove);
+        Metrics.addRegistry(new SimpleMeterRegistry());
+    }
+
+    private DiskBuffer createObjectUnderTest() {
+        return createObjectUnderTest(FsyncPolicy.NONE);
+    }
+
+    private DiskBuffer createObjectUnderTest(final FsyncPolicy fsyncPolicy) {
+        return new DiskBuffer(directory, TEST_SEGMENT_SIZE, TEST_MAX_DISK_SIZE, TEST_BATCH_SIZE,
+                fsyncPolicy, Duration.ofMillis(10), TEST_PIPELINE_NAME);
+    }
+
+    @Test
+    void constructor_with_config_creates_buffer_in_pipeline_directory() throws Exception {
+        final DiskBufferConfig config = new ObjectMapper().readValue(
+                "{\"path\": \"" + directory.toString().replace("\\", "\\\\") + "\", \"fsync_policy\": \"none\"}", DiskBufferConfig.class);
+        final PipelineDescription pipelineDescription = mock(PipelineDescription.class);
+        when(pipelineDescription.getPipelineName()).thenReturn(TEST_PIPELINE_NAME);
+
+        final DiskBuffer objectUnderTest = new DiskBuffer(config, pipelineDescription);
+
+        assertTrue(Files.isDirectory(directory.resolve(TEST_PIPELINE_NAME)));
+        assertTrue(objectUnderTest.isEmpty());
+        assertThat(config.getBatchSize(), equalTo(DiskBufferConfig.DEFAULT_BATCH_SIZE));
+        assertThat(config.getFsyncPolicy(), equalTo(FsyncPolicy.NONE));
+        assertThat(config.getFsyncInterval(), equalTo(DiskBufferConfig.DEFAULT_FSYNC_INTERVAL));
+        assertThat(config.getSegmentSize().getBytes(), equalTo(64L * 1024 * 1024));
+        assertThat(config.getMaxDiskSize().getBytes(), equalTo(1024L * 1024 * 1024));
+    }
+
+    @Test
+    void constructor_with_max_disk_size_smaller_than_two_segments_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new DiskBuffer(directory, TEST_SEGMENT_SIZE, TEST_SEGMENT_SIZE,
+                TEST_BATCH_SIZE, FsyncPolicy.NONE, Duration.ofSeconds(1), TEST_PIPELINE_NAME));
+    }
+
+    @Test
+    void isWrittenOffHeapOnly_returns_true() {
+        assertTrue(createObjectUnderTest().isWrittenOffHeapOnly());
+    }
+
+    @Test
+    void read_returns_written_events_with_their_metadata() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        final Instant timeReceived = Instant.ofEpochSecond(1_700_000_000L, 42);
+        final Event event = JacksonEvent.builder()
+                .withData(Map.of("message", "hello é", "count", 3))
+                .withEventMetadata(DefaultEventMetadata.builder()
+                        .withEventType("LOG")
+                        .withTimeReceived(timeReceived)
+                        .withAttributes(Map.of("attributeKey", "attributeValue"))
+                        .withTags(Set.of("tag1"))
+                        .build())
+                .build();
+
+        objectUnderTest.write(new Record<>(event), TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = objectUnderTest.read(0);
+
+        assertThat(readResult.getKey().size(), equalTo(1));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), equalTo(1));
+        final Event readEvent = readResult.getKey().iterator().next().getData();
+        assertThat(readEvent.toMap(), equalTo(event.toMap()));
+        assertThat(readEvent.getMetadata().getEventType(), equalTo("LOG"));
+        assertThat(readEvent.getMetadata().getTimeReceived(), equalTo(timeReceived));
+        assertThat(readEvent.getMetadata().getAttributes(), equalTo(Map.of("attributeKey", "attributeValue")));
+        assertThat(readEvent.getMetadata().getTags(), equalTo(Set.of("tag1")));
+    }
+
+    @Test
+    void read_returns_trace_events_as_spans() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        final Span span = JacksonSpan.builder()
+                .withTraceId(UUID.randomUUID().toString())
+                .withTraceGroup(UUID.randomUUID().toString())
+                .withSpanId(UUID.randomUUID().toString())
+                .withName(UUID.randomUUID().toString())
+                .withKind(UUID.randomUUID().toString())
+                .withStartTime(Instant.now().toString())
+                .withEndTime(Instant.now().toString())
+                .withDurationInNanos(100L)
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().build())
+                .build();
+
+        objectUnderTest.write(new Record<>(span), TEST_WRITE_TIMEOUT);
+
+        final Event readEvent = objectUnderTest.read(0).getKey().iterator().next().getData();
+        assertThat(readEvent, instanceOf(Span.class));
+        assertThat(((Span) readEvent).getSpanId(), equalTo(span.getSpanId()));
+    }
+
+    @Test
+    void write_releases_the_event_handles() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        final EventHandle eventHandle = mock(EventHandle.class);
+        final Event event = JacksonEvent.builder()
+                .withEventType("LOG")
+                .withData(Map.of("key", "value"))
+                .withEventHandle(eventHandle)
+                .build();
+
+        objectUnderTest.writeAll(List.of(new Record<>(event)), TEST_WRITE_TIMEOUT);
+
+        verify(eventHandle).release(true);
+    }
+
+    @Test
+    void read_returns_batches_of_at_most_batch_size() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        objectUnderTest.writeAll(createRecords(5), TEST_WRITE_TIMEOUT);
+
+        assertThat(objectUnderTest.read(0).getKey().size(), equalTo(TEST_BATCH_SIZE));
+        assertThat(objectUnderTest.read(0).getKey().size(), equalTo(2));
+        assertThat(objectUnderTest.read(0).getKey(), empty());
+    }
+
+    @Test
+    void isEmpty_is_false_until_read_records_are_checkpointed() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        assertTrue(objectUnderTest.isEmpty());
+
+        objectUnderTest.writeAll(createRecords(2), TEST_WRITE_TIMEOUT);
+        assertFalse(objectUnderTest.isEmpty());
+
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = objectUnderTest.read(0);
+        assertFalse(objectUnderTest.isEmpty());
+
+        objectUnderTest.checkpoint(readResult.getValue());
+        assertTrue(objectUnderTest.isEmpty());
+    }
+
+    @Test
+    void records_which_were_not_checkpointed_are_replayed_after_restart() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest(FsyncPolicy.ALWAYS);
+        final List<Record<Event>> records = createRecords(5);
+        objectUnderTest.writeAll(records, TEST_WRITE_TIMEOUT);
+        objectUnderTest.checkpoint(objectUnderTest.read(0).getValue());
+        objectUnderTest.read(0);
+        objectUnderTest.shutdown();
+
+        final DiskBuffer restartedBuffer = createObjectUnderTest(FsyncPolicy.ALWAYS);
+        final Collection<Record<Event>> replayedRecords = restartedBuffer.read(0).getKey();
+
+        assertThat(toMessages(replayedRecords), equalTo(toMessages(records.subList(TEST_BATCH_SIZE, 5))));
+    }
+
+    @Test
+    void interval_fsync_policy_writes_and_reads_records() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest(FsyncPolicy.INTERVAL);
+        try {
+            objectUnderTest.writeAll(createRecords(2), TEST_WRITE_TIMEOUT);
+            assertThat(objectUnderTest.read(0).getKey().size(), equalTo(2));
+        } finally {
+            objectUnderTest.shutdown();
+        }
+    }
+
+    @Test
+    void writeAll_with_record_larger_than_a_segment_throws() {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        final Event event = JacksonEvent.builder()
+                .withEventType("LOG")
+                .withData(Map.of("message", "a".repeat((int) TEST_SEGMENT_SIZE)))
+                .build();
+
+        assertThrows(SizeOverflowException.class, () -> objectUnderTest.writeAll(List.of(new Record<>(event)), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void write_times_out_when_the_disk_is_full() throws Exception {
+        final DiskBuffer objectUnderTest = createObjectUnderTest();
+        final Event event = JacksonEvent.builder()
+                .withEventType("LOG")
+                .withData(Map.of("message", "a".repeat((int) TEST_SEGMENT_SIZE / 2)))
+                .build();
+        for (int i = 0; i < TEST_MAX_DISK_SIZE / TEST_SEGMENT_SIZE; i++) {
+            objectUnderTest.write(new Record<>(event), TEST_WRITE_TIMEOUT);
+        }
+
+        assertThrows(TimeoutException.class, () -> objectUnderTest.write(new Record<>(event), TEST_WRITE_TIMEOUT));
+    }
+
+    private static List<Record<Event>> createRecords(final int count) {
+        final List<Record<Event>> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            records.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("LOG")
+                    .withData(Map.of("message", UUID.randomUUID().toString()))
+                    .build()));
+        }
+        return records;
+    }
+
+    private static List<String> toMessages(final Collection<Record<Event>> records) {
+        return records.stream()
+                .map(record -> record.getData().get("message", String.class))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentLogTest {
+    private static final int SEGMENT_SIZE = 64;
+    private static final int MAX_SEGMENTS = 3;
+
+    @TempDir
+    Path directory;
+
+    private SegmentLog createObjectUnderTest() throws IOException {
+        return new SegmentLog(directory, SEGMENT_SIZE, MAX_SEGMENTS, false);
+    }
+
+    @Test
+    void constructor_with_invalid_sizes_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new SegmentLog(directory, SegmentLog.ENTRY_HEADER_BYTES, MAX_SEGMENTS, false));
+        assertThrows(IllegalArgumentException.class, () -> new SegmentLog(directory, SEGMENT_SIZE, 1, false));
+    }
+
+    @Test
+    void read_returns_appended_entries_in_order() throws Exception {
+        final SegmentLog objectUnderTest = createObjectUnderTest();
+        objectUnderTest.append(entries("a", "bb", "ccc"), 0);
+
+        final SegmentLog.ReadBatch readBatch = objectUnderTest.read(10, 0);
+
+        assertThat(toStrings(readBatch), equalTo(List.of("a", "bb", "ccc")));
+        assertFalse(objectUnderTest.isEmpty());
+        objectUnderTest.complete(readBatch.getPosition());
+        assertTrue(objectUnderTest.isEmpty());
+    }
+
+    @Test
+    void read_returns_at_most_maxEntries() throws Exception {
+        final SegmentLog objectUnderTest = createObjectUnderTest();
+        objectUnderTest.append(entries("a", "b", "c"), 0);
+
+        assertThat(toStrings(objectUnderTest.read(2, 0)), equalTo(List.of("a", "b")));
+        assertThat(toStrings(objectUnderTest.read(2, 0)), equalTo(List.of("c")));
+    }
+
+    @Test
+    void read_with_no_entries_returns_empty_batch_after_timeout() throws Exception {
+        final SegmentLog objectUnderTest = createObjectUnderTest();
+
+        final long startNanos = System.nanoTime();
+        final SegmentLog.ReadBatch readBatch = objectUnderTest.read(10, 50);
+
+        assertThat(readBatch.getEntries(), empty());
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), greaterThan(40L));
+        assertTrue(objectUnderTest.isEmpty());
+    }
+
+    @Test
+    void entries_roll_over_to_new_segments_which_are_reclaimed_when_complete() throws Exception {
+        final SegmentLog objectUnderTest = createObjectUnderTest();
+        objectUnderTest.append(entries(repeat('a', 40), repeat('b', 40), repeat('c', 40)), 0);
+        assertThat(objectUnderTest.getSegmentCount(), equalTo(3));
+        assertThat(objectUnderTest.getDiskUsageBytes(), equalTo(3L * SEGMENT_SIZE));
+
+        final SegmentLog.ReadBatch readBatch = objectUnderTest.read(2, 0);
+        assertThat(toStrings(readBatch), equalTo(List.of(repeat('a', 40), repeat('b', 40))));
+        objectUnderTest.complete(readBatch.getPosition());
+
+        assertThat(objectUnderTest.getSegmentCount(), equalTo(1));
+        assertThat(segmentFiles().size(), equalTo(1));
+        assertThat(toStrings(objectUnderTest.read(2, 0)), equalTo(List.of(repeat('c', 40))));
+    }
+
+    @Test
+    void append_times_out_when_no_segment_can_be_reclaimed() throws Exception {
+        final SegmentLog objectUnderTest = createObjectUnderTest();
+        objectUnderTest.append(entries(repeat('a', 40), repeat('b', 40), repeat('c', 40)), 0);
+
+        assertThrows(TimeoutException.class, () -> objectUnderTest.append(entries(repeat('d', 40)), 20));
+    }
+
+    @Test
+    void append_waits_for_segments_to_be_reclaimed() throws Exception {
+        final SegmentLog objectUnderTest = createObjectUnderTest();
+        objectUnderTest.append(entries(repeat('a', 40), repeat('b', 40), repeat('c', 40)), 0);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> append = executorService.submit(() -> {
+                objectUnderTest.append(entries(repeat('d', 40)), 5_000);
+                return null;
+            });
+            assertThrows(TimeoutException.class, () -> append.get(100, TimeUnit.MILLISECONDS));
+
+            objectUnderTest.complete(objectUnderTest.read(1, 0).getPosition());
+
+            append.get(5, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(toStrings(objectUnderTest.read(10, 0)), equalTo(List.of(repeat('b', 40), repeat('c', 40), repeat('d', 40))));
+    }
+
+    @Test
+    void append_with_entry_larger_than_a_segment_throws() throws Exception {
+        final SegmentLog objectUnderTest = createObjectUnderTest();
+
+        assertThrows(SizeOverflowException.class,
+                () -> objectUnderTest.append(entries(repeat('a', SEGMENT_SIZE - SegmentLog.ENTRY_HEADER_BYTES + 1)), 0));
+    }
+
+    @Test
+    void append_with_more_entries_than_the_log_can_hold_writes_nothing() throws Exception {
+        final SegmentLog objectUnderTest = createObjectUnderTest();
+
+        assertThrows(SizeOverflowException.class,
+                () -> objectUnderTest.append(entries(repeat('a', 40), repeat('b', 40), repeat('c', 40), repeat('d', 40)), 0));
+
+        assertTrue(objectUnderTest.isEmpty());
+    }
+
+    @Test
+    void entries_which_were_not_completed_are_read_again_after_reopening() throws Exception {
+        final SegmentLog objectUnderTest = createObjectUnderTest();
+        objectUnderTest.append(entries("a", "b", "c", "d"), 0);
+        objectUnderTest.complete(objectUnderTest.read(1, 0).getPosition());
+        objectUnderTest.read(2, 0);
+
+        final SegmentLog reopenedLog = createObjectUnderTest();
+
+        assertThat(toStrings(reopenedLog.read(10, 0)), equalTo(List.of("b", "c", "d")));
+    }
+
+    @Test
+    void complete_commits_only_up_to_the_oldest_incomplete_batch() throws Exception {
+        final SegmentLog objectUnderTest = createObjectUnderTest();
+        objectUnderTest.append(entries("a", "b", "c"), 0);
+        final SegmentLog.ReadBatch firstBatch = objectUnderTest.read(1, 0);
+        final SegmentLog.ReadBatch secondBatch = objectUnderTest.read(1, 0);
+        final SegmentLog.ReadBatch thirdBatch = objectUnderTest.read(1, 0);
+
+        objectUnderTest.complete(secondBatch.getPosition());
+        assertThat(toStrings(createObjectUnderTest().read(10, 0)), equalTo(List.of("a", "b", "c")));
+
+        objectUnderTest.complete(firstBatch.getPosition());
+        assertThat(toStrings(createObjectUnderTest().read(10, 0)), equalTo(List.of("c")));
+
+        objectUnderTest.complete(thirdBatch.getPosition());
+        assertTrue(createObjectUnderTest().isEmpty());
+    }
+
+    @Test
+    void reopening_appends_after_the_last_valid_entry() throws Exception {
+        createObjectUnderTest().append(entries("a", "b"), 0);
+        final Path segmentFile = segmentFiles().get(0);
+        final byte[] bytes = Files.readAllBytes(segmentFile);
+        final int tornEntryOffset = 2 * (SegmentLog.ENTRY_HEADER_BYTES + 1);
+        bytes[tornEntryOffset] = 0;
+        bytes[tornEntryOffset + 3] = 5;
+        bytes[tornEntryOffset + SegmentLog.ENTRY_HEADER_BYTES] = 'x';
+        Files.write(segmentFile, bytes, StandardOpenOption.TRUNCATE_EXISTING);
+
+        final SegmentLog reopenedLog = createObjectUnderTest();
+        reopenedLog.append(entries("c"), 0);
+
+        assertThat(toStrings(reopenedLog.read(10, 0)), equalTo(List.of("a", "b", "c")));
+    }
+
+    @Test
+    void reopening_with_an_invalid_checkpoint_reads_every_segment() throws Exception {
+        final SegmentLog objectUnderTest = createObjectUnderTest();
+        objectUnderTest.append(entries("a", "b"), 0);
+        objectUnderTest.complete(objectUnderTest.read(1, 0).getPosition());
+        Files.write(directory.resolve(SegmentLog.CHECKPOINT_FILE_NAME), new byte[] {1, 2, 3});
+
+        assertThat(toStrings(createObjectUnderTest().read(10, 0)), equalTo(List.of("a", "b")));
+    }
+
+    @Test
+    void sync_forces_without_changing_the_entries() throws Exception {
+        final SegmentLog objectUnderTest = new SegmentLog(directory, SEGMENT_SIZE, MAX_SEGMENTS, true);
+        objectUnderTest.append(entries("a"), 0);
+        objectUnderTest.sync();
+
+        assertThat(toStrings(objectUnderTest.read(10, 0)), equalTo(List.of("a")));
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(SegmentLog.SEGMENT_FILE_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static List<byte[]> entries(final String... values) {
+        final List<byte[]> entries = new ArrayList<>();
+        for (final String value : values) {
+            entries.add(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return entries;
+    }
+
+    private static List<String> toStrings(final SegmentLog.ReadBatch readBatch) {
+        return readBatch.getEntries().stream()
+                .map(entry -> new String(entry, StandardCharsets.UTF_8))
+                .collect(Collectors.toList());
+    }
+
+    private static String repeat(final char character, final int count) {
+        return IntStream.range(0, count).mapToObj(i -> String.valueOf(character)).collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MpmcRingQueueTest {
+
+    @ParameterizedTest
+    @CsvSource({"1,1", "2,2", "3,4", "13,16", "16,16", "12800,16384"})
+    void capacity_is_rounded_up_to_power_of_two(final int requested, final int expected) {
+        assertThat(new MpmcRingQueue<String>(requested).capacity(), equalTo(expected));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_rejects_invalid_capacity(final int requested) {
+        assertThrows(IllegalArgumentException.class, () -> new MpmcRingQueue<String>(requested));
+    }
+
+    @Test
+    void drainTo_only_returns_contiguous_published_elements() {
+        final MpmcRingQueue<String> objectUnderTest = new MpmcRingQueue<>(4);
+        final long first = objectUnderTest.claim(3);
+        objectUnderTest.publish(first, "a");
+        objectUnderTest.publish(first + 2, "c");
+
+        final List<String> drained = new ArrayList<>();
+        assertThat(objectUnderTest.drainTo(drained, 4), equalTo(1));
+        assertThat(drained, contains("a"));
+        assertFalse(objectUnderTest.isEmpty());
+
+        objectUnderTest.publish(first + 1, "b");
+        assertThat(objectUnderTest.drainTo(drained, 4), equalTo(2));
+        assertThat(drained, contains("a", "b", "c"));
+        assertTrue(objectUnderTest.isEmpty());
+    }
+
+    @Test
+    void slots_are_reused_across_laps() {
+        final MpmcRingQueue<Integer> objectUnderTest = new MpmcRingQueue<>(2);
+        final List<Integer> drained = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            objectUnderTest.publish(objectUnderTest.claim(1), i);
+            assertThat(objectUnderTest.drainTo(drained, 1), equalTo(1));
+        }
+        assertThat(drained.size(), equalTo(10));
+        assertThat(drained.get(9), equalTo(9));
+        assertThat(objectUnderTest.drainTo(new ArrayList<>(), 1), equalTo(0));
+    }
+}
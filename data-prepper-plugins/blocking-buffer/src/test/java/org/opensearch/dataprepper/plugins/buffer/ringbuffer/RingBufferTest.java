@@ -0,0 +1,242 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.metrics.MetricNames;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RingBufferTest {
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final String PLUGIN_NAME = "RingBuffer";
+    private static final int TEST_BATCH_SIZE = 3;
+    private static final int TEST_BUFFER_SIZE = 13;
+    private static final int TEST_WRITE_TIMEOUT = 10;
+    private static final int TEST_BATCH_READ_TIMEOUT = 500;
+
+    @BeforeEach
+    void setup() {
+        Metrics.globalRegistry.getRegistries().forEach(Metrics.globalRegistry::remove);
+        Metrics.globalRegistry.getMeters().forEach(Metrics.globalRegistry::remove);
+        Metrics.addRegistry(new SimpleMeterRegistry());
+    }
+
+    private RingBuffer<Record<String>> createObjectUnderTest(final int bufferSize) {
+        return new RingBuffer<>(bufferSize, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+    }
+
+    @Test
+    void constructor_with_default_config_creates_buffer() throws Exception {
+        final RingBufferConfig config = new ObjectMapper().readValue("{}", RingBufferConfig.class);
+        final PipelineDescription pipelineDescription = mock(PipelineDescription.class);
+        when(pipelineDescription.getPipelineName()).thenReturn(TEST_PIPELINE_NAME);
+
+        assertThat(new RingBuffer<Record<String>>(config, pipelineDescription), notNullValue());
+        assertThat(config.getBufferSize(), equalTo(RingBufferConfig.DEFAULT_BUFFER_CAPACITY));
+        assertThat(config.getBatchSize(), equalTo(RingBufferConfig.DEFAULT_BATCH_SIZE));
+    }
+
+    @Test
+    void constructor_with_null_config_throws() {
+        final PipelineDescription pipelineDescription = mock(PipelineDescription.class);
+        final NullPointerException exception = assertThrows(NullPointerException.class,
+                () -> new RingBuffer<Record<String>>(null, pipelineDescription));
+        assertThat(exception.getMessage(), equalTo("RingBufferConfig cannot be null"));
+    }
+
+    @Test
+    void write_null_throws() {
+        final RingBuffer<Record<String>> objectUnderTest = createObjectUnderTest(TEST_BUFFER_SIZE);
+        assertThrows(NullPointerException.class, () -> objectUnderTest.write(null, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void writeAll_larger_than_capacity_throws_SizeOverflowException() {
+        final RingBuffer<Record<String>> objectUnderTest = createObjectUnderTest(TEST_BUFFER_SIZE);
+        final Collection<Record<String>> testRecords = generateBatchRecords(TEST_BUFFER_SIZE + 1);
+        assertThrows(SizeOverflowException.class, () -> objectUnderTest.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+        verifyBufferUsageMetric(0.0);
+    }
+
+    @Test
+    void write_when_full_times_out() throws TimeoutException {
+        final RingBuffer<Record<String>> objectUnderTest = createObjectUnderTest(1);
+        objectUnderTest.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        assertThrows(TimeoutException.class, () -> objectUnderTest.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+        assertThrows(TimeoutException.class,
+                () -> objectUnderTest.writeAll(Collections.singletonList(new Record<>("TIMEOUT")), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void capacity_is_held_until_checkpoint() throws Exception {
+        final RingBuffer<Record<String>> objectUnderTest = createObjectUnderTest(2);
+        objectUnderTest.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+        verifyBufferUsageMetric(100.0);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = objectUnderTest.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getKey().size(), equalTo(2));
+        verifyBufferUsageMetric(100.0);
+        assertThrows(TimeoutException.class, () -> objectUnderTest.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+
+        objectUnderTest.checkpoint(readResult.getValue());
+        verifyBufferUsageMetric(0.0);
+
+        objectUnderTest.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+        assertThat(objectUnderTest.read(TEST_BATCH_READ_TIMEOUT).getKey().size(), equalTo(2));
+    }
+
+    @Test
+    void read_empty_buffer_returns_empty_batch() {
+        final RingBuffer<Record<String>> objectUnderTest = createObjectUnderTest(TEST_BUFFER_SIZE);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = objectUnderTest.read(TEST_WRITE_TIMEOUT);
+        assertThat(readResult.getKey().size(), is(0));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), is(0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, TEST_BATCH_READ_TIMEOUT})
+    void read_returns_records_in_write_order_in_batches(final int readTimeout) throws Exception {
+        final RingBuffer<Record<String>> objectUnderTest = createObjectUnderTest(TEST_BUFFER_SIZE);
+        final int testSize = 5;
+        for (int i = 0; i < testSize; i++) {
+            objectUnderTest.write(new Record<>("TEST" + i), TEST_WRITE_TIMEOUT);
+        }
+        verifyBufferUsageMetric(38.46153846153847);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> partialReadResult = objectUnderTest.read(readTimeout);
+        assertThat(partialReadResult.getKey().size(), is(TEST_BATCH_SIZE));
+        assertThat(partialReadResult.getValue().getNumRecordsToBeChecked(), is(TEST_BATCH_SIZE));
+        objectUnderTest.checkpoint(partialReadResult.getValue());
+        verifyBufferUsageMetric(15.384615384615385);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> finalReadResult = objectUnderTest.read(readTimeout);
+        assertThat(finalReadResult.getKey().size(), is(testSize - TEST_BATCH_SIZE));
+
+        final List<Record<String>> allRecords = new ArrayList<>(partialReadResult.getKey());
+        allRecords.addAll(finalReadResult.getKey());
+        for (int i = 0; i < testSize; i++) {
+            assertThat(allRecords.get(i).getData(), equalTo("TEST" + i));
+        }
+        objectUnderTest.checkpoint(finalReadResult.getValue());
+        verifyBufferUsageMetric(0.0);
+    }
+
+    @Test
+    void isEmpty_reflects_unread_and_in_flight_records() throws Exception {
+        final RingBuffer<Record<String>> objectUnderTest = createObjectUnderTest(TEST_BUFFER_SIZE);
+        assertTrue(objectUnderTest.isEmpty());
+
+        objectUnderTest.write(new Record<>("TEST"), TEST_WRITE_TIMEOUT);
+        assertFalse(objectUnderTest.isEmpty());
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = objectUnderTest.read(TEST_WRITE_TIMEOUT);
+        assertFalse(objectUnderTest.isEmpty());
+
+        objectUnderTest.checkpoint(readResult.getValue());
+        assertTrue(objectUnderTest.isEmpty());
+    }
+
+    @Test
+    void concurrent_writers_and_readers_deliver_every_record_once() throws Exception {
+        final int writerCount = 4;
+        final int recordsPerWriter = 5_000;
+        final RingBuffer<Record<String>> objectUnderTest = new RingBuffer<>(64, 16, TEST_PIPELINE_NAME);
+        final ExecutorService executorService = Executors.newFixedThreadPool(writerCount);
+        final List<Future<?>> writers = new ArrayList<>();
+        for (int w = 0; w < writerCount; w++) {
+            final int writer = w;
+            writers.add(executorService.submit(() -> {
+                for (int i = 0; i < recordsPerWriter; i += 2) {
+                    final List<Record<String>> batch = List.of(
+                            new Record<>(writer + "-" + i), new Record<>(writer + "-" + (i + 1)));
+                    while (true) {
+                        try {
+                            objectUnderTest.writeAll(batch, TEST_BATCH_READ_TIMEOUT);
+                            break;
+                        } catch (final TimeoutException e) {
+                            // retry until the reader frees capacity
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+
+        final Set<String> received = new HashSet<>();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received.size() < writerCount * recordsPerWriter && System.nanoTime() < deadline) {
+            final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = objectUnderTest.read(TEST_WRITE_TIMEOUT);
+            for (final Record<String> record : readResult.getKey()) {
+                assertTrue(received.add(record.getData()));
+            }
+            objectUnderTest.checkpoint(readResult.getValue());
+        }
+        for (final Future<?> writer : writers) {
+            writer.get(1, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        assertThat(received.size(), equalTo(writerCount * recordsPerWriter));
+        assertTrue(objectUnderTest.isEmpty());
+    }
+
+    private Collection<Record<String>> generateBatchRecords(final int numRecords) {
+        final Collection<Record<String>> results = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            results.add(new Record<>(UUID.randomUUID().toString()));
+        }
+        return results;
+    }
+
+    private void verifyBufferUsageMetric(final double expectedBufferUsage) {
+        final Gauge bufferUsage = Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                .add(TEST_PIPELINE_NAME).add(PLUGIN_NAME)
+                .add("bufferUsage").toString()).gauge();
+
+        assertThat(bufferUsage, is(notNullValue()));
+        assertThat(bufferUsage.value(), is(expectedBufferUsage));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.common.regex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+/**
+ * Compares running every pattern in turn against {@link MultiPatternMatcher} for pattern sets shaped like
+ * translate regex mappings, grok match lists and obfuscate rules.
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 5, time = 10)
+public class MultiPatternMatcherBenchmark {
+    private static final String[] SERVICES = {"checkout", "payments", "inventory", "search", "auth", "shipping", "catalog", "cart"};
+    private static final String[] MESSAGES = {"connection timed out", "request completed", "disk usage above threshold",
+            "user login failed", "cache miss", "retrying request", "circuit breaker opened", "token expired"};
+
+    @Param({"10", "100", "500"})
+    private int patternCount;
+
+    @Param({"log_rules", "http_routes", "pii"})
+    private String patternSet;
+
+    private List<Pattern> patterns;
+    private MultiPatternMatcher multiPatternMatcher;
+    private String[] inputs;
+
+    @Setup
+    public void setUp() {
+        patterns = new ArrayList<>(patternCount);
+        final Random random = new Random(42);
+        for (int index = 0; index < patternCount; index++) {
+            patterns.add(Pattern.compile(createRegex(index)));
+        }
+        multiPatternMatcher = MultiPatternMatcher.compile(patterns);
+
+        inputs = new String[256];
+        for (int index = 0; index < inputs.length; index++) {
+            inputs[index] = createInput(random);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void find_sequential(final Blackhole blackhole) {
+        for (final String input : inputs) {
+            int found = -1;
+            for (int index = 0; index < patterns.size(); index++) {
+                if (patterns.get(index).matcher(input).find()) {
+                    found = index;
+                    break;
+                }
+            }
+            blackhole.consume(found);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void find_multi_pattern(final Blackhole blackhole) {
+        for (final String input : inputs) {
+            blackhole.consume(multiPatternMatcher.find(input));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void matches_sequential(final Blackhole blackhole) {
+        for (final String input : inputs) {
+            int matched = -1;
+            for (int index = 0; index < patterns.size(); index++) {
+                if (patterns.get(index).matcher(input).matches()) {
+                    matched = index;
+                    break;
+                }
+            }
+            blackhole.consume(matched);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void matches_multi_pattern(final Blackhole blackhole) {
+        for (final String input : inputs) {
+            blackhole.consume(multiPatternMatcher.matchingIndex(input));
+        }
+    }
+
+    private String createRegex(final int index) {
+        final String service = SERVICES[index % SERVICES.length];
+        final String message = MESSAGES[(index / SERVICES.length) % MESSAGES.length];
+        switch (patternSet) {
+            case "log_rules":
+                return "^\\S+ (ERROR|WARN) \\[" + service + "-" + index + "\\] .*" + message + ".*$";
+            case "http_routes":
+                return "^(GET|POST|PUT) /api/v[0-9]+/" + service + "/r" + index + "(/[0-9]+)?(\\?.*)?$";
+            default:
+                // Most PII rules have no literal, so they are always candidates
+                return index % 4 == 0 ? "\\b\\d{3}-\\d{2}-\\d{4}\\b" : "[A-Za-z0-9._%+-]+@" + service + index + "\\.example\\.com";
+        }
+    }
+
+    private String createInput(final Random random) {
+        final int index = random.nextInt(patternCount * 2);
+        final String service = SERVICES[index % SERVICES.length];
+        final String message = MESSAGES[(index / SERVICES.length) % MESSAGES.length];
+        switch (patternSet) {
+            case "log_rules":
+                return "2024-06-01T12:00:00Z ERROR [" + service + "-" + index + "] request " + random.nextInt(10000) + " " + message + " after 30s";
+            case "http_routes":
+                return "GET /api/v2/" + service + "/r" + index + "/" + random.nextInt(10000) + "?page=2";
+            default:
+                return "Order " + random.nextInt(10000) + " placed by someone@" + service + index + ".example.com from " + service;
+        }
+    }
+}
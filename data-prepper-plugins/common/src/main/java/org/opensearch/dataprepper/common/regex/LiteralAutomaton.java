@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.common.regex;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Queue;
+
+/**
+ * An Aho-Corasick automaton which finds which of a set of literals occur in an input with a single
+ * pass over it.
+ */
+final class LiteralAutomaton {
+    private final Node root = new Node();
+
+    /**
+     * @param literals the literals, indexed by the pattern they belong to; null entries are ignored
+     */
+    LiteralAutomaton(final String[] literals) {
+        for (int patternIndex = 0; patternIndex < literals.length; patternIndex++) {
+            if (literals[patternIndex] != null) {
+                addLiteral(literals[patternIndex], patternIndex);
+            }
+        }
+        linkFailures();
+    }
+
+    /**
+     * Sets the bit of every pattern whose literal occurs in the input.
+     */
+    void addMatches(final CharSequence input, final BitSet matches) {
+        Node node = root;
+        for (int index = 0; index < input.length(); index++) {
+            final char character = input.charAt(index);
+            Node child = node.child(character);
+            while (child == null && node != root) {
+                node = node.failure;
+                child = node.child(character);
+            }
+            node = child != null ? child : root;
+
+            for (Node output = node.patternIndexes.length > 0 ? node : node.dictionary; output != null; output = output.dictionary) {
+                for (final int patternIndex : output.patternIndexes) {
+                    matches.set(patternIndex);
+                }
+            }
+        }
+    }
+
+    private void addLiteral(final String literal, final int patternIndex) {
+        Node node = root;
+        for (int index = 0; index < literal.length(); index++) {
+            node = node.addChild(literal.charAt(index));
+        }
+        node.patternIndexes = Arrays.copyOf(node.patternIndexes, node.patternIndexes.length + 1);
+        node.patternIndexes[node.patternIndexes.length - 1] = patternIndex;
+    }
+
+    private void linkFailures() {
+        final Queue<Node> queue = new ArrayDeque<>();
+        for (final Node child : root.children) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final Node node = queue.remove();
+            for (int childIndex = 0; childIndex < node.children.length; childIndex++) {
+                final char character = node.characters[childIndex];
+                final Node child = node.children[childIndex];
+
+                Node failure = node.failure;
+                while (failure.child(character) == null && failure != root) {
+                    failure = failure.failure;
+                }
+                final Node failureChild = failure.child(character);
+                child.failure = failureChild != null ? failureChild : root;
+                child.dictionary = child.failure.patternIndexes.length > 0 ? child.failure : child.failure.dictionary;
+                queue.add(child);
+            }
+        }
+    }
+
+    private static final class Node {
+        private static final int[] NO_PATTERNS = new int[0];
+
+        private char[] characters = new char[0];
+        private Node[] children = new Node[0];
+        private int[] patternIndexes = NO_PATTERNS;
+        private Node failure;
+        /**
+         * The nearest node on the failure chain which ends a literal.
+         */
+        private Node dictionary;
+
+        Node child(final char character) {
+            final int position = Arrays.binarySearch(characters, character);
+            return position >= 0 ? children[position] : null;
+        }
+
+        Node addChild(final char character) {
+            final int position = Arrays.binarySearch(characters, character);
+            if (position >= 0) {
+                return children[position];
+            }
+            final int insertion = -position - 1;
+            final Node child = new Node();
+
+            final char[] newCharacters = new char[characters.length + 1];
+            System.arraycopy(characters, 0, newCharacters, 0, insertion);
+            newCharacters[insertion] = character;
+            System.arraycopy(characters, insertion, newCharacters, insertion + 1, characters.length - insertion);
+
+            final Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, insertion);
+            newChildren[insertion] = child;
+            System.arraycopy(children, insertion, newChildren, insertion + 1, children.length - insertion);
+
+            characters = newCharacters;
+            children = newChildren;
+            return child;
+        }
+    }
+}
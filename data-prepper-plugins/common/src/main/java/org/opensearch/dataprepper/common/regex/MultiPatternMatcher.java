@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.common.regex;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Narrows down which of many regular expressions can match a value, so processors with large pattern
+ * lists only run {@link java.util.regex} on the few patterns which might match.
+ * <p>
+ * For each pattern a literal which every match must contain is extracted when possible. All of the
+ * literals are searched for with one pass over the value, and patterns whose literal is absent are
+ * not candidates. Patterns without such a literal are always candidates. Candidates are reported by
+ * their index in the configured list, so callers keep their configured order and semantics.
+ * <p>
+ * Instances are immutable and may be shared between threads.
+ */
+public final class MultiPatternMatcher {
+    private final List<Pattern> patterns;
+    private final String[] requiredLiterals;
+    private final BitSet alwaysCandidates;
+    private final LiteralAutomaton literalAutomaton;
+
+    private MultiPatternMatcher(final List<Pattern> patterns) {
+        this.patterns = List.copyOf(patterns);
+        this.requiredLiterals = new String[this.patterns.size()];
+        this.alwaysCandidates = new BitSet(this.patterns.size());
+
+        boolean hasRequiredLiterals = false;
+        for (int index = 0; index < requiredLiterals.length; index++) {
+            requiredLiterals[index] = RequiredLiteralExtractor.extract(this.patterns.get(index));
+            if (requiredLiterals[index] == null) {
+                alwaysCandidates.set(index);
+            } else {
+                hasRequiredLiterals = true;
+            }
+        }
+        this.literalAutomaton = hasRequiredLiterals ? new LiteralAutomaton(requiredLiterals) : null;
+    }
+
+    /**
+     * Creates a matcher for the patterns.
+     *
+     * @param patterns the patterns in the order they are configured
+     * @return the matcher
+     */
+    public static MultiPatternMatcher compile(final List<Pattern> patterns) {
+        Objects.requireNonNull(patterns, "patterns cannot be null");
+        return new MultiPatternMatcher(patterns);
+    }
+
+    /**
+     * @return the number of patterns
+     */
+    public int size() {
+        return patterns.size();
+    }
+
+    /**
+     * @param index the index of the pattern in the configured list
+     * @return the pattern
+     */
+    public Pattern getPattern(final int index) {
+        return patterns.get(index);
+    }
+
+    /**
+     * Finds the patterns which might match the input. A pattern which is not a candidate can neither
+     * match the whole input nor be found in any part of it.
+     *
+     * @param input the value to match
+     * @return the indexes of the candidate patterns
+     */
+    public BitSet candidates(final CharSequence input) {
+        final BitSet candidates = (BitSet) alwaysCandidates.clone();
+        if (literalAutomaton != null) {
+            literalAutomaton.addMatches(input, candidates);
+        }
+        return candidates;
+    }
+
+    /**
+     * Finds the first pattern, in configured order, which matches the whole input.
+     *
+     * @param input the value to match
+     * @return the index of the pattern, or -1 if none matches
+     */
+    public int matchingIndex(final CharSequence input) {
+        final BitSet candidates = candidates(input);
+        for (int index = candidates.nextSetBit(0); index >= 0; index = candidates.nextSetBit(index + 1)) {
+            if (patterns.get(index).matcher(input).matches()) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the first pattern, in configured order, which is found in the input.
+     *
+     * @param input the value to search
+     * @return a matcher positioned on the first occurrence, or null if no pattern is found
+     */
+    public Matcher find(final CharSequence input) {
+        final BitSet candidates = candidates(input);
+        for (int index = candidates.nextSetBit(0); index >= 0; index = candidates.nextSetBit(index + 1)) {
+            final Matcher matcher = patterns.get(index).matcher(input);
+            if (matcher.find()) {
+                return matcher;
+            }
+        }
+        return null;
+    }
+
+    String getRequiredLiteral(final int index) {
+        return requiredLiterals[index];
+    }
+}
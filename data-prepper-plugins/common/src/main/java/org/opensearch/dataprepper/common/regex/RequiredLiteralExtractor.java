@@ -0,0 +1,246 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.common.regex;
+
+import java.util.regex.Pattern;
+
+/**
+ * Finds a literal string which every match of a regular expression contains. Only the top level of
+ * the expression is inspected: groups and character classes are skipped, and anything which is not
+ * understood results in no literal, so a pattern is never wrongly filtered out.
+ */
+final class RequiredLiteralExtractor {
+    static final int MINIMUM_LITERAL_LENGTH = 2;
+
+    private static final String GROUP_CONSTRUCT_CHARACTERS = ":=!<>";
+    private static final String OCTAL_DIGITS = "01234567";
+
+    private RequiredLiteralExtractor() {
+    }
+
+    /**
+     * @param pattern the compiled pattern
+     * @return the longest required literal, or null if none of at least {@link #MINIMUM_LITERAL_LENGTH} characters is found
+     */
+    static String extract(final Pattern pattern) {
+        final String regex = pattern.pattern();
+        // Flags such as CASE_INSENSITIVE or COMMENTS change what a literal character matches
+        if (pattern.flags() != 0 || regex.contains("\\Q") || hasInlineFlags(regex)) {
+            return null;
+        }
+
+        String longest = null;
+        final StringBuilder run = new StringBuilder();
+        int index = 0;
+        while (index < regex.length()) {
+            final char character = regex.charAt(index);
+            switch (character) {
+                case '\\':
+                    if (index + 1 >= regex.length()) {
+                        return null;
+                    }
+                    final char escaped = regex.charAt(index + 1);
+                    if (Character.isSurrogate(escaped)) {
+                        return null;
+                    }
+                    if (isAsciiLetterOrDigit(escaped)) {
+                        longest = longer(longest, run);
+                        index = skipEscapeArguments(regex, index + 2, escaped);
+                        if (index < 0) {
+                            return null;
+                        }
+                    } else {
+                        run.append(escaped);
+                        index += 2;
+                    }
+                    break;
+                case '(':
+                    longest = longer(longest, run);
+                    index = skipGroup(regex, index);
+                    if (index < 0) {
+                        return null;
+                    }
+                    break;
+                case '[':
+                    longest = longer(longest, run);
+                    index = skipCharacterClass(regex, index);
+                    if (index < 0) {
+                        return null;
+                    }
+                    break;
+                case '|':
+                    return null;
+                case '?':
+                case '*':
+                    removeLastCharacter(run);
+                    longest = longer(longest, run);
+                    index++;
+                    break;
+                case '{':
+                    removeLastCharacter(run);
+                    longest = longer(longest, run);
+                    index = regex.indexOf('}', index);
+                    if (index < 0) {
+                        return null;
+                    }
+                    index++;
+                    break;
+                case '+':
+                case '.':
+                case '^':
+                case '$':
+                case ')':
+                case ']':
+                case '}':
+                    longest = longer(longest, run);
+                    index++;
+                    break;
+                default:
+                    run.append(character);
+                    index++;
+            }
+        }
+        longest = longer(longest, run);
+        return longest != null && longest.length() >= MINIMUM_LITERAL_LENGTH ? longest : null;
+    }
+
+    private static boolean hasInlineFlags(final String regex) {
+        int index = regex.indexOf("(?");
+        while (index >= 0) {
+            if (index + 2 >= regex.length() || GROUP_CONSTRUCT_CHARACTERS.indexOf(regex.charAt(index + 2)) < 0) {
+                return true;
+            }
+            index = regex.indexOf("(?", index + 2);
+        }
+        return false;
+    }
+
+    /**
+     * Ends the current run of literal characters, keeping it if it is the longest so far.
+     */
+    private static String longer(final String longest, final StringBuilder run) {
+        String result = longest;
+        if (run.length() > 0 && (longest == null || run.length() > longest.length())) {
+            result = run.toString();
+        }
+        run.setLength(0);
+        return result;
+    }
+
+    /**
+     * Removes the character a quantifier applies to, since it may not be in the match.
+     */
+    private static void removeLastCharacter(final StringBuilder run) {
+        if (run.length() > 0) {
+            run.setLength(run.length() - 1);
+            if (run.length() > 0 && Character.isHighSurrogate(run.charAt(run.length() - 1))) {
+                run.setLength(run.length() - 1);
+            }
+        }
+    }
+
+    private static boolean isAsciiLetterOrDigit(final char character) {
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z') || (character >= '0' && character <= '9');
+    }
+
+    /**
+     * @return the index after the arguments of an escape such as \x{41} or \p{Alpha}, or -1 if they are not terminated
+     */
+    private static int skipEscapeArguments(final String regex, final int index, final char escaped) {
+        switch (escaped) {
+            case 'x':
+                return index < regex.length() && regex.charAt(index) == '{' ? skipPast(regex, index, '}') : Math.min(index + 2, regex.length());
+            case 'u':
+                return Math.min(index + 4, regex.length());
+            case 'c':
+                return Math.min(index + 1, regex.length());
+            case 'p':
+            case 'P':
+                return index < regex.length() && regex.charAt(index) == '{' ? skipPast(regex, index, '}') : Math.min(index + 1, regex.length());
+            case 'N':
+                return skipPast(regex, index, '}');
+            case 'k':
+                return skipPast(regex, index, '>');
+            case '0':
+                int octalEnd = index;
+                while (octalEnd < regex.length() && octalEnd < index + 3 && OCTAL_DIGITS.indexOf(regex.charAt(octalEnd)) >= 0) {
+                    octalEnd++;
+                }
+                return octalEnd;
+            default:
+                if (escaped >= '1' && escaped <= '9') {
+                    // Back references take as many digits as there are groups, so skip all of them
+                    int digitsEnd = index;
+                    while (digitsEnd < regex.length() && Character.isDigit(regex.charAt(digitsEnd))) {
+                        digitsEnd++;
+                    }
+                    return digitsEnd;
+                }
+                return index;
+        }
+    }
+
+    private static int skipPast(final String regex, final int index, final char terminator) {
+        final int terminatorIndex = regex.indexOf(terminator, index);
+        return terminatorIndex < 0 ? -1 : terminatorIndex + 1;
+    }
+
+    /**
+     * @return the index after the group which starts at the given index, or -1 if it is not closed
+     */
+    private static int skipGroup(final String regex, final int start) {
+        int depth = 0;
+        int index = start;
+        while (index < regex.length()) {
+            final char character = regex.charAt(index);
+            if (character == '\\') {
+                index += 2;
+            } else if (character == '[') {
+                index = skipCharacterClass(regex, index);
+                if (index < 0) {
+                    return -1;
+                }
+            } else {
+                if (character == '(') {
+                    depth++;
+                } else if (character == ')' && --depth == 0) {
+                    return index + 1;
+                }
+                index++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the index after the character class which starts at the given index, or -1 if it is not closed
+     */
+    private static int skipCharacterClass(final String regex, final int start) {
+        int index = start + 1;
+        if (index < regex.length() && regex.charAt(index) == '^') {
+            index++;
+        }
+        if (index < regex.length() && regex.charAt(index) == ']') {
+            // A leading ] is ambiguous, so do not guess where the class ends
+            return -1;
+        }
+        int depth = 1;
+        while (index < regex.length()) {
+            final char character = regex.charAt(index);
+            if (character == '\\') {
+                index += 2;
+                continue;
+            }
+            if (character == '[') {
+                depth++;
+            } else if (character == ']' && --depth == 0) {
+                return index + 1;
+            }
+            index++;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.common.regex;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MultiPatternMatcherTest {
+    private static final List<Pattern> PATTERNS = compileAll(
+            "ERROR: disk (\\w+) full",
+            "user=(\\w+) failed",
+            "\\d{3}-\\d{2}-\\d{4}",
+            "failed login",
+            "GET /api/v[0-9]+/orders",
+            "shed",
+            "she");
+
+    @Test
+    void compile_throws_with_null_patterns() {
+        assertThrows(NullPointerException.class, () -> MultiPatternMatcher.compile(null));
+    }
+
+    @Test
+    void getters_return_the_patterns_in_configured_order() {
+        final MultiPatternMatcher objectUnderTest = MultiPatternMatcher.compile(PATTERNS);
+
+        assertThat(objectUnderTest.size(), equalTo(PATTERNS.size()));
+        for (int index = 0; index < PATTERNS.size(); index++) {
+            assertThat(objectUnderTest.getPattern(index), sameInstance(PATTERNS.get(index)));
+        }
+        assertThat(objectUnderTest.getRequiredLiteral(0), equalTo("ERROR: disk "));
+        assertThat(objectUnderTest.getRequiredLiteral(2), nullValue());
+    }
+
+    @Test
+    void candidates_contains_patterns_whose_literal_is_present_and_patterns_without_a_literal() {
+        final MultiPatternMatcher objectUnderTest = MultiPatternMatcher.compile(PATTERNS);
+
+        assertThat(objectUnderTest.candidates("nothing interesting"), equalTo(bits(2)));
+        assertThat(objectUnderTest.candidates("user=admin failed login"), equalTo(bits(1, 2, 3)));
+        assertThat(objectUnderTest.candidates("ushers"), equalTo(bits(2, 6)));
+        assertThat(objectUnderTest.candidates("she shed"), equalTo(bits(2, 5, 6)));
+        assertThat(objectUnderTest.candidates(""), equalTo(bits(2)));
+    }
+
+    @Test
+    void candidates_finds_literals_which_overlap_through_failure_links() {
+        final MultiPatternMatcher objectUnderTest = MultiPatternMatcher.compile(compileAll("abcd", "bce", "cd", "bc"));
+
+        assertThat(objectUnderTest.candidates("abce"), equalTo(bits(1, 3)));
+        assertThat(objectUnderTest.candidates("xabcd"), equalTo(bits(0, 2, 3)));
+        assertThat(objectUnderTest.candidates("abab"), equalTo(bits()));
+    }
+
+    @Test
+    void candidates_is_empty_without_patterns() {
+        final MultiPatternMatcher objectUnderTest = MultiPatternMatcher.compile(Collections.emptyList());
+
+        assertThat(objectUnderTest.size(), equalTo(0));
+        assertThat(objectUnderTest.candidates("anything").isEmpty(), equalTo(true));
+        assertThat(objectUnderTest.matchingIndex("anything"), equalTo(-1));
+        assertThat(objectUnderTest.find("anything"), nullValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"123-45-6789", "user=bob failed", "failed login", "GET /api/v2/orders", "she", "unmatched"})
+    void matchingIndex_returns_the_first_pattern_which_matches_the_whole_input(final String input) {
+        final MultiPatternMatcher objectUnderTest = MultiPatternMatcher.compile(PATTERNS);
+
+        assertThat(objectUnderTest.matchingIndex(input), equalTo(firstMatchingIndex(input)));
+    }
+
+    @Test
+    void find_returns_a_matcher_for_the_first_pattern_which_is_found() {
+        final MultiPatternMatcher objectUnderTest = MultiPatternMatcher.compile(PATTERNS);
+
+        final Matcher matcher = objectUnderTest.find("2024 user=bob failed login from 10.0.0.1");
+
+        assertThat(matcher, notNullValue());
+        assertThat(matcher.pattern(), sameInstance(PATTERNS.get(1)));
+        assertThat(matcher.group(1), equalTo("bob"));
+        assertThat(objectUnderTest.find("nothing interesting"), nullValue());
+    }
+
+    @Test
+    void candidates_never_excludes_a_pattern_which_is_found() {
+        final MultiPatternMatcher objectUnderTest = MultiPatternMatcher.compile(PATTERNS);
+        final String alphabet = "abdefghilnorsu=ERO: -/GETPIv0123456789";
+        final Random random = new Random(7);
+
+        for (int iteration = 0; iteration < 10000; iteration++) {
+            final StringBuilder input = new StringBuilder();
+            final int length = random.nextInt(30);
+            for (int index = 0; index < length; index++) {
+                input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            final BitSet candidates = objectUnderTest.candidates(input);
+            for (int index = 0; index < PATTERNS.size(); index++) {
+                if (PATTERNS.get(index).matcher(input).find()) {
+                    assertThat(input + " should be a candidate for " + PATTERNS.get(index), candidates.get(index), equalTo(true));
+                }
+            }
+        }
+    }
+
+    private static int firstMatchingIndex(final String input) {
+        for (int index = 0; index < PATTERNS.size(); index++) {
+            if (PATTERNS.get(index).matcher(input).matches()) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static BitSet bits(final int... indexes) {
+        final BitSet bitSet = new BitSet();
+        for (final int index : indexes) {
+            bitSet.set(index);
+        }
+        return bitSet;
+    }
+
+    private static List<Pattern> compileAll(final String... regexes) {
+        return Stream.of(regexes).map(Pattern::compile).collect(Collectors.toList());
+    }
+}
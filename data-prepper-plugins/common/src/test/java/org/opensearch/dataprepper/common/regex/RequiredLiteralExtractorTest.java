@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.common.regex;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class RequiredLiteralExtractorTest {
+
+    @ParameterizedTest
+    @MethodSource("patternsWithLiterals")
+    void extract_returns_the_longest_required_literal(final String regex, final String expectedLiteral) {
+        assertThat(RequiredLiteralExtractor.extract(Pattern.compile(regex)), equalTo(expectedLiteral));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "\\d{3}-\\d{2}-\\d{4}",
+            "foo|bar",
+            "(?i)hello",
+            "(?<name>world)(?x) # comment",
+            "\\Qliteral\\E",
+            "[]ab]xyz",
+            "a",
+            "\\1",
+            "[a-z]+\\.[a-z]+",
+            ".*"
+    })
+    void extract_returns_null_when_no_literal_can_be_found(final String regex) {
+        assertThat(RequiredLiteralExtractor.extract(Pattern.compile(regex)), nullValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Pattern.CASE_INSENSITIVE, Pattern.COMMENTS, Pattern.LITERAL})
+    void extract_returns_null_for_patterns_with_flags(final int flags) {
+        assertThat(RequiredLiteralExtractor.extract(Pattern.compile("hello", flags)), nullValue());
+    }
+
+    private static Stream<Arguments> patternsWithLiterals() {
+        return Stream.of(
+                arguments("ERROR: disk full", "ERROR: disk full"),
+                arguments("user=(\\w+) failed", " failed"),
+                arguments("GET /api/v[0-9]+/orders", "GET /api/v"),
+                arguments("ab?cd", "cd"),
+                arguments("abc*", "ab"),
+                arguments("ab+cd", "ab"),
+                arguments("x{2}yz", "yz"),
+                arguments("a{1,}bcd", "bcd"),
+                arguments("colou?r", "colo"),
+                arguments("a\\.bc", "a.bc"),
+                arguments("\\[INFO\\]", "[INFO]"),
+                arguments("\\\\path", "\\path"),
+                arguments("\\bpassword\\b", "password"),
+                arguments("\\x41bcde", "bcde"),
+                arguments("\\x{41}bcd", "bcd"),
+                arguments("\\u0041xy", "xy"),
+                arguments("\\p{Alpha}bcd", "bcd"),
+                arguments("\\pLbcd", "bcd"),
+                arguments("\\0101ab", "ab"),
+                arguments("\\cAab", "ab"),
+                arguments("\\N{LATIN SMALL LETTER A}bc", "bc"),
+                arguments("(?<n>\\d+) ms", " ms"),
+                arguments("(?<n>a)\\k<n>zz", "zz"),
+                arguments("(a)\\10bc", "bc"),
+                arguments("(?:x|y)[a-z&&[^q]]status=(\\)|[)])done$", "status="),
+                arguments("^start(?=end)", "start"),
+                arguments("😀?ab", "ab")
+        );
+    }
+}
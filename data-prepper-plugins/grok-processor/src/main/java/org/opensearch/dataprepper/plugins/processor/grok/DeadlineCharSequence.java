@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+/**
+ * Wraps a value being matched so that a regular expression which runs past a deadline is stopped on
+ * the thread running it. The regex engine reads the input through {@link #charAt(int)}, including
+ * while backtracking, so the deadline is checked every {@link #CHECK_INTERVAL} reads.
+ */
+class DeadlineCharSequence implements CharSequence {
+    static final int CHECK_INTERVAL = 1024;
+
+    private final CharSequence delegate;
+    private final long deadlineNanos;
+    private int readsUntilCheck = CHECK_INTERVAL;
+
+    /**
+     * @param delegate the value being matched
+     * @param deadlineNanos the {@link System#nanoTime()} after which reads fail
+     */
+    DeadlineCharSequence(final CharSequence delegate, final long deadlineNanos) {
+        this.delegate = delegate;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public int length() {
+        return delegate.length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (--readsUntilCheck <= 0) {
+            readsUntilCheck = CHECK_INTERVAL;
+            if (System.nanoTime() - deadlineNanos > 0) {
+                throw new DeadlineExceededException();
+            }
+        }
+        return delegate.charAt(index);
+    }
+
+    /**
+     * Returns the part of the value without a deadline, since it is only used for captured values.
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return delegate.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    static class DeadlineExceededException extends RuntimeException {
+        DeadlineExceededException() {
+            // Timeouts are expected for some values, so skip filling in the stack trace
+            super("Matching took longer than the timeout", null, false, false);
+        }
+    }
+}
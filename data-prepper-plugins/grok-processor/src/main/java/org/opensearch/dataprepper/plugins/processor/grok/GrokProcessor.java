@@ -11,6 +11,7 @@ import io.krakens.grok.api.GrokCompiler;
 import io.krakens.grok.api.Match;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.common.regex.MultiPatternMatcher;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.NOISY;
@@ -40,6 +41,7 @@ import java.nio.file.NotDirectoryException;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -49,12 +51,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
@@ -62,8 +60,6 @@ import java.util.stream.Collectors;
 @SingleThread
 @DataPrepperPlugin(name = "grok", pluginType = Processor.class, pluginConfigurationType = GrokProcessorConfig.class)
 public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
-    static final long EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT = 300L;
-
     private static final Logger LOG = LoggerFactory.getLogger(GrokProcessor.class);
 
     private static final String DATA_PREPPER_GROK_PATTERNS_FILE = "grok-patterns/patterns";
@@ -82,9 +78,9 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private final GrokCompiler grokCompiler;
     private final Map<String, List<Grok>> fieldToGrok;
+    private final Map<String, MultiPatternMatcher> fieldToPatternMatcher;
     private final GrokProcessorConfig grokProcessorConfig;
     private final Set<String> keysToOverwrite;
-    private final ExecutorService executorService;
     private final List<String> tagsOnMatchFailure;
     private final List<String> tagsOnTimeout;
     private final ExpressionEvaluator expressionEvaluator;
@@ -93,21 +89,19 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     public GrokProcessor(final PluginMetrics pluginMetrics,
                          final GrokProcessorConfig grokProcessorConfig,
                          final ExpressionEvaluator expressionEvaluator) {
-        this(pluginMetrics, grokProcessorConfig, GrokCompiler.newInstance(),
-                Executors.newSingleThreadExecutor(), expressionEvaluator);
+        this(pluginMetrics, grokProcessorConfig, GrokCompiler.newInstance(), expressionEvaluator);
     }
 
     GrokProcessor(final PluginMetrics pluginMetrics,
                   final GrokProcessorConfig grokProcessorConfig,
                   final GrokCompiler grokCompiler,
-                  final ExecutorService executorService,
                   final ExpressionEvaluator expressionEvaluator) {
         super(pluginMetrics);
         this.grokProcessorConfig = grokProcessorConfig;
         this.keysToOverwrite = new HashSet<>(grokProcessorConfig.getkeysToOverwrite());
         this.grokCompiler = grokCompiler;
         this.fieldToGrok = new LinkedHashMap<>();
-        this.executorService = executorService;
+        this.fieldToPatternMatcher = new HashMap<>();
         this.expressionEvaluator = expressionEvaluator;
         this.tagsOnMatchFailure = grokProcessorConfig.getTagsOnMatchFailure();
         this.tagsOnTimeout = grokProcessorConfig.getTagsOnTimeout().isEmpty() ?
@@ -147,13 +141,10 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                     continue;
                 }
 
-                if (grokProcessorConfig.getTimeoutMillis() == 0) {
-                    grokProcessingTime.record(() -> matchAndMerge(event));
-                } else {
-                    runWithTimeout(() -> grokProcessingTime.record(() -> matchAndMerge(event)));
-                }
+                final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(grokProcessorConfig.getTimeoutMillis());
+                grokProcessingTime.record(() -> matchAndMerge(event, deadlineNanos));
 
-            } catch (final TimeoutException e) {
+            } catch (final DeadlineCharSequence.DeadlineExceededException e) {
                 event.getMetadata().addTags(tagsOnTimeout);
                 LOG.atError()
                         .addMarker(EVENT)
@@ -164,7 +155,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                         .log();
 
                 grokProcessingTimeoutsCounter.increment();
-            } catch (final ExecutionException | InterruptedException | RuntimeException e) {
+            } catch (final RuntimeException e) {
                 event.getMetadata().addTags(tagsOnMatchFailure);
                 LOG.atError()
                         .addMarker(EVENT)
@@ -204,18 +195,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     @Override
     public void shutdown() {
-        executorService.shutdown();
-        try {
-            if (executorService.awaitTermination(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
-                LOG.info("Successfully waited for running task to terminate");
-            } else {
-                LOG.warn("Running task did not terminate in time, forcing termination");
-                executorService.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            LOG.error("Interrupted while waiting for running task to terminate", e);
-            executorService.shutdownNow();
-        }
+        // Matches run on the calling thread, so there is nothing to release
     }
 
     private void registerPatterns() {
@@ -277,29 +257,60 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                                 }
                             })
                             .collect(Collectors.toList()));
+            final MultiPatternMatcher patternMatcher = createPatternMatcher(fieldToGrok.get(entry.getKey()));
+            if (patternMatcher != null) {
+                fieldToPatternMatcher.put(entry.getKey(), patternMatcher);
+            }
+        }
+    }
+
+    /**
+     * Creates a matcher which finds the groks that might match a value, so that groks which cannot match are not run.
+     */
+    private MultiPatternMatcher createPatternMatcher(final List<Grok> groks) {
+        final List<Pattern> patterns = new ArrayList<>(groks.size());
+        for (final Grok grok : groks) {
+            if (grok.getNamedRegex() == null) {
+                return null;
+            }
+            patterns.add(Pattern.compile(grok.getNamedRegex()));
         }
+        return MultiPatternMatcher.compile(patterns);
     }
 
-    private void matchAndMerge(final Event event) {
+    /**
+     * Matches the event on the calling thread. With a timeout, values are wrapped so that matching stops
+     * with {@link DeadlineCharSequence.DeadlineExceededException} once the deadline passes.
+     */
+    private void matchAndMerge(final Event event, final long deadlineNanos) {
         final Map<String, Object> grokkedCaptures = new HashMap<>();
 
         int patternsAttempted = 0;
 
         for (final Map.Entry<String, List<Grok>> entry : fieldToGrok.entrySet()) {
-            for (final Grok grok : entry.getValue()) {
-                final String value = event.get(entry.getKey(), String.class);
-                if (value != null && !value.isEmpty()) {
-                    final Match match = grok.match(value);
-                    match.setKeepEmptyCaptures(grokProcessorConfig.isKeepEmptyCaptures());
+            final String value = event.get(entry.getKey(), String.class);
+            if (value == null || value.isEmpty()) {
+                continue;
+            }
+            final MultiPatternMatcher patternMatcher = fieldToPatternMatcher.get(entry.getKey());
+            final BitSet candidates = patternMatcher != null ? patternMatcher.candidates(value) : null;
+            final CharSequence valueToMatch = grokProcessorConfig.getTimeoutMillis() == 0 ? value : new DeadlineCharSequence(value, deadlineNanos);
 
-                    final Map<String, Object> captures = match.capture();
-                    mergeCaptures(grokkedCaptures, captures);
+            final List<Grok> groks = entry.getValue();
+            for (int index = 0; index < groks.size(); index++) {
+                if (candidates != null && !candidates.get(index)) {
+                    continue;
+                }
+                final Match match = groks.get(index).match(valueToMatch);
+                match.setKeepEmptyCaptures(grokProcessorConfig.isKeepEmptyCaptures());
+
+                final Map<String, Object> captures = match.capture();
+                mergeCaptures(grokkedCaptures, captures);
 
-                    patternsAttempted++;
+                patternsAttempted++;
 
-                    if (shouldBreakOnMatch(grokkedCaptures)) {
-                        break;
-                    }
+                if (shouldBreakOnMatch(grokkedCaptures)) {
+                    break;
                 }
             }
             if (shouldBreakOnMatch(grokkedCaptures)) {
@@ -381,14 +392,4 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private boolean shouldBreakOnMatch(final Map<String, Object> captures) {
         return captures.size() > 0 && grokProcessorConfig.isBreakOnMatch();
     }
-
-    private void runWithTimeout(final Runnable runnable) throws TimeoutException, ExecutionException, InterruptedException {
-        final Future<?> task = executorService.submit(runnable);
-        try {
-            task.get(grokProcessorConfig.getTimeoutMillis(), TimeUnit.MILLISECONDS);
-        } catch (final TimeoutException exception) {
-            task.cancel(true);
-            throw exception;
-        }
-    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeadlineCharSequenceTest {
+    private static final long FAR_DEADLINE = System.nanoTime() + TimeUnit.HOURS.toNanos(1);
+
+    @Test
+    void delegates_to_the_value() {
+        final String value = UUID.randomUUID().toString();
+
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence(value, FAR_DEADLINE);
+
+        assertThat(objectUnderTest.length(), equalTo(value.length()));
+        assertThat(objectUnderTest.toString(), equalTo(value));
+        assertThat(objectUnderTest.subSequence(2, 8), equalTo(value.subSequence(2, 8)));
+        for (int index = 0; index < DeadlineCharSequence.CHECK_INTERVAL * 2; index++) {
+            assertThat(objectUnderTest.charAt(index % value.length()), equalTo(value.charAt(index % value.length())));
+        }
+    }
+
+    @Test
+    void charAt_does_not_check_the_deadline_on_every_read() {
+        final String value = UUID.randomUUID().toString();
+
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence(value, System.nanoTime() - 1);
+
+        for (int index = 0; index < DeadlineCharSequence.CHECK_INTERVAL - 1; index++) {
+            objectUnderTest.charAt(0);
+        }
+        assertThrows(DeadlineCharSequence.DeadlineExceededException.class, () -> objectUnderTest.charAt(0));
+    }
+
+    @Test
+    void matching_past_the_deadline_throws() {
+        final Pattern catastrophic = Pattern.compile("(a+)+b");
+        final String value = "a".repeat(64);
+
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence(value, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertThrows(DeadlineCharSequence.DeadlineExceededException.class, () -> catastrophic.matcher(objectUnderTest).matches());
+    }
+
+    @Test
+    void matching_within_the_deadline_returns_the_match() {
+        final Pattern pattern = Pattern.compile("(\\w+)=(\\d+)");
+
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence("status=200", FAR_DEADLINE);
+
+        assertThat(pattern.matcher(objectUnderTest).matches(), equalTo(true));
+    }
+}
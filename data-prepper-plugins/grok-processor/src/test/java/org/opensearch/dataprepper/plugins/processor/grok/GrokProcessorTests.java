@@ -35,11 +35,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
@@ -49,15 +44,15 @@ import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
-import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessor.EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.TOTAL_PATTERNS_ATTEMPTED_METADATA_KEY;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.TOTAL_TIME_SPENT_IN_GROK_METADATA_KEY;
 import static org.opensearch.dataprepper.test.matcher.MapEquals.isEqualWithoutTimestamp;
@@ -70,12 +65,6 @@ public class GrokProcessorTests {
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
     private String messageInput;
 
-    @Mock
-    private ExecutorService executorService;
-
-    @Mock
-    private Future task;
-
     @Mock
     private GrokCompiler grokCompiler;
 
@@ -115,7 +104,7 @@ public class GrokProcessorTests {
     private final Map<String, List<String>> matchConfig = new HashMap<>();
 
     @BeforeEach
-    public void setup() throws TimeoutException, ExecutionException, InterruptedException {
+    public void setup() {
         configureDefaultGrokProcessorConfig();
 
         final List<String> matchPatterns = new ArrayList<>();
@@ -143,18 +132,13 @@ public class GrokProcessorTests {
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(0)), anyBoolean())).thenReturn(grok);
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(1)), anyBoolean())).thenReturn(grokSecondMatch);
 
-        lenient().when(grok.match(messageInput)).thenReturn(match);
+        lenient().when(grok.match(valueEqualTo(messageInput))).thenReturn(match);
         lenient().when(match.capture()).thenReturn(capture);
-        lenient().when(executorService.submit(any(Runnable.class))).then(a -> {
-            a.<Runnable>getArgument(0).run();
-            return task;
-        });
-        lenient().when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenReturn(null);
     }
 
     private GrokProcessor createObjectUnderTest() {
         return new GrokProcessor(
-                pluginMetrics, grokProcessorConfig, grokCompiler, executorService, expressionEvaluator);
+                pluginMetrics, grokProcessorConfig, grokCompiler, expressionEvaluator);
     }
 
     @Test
@@ -168,7 +152,7 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testMatchMerge() throws JsonProcessingException, ExecutionException, InterruptedException, TimeoutException {
+    public void testMatchMerge() throws JsonProcessingException {
         when(grokProcessorConfig.getIncludePerformanceMetadata()).thenReturn(false);
 
         grokProcessor = createObjectUnderTest();
@@ -202,12 +186,10 @@ public class GrokProcessorTests {
         verify(grokProcessingMatchCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
         verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter);
-        verify(task).get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
-        verifyNoMoreInteractions(task);
     }
 
     @Test
-    public void testTarget() throws JsonProcessingException, ExecutionException, InterruptedException, TimeoutException {
+    public void testTarget() throws JsonProcessingException {
         when(grokProcessorConfig.getTargetKey()).thenReturn("test_target");
         grokProcessor = createObjectUnderTest();
 
@@ -238,8 +220,6 @@ public class GrokProcessorTests {
         verify(grokProcessingMatchCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
         verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter);
-        verify(task).get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
-        verifyNoMoreInteractions(task);
     }
 
     @Test
@@ -275,7 +255,7 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testMatchMergeCollisionStrings() throws JsonProcessingException, ExecutionException, InterruptedException, TimeoutException {
+    public void testMatchMergeCollisionStrings() throws JsonProcessingException {
         grokProcessor = createObjectUnderTest();
 
         capture.put("key_capture_1", "value_capture_1");
@@ -404,8 +384,9 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-        when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException {
+        when(grokProcessorConfig.getTimeoutMillis()).thenReturn(1);
+        when(grok.match(any())).thenAnswer(a -> readUntilDeadline(a.getArgument(0)));
 
         grokProcessor = createObjectUnderTest();
 
@@ -422,13 +403,12 @@ public class GrokProcessorTests {
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), record);
-        verify(task).cancel(true);
         verify(grokProcessingTimeoutsCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
     }
 
     @Test
-    public void testThatProcessingWithTimeoutMillisOfZeroDoesNotInteractWithExecutorServiceAndReturnsCorrectResult() throws JsonProcessingException {
+    public void testThatProcessingWithTimeoutMillisOfZeroMatchesTheValueDirectlyAndReturnsCorrectResult() throws JsonProcessingException {
         when(grokProcessorConfig.getTimeoutMillis()).thenReturn(0);
         grokProcessor = createObjectUnderTest();
 
@@ -450,7 +430,6 @@ public class GrokProcessorTests {
         final Record<Event> resultRecord = buildRecordWithEvent(resultData);
 
         final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
-        verifyNoInteractions(executorService);
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
@@ -466,39 +445,6 @@ public class GrokProcessorTests {
         grokProcessor.prepareForShutdown();
     }
 
-    @Test
-    public void testShutdown_Successful() throws InterruptedException {
-        grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-    }
-
-    @Test
-    public void testShutdown_Timeout() throws InterruptedException {
-        grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(false);
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
-    }
-
-    @Test
-    public void testShutdown_InterruptedException() throws InterruptedException {
-        grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS)))
-                .thenThrow(new InterruptedException());
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
-    }
-
     @Nested
     class WithMultipleMatches {
         @Mock
@@ -515,7 +461,7 @@ public class GrokProcessorTests {
         public void testNoCaptures() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(valueEqualTo(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             final Map<String, Object> testData = new HashMap();
@@ -532,12 +478,37 @@ public class GrokProcessorTests {
             verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMatchCounter, grokProcessingTimeoutsCounter);
         }
 
+        @Test
+        public void testPatternWhichCannotMatchIsNotAttempted() throws JsonProcessingException {
+            when(grokProcessorConfig.getIncludePerformanceMetadata()).thenReturn(true);
+
+            when(grok.getNamedRegex()).thenReturn("(?<name0>\\S+) login failed");
+            when(grokSecondMatch.getNamedRegex()).thenReturn("(?<name1>[0-9a-f-]+)");
+            when(grokSecondMatch.match(valueEqualTo(messageInput))).thenReturn(secondMatch);
+            when(secondMatch.capture()).thenReturn(capture);
+            capture.put("key_capture_1", "value_capture_1");
+
+            grokProcessor = createObjectUnderTest();
+
+            final Map<String, Object> testData = new HashMap();
+            testData.put("message", messageInput);
+            final Record<Event> record = buildRecordWithEvent(testData);
+
+            final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
+
+            assertThat(grokkedRecords.size(), equalTo(1));
+            assertThat(grokkedRecords.get(0).getData().getMetadata().getAttribute(TOTAL_PATTERNS_ATTEMPTED_METADATA_KEY), equalTo(1));
+            assertThat(grokkedRecords.get(0).getData().get("key_capture_1", String.class), equalTo("value_capture_1"));
+            verify(grok, never()).match(any());
+            verify(grokProcessingMatchCounter, times(1)).increment();
+        }
+
         @Test
         public void testMatchOnSecondPattern() throws JsonProcessingException {
             when(grokProcessorConfig.getIncludePerformanceMetadata()).thenReturn(true);
 
             when(match.capture()).thenReturn(Collections.emptyMap());
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(valueEqualTo(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(capture);
 
             grokProcessor = createObjectUnderTest();
@@ -565,7 +536,7 @@ public class GrokProcessorTests {
             when(grokProcessorConfig.getIncludePerformanceMetadata()).thenReturn(true);
 
             when(match.capture()).thenReturn(Collections.emptyMap());
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(valueEqualTo(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(capture);
 
             grokProcessor = createObjectUnderTest();
@@ -613,7 +584,7 @@ public class GrokProcessorTests {
             @Test
             public void testNoCapturesWithTag() throws JsonProcessingException {
                 grokProcessor = createObjectUnderTest();
-                lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+                lenient().when(grokSecondMatch.match(valueEqualTo(messageInput))).thenReturn(secondMatch);
                 lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
                 final Map<String, Object> testData = new HashMap();
@@ -635,8 +606,9 @@ public class GrokProcessorTests {
             }
 
             @Test
-            public void timeout_exception_tags_the_event() throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-                when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+            public void timeout_exception_tags_the_event() throws JsonProcessingException {
+                when(grokProcessorConfig.getTimeoutMillis()).thenReturn(1);
+                when(grok.match(any())).thenAnswer(a -> readUntilDeadline(a.getArgument(0)));
 
                 grokProcessor = createObjectUnderTest();
 
@@ -663,10 +635,10 @@ public class GrokProcessorTests {
             }
 
             @Test
-            public void timeout_exception_tags_the_event_with_tags_on_match_failure()
-                    throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
+            public void timeout_exception_tags_the_event_with_tags_on_match_failure() throws JsonProcessingException {
                 when(grokProcessorConfig.getTagsOnTimeout()).thenReturn(Collections.emptyList());
-                when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+                when(grokProcessorConfig.getTimeoutMillis()).thenReturn(1);
+                when(grok.match(any())).thenAnswer(a -> readUntilDeadline(a.getArgument(0)));
 
                 grokProcessor = createObjectUnderTest();
 
@@ -691,9 +663,9 @@ public class GrokProcessorTests {
             }
 
             @ParameterizedTest
-            @ValueSource(classes = {ExecutionException.class, InterruptedException.class, RuntimeException.class})
-            public void execution_exception_tags_the_event(Class<Exception> exceptionClass) throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-                when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(exceptionClass);
+            @ValueSource(classes = {IllegalArgumentException.class, IllegalStateException.class, RuntimeException.class})
+            public void execution_exception_tags_the_event(Class<Exception> exceptionClass) throws JsonProcessingException {
+                when(grok.match(valueEqualTo(messageInput))).thenThrow(exceptionClass);
 
                 grokProcessor = createObjectUnderTest();
 
@@ -722,7 +694,7 @@ public class GrokProcessorTests {
         public void testBreakOnMatchTrue() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(valueEqualTo(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -759,7 +731,7 @@ public class GrokProcessorTests {
             when(grokProcessorConfig.isBreakOnMatch()).thenReturn(false);
             grokProcessor = createObjectUnderTest();
 
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(valueEqualTo(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -831,6 +803,16 @@ public class GrokProcessorTests {
         verifyNoInteractions(grok, grokSecondMatch);
     }
 
+    private static CharSequence valueEqualTo(final String value) {
+        return argThat(argument -> argument != null && value.contentEquals(argument));
+    }
+
+    private static Match readUntilDeadline(final CharSequence value) {
+        while (true) {
+            value.charAt(0);
+        }
+    }
+
     private void completeMockGrokProcessorConfig(final boolean breakOnMatch,
                                                  final boolean keepEmptyCaptures,
                                                  final Map<String, List<String>> match,
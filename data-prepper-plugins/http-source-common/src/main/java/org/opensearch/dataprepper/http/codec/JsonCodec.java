@@ -8,17 +8,17 @@ package org.opensearch.dataprepper.http.codec;
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.io.CountingOutputStream;
 import com.linecorp.armeria.common.HttpData;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +26,9 @@ import java.util.function.Consumer;
 
 /**
  * JsonCodec parses the json array format HTTP data into List&lt;{@link String}&gt;.
+ * <p>
+ * {@link #parse(HttpData, Consumer)}, {@link #validate(HttpData)} and {@link #serializeSplit(HttpData, Consumer, int)}
+ * stream the request with a single {@link JsonParser} pass and do not materialize the whole array.
  * TODO: replace output List&lt;String&gt; with List&lt;InternalModel&gt; type
  */
 public class JsonCodec implements Codec<List<String>> {
@@ -49,49 +52,112 @@ public class JsonCodec implements Codec<List<String>> {
         return jsonList;
     }
 
+    /**
+     * Parses the json array and passes each element to the consumer as a {@link JsonNode} tree, reading the
+     * content only once.
+     *
+     * @param httpData The content of the original HTTP request
+     * @param jsonNodeConsumer A {@link Consumer} to accept each element of the array
+     * @throws IOException if the content is not a json array of objects
+     * @since 2.16
+     */
+    public void parse(final HttpData httpData, final Consumer<JsonNode> jsonNodeConsumer) throws IOException {
+        try (final JsonParser jsonParser = mapper.createParser(httpData.array())) {
+            readStartArray(jsonParser);
+            JsonToken token;
+            while ((token = nextArrayElement(jsonParser)) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.VALUE_NULL) {
+                    throw new JsonParseException(jsonParser, "Expected a JSON object but found null.");
+                }
+                jsonNodeConsumer.accept(mapper.readTree(jsonParser));
+            }
+        }
+    }
+
     @Override
     public void validate(final HttpData content) throws IOException {
-        mapper.readValue(content.toInputStream(),
-                LIST_OF_MAP_TYPE_REFERENCE);
+        try (final JsonParser jsonParser = JSON_FACTORY.createParser(content.array())) {
+            readStartArray(jsonParser);
+            while (nextArrayElement(jsonParser) != JsonToken.END_ARRAY) {
+                jsonParser.skipChildren();
+            }
+        }
     }
 
     @Override
     public void serializeSplit(final HttpData content, final Consumer<String> serializedBodyConsumer, final int splitLength) throws IOException {
-        final InputStream contentInputStream = content.toInputStream();
+        if (splitLength < 0) {
+            throw new IllegalArgumentException("splitLength must not be negative.");
+        }
         if (splitLength == 0) {
-            performSerialization(contentInputStream, serializedBodyConsumer, Integer.MAX_VALUE);
+            performSerialization(content.array(), serializedBodyConsumer, Integer.MAX_VALUE);
         } else {
-            performSerialization(contentInputStream, serializedBodyConsumer, splitLength);
+            performSerialization(content.array(), serializedBodyConsumer, splitLength);
+        }
+    }
+
+    private static void readStartArray(final JsonParser jsonParser) throws IOException {
+        if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(jsonParser, "Input is not a valid JSON array.");
         }
     }
 
+    private static JsonToken nextArrayElement(final JsonParser jsonParser) throws IOException {
+        final JsonToken token = jsonParser.nextToken();
+        if (token == null) {
+            throw new JsonParseException(jsonParser, "Unexpected end of the JSON array.");
+        }
+        if (token != JsonToken.END_ARRAY && token != JsonToken.START_OBJECT && token != JsonToken.VALUE_NULL) {
+            throw new JsonParseException(jsonParser, "Expected a JSON object but found " + token + ".");
+        }
+        return token;
+    }
 
-    private void performSerialization(final InputStream inputStream,
+    /**
+     * Copies each array element's original bytes into the split bodies. Objects and arrays are located
+     * by the parser's byte offsets, so they are neither re-serialized nor re-encoded.
+     */
+    private void performSerialization(final byte[] content,
                                       final Consumer<String> serializedBodyConsumer,
                                       final int splitLength) throws IOException {
 
-        try (final JsonParser jsonParser = JSON_FACTORY.createParser(inputStream)) {
+        try (final JsonParser jsonParser = JSON_FACTORY.createParser(content)) {
             if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
                 throw new RuntimeException("Input is not a valid JSON array.");
             }
 
             JsonArrayWriter jsonArrayWriter = new JsonArrayWriter(splitLength, serializedBodyConsumer);
 
-            while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
-                final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-                final JsonGenerator objectJsonGenerator = JSON_FACTORY
-                        .createGenerator(outputStream, JsonEncoding.UTF8);
-                objectJsonGenerator.copyCurrentStructure(jsonParser);
-                objectJsonGenerator.close();
-
+            JsonToken token;
+            while ((token = jsonParser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new JsonParseException(jsonParser, "Unexpected end of the JSON array.");
+                }
+                final byte[] itemBytes;
+                final int itemOffset;
+                final int itemLength;
+                if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                    itemOffset = (int) jsonParser.currentTokenLocation().getByteOffset();
+                    jsonParser.skipChildren();
+                    itemBytes = content;
+                    itemLength = (int) jsonParser.currentLocation().getByteOffset() - itemOffset;
+                } else {
+                    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                    try (final JsonGenerator scalarJsonGenerator = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8)) {
+                        scalarJsonGenerator.copyCurrentStructure(jsonParser);
+                    }
+                    itemBytes = outputStream.toByteArray();
+                    itemOffset = 0;
+                    itemLength = itemBytes.length;
+                }
 
-                if (jsonArrayWriter.willExceedByWriting(outputStream)) {
+                if (jsonArrayWriter.willExceedByWriting(itemLength)) {
                     jsonArrayWriter.close();
 
                     jsonArrayWriter = new JsonArrayWriter(splitLength, serializedBodyConsumer);
 
                 }
-                jsonArrayWriter.write(outputStream);
+                jsonArrayWriter.write(itemBytes, itemOffset, itemLength);
             }
 
             jsonArrayWriter.close();
@@ -100,49 +166,38 @@ public class JsonCodec implements Codec<List<String>> {
 
 
     private static class JsonArrayWriter {
-        private static final JsonFactory JSON_FACTORY = new JsonFactory().setCodec(mapper);
         private static final int BUFFER_SIZE = 16 * 1024;
         private static final String NECESSARY_CHARACTERS_TO_WRITE = ",]";
-        private final CountingOutputStream countingOutputStream;
         private final ByteArrayOutputStream outputStream;
-        private final int splitLength;
         private final Consumer<String> serializedBodyConsumer;
-        private final JsonGenerator generator;
+        private final int splitLength;
         private boolean hasItem = false;
 
-        JsonArrayWriter(final int splitLength, final Consumer<String> serializedBodyConsumer) throws IOException {
+        JsonArrayWriter(final int splitLength, final Consumer<String> serializedBodyConsumer) {
             outputStream = new ByteArrayOutputStream(Math.min(splitLength, BUFFER_SIZE));
-            countingOutputStream = new CountingOutputStream(outputStream);
             this.splitLength = splitLength;
             this.serializedBodyConsumer = serializedBodyConsumer;
-            generator = JSON_FACTORY.createGenerator(countingOutputStream, JsonEncoding.UTF8);
-            generator.writeStartArray();
+            outputStream.write('[');
         }
 
-        boolean willExceedByWriting(final ByteArrayOutputStream byteArrayOutputStream) {
-            final int lengthToWrite = byteArrayOutputStream.size();
-            final long lengthOfDataWritten = countingOutputStream.getCount();
+        boolean willExceedByWriting(final int lengthToWrite) {
+            final long lengthOfDataWritten = outputStream.size();
             return lengthToWrite + lengthOfDataWritten + NECESSARY_CHARACTERS_TO_WRITE.length() > splitLength;
         }
 
-        void write(final ByteArrayOutputStream individualJsonLine) throws IOException {
-            final String jsonLineString = individualJsonLine.toString(Charset.defaultCharset());
-            generator.writeRawValue(jsonLineString);
-            generator.flush();
+        void write(final byte[] bytes, final int offset, final int length) {
+            if (hasItem) {
+                outputStream.write(',');
+            }
+            outputStream.write(bytes, offset, length);
             hasItem = true;
         }
 
-        void close() throws IOException {
+        void close() {
             if (hasItem) {
-                generator.writeEndArray();
-                generator.flush();
-                final String resultJson = outputStream.toString(Charset.defaultCharset());
-
-                serializedBodyConsumer.accept(resultJson);
+                outputStream.write(']');
+                serializedBodyConsumer.accept(outputStream.toString(StandardCharsets.UTF_8));
             }
-
-            generator.close();
-            outputStream.close();
         }
     }
 }
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.http.codec;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.linecorp.armeria.common.HttpData;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -18,6 +19,7 @@ import org.mockito.ArgumentCaptor;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -69,6 +71,48 @@ class JsonCodecTest {
     }
 
 
+    @Test
+    void parse_with_consumer_returns_json_nodes() throws IOException {
+        final List<JsonNode> jsonNodes = new ArrayList<>();
+        objectUnderTest.parse(HttpData.ofUtf8("[{\"a\":\"b\", \"n\": {\"c\": [1, 2]}}, {\"ὊὊὊ\":\"d\"}]"), jsonNodes::add);
+
+        assertThat(jsonNodes.size(), equalTo(2));
+        assertThat(jsonNodes.get(0).get("a").asText(), equalTo("b"));
+        assertThat(jsonNodes.get(0).get("n").get("c").get(1).asInt(), equalTo(2));
+        assertThat(jsonNodes.get(1).get("ὊὊὊ").asText(), equalTo("d"));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(GoodTestData.class)
+    void parse_with_consumer_matches_parse(final HttpData httpData) throws IOException {
+        final List<String> expected = objectUnderTest.parse(httpData);
+        final List<String> actual = new ArrayList<>();
+        objectUnderTest.parse(httpData, jsonNode -> actual.add(jsonNode.toString()));
+
+        assertThat(actual, equalTo(expected));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"a\":\"b\"}", "[{\"a\":\"b\"}, \"c\"]", "[{\"a\":\"b\"}, null]", "[{\"a\":\"b\"}, {\"c\"", "[{\"a\":\"b\"}", "non json content"})
+    void parse_with_consumer_with_invalid_content_throws(final String content) {
+        final Consumer<JsonNode> jsonNodeConsumer = mock(Consumer.class);
+        assertThrows(IOException.class, () -> objectUnderTest.parse(HttpData.ofUtf8(content), jsonNodeConsumer));
+    }
+
+    @Test
+    void serializeSplit_copies_nested_elements_and_strips_separators() throws IOException {
+        final Consumer<String> serializedBodyConsumer = mock(Consumer.class);
+        objectUnderTest.serializeSplit(HttpData.ofUtf8("[ {\"a\": [1, {\"b\": \"]\"}]} ,\n{\"c\":\"d\"} ]"), serializedBodyConsumer, Integer.MAX_VALUE);
+
+        verify(serializedBodyConsumer).accept("[{\"a\": [1, {\"b\": \"]\"}]},{\"c\":\"d\"}]");
+    }
+
+    @Test
+    void serializeSplit_with_truncated_array_throws() {
+        final Consumer<String> serializedBodyConsumer = mock(Consumer.class);
+        assertThrows(IOException.class, () -> objectUnderTest.serializeSplit(HttpData.ofUtf8("[{\"a\":\"b\"}, {\"c\""), serializedBodyConsumer, Integer.MAX_VALUE));
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {-1, -2, Integer.MIN_VALUE})
     void serializeSplit_with_invalid_splitLength(final int splitLength) {
@@ -310,4 +354,10 @@ class JsonCodecTest {
     void validate_with_invalid_JSON_should_throw() {
         assertThrows(IOException.class, () -> objectUnderTest.validate(badTestDataNonJson));
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"[{\"a\":\"b\"}, \"c\"]", "[{\"a\":\"b\"}", "[{\"a\":\"b\"}, {\"c\""})
+    void validate_with_invalid_array_content_should_throw(final String content) {
+        assertThrows(IOException.class, () -> objectUnderTest.validate(HttpData.ofUtf8(content)));
+    }
 }
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.source.loghttp;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpResponse;
@@ -31,7 +32,6 @@ import java.util.List;
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /*
 * A HTTP service for log ingestion to be executed by BlockingTaskExecutor.
@@ -125,7 +125,6 @@ public class LogHTTPService {
                 }
             }
         } else {
-            final List<String> jsonList;
             final List<Record<Log>> records = new ArrayList<>();
 
             if (codec != null) {
@@ -140,17 +139,11 @@ public class LogHTTPService {
             } else {
 
                 try {
-                    jsonList = jsonCodec.parse(content);
+                    jsonCodec.parse(content, jsonNode -> records.add(buildRecordLog(jsonNode)));
                 } catch (IOException e) {
                     LOG.error("Failed to parse the request of size {} due to: {}", content.length(), e.getMessage());
                     throw new IOException("Bad request data format. Needs to be json array.", e.getCause());
                 }
-
-                records.addAll(
-                        jsonList.stream()
-                                .map(this::buildRecordLog)
-                                .collect(Collectors.toList())
-                );
             }
 
             if (!extractedHeaders.isEmpty()) {
@@ -190,9 +183,9 @@ public class LogHTTPService {
         }
     }
 
-    private Record<Log> buildRecordLog(final String json) {
+    private Record<Log> buildRecordLog(final JsonNode jsonNode) {
         final JacksonLog.Builder builder = JacksonLog.builder()
-                .withData(json)
+                .withData(jsonNode)
                 .getThis();
         return new Record<>(builder.build());
     }
@@ -43,4 +43,14 @@ public interface TopicConsumerConfig extends TopicConfig {
     Integer getConsumerMaxPollRecords();
 
     Integer getWorkers();
+
+    /**
+     * The number of threads which convert polled records into events, in addition to
+     * the consumer threads. Zero means that the consumer threads convert the records themselves.
+     *
+     * @return the number of decode threads
+     */
+    default int getDecodeWorkers() {
+        return 0;
+    }
 }
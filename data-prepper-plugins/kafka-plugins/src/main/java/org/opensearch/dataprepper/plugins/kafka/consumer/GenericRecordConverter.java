@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericEnumSymbol;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.IndexedRecord;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts Avro records directly into Jackson trees, without rendering them as JSON text first.
+ * <p>
+ * The resulting tree matches what parsing {@link org.apache.avro.generic.GenericData#toString(Object)} would
+ * produce, so events have the same shape as before: bytes become ISO-8859-1 strings, fixed values become
+ * arrays of byte values, and NaN or infinite floating point values become strings. The field names of each
+ * record schema are looked up once and cached.
+ */
+class GenericRecordConverter {
+    private final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+    private final Map<Schema, String[]> fieldNamesBySchema = new ConcurrentHashMap<>();
+
+    ObjectNode convert(final IndexedRecord record) {
+        final String[] fieldNames = fieldNamesBySchema.computeIfAbsent(record.getSchema(), GenericRecordConverter::getFieldNames);
+        final ObjectNode objectNode = nodeFactory.objectNode();
+        for (int position = 0; position < fieldNames.length; position++) {
+            objectNode.set(fieldNames[position], convertValue(record.get(position)));
+        }
+        return objectNode;
+    }
+
+    private JsonNode convertValue(final Object value) {
+        if (value == null) {
+            return nodeFactory.nullNode();
+        } else if (value instanceof IndexedRecord) {
+            return convert((IndexedRecord) value);
+        } else if (value instanceof CharSequence || value instanceof GenericEnumSymbol) {
+            return nodeFactory.textNode(value.toString());
+        } else if (value instanceof Integer) {
+            return nodeFactory.numberNode((Integer) value);
+        } else if (value instanceof Long) {
+            final long longValue = (Long) value;
+            return longValue == (int) longValue ? nodeFactory.numberNode((int) longValue) : nodeFactory.numberNode(longValue);
+        } else if (value instanceof Double) {
+            final double doubleValue = (Double) value;
+            return Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)
+                    ? nodeFactory.textNode(value.toString()) : nodeFactory.numberNode(doubleValue);
+        } else if (value instanceof Float) {
+            final float floatValue = (Float) value;
+            // Widen through the decimal representation so 0.1f stays 0.1 rather than 0.10000000149011612
+            return Float.isNaN(floatValue) || Float.isInfinite(floatValue)
+                    ? nodeFactory.textNode(value.toString()) : nodeFactory.numberNode(Double.parseDouble(value.toString()));
+        } else if (value instanceof Boolean) {
+            return nodeFactory.booleanNode((Boolean) value);
+        } else if (value instanceof Map) {
+            final ObjectNode objectNode = nodeFactory.objectNode();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                objectNode.set(String.valueOf(entry.getKey()), convertValue(entry.getValue()));
+            }
+            return objectNode;
+        } else if (value instanceof Collection) {
+            final ArrayNode arrayNode = nodeFactory.arrayNode(((Collection<?>) value).size());
+            for (final Object element : (Collection<?>) value) {
+                arrayNode.add(convertValue(element));
+            }
+            return arrayNode;
+        } else if (value instanceof ByteBuffer) {
+            return nodeFactory.textNode(StandardCharsets.ISO_8859_1.decode(((ByteBuffer) value).duplicate()).toString());
+        } else if (value instanceof GenericFixed) {
+            final byte[] bytes = ((GenericFixed) value).bytes();
+            final ArrayNode arrayNode = nodeFactory.arrayNode(bytes.length);
+            for (final byte element : bytes) {
+                arrayNode.add((int) element);
+            }
+            return arrayNode;
+        } else if (value instanceof BigDecimal) {
+            return nodeFactory.numberNode(((BigDecimal) value).doubleValue());
+        }
+        // Logical type values such as java.time instants and UUIDs are rendered as strings
+        return nodeFactory.textNode(value.toString());
+    }
+
+    private static String[] getFieldNames(final Schema schema) {
+        final List<Schema.Field> fields = schema.getFields();
+        final String[] fieldNames = new String[fields.size()];
+        for (final Schema.Field field : fields) {
+            fieldNames[field.pos()] = field.name();
+        }
+        return fieldNames;
+    }
+}
@@ -14,6 +14,7 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.commons.lang3.Range;
@@ -57,10 +58,15 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -89,6 +95,7 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
     private final Buffer<Record<Event>> buffer;
     private static final ObjectMapper objectMapper = new ObjectMapper();
     private final JsonFactory jsonFactory = new JsonFactory();
+    private final GenericRecordConverter genericRecordConverter = new GenericRecordConverter();
     private Map<TopicPartition, OffsetAndMetadata> offsetsToCommit;
     private Map<TopicPartition, Long> ownedPartitionsEpoch;
     private Set<TopicPartition> partitionsToReset;
@@ -110,6 +117,7 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
     private final Map<Integer, Long> partitionToLastReceivedTimestampMillis;
     private final CompressionOption compressionConfig;
     private final boolean invokeCallbackOnExpiry;
+    private final ExecutorService decodeExecutor;
 
     public KafkaCustomConsumer(final KafkaConsumer consumer,
                                final AtomicBoolean shutdownInProgress,
@@ -123,7 +131,32 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
                                final PauseConsumePredicate pauseConsumePredicate,
                                final CompressionOption compressionConfig,
                                final boolean invokeCallbackOnExpiry) {
+        this(consumer, shutdownInProgress, buffer, consumerConfig, topicConfig, schemaType, acknowledgementSetManager, byteDecoder,
+                topicMetrics, pauseConsumePredicate, compressionConfig, invokeCallbackOnExpiry, null);
+    }
+
+    /**
+     * Creates a consumer which converts the records of each partition into events on the given executor. Partitions
+     * are converted concurrently, while the records of each partition are still converted, written to the buffer and
+     * committed in order. The executor is owned by the caller and may be shared by the consumers of a topic.
+     *
+     * @param decodeExecutor the executor for converting records, or null to convert them on the consumer thread
+     */
+    public KafkaCustomConsumer(final KafkaConsumer consumer,
+                               final AtomicBoolean shutdownInProgress,
+                               final Buffer<Record<Event>> buffer,
+                               final KafkaConsumerConfig consumerConfig,
+                               final TopicConsumerConfig topicConfig,
+                               final String schemaType,
+                               final AcknowledgementSetManager acknowledgementSetManager,
+                               final ByteDecoder byteDecoder,
+                               final KafkaTopicConsumerMetrics topicMetrics,
+                               final PauseConsumePredicate pauseConsumePredicate,
+                               final CompressionOption compressionConfig,
+                               final boolean invokeCallbackOnExpiry,
+                               final ExecutorService decodeExecutor) {
         this.topicName = topicConfig.getName();
+        this.decodeExecutor = decodeExecutor;
         this.topicConfig = topicConfig;
         this.shutdownInProgress = shutdownInProgress;
         this.consumer = consumer;
@@ -136,7 +169,7 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         this.pauseConsumePredicate = pauseConsumePredicate;
         this.topicMetrics.register(consumer);
         this.offsetsToCommit = new HashMap<>();
-        this.partitionToLastReceivedTimestampMillis = new HashMap<>();
+        this.partitionToLastReceivedTimestampMillis = new ConcurrentHashMap<>();
         this.ownedPartitionsEpoch = new HashMap<>();
         this.metricsUpdatedTime = Instant.now().getEpochSecond();
         this.acknowledgedOffsets = new ArrayList<>();
@@ -224,8 +257,10 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
 
     <T> ConsumerRecords<String, T> doPoll() throws Exception {
             topicMetrics.recordTimeBetweenPolls();
+            final long pollStartNanos = System.nanoTime();
             ConsumerRecords<String, T> records =
                     consumer.poll(Duration.ofMillis(topicConfig.getThreadWaitingTime().toMillis()/2));
+            topicMetrics.recordPollTime(System.nanoTime() - pollStartNanos);
             return records;
     }
 
@@ -458,7 +493,6 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
 
     private <T> Record<Event> getRecord(ConsumerRecord<String, T> consumerRecord, int partition) {
         Instant now = Instant.now();
-        Map<String, Object> data = new HashMap<>();
         Event event;
         Object value = consumerRecord.value();
         String key = (String)consumerRecord.key();
@@ -467,37 +501,38 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         try {
             if (value instanceof JsonDataWithSchema) {
                 JsonDataWithSchema j = (JsonDataWithSchema)consumerRecord.value();
-                value = objectMapper.readValue(j.getPayload(), Map.class);
-            } else if (schema == MessageFormat.AVRO || value instanceof GenericRecord) {
+                value = toObjectNode(objectMapper.readTree(j.getPayload()));
+            } else if (value instanceof GenericRecord) {
+                value = genericRecordConverter.convert((GenericRecord) value);
+            } else if (schema == MessageFormat.AVRO) {
                 final JsonParser jsonParser = jsonFactory.createParser((String)consumerRecord.value().toString());
-                value = objectMapper.readValue(jsonParser, Map.class);
+                value = toObjectNode(objectMapper.readTree(jsonParser));
             } else if (schema == MessageFormat.PLAINTEXT) {
                 value = (String)consumerRecord.value();
                 plainTextMode = true;
             } else if (schema == MessageFormat.JSON) {
-                value = objectMapper.convertValue(value, Map.class);
+                value = toObjectNode(value instanceof JsonNode ? (JsonNode) value : objectMapper.valueToTree(value));
+            } else if (value instanceof Map) {
+                value = objectMapper.valueToTree(value);
             }
         } catch (Exception e){
             LOG.error("Failed to parse JSON or AVRO record", e);
             topicMetrics.getNumberOfRecordsFailedToParse().increment();
         }
-        if (!plainTextMode) {
-            if (!(value instanceof Map)) {
-                data.put(key, value);
-            } else {
-                Map<String, Object> valueMap = (Map<String, Object>)value;
-                if (kafkaKeyMode == KafkaKeyMode.INCLUDE_AS_FIELD) {
-                    valueMap.put("kafka_key", key);
-                }
-                data = valueMap;
+        if (!plainTextMode && value instanceof ObjectNode) {
+            ObjectNode valueNode = (ObjectNode) value;
+            if (kafkaKeyMode == KafkaKeyMode.INCLUDE_AS_FIELD) {
+                valueNode.put("kafka_key", key);
             }
+            event = JacksonLog.builder().withData(valueNode).build();
         } else {
-            if (Objects.isNull(key)) {
+            if (plainTextMode && Objects.isNull(key)) {
                 key = DEFAULT_KEY;
             }
+            Map<String, Object> data = new HashMap<>();
             data.put(key, value);
+            event = JacksonLog.builder().withData(data).build();
         }
-        event = JacksonLog.builder().withData(data).build();
         EventMetadata eventMetadata = event.getMetadata();
         if (kafkaKeyMode == KafkaKeyMode.INCLUDE_AS_METADATA) {
             eventMetadata.setAttribute("kafka_key", key);
@@ -517,6 +552,13 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         return new Record<Event>(event);
     }
 
+    private static ObjectNode toObjectNode(final JsonNode jsonNode) {
+        if (!(jsonNode instanceof ObjectNode)) {
+            throw new IllegalArgumentException("Expected a JSON object but found " + jsonNode.getNodeType());
+        }
+        return (ObjectNode) jsonNode;
+    }
+
     private void processRecords(final AcknowledgementSet acknowledgementSet, final List<Record<Event>> eventRecords) {
         // Always add record to acknowledgementSet before adding to
         // buffer because another thread may take and process
@@ -570,6 +612,7 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
 
     private <T> void iterateRecordPartitions(ConsumerRecords<String, T> records, final AcknowledgementSet acknowledgementSet,
                                              Map<TopicPartition, CommitOffsetRange> offsets) throws Exception {
+        final Map<TopicPartition, Long> partitionEpochs = new LinkedHashMap<>();
         for (TopicPartition topicPartition : records.partitions()) {
             final long partitionEpoch = getPartitionEpoch(topicPartition);
             if (acknowledgementsEnabled && partitionEpoch == 0) {
@@ -578,45 +621,90 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
                 }
                 continue;
             }
+            partitionEpochs.put(topicPartition, partitionEpoch);
+        }
 
-            List<ConsumerRecord<String, T>> partitionRecords = records.records(topicPartition);
-            final List<Record<Event>> eventRecords = new ArrayList<>();
-            for (ConsumerRecord<String, T> consumerRecord : partitionRecords) {
-                if (schema == MessageFormat.BYTES) {
-                    InputStream byteInputStream = new ByteArrayInputStream((byte[])consumerRecord.value());
-                    InputStream decompressedInputStream = compressionConfig.getDecompressionEngine().createInputStream(byteInputStream);
-
-                    if(byteDecoder != null) {
-                        final long receivedTimeStamp = getRecordTimeStamp(consumerRecord, Instant.now().toEpochMilli());
+        final Map<TopicPartition, Future<List<Record<Event>>>> decodedPartitions = new HashMap<>();
+        if (decodeExecutor != null && partitionEpochs.size() > 1) {
+            for (TopicPartition topicPartition : partitionEpochs.keySet()) {
+                decodedPartitions.put(topicPartition, decodeExecutor.submit(
+                        () -> decodePartitionRecords(records.records(topicPartition), topicPartition.partition())));
+            }
+        }
 
-                        byteDecoder.parse(decompressedInputStream, Instant.ofEpochMilli(receivedTimeStamp), eventRecords::add);
-                    } else {
-                        JsonNode jsonNode = objectMapper.readValue(decompressedInputStream, JsonNode.class);
+        try {
+            for (Map.Entry<TopicPartition, Long> partitionEpochEntry : partitionEpochs.entrySet()) {
+                final TopicPartition topicPartition = partitionEpochEntry.getKey();
+                processPartitionRecords(topicPartition, partitionEpochEntry.getValue(), records.records(topicPartition),
+                        decodedPartitions.get(topicPartition), acknowledgementSet, offsets);
+            }
+        } finally {
+            decodedPartitions.values().forEach(decodedPartition -> decodedPartition.cancel(true));
+        }
+    }
 
-                        Event event = JacksonLog.builder().withData(jsonNode).build();
-                        Record<Event> record = new Record<>(event);
-                        eventRecords.add(record);
-                    }
-                } else {
-                    Record<Event> record = getRecord(consumerRecord, topicPartition.partition());
-                    if (record != null) {
-                        eventRecords.add(record);
-                    }
+    private <T> void processPartitionRecords(final TopicPartition topicPartition,
+                                             final long partitionEpoch,
+                                             final List<ConsumerRecord<String, T>> partitionRecords,
+                                             final Future<List<Record<Event>>> decodedPartition,
+                                             final AcknowledgementSet acknowledgementSet,
+                                             final Map<TopicPartition, CommitOffsetRange> offsets) throws Exception {
+        final List<Record<Event>> eventRecords;
+        if (decodedPartition == null) {
+            eventRecords = decodePartitionRecords(partitionRecords, topicPartition.partition());
+        } else {
+            try {
+                eventRecords = decodedPartition.get();
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof Exception) {
+                    throw (Exception) e.getCause();
                 }
+                throw e;
             }
+        }
 
-            processRecords(acknowledgementSet, eventRecords);
+        processRecords(acknowledgementSet, eventRecords);
 
-            long lastOffset = partitionRecords.get(partitionRecords.size() - 1).offset();
-            long firstOffset = partitionRecords.get(0).offset();
-            Range<Long> offsetRange = Range.between(firstOffset, lastOffset);
-            offsets.put(topicPartition, new CommitOffsetRange(offsetRange, partitionEpoch));
+        long lastOffset = partitionRecords.get(partitionRecords.size() - 1).offset();
+        long firstOffset = partitionRecords.get(0).offset();
+        Range<Long> offsetRange = Range.between(firstOffset, lastOffset);
+        offsets.put(topicPartition, new CommitOffsetRange(offsetRange, partitionEpoch));
 
-            if (acknowledgementsEnabled && !partitionCommitTrackerMap.containsKey(topicPartition.partition())) {
-                partitionCommitTrackerMap.put(topicPartition.partition(),
-                        new TopicPartitionCommitTracker(topicPartition, firstOffset));
+        if (acknowledgementsEnabled && !partitionCommitTrackerMap.containsKey(topicPartition.partition())) {
+            partitionCommitTrackerMap.put(topicPartition.partition(),
+                    new TopicPartitionCommitTracker(topicPartition, firstOffset));
+        }
+    }
+
+    private <T> List<Record<Event>> decodePartitionRecords(final List<ConsumerRecord<String, T>> partitionRecords,
+                                                           final int partition) throws Exception {
+        final long decodeStartNanos = System.nanoTime();
+        final List<Record<Event>> eventRecords = new ArrayList<>();
+        for (ConsumerRecord<String, T> consumerRecord : partitionRecords) {
+            if (schema == MessageFormat.BYTES) {
+                InputStream byteInputStream = new ByteArrayInputStream((byte[])consumerRecord.value());
+                InputStream decompressedInputStream = compressionConfig.getDecompressionEngine().createInputStream(byteInputStream);
+
+                if(byteDecoder != null) {
+                    final long receivedTimeStamp = getRecordTimeStamp(consumerRecord, Instant.now().toEpochMilli());
+
+                    byteDecoder.parse(decompressedInputStream, Instant.ofEpochMilli(receivedTimeStamp), eventRecords::add);
+                } else {
+                    JsonNode jsonNode = objectMapper.readValue(decompressedInputStream, JsonNode.class);
+
+                    Event event = JacksonLog.builder().withData(jsonNode).build();
+                    Record<Event> record = new Record<>(event);
+                    eventRecords.add(record);
+                }
+            } else {
+                Record<Event> record = getRecord(consumerRecord, partition);
+                if (record != null) {
+                    eventRecords.add(record);
+                }
             }
         }
+        topicMetrics.recordDecodeTime(System.nanoTime() - decodeStartNanos);
+        return eventRecords;
     }
 
     public void closeConsumer(){
@@ -30,6 +30,7 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.plugin.PluginConfigObservable;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.source.Source;
+import org.opensearch.dataprepper.plugins.codec.CompressionOption;
 import org.opensearch.dataprepper.plugins.kafka.common.KafkaMdc;
 import org.opensearch.dataprepper.plugins.kafka.common.aws.AwsContext;
 import org.opensearch.dataprepper.plugins.kafka.common.thread.KafkaPluginThreadFactory;
@@ -140,6 +141,14 @@ public class KafkaSource implements Source<Record<Event>> {
                     final ExecutorService executorService = Executors.newFixedThreadPool(
                             numWorkers, KafkaPluginThreadFactory.defaultExecutorThreadFactory(MDC_KAFKA_PLUGIN_VALUE, topic.getName()));
                     allTopicExecutorServices.add(executorService);
+                    final ExecutorService decodeExecutorService;
+                    if (topic.getDecodeWorkers() > 0) {
+                        decodeExecutorService = Executors.newFixedThreadPool(topic.getDecodeWorkers(),
+                                KafkaPluginThreadFactory.defaultExecutorThreadFactory(MDC_KAFKA_PLUGIN_VALUE, topic.getName() + "-decode"));
+                        allTopicExecutorServices.add(decodeExecutorService);
+                    } else {
+                        decodeExecutorService = null;
+                    }
 
                     IntStream.range(0, numWorkers).forEach(index -> {
                         while (true) {
@@ -163,7 +172,8 @@ public class KafkaSource implements Source<Record<Event>> {
 
                         }
                         consumer = new KafkaCustomConsumer(kafkaConsumer, shutdownInProgress, buffer, sourceConfig, topic, schemaType,
-                                acknowledgementSetManager, null, topicMetrics, PauseConsumePredicate.noPause());
+                                acknowledgementSetManager, null, topicMetrics, PauseConsumePredicate.noPause(),
+                                CompressionOption.NONE, false, decodeExecutorService);
                         allTopicConsumers.add(consumer);
 
                         executorService.submit(consumer);
@@ -33,6 +33,8 @@ public class KafkaTopicConsumerMetrics {
     static final String NUMBER_OF_RECORDS_CONSUMED = "numberOfRecordsConsumed";
     static final String NUMBER_OF_BYTES_CONSUMED = "numberOfBytesConsumed";
     static final String ACTUAL_POLL_INTERVAL = "actualPollInterval";
+    static final String POLL_TIME = "pollTime";
+    static final String DECODE_TIME = "decodeTime";
 
     private final String topicName;
     private long updateTime;
@@ -50,6 +52,8 @@ public class KafkaTopicConsumerMetrics {
     private final Counter numberOfRecordsConsumed;
     private final Counter numberOfBytesConsumed;
     private final Timer timeBetweenPollCalls;
+    private final Timer pollTime;
+    private final Timer decodeTime;
     private Instant lastPollTime;
 
     public KafkaTopicConsumerMetrics(final String topicName, final PluginMetrics pluginMetrics,
@@ -70,6 +74,8 @@ public class KafkaTopicConsumerMetrics {
         this.numberOfPositiveAcknowledgements = pluginMetrics.counter(getTopicMetricName(NUMBER_OF_POSITIVE_ACKNOWLEDGEMENTS, topicNameInMetrics));
         this.numberOfNegativeAcknowledgements = pluginMetrics.counter(getTopicMetricName(NUMBER_OF_NEGATIVE_ACKNOWLEDGEMENTS, topicNameInMetrics));
         this.timeBetweenPollCalls = pluginMetrics.timer(getTopicMetricName(ACTUAL_POLL_INTERVAL, topicNameInMetrics));
+        this.pollTime = pluginMetrics.timer(getTopicMetricName(POLL_TIME, topicNameInMetrics));
+        this.decodeTime = pluginMetrics.timer(getTopicMetricName(DECODE_TIME, topicNameInMetrics));
         lastPollTime = Instant.now();
     }
 
@@ -181,6 +187,24 @@ public class KafkaTopicConsumerMetrics {
         lastPollTime = Instant.now();
     }
 
+    /**
+     * Records the time spent in a single consumer poll call.
+     *
+     * @param elapsedNanos the duration of the poll in nanoseconds
+     */
+    public void recordPollTime(final long elapsedNanos) {
+        pollTime.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the time spent converting the records of one partition from a poll into events.
+     *
+     * @param elapsedNanos the duration of the conversion in nanoseconds
+     */
+    public void recordDecodeTime(final long elapsedNanos) {
+        decodeTime.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
     private String getTopicMetricName(final String metricName, final boolean topicNameInMetrics) {
         if (topicNameInMetrics) {
             return "topic." + topicName + "." + metricName;
@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GenericRecordConverterTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Schema NESTED_SCHEMA = SchemaBuilder.record("Nested").fields()
+            .requiredString("name")
+            .optionalInt("count")
+            .endRecord();
+
+    private static final Schema SCHEMA = SchemaBuilder.record("Test").fields()
+            .requiredString("message")
+            .requiredInt("intValue")
+            .requiredLong("smallLong")
+            .requiredLong("largeLong")
+            .requiredFloat("floatValue")
+            .requiredDouble("doubleValue")
+            .requiredDouble("nanValue")
+            .requiredBoolean("booleanValue")
+            .requiredBytes("bytesValue")
+            .name("fixedValue").type().fixed("Fixed").size(3).noDefault()
+            .name("enumValue").type().enumeration("Color").symbols("RED", "GREEN").noDefault()
+            .name("arrayValue").type().array().items().stringType().noDefault()
+            .name("mapValue").type().map().values().longType().noDefault()
+            .name("nestedValue").type(NESTED_SCHEMA).noDefault()
+            .optionalString("missingValue")
+            .endRecord();
+
+    private GenericRecordConverter createObjectUnderTest() {
+        return new GenericRecordConverter();
+    }
+
+    @Test
+    void convert_produces_the_same_tree_as_parsing_the_record_string() throws Exception {
+        final GenericRecord record = createRecord();
+
+        final JsonNode jsonNode = createObjectUnderTest().convert(record);
+
+        assertThat(jsonNode, equalTo(OBJECT_MAPPER.readTree(record.toString())));
+    }
+
+    @Test
+    void convert_converts_field_values() {
+        final GenericRecord record = createRecord();
+
+        final JsonNode jsonNode = createObjectUnderTest().convert(record);
+
+        assertThat(jsonNode.get("message").asText(), equalTo(record.get("message").toString()));
+        assertThat(jsonNode.get("intValue").isInt(), equalTo(true));
+        assertThat(jsonNode.get("smallLong").isInt(), equalTo(true));
+        assertThat(jsonNode.get("largeLong").longValue(), equalTo(Long.MAX_VALUE));
+        assertThat(jsonNode.get("floatValue").doubleValue(), equalTo(0.1));
+        assertThat(jsonNode.get("nanValue").asText(), equalTo("NaN"));
+        assertThat(jsonNode.get("bytesValue").asText(), equalTo("bytes"));
+        assertThat(jsonNode.get("enumValue").asText(), equalTo("GREEN"));
+        assertThat(jsonNode.get("nestedValue").get("name").asText(), equalTo("nested"));
+        assertThat(jsonNode.get("nestedValue").get("count").isNull(), equalTo(true));
+        assertThat(jsonNode.get("missingValue").isNull(), equalTo(true));
+    }
+
+    @Test
+    void convert_with_records_of_different_schemas_uses_each_schema() {
+        final GenericRecordConverter objectUnderTest = createObjectUnderTest();
+        final GenericRecord nestedRecord = new GenericData.Record(NESTED_SCHEMA);
+        nestedRecord.put("name", "first");
+        nestedRecord.put("count", 5);
+
+        assertThat(objectUnderTest.convert(createRecord()).size(), equalTo(SCHEMA.getFields().size()));
+        assertThat(objectUnderTest.convert(nestedRecord).get("count").intValue(), equalTo(5));
+        assertThat(objectUnderTest.convert(nestedRecord).size(), equalTo(2));
+    }
+
+    private static GenericRecord createRecord() {
+        final GenericRecord nestedRecord = new GenericData.Record(NESTED_SCHEMA);
+        nestedRecord.put("name", "nested");
+
+        final GenericRecord record = new GenericData.Record(SCHEMA);
+        record.put("message", "message \"quoted\" " + UUID.randomUUID());
+        record.put("intValue", 42);
+        record.put("smallLong", 7L);
+        record.put("largeLong", Long.MAX_VALUE);
+        record.put("floatValue", 0.1f);
+        record.put("doubleValue", 1.5);
+        record.put("nanValue", Double.NaN);
+        record.put("booleanValue", true);
+        record.put("bytesValue", ByteBuffer.wrap("bytes".getBytes()));
+        record.put("fixedValue", new GenericData.Fixed(SCHEMA.getField("fixedValue").schema(), new byte[] {1, 2, -3}));
+        record.put("enumValue", new GenericData.EnumSymbol(SCHEMA.getField("enumValue").schema(), "GREEN"));
+        record.put("arrayValue", List.of("a", "b"));
+        record.put("mapValue", Map.of("key", 1L));
+        record.put("nestedValue", nestedRecord);
+        return record;
+    }
+}
@@ -63,10 +63,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.awaitility.Awaitility.await;
@@ -75,6 +77,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -350,6 +353,43 @@ public class KafkaCustomConsumerTest {
         verify(topicMetrics).recordTimeBetweenPolls();
     }
 
+    @Test
+    public void testPlainTextConsumeRecordsWithDecodeExecutor() throws Exception {
+        String topic = topicConfig.getName();
+        Map<TopicPartition, List<ConsumerRecord>> records = new HashMap<>();
+        records.put(new TopicPartition(topic, testPartition), Arrays.asList(
+                new ConsumerRecord<>(topic, testPartition, 0L, testKey1, "p0-0"),
+                new ConsumerRecord<>(topic, testPartition, 1L, testKey1, "p0-1")));
+        records.put(new TopicPartition(topic, testJsonPartition), Arrays.asList(
+                new ConsumerRecord<>(topic, testJsonPartition, 10L, testKey1, "p1-0"),
+                new ConsumerRecord<>(topic, testJsonPartition, 11L, testKey1, "p1-1")));
+        consumerRecords = new ConsumerRecords(records);
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(consumerRecords);
+        when(sourceConfig.getAcknowledgementsEnabled()).thenReturn(false);
+        when(sourceConfig.getAcknowledgementsTimeout()).thenReturn(Duration.ofSeconds(Integer.MAX_VALUE));
+        final ExecutorService decodeExecutor = Executors.newFixedThreadPool(2);
+        try {
+            consumer = new KafkaCustomConsumer(kafkaConsumer, shutdownInProgress, buffer, sourceConfig, topicConfig, "plaintext",
+                    acknowledgementSetManager, null, topicMetrics, pauseConsumePredicate, null, false, decodeExecutor);
+
+            consumer.consumeRecords();
+        } finally {
+            decodeExecutor.shutdownNow();
+        }
+
+        final List<String> values = buffer.read(1000).getKey().stream()
+                .map(record -> record.getData().get(testKey1, String.class))
+                .collect(Collectors.toList());
+        assertThat(values.size(), equalTo(4));
+        assertThat(values.indexOf("p0-0"), lessThan(values.indexOf("p0-1")));
+        assertThat(values.indexOf("p1-0"), lessThan(values.indexOf("p1-1")));
+        Map<TopicPartition, OffsetAndMetadata> offsetsToCommit = consumer.getOffsetsToCommit();
+        assertThat(offsetsToCommit.get(new TopicPartition(topic, testPartition)).offset(), equalTo(2L));
+        assertThat(offsetsToCommit.get(new TopicPartition(topic, testJsonPartition)).offset(), equalTo(12L));
+        verify(topicMetrics, times(2)).recordDecodeTime(anyLong());
+        verify(topicMetrics).recordPollTime(anyLong());
+    }
+
     @Test
     public void testPlainTextConsumeRecordsWithHeaders() throws InterruptedException {
         testStringHeader = UUID.randomUUID().toString();
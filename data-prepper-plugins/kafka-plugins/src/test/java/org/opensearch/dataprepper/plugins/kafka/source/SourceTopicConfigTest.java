@@ -36,6 +36,7 @@ class SourceTopicConfigTest {
         assertThat(objectUnderTest.getMaxPollInterval(), equalTo(SourceTopicConfig.DEFAULT_MAX_POLL_INTERVAL));
         assertThat(objectUnderTest.getConsumerMaxPollRecords(), equalTo(SourceTopicConfig.DEFAULT_CONSUMER_MAX_POLL_RECORDS));
         assertThat(objectUnderTest.getWorkers(), equalTo(SourceTopicConfig.DEFAULT_NUM_OF_WORKERS));
+        assertThat(objectUnderTest.getDecodeWorkers(), equalTo(SourceTopicConfig.DEFAULT_NUM_OF_DECODE_WORKERS));
         assertThat(objectUnderTest.getHeartBeatInterval(), equalTo(SourceTopicConfig.DEFAULT_HEART_BEAT_INTERVAL_DURATION));
     }
 
@@ -37,8 +37,11 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.plugins.kafka.util.KafkaTopicConsumerMetrics.ACTUAL_POLL_INTERVAL;
+import static org.opensearch.dataprepper.plugins.kafka.util.KafkaTopicConsumerMetrics.DECODE_TIME;
+import static org.opensearch.dataprepper.plugins.kafka.util.KafkaTopicConsumerMetrics.POLL_TIME;
 
 @ExtendWith(MockitoExtension.class)
 public class KafkaTopicConsumerMetricsTests {
@@ -90,6 +93,12 @@ public class KafkaTopicConsumerMetricsTests {
     @Mock
     private Timer timeBetweenPolls;
 
+    @Mock
+    private Timer pollTime;
+
+    @Mock
+    private Timer decodeTime;
+
     @Mock
     private Counter recordsConsumedCounter;
     private double bytesConsumedCount;
@@ -134,6 +143,8 @@ public class KafkaTopicConsumerMetricsTests {
             }
         }).when(pluginMetrics).counter(any(String.class));
         when(pluginMetrics.timer("topic." + topicName + "." + ACTUAL_POLL_INTERVAL)).thenReturn(timeBetweenPolls);
+        when(pluginMetrics.timer("topic." + topicName + "." + POLL_TIME)).thenReturn(pollTime);
+        when(pluginMetrics.timer("topic." + topicName + "." + DECODE_TIME)).thenReturn(decodeTime);
     }
 
     public KafkaTopicConsumerMetrics createObjectUnderTest() {
@@ -392,4 +403,21 @@ public class KafkaTopicConsumerMetricsTests {
         assertThat(recordedTime, lessThan(1000L));
     }
 
+    @Test
+    void recordPollTime_records_the_poll_duration() {
+        topicMetrics = createObjectUnderTest();
+
+        topicMetrics.recordPollTime(1_000L);
+
+        verify(pollTime).record(1_000L, TimeUnit.NANOSECONDS);
+    }
+
+    @Test
+    void recordDecodeTime_records_the_decode_duration() {
+        topicMetrics = createObjectUnderTest();
+
+        topicMetrics.recordDecodeTime(2_000L);
+
+        verify(decodeTime).record(2_000L, TimeUnit.NANOSECONDS);
+    }
 }
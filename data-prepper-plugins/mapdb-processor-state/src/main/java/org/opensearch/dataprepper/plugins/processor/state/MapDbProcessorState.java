@@ -8,11 +8,17 @@ package org.opensearch.dataprepper.plugins.processor.state;
 import org.opensearch.dataprepper.processor.state.ProcessorState;
 import com.google.common.primitives.SignedBytes;
 import org.mapdb.BTreeMap;
+import org.mapdb.DB;
 import org.mapdb.DBMaker;
+import org.mapdb.DataInput2;
+import org.mapdb.DataOutput2;
 import org.mapdb.Serializer;
+import org.mapdb.serializer.GroupSerializer;
+import org.mapdb.serializer.GroupSerializerObjectArray;
 import org.mapdb.serializer.SerializerByteArray;
 
 import java.io.File;
+import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -31,24 +37,76 @@ public class MapDbProcessorState<V> implements ProcessorState<byte[], V> {
         }
     }
 
+    private static class ValueSerializer<V> extends GroupSerializerObjectArray<V> {
+        private final ProcessorStateSerializer<V> serializer;
+
+        private ValueSerializer(final ProcessorStateSerializer<V> serializer) {
+            this.serializer = serializer;
+        }
+
+        @Override
+        public void serialize(final DataOutput2 out, final V value) throws IOException {
+            serializer.serialize(out, value);
+        }
+
+        @Override
+        public V deserialize(final DataInput2 input, final int available) throws IOException {
+            return serializer.deserialize(input);
+        }
+    }
+
     private static final SignedByteArraySerializer SIGNED_BYTE_ARRAY_SERIALIZER = new SignedByteArraySerializer();
 
+    private final DB db;
     private final BTreeMap<byte[], V> map;
     private final File dbFile;
 
     public MapDbProcessorState(final File dbPath, final String dbName, final int concurrencyScale) {
-        // TODO: Cleanup references to file-based map
+        this(dbPath, dbName, concurrencyScale, MapDbStorageType.HEAP, null);
+    }
+
+    /**
+     * Creates a processor state with the given storage type.
+     *
+     * @param dbPath           Directory for memory-mapped database files
+     * @param dbName           Name of the database
+     * @param concurrencyScale Number of segments used for concurrent access
+     * @param storageType      Where to keep the entries
+     * @param valueSerializer  Serializer for the values, or null to use Java serialization
+     */
+    public MapDbProcessorState(final File dbPath, final String dbName, final int concurrencyScale,
+                               final MapDbStorageType storageType, final ProcessorStateSerializer<V> valueSerializer) {
         this.dbFile = new File(String.join("/", dbPath.getPath(), dbName));
-        map =
-                (BTreeMap<byte[], V>) DBMaker.heapDB()
-                        .executorEnable()
-                        .closeOnJvmShutdown()
-                        .concurrencyScale(concurrencyScale)
-                        .make()
-                        .treeMap(dbName)
-                        .counterEnable() //Treemap doesnt keep:q size counter by default
-                        .keySerializer(SIGNED_BYTE_ARRAY_SERIALIZER)
-                        .valueSerializer(Serializer.JAVA).createOrOpen();
+        this.db = createDb(dbFile, storageType, concurrencyScale);
+        final GroupSerializer<V> mapDbValueSerializer = valueSerializer == null
+                ? (GroupSerializer<V>) Serializer.JAVA
+                : new ValueSerializer<>(valueSerializer);
+        map = (BTreeMap<byte[], V>) db.treeMap(dbName)
+                .counterEnable() //Treemap doesnt keep:q size counter by default
+                .keySerializer(SIGNED_BYTE_ARRAY_SERIALIZER)
+                .valueSerializer(mapDbValueSerializer).createOrOpen();
+    }
+
+    private static DB createDb(final File dbFile, final MapDbStorageType storageType, final int concurrencyScale) {
+        if (storageType == MapDbStorageType.MEMORY_MAPPED) {
+            // A file left behind by an unclean shutdown only holds expired window data
+            if (dbFile.exists() && !dbFile.delete()) {
+                throw new RuntimeException(String.format("Unable to delete the existing database file: %s", dbFile.getPath()));
+            }
+            return DBMaker.fileDB(dbFile)
+                    .fileMmapEnableIfSupported()
+                    .fileMmapPreclearDisable()
+                    .fileDeleteAfterClose()
+                    .executorEnable()
+                    .closeOnJvmShutdown()
+                    .concurrencyScale(concurrencyScale)
+                    .make();
+        }
+        return DBMaker.heapDB()
+                .executorEnable()
+                .closeOnJvmShutdown()
+                .concurrencyScale(concurrencyScale)
+                .make();
     }
 
     @Override
@@ -123,6 +181,10 @@ public class MapDbProcessorState<V> implements ProcessorState<byte[], V> {
     }
 
 
+    /**
+     * @return Allocated size of the memory-mapped database file, or 0 for heap storage. The file does not
+     * shrink when entries are removed, so this is a high-water mark rather than the size of the live entries.
+     */
     @Override
     public long sizeInBytes() {
         return dbFile.length();
@@ -135,7 +197,7 @@ public class MapDbProcessorState<V> implements ProcessorState<byte[], V> {
 
     @Override
     public void delete() {
-        map.close();
+        db.close();
     }
 
     private static class KeyRange {
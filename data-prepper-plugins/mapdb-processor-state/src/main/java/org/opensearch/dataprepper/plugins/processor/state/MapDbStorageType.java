@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+/**
+ * Where a {@link MapDbProcessorState} keeps its entries.
+ */
+public enum MapDbStorageType {
+    /**
+     * Entries are kept on the Java heap.
+     */
+    HEAP,
+    /**
+     * Entries are kept in a memory-mapped file under the database path. The file is deleted
+     * when the state is deleted.
+     */
+    MEMORY_MAPPED
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes values of a {@link MapDbProcessorState} in a compact binary form, as an alternative
+ * to Java serialization.
+ *
+ * @param <V> the value type
+ */
+public interface ProcessorStateSerializer<V> {
+    void serialize(DataOutput output, V value) throws IOException;
+
+    V deserialize(DataInput input) throws IOException;
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemoryMappedMapDbProcessorStateTest extends ProcessorStateTest {
+    private static final String DB_NAME = "testDb";
+
+    @TempDir
+    File temporaryFile;
+
+    @BeforeEach
+    public void setProcessorState() {
+        this.processorState = createProcessorState();
+    }
+
+    private MapDbProcessorState<DataClass> createProcessorState() {
+        return new MapDbProcessorState<>(temporaryFile, DB_NAME, 16, MapDbStorageType.MEMORY_MAPPED, new DataClassSerializer());
+    }
+
+    @Test
+    void sizeInBytes_reports_the_allocated_database_file_size() {
+        processorState.put(UUID.randomUUID().toString().getBytes(), new DataClass(UUID.randomUUID().toString(), random.nextInt()));
+
+        assertTrue(new File(temporaryFile, DB_NAME).exists());
+        assertTrue(processorState.sizeInBytes() > 0);
+    }
+
+    @Test
+    void delete_removes_the_database_file() {
+        processorState.delete();
+
+        assertFalse(new File(temporaryFile, DB_NAME).exists());
+        assertEquals(0, processorState.sizeInBytes());
+
+        processorState = createProcessorState();
+    }
+
+    @Test
+    void constructor_replaces_an_existing_database_file() throws IOException {
+        processorState.delete();
+        Files.write(new File(temporaryFile, DB_NAME).toPath(), new byte[] {1, 2, 3});
+
+        processorState = createProcessorState();
+
+        assertEquals(0, processorState.size());
+    }
+
+    private static class DataClassSerializer implements ProcessorStateSerializer<DataClass> {
+        @Override
+        public void serialize(final DataOutput output, final DataClass value) throws IOException {
+            output.writeUTF(value.stringVal);
+            output.writeInt(value.intVal);
+        }
+
+        @Override
+        public DataClass deserialize(final DataInput input) throws IOException {
+            return new DataClass(input.readUTF(), input.readInt());
+        }
+    }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.processor.obfuscation;
 
+import org.opensearch.dataprepper.common.regex.MultiPatternMatcher;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.NOISY;
@@ -45,6 +46,7 @@ public class ObfuscationProcessor extends AbstractProcessor<Record<Event>, Recor
     private final boolean singleWordOnly;
 
     private final List<Pattern> patterns;
+    private final MultiPatternMatcher patternMatcher;
     private final ObfuscationAction action;
 
 
@@ -109,6 +111,7 @@ public class ObfuscationProcessor extends AbstractProcessor<Record<Event>, Recor
                 }
             }
         }
+        this.patternMatcher = MultiPatternMatcher.compile(patterns);
 
     }
 
@@ -131,7 +134,7 @@ public class ObfuscationProcessor extends AbstractProcessor<Record<Event>, Recor
                 String rawValue = recordEvent.get(source, String.class);
 
                 // Call obfuscation action
-                String newValue = this.action.obfuscate(rawValue, patterns, record);
+                String newValue = obfuscate(rawValue, record);
 
                 // No changes means it does not match any patterns
                 if (rawValue.equals(newValue)) {
@@ -151,6 +154,19 @@ public class ObfuscationProcessor extends AbstractProcessor<Record<Event>, Recor
         return records;
     }
 
+    private String obfuscate(final String rawValue, final Record<Event> record) {
+        if (patterns.isEmpty()) {
+            return this.action.obfuscate(rawValue, patterns, record);
+        }
+        // Patterns before the first candidate cannot match the raw value, so they are skipped. Later patterns
+        // are all applied, since an earlier replacement may produce text which they match.
+        final int firstCandidate = patternMatcher.candidates(rawValue).nextSetBit(0);
+        if (firstCandidate < 0) {
+            return rawValue;
+        }
+        return this.action.obfuscate(rawValue, patterns.subList(firstCandidate, patterns.size()), record);
+    }
+
     private ObfuscationAction createDefaultAction() {
         LOG.debug("Create a default mask action");
         final MaskActionConfig config = new MaskActionConfig();
@@ -31,7 +31,7 @@ public class MaskAction implements ObfuscationAction {
         }
         for (Pattern pattern : patterns) {
             // Simply use the replaceAll function with baseReplacement string.
-            source = source.replaceAll(pattern.pattern(), baseReplacement);
+            source = pattern.matcher(source).replaceAll(baseReplacement);
         }
         return source;
     }
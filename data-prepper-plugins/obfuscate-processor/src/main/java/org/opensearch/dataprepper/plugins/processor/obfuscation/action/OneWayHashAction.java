@@ -82,7 +82,7 @@ public class OneWayHashAction implements ObfuscationAction {
 
         for (Pattern pattern : patterns) {
             
-            Matcher matcher = Pattern.compile(pattern.pattern()).matcher(replacementString);
+            Matcher matcher = pattern.matcher(replacementString);
             StringBuffer stringBuffer = new StringBuffer();
 
             while (matcher.find()) {
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
@@ -29,6 +30,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -41,6 +44,8 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 
@@ -159,6 +164,57 @@ class ObfuscationProcessorTest {
         assertThat(data.get("message", String.class), equalTo("abc"));
     }
 
+    @Test
+    void testProcessorSkipsPatternsWhichCannotMatch() {
+        final ObfuscationAction mockAction = createProcessorWithMockAction(List.of("password=\\w+", "token=\\w+"));
+        when(mockAction.obfuscate(eq("token=abc"), anyList(), any())).thenReturn("token=***");
+
+        final Record<Event> record = createRecord("token=abc");
+        obfuscationProcessor.doExecute(Collections.singletonList(record));
+
+        final ArgumentCaptor<List<Pattern>> patternsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(mockAction).obfuscate(eq("token=abc"), patternsCaptor.capture(), eq(record));
+        assertThat(patternsCaptor.getValue().stream().map(Pattern::pattern).collect(Collectors.toList()),
+                equalTo(List.of("token=\\w+")));
+        assertThat(record.getData().get("message", String.class), equalTo("token=***"));
+
+        final Record<Event> unmatchedRecord = createRecord("user=abc");
+        obfuscationProcessor.doExecute(Collections.singletonList(unmatchedRecord));
+
+        verifyNoMoreInteractions(mockAction);
+        assertThat(unmatchedRecord.getData().get("message", String.class), equalTo("user=abc"));
+        assertThat(unmatchedRecord.getData().getMetadata().getTags().contains(mockConfig.getTagsOnMatchFailure().get(0)), equalTo(true));
+    }
+
+    @Test
+    void testProcessorAppliesPatternsWithoutLiterals() {
+        final ObfuscationAction mockAction = createProcessorWithMockAction(List.of("password=\\w+", "\\d{4}"));
+        when(mockAction.obfuscate(eq("pin 1234"), anyList(), any())).thenReturn("pin ***");
+
+        final Record<Event> record = createRecord("pin 1234");
+        obfuscationProcessor.doExecute(Collections.singletonList(record));
+
+        final ArgumentCaptor<List<Pattern>> patternsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(mockAction).obfuscate(eq("pin 1234"), patternsCaptor.capture(), eq(record));
+        assertThat(patternsCaptor.getValue().stream().map(Pattern::pattern).collect(Collectors.toList()),
+                equalTo(List.of("\\d{4}")));
+        assertThat(record.getData().get("message", String.class), equalTo("pin ***"));
+    }
+
+    private ObfuscationAction createProcessorWithMockAction(final List<String> patterns) {
+        final PluginModel mockModel = mock(PluginModel.class);
+        final ObfuscationAction mockAction = mock(ObfuscationAction.class);
+
+        when(mockModel.getPluginName()).thenReturn("mock");
+        when(mockModel.getPluginSettings()).thenReturn(new HashMap<>());
+        when(mockConfig.getAction()).thenReturn(mockModel);
+        when(mockConfig.getPatterns()).thenReturn(patterns);
+
+        when(mockFactory.loadPlugin(eq(ObfuscationAction.class), any(PluginSetting.class)))
+                .thenReturn(mockAction);
+        obfuscationProcessor = new ObfuscationProcessor(pluginMetrics, mockConfig, mockFactory, expressionEvaluator);
+        return mockAction;
+    }
 
     @ParameterizedTest
     @ValueSource(strings = {"hello", "hello, world", "This is a message", "123", "你好"})
@@ -25,6 +25,7 @@ import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.MetricNames;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventFormatTemplate;
 import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.event.InternalEventHandle;
 import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
@@ -41,6 +42,7 @@ import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.AccumulatingBulkR
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkApiWrapper;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkApiWrapperFactory;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkOperationWriter;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkRequestDispatcher;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.JavaClientAccumulatingCompressedBulkRequest;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.JavaClientAccumulatingUncompressedBulkRequest;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.SerializedJson;
@@ -73,6 +75,7 @@ import java.util.StringJoiner;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -85,6 +88,7 @@ import static org.opensearch.dataprepper.logging.DataPrepperMarkers.NOISY;
 public class BulkIngester implements Ingester {
     private static final Logger LOG = LoggerFactory.getLogger(BulkIngester.class);
     private static final String PLUGIN_NAME = "opensearch";
+    private static final long IN_FLIGHT_BULK_REQUESTS_SHUTDOWN_TIMEOUT_SECONDS = 30L;
 
     private final OpenSearchSinkConfiguration openSearchSinkConfig;
     private final ExpressionEvaluator expressionEvaluator;
@@ -103,11 +107,14 @@ public class BulkIngester implements Ingester {
     private final long flushTimeout;
     private final String documentIdField;
     private final String documentId;
+    private final EventFormatTemplate documentIdTemplate;
     private final String routingField;
     private final String routing;
+    private final EventFormatTemplate routingTemplate;
     private final String documentRootKey;
     private final VersionType versionType;
     private final String versionExpression;
+    private final EventFormatTemplate versionExpressionTemplate;
     private final ScriptManager scriptManager;
     private final BulkOperationFactory bulkOperationFactory;
     private final FailedBulkOperationConverter failedBulkOperationConverter;
@@ -125,6 +132,8 @@ public class BulkIngester implements Ingester {
     private final DlqProvider dlqProvider;
     private final String dlqFile;
     private final ExecutorService queryExecutorService;
+    private final ExecutorService bulkExecutorService;
+    private final BulkRequestDispatcher bulkRequestDispatcher;
     private final CustomDocumentBuilder customDocumentBuilder;
 
     private boolean useEventInBulkOperation;
@@ -138,6 +147,7 @@ public class BulkIngester implements Ingester {
     private ExistingDocumentQueryManager existingDocumentQueryManager;
     private IndexManager indexManager;
     private String configuredIndexAlias;
+    private EventFormatTemplate indexAliasTemplate;
 
     public BulkIngester(final OpenSearchSinkConfiguration openSearchSinkConfig,
                         final ExpressionEvaluator expressionEvaluator,
@@ -168,11 +178,14 @@ public class BulkIngester implements Ingester {
         this.flushTimeout = openSearchSinkConfig.getIndexConfiguration().getFlushTimeout();
         this.documentIdField = openSearchSinkConfig.getIndexConfiguration().getDocumentIdField();
         this.documentId = openSearchSinkConfig.getIndexConfiguration().getDocumentId();
+        this.documentIdTemplate = compileTemplate(documentId);
         this.routingField = openSearchSinkConfig.getIndexConfiguration().getRoutingField();
         this.routing = openSearchSinkConfig.getIndexConfiguration().getRouting();
+        this.routingTemplate = compileTemplate(routing);
         this.documentRootKey = openSearchSinkConfig.getIndexConfiguration().getDocumentRootKey();
         this.versionType = openSearchSinkConfig.getIndexConfiguration().getVersionType();
         this.versionExpression = openSearchSinkConfig.getIndexConfiguration().getVersionExpression();
+        this.versionExpressionTemplate = compileTemplate(versionExpression);
         this.scriptManager = new ScriptManager(openSearchSinkConfig.getIndexConfiguration().getScriptConfiguration(),
                 expressionEvaluator);
         this.bulkOperationFactory = new BulkOperationFactory(versionType, scriptManager, new ObjectMapper(),
@@ -203,6 +216,36 @@ public class BulkIngester implements Ingester {
         this.queryExecutorService = openSearchSinkConfig.getIndexConfiguration().getQueryTerm() != null ?
                 Executors.newSingleThreadExecutor(
                         BackgroundThreadFactory.defaultExecutorThreadFactory("existing-document-query-manager")) : null;
+
+        final int maxInFlightBulkRequests = openSearchSinkConfig.getIndexConfiguration().getMaxInFlightBulkRequests();
+        if (maxInFlightBulkRequests > 1) {
+            this.bulkExecutorService = Executors.newFixedThreadPool(maxInFlightBulkRequests,
+                    BackgroundThreadFactory.defaultExecutorThreadFactory("opensearch-sink-bulk"));
+            this.bulkRequestDispatcher = new BulkRequestDispatcher(maxInFlightBulkRequests,
+                    getMaxInFlightBulkBytes(maxInFlightBulkRequests), bulkExecutorService);
+            pluginMetrics.gauge(OpenSearchSink.BULKREQUESTS_IN_FLIGHT, bulkRequestDispatcher,
+                    BulkRequestDispatcher::getInFlightRequests);
+            pluginMetrics.gauge(OpenSearchSink.BULKREQUEST_IN_FLIGHT_BYTES, bulkRequestDispatcher,
+                    BulkRequestDispatcher::getInFlightBytes);
+        } else {
+            this.bulkExecutorService = null;
+            this.bulkRequestDispatcher = null;
+        }
+    }
+
+    private static EventFormatTemplate compileTemplate(final String format) {
+        return format != null ? EventFormatTemplate.compile(format) : null;
+    }
+
+    private long getMaxInFlightBulkBytes(final int maxInFlightBulkRequests) {
+        final long maxInFlightBulkSize = openSearchSinkConfig.getIndexConfiguration().getMaxInFlightBulkSize();
+        if (maxInFlightBulkSize > 0) {
+            return org.opensearch.common.unit.ByteSizeUnit.MB.toBytes(maxInFlightBulkSize);
+        }
+        if (bulkSize <= 0 || bulkSize > Long.MAX_VALUE / maxInFlightBulkRequests) {
+            return Long.MAX_VALUE;
+        }
+        return bulkSize * maxInFlightBulkRequests;
     }
 
     @Override
@@ -211,6 +254,7 @@ public class BulkIngester implements Ingester {
         final HeadlessPipeline failurePipeline = failurePipelineSupplier.get();
         this.useEventInBulkOperation = (failurePipeline != null || sinkContext.getForwardToPipelines().size() > 0);
         this.configuredIndexAlias = openSearchSinkConfig.getIndexConfiguration().getIndexAlias();
+        this.indexAliasTemplate = compileTemplate(configuredIndexAlias);
 
         setupDlq();
 
@@ -279,7 +323,7 @@ public class BulkIngester implements Ingester {
             final Event event = record.getData();
             String indexName = configuredIndexAlias;
             try {
-                indexName = indexManager.getIndexName(event.formatString(indexName, expressionEvaluator));
+                indexName = indexManager.getIndexName(indexAliasTemplate.render(event, expressionEvaluator));
             } catch (final Exception e) {
                 LOG.error(NOISY,
                         "There was an exception when constructing the index name. Check the dlq if configured to see details about the affected Event: {}",
@@ -320,10 +364,10 @@ public class BulkIngester implements Ingester {
 
             Long version = null;
             String versionExpressionEvaluationResult = null;
-            if (versionExpression != null) {
+            if (versionExpressionTemplate != null) {
                 try {
-                    versionExpressionEvaluationResult = event.formatString(versionExpression, expressionEvaluator);
-                    version = Long.valueOf(event.formatString(versionExpression, expressionEvaluator));
+                    versionExpressionEvaluationResult = versionExpressionTemplate.render(event, expressionEvaluator);
+                    version = Long.valueOf(versionExpressionEvaluationResult);
                 } catch (final NumberFormatException e) {
                     final String errorMessage = String.format(
                             "Unable to convert the result of evaluating document_version '%s' to Long for an Event. The evaluation result '%s' must be a valid Long type",
@@ -398,6 +442,17 @@ public class BulkIngester implements Ingester {
 
     @Override
     public void shutdown() {
+        if (bulkRequestDispatcher != null) {
+            try {
+                if (!bulkRequestDispatcher.awaitInFlightRequests(IN_FLIGHT_BULK_REQUESTS_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    LOG.warn("Timed out waiting for {} in-flight bulk requests to complete.",
+                            bulkRequestDispatcher.getInFlightRequests());
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            bulkExecutorService.shutdownNow();
+        }
         if (dlqWriter != null) {
             try {
                 dlqWriter.close();
@@ -426,7 +481,7 @@ public class BulkIngester implements Ingester {
             docId = event.get(documentIdField, String.class);
         } else if (documentId != null) {
             try {
-                docId = event.formatString(documentId, expressionEvaluator);
+                docId = documentIdTemplate.render(event, expressionEvaluator);
             } catch (final ExpressionEvaluationException | EventKeyNotFoundException e) {
                 LOG.error("Unable to construct document_id with format {}, the document_id will be generated by OpenSearch",
                         documentId, e);
@@ -438,7 +493,7 @@ public class BulkIngester implements Ingester {
             routingValue = event.get(routingField, String.class);
         } else if (routing != null) {
             try {
-                routingValue = event.formatString(routing, expressionEvaluator);
+                routingValue = routingTemplate.render(event, expressionEvaluator);
             } catch (final ExpressionEvaluationException | EventKeyNotFoundException e) {
                 LOG.error("Unable to construct routing with format {}, the routing will be generated by OpenSearch",
                         routing, e);
@@ -471,13 +526,30 @@ public class BulkIngester implements Ingester {
             }
             return;
         }
-        for (final BulkOperationWrapper bulkOperation : successfulOperations) {
-            sinkForwardRecordsContext.addRecord(new Record<>(bulkOperation.getEvent()));
+        synchronized (sinkForwardRecordsContext) {
+            for (final BulkOperationWrapper bulkOperation : successfulOperations) {
+                sinkForwardRecordsContext.addRecord(new Record<>(bulkOperation.getEvent()));
+            }
+            sinkContext.forwardRecords(sinkForwardRecordsContext, null, null);
         }
-        sinkContext.forwardRecords(sinkForwardRecordsContext, null, null);
     }
 
     private void flushBatch(final AccumulatingBulkRequest accumulatingBulkRequest) {
+        if (bulkRequestDispatcher == null) {
+            executeBulkRequest(accumulatingBulkRequest);
+            return;
+        }
+        try {
+            bulkRequestDispatcher.dispatch(accumulatingBulkRequest.getEstimatedSizeInBytes(),
+                    () -> executeBulkRequest(accumulatingBulkRequest));
+        } catch (final InterruptedException e) {
+            LOG.error("Interrupted while waiting to dispatch a bulk request:", e);
+            bulkRequestErrorsCounter.increment();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void executeBulkRequest(final AccumulatingBulkRequest accumulatingBulkRequest) {
         bulkRequestTimer.record(() -> {
             try {
                 LOG.debug("Sending data to OpenSearch");
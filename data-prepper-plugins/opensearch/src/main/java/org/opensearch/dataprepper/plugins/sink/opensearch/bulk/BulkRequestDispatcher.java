@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs bulk requests on a dedicated executor so that the sink threads can keep building
+ * the next request while earlier ones are on the wire.
+ * <p>
+ * Both the number of requests and the total estimated bytes in flight are bounded. A caller of
+ * {@link #dispatch(long, Runnable)} blocks until there is room for its request, which pushes back
+ * on the pipeline in the same way a synchronous bulk call does. A single request larger than the
+ * byte limit is still admitted once nothing else is in flight.
+ *
+ * @since 2.16
+ */
+public class BulkRequestDispatcher {
+    private static final Logger LOG = LoggerFactory.getLogger(BulkRequestDispatcher.class);
+
+    private final int maxInFlightRequests;
+    private final long maxInFlightBytes;
+    private final ExecutorService executorService;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition capacityAvailable = lock.newCondition();
+
+    private int inFlightRequests;
+    private long inFlightBytes;
+
+    public BulkRequestDispatcher(final int maxInFlightRequests,
+                                 final long maxInFlightBytes,
+                                 final ExecutorService executorService) {
+        if (maxInFlightRequests < 1) {
+            throw new IllegalArgumentException("maxInFlightRequests must be at least 1.");
+        }
+        if (maxInFlightBytes < 1) {
+            throw new IllegalArgumentException("maxInFlightBytes must be at least 1.");
+        }
+        this.maxInFlightRequests = maxInFlightRequests;
+        this.maxInFlightBytes = maxInFlightBytes;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Waits for capacity and then runs the bulk request asynchronously. The capacity is returned
+     * when the request completes, whether it succeeds or fails.
+     *
+     * @param estimatedSizeInBytes the estimated size of the bulk request
+     * @param bulkRequest the work which sends the request and releases its acknowledgements
+     * @throws InterruptedException if interrupted while waiting for capacity
+     */
+    public void dispatch(final long estimatedSizeInBytes, final Runnable bulkRequest) throws InterruptedException {
+        final long requestBytes = Math.max(estimatedSizeInBytes, 0L);
+        lock.lockInterruptibly();
+        try {
+            while (!hasCapacityFor(requestBytes)) {
+                capacityAvailable.await();
+            }
+            inFlightRequests++;
+            inFlightBytes += requestBytes;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            executorService.execute(() -> {
+                try {
+                    bulkRequest.run();
+                } catch (final RuntimeException e) {
+                    LOG.error("Unexpected exception while executing a bulk request.", e);
+                } finally {
+                    release(requestBytes);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            release(requestBytes);
+            throw e;
+        }
+    }
+
+    /**
+     * Waits until every dispatched request has completed.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return true if nothing is in flight, false if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitInFlightRequests(final long timeout, final TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (inFlightRequests > 0) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = capacityAvailable.awaitNanos(remainingNanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlightRequests() {
+        lock.lock();
+        try {
+            return inFlightRequests;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getInFlightBytes() {
+        lock.lock();
+        try {
+            return inFlightBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasCapacityFor(final long requestBytes) {
+        if (inFlightRequests == 0) {
+            return true;
+        }
+        return inFlightRequests < maxInFlightRequests && inFlightBytes + requestBytes <= maxInFlightBytes;
+    }
+
+    private void release(final long requestBytes) {
+        lock.lock();
+        try {
+            inFlightRequests--;
+            inFlightBytes -= requestBytes;
+            capacityAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
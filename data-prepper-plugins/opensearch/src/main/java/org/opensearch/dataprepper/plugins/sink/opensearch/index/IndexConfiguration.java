@@ -48,6 +48,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.configuration.OpenSearchSinkConfig.DEFAULT_BULK_SIZE;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.configuration.OpenSearchSinkConfig.DEFAULT_ESTIMATE_BULK_SIZE_USING_COMPRESSION;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.configuration.OpenSearchSinkConfig.DEFAULT_FLUSH_TIMEOUT;
+import static org.opensearch.dataprepper.plugins.sink.opensearch.configuration.OpenSearchSinkConfig.DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS;
+import static org.opensearch.dataprepper.plugins.sink.opensearch.configuration.OpenSearchSinkConfig.DEFAULT_MAX_IN_FLIGHT_BULK_SIZE;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.configuration.OpenSearchSinkConfig.DEFAULT_MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION;
 
 public class IndexConfiguration {
@@ -68,6 +70,8 @@ public class IndexConfiguration {
     public static final String ESTIMATE_BULK_SIZE_USING_COMPRESSION = "estimate_bulk_size_using_compression";
     public static final String MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION = "max_local_compressions_for_estimation";
     public static final String FLUSH_TIMEOUT = "flush_timeout";
+    public static final String MAX_IN_FLIGHT_BULK_REQUESTS = "max_in_flight_bulk_requests";
+    public static final String MAX_IN_FLIGHT_BULK_SIZE = "max_in_flight_bulk_size";
     public static final String DOCUMENT_ID_FIELD = "document_id_field";
     public static final String DOCUMENT_ID = "document_id";
     public static final String ROUTING_FIELD = "routing_field";
@@ -94,6 +98,8 @@ public class IndexConfiguration {
     private final boolean estimateBulkSizeUsingCompression;
     private int maxLocalCompressionsForEstimation;
     private final long flushTimeout;
+    private final int maxInFlightBulkRequests;
+    private final long maxInFlightBulkSize;
     private final Optional<String> ismPolicyFile;
     private final String action;
     private final List<ActionConfiguration> actions;
@@ -169,6 +175,8 @@ public class IndexConfiguration {
         this.estimateBulkSizeUsingCompression = builder.estimateBulkSizeUsingCompression;
         this.maxLocalCompressionsForEstimation = builder.maxLocalCompressionsForEstimation;
         this.flushTimeout = builder.flushTimeout;
+        this.maxInFlightBulkRequests = builder.maxInFlightBulkRequests;
+        this.maxInFlightBulkSize = builder.maxInFlightBulkSize;
         this.routingField = builder.routingField;
         this.routing = builder.routing;
 
@@ -284,6 +292,8 @@ public class IndexConfiguration {
                 .withEstimateBulkSizeUsingCompression(openSearchSinkConfig.isEstimateBulkSizeUsingCompression())
                 .withMaxLocalCompressionsForEstimation(openSearchSinkConfig.getMaxLocalCompressionsForEstimation())
                 .withFlushTimeout(openSearchSinkConfig.getFlushTimeout())
+                .withMaxInFlightBulkRequests(openSearchSinkConfig.getMaxInFlightBulkRequests())
+                .withMaxInFlightBulkSize(openSearchSinkConfig.getMaxInFlightBulkSize())
                 .withVersionType(openSearchSinkConfig.getVersionType())
                 .withNormalizeIndex(openSearchSinkConfig.isNormalizeIndex())
                 .withIsmPolicyFile(openSearchSinkConfig.getIsmPolicyFile())
@@ -397,6 +407,14 @@ public class IndexConfiguration {
         return flushTimeout;
     }
 
+    public int getMaxInFlightBulkRequests() {
+        return maxInFlightBulkRequests;
+    }
+
+    public long getMaxInFlightBulkSize() {
+        return maxInFlightBulkSize;
+    }
+
     public Optional<String> getIsmPolicyFile() {
         return ismPolicyFile;
     }
@@ -541,6 +559,8 @@ public class IndexConfiguration {
         private boolean estimateBulkSizeUsingCompression = DEFAULT_ESTIMATE_BULK_SIZE_USING_COMPRESSION;
         private int maxLocalCompressionsForEstimation = DEFAULT_MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION;
         private long flushTimeout = DEFAULT_FLUSH_TIMEOUT;
+        private int maxInFlightBulkRequests = DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS;
+        private long maxInFlightBulkSize = DEFAULT_MAX_IN_FLIGHT_BULK_SIZE;
         private Optional<String> ismPolicyFile;
         private String action;
         private List<ActionConfiguration> actions;
@@ -641,6 +661,16 @@ public class IndexConfiguration {
             return this;
         }
 
+        public Builder withMaxInFlightBulkRequests(final int maxInFlightBulkRequests) {
+            this.maxInFlightBulkRequests = maxInFlightBulkRequests;
+            return this;
+        }
+
+        public Builder withMaxInFlightBulkSize(final long maxInFlightBulkSize) {
+            this.maxInFlightBulkSize = maxInFlightBulkSize;
+            return this;
+        }
+
         public Builder withNumShards(final int numShards) {
             this.numShards = numShards;
             return this;
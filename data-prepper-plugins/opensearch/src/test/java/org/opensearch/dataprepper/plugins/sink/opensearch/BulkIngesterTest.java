@@ -34,6 +34,7 @@ import org.opensearch.dataprepper.model.pipeline.HeadlessPipeline;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.sink.SinkContext;
 import org.opensearch.dataprepper.model.sink.SinkForwardRecordsContext;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkRequestDispatcher;
 import org.opensearch.dataprepper.plugins.sink.opensearch.dlq.FailedDlqData;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.DocumentBuilder;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexConfiguration;
@@ -46,12 +47,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -59,10 +62,13 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.dataprepper.plugins.sink.opensearch.OpenSearchSink.BULKREQUESTS_IN_FLIGHT;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.OpenSearchSink.BULKREQUEST_ERRORS;
+import static org.opensearch.dataprepper.plugins.sink.opensearch.OpenSearchSink.BULKREQUEST_IN_FLIGHT_BYTES;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.OpenSearchSink.BULKREQUEST_LATENCY;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.OpenSearchSink.BULKREQUEST_SIZE_BYTES;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.OpenSearchSink.DYNAMIC_INDEX_DROPPED_EVENTS;
@@ -221,7 +227,8 @@ public class BulkIngesterTest {
 
     @Test
     void output_with_invalid_version_expression_catches_NumberFormatException_and_creates_DLQObject() throws IOException {
-        final String versionExpression = UUID.randomUUID().toString();
+        final String versionStatement = UUID.randomUUID().toString();
+        final String versionExpression = "${" + versionStatement + "}";
         when(indexConfiguration.getVersionExpression()).thenReturn(versionExpression);
 
         final Event event = mock(JacksonEvent.class);
@@ -230,8 +237,8 @@ public class BulkIngesterTest {
         final EventHandle eventHandle = mock(EventHandle.class);
         when(event.getEventHandle()).thenReturn(eventHandle);
         final String index = UUID.randomUUID().toString();
-        when(event.formatString(versionExpression, expressionEvaluator)).thenReturn("not_a_number");
-        when(event.formatString(indexConfiguration.getIndexAlias(), expressionEvaluator)).thenReturn(index);
+        when(expressionEvaluator.isValidExpressionStatement(versionStatement)).thenReturn(true);
+        when(expressionEvaluator.evaluate(versionStatement, event)).thenReturn("not_a_number");
         final Record<Event> eventRecord = new Record<>(event);
 
         final BulkIngester objectUnderTest = createObjectUnderTest();
@@ -272,7 +279,8 @@ public class BulkIngesterTest {
     @MethodSource("invalidVersionExceptionProvider")
     void output_with_invalid_version_expression_does_not_add_event_to_bulk_request(
             final Class<? extends RuntimeException> exceptionType) throws IOException {
-        final String versionExpression = UUID.randomUUID().toString();
+        final String versionStatement = UUID.randomUUID().toString();
+        final String versionExpression = "${" + versionStatement + "}";
         when(indexConfiguration.getVersionExpression()).thenReturn(versionExpression);
 
         final Event event = mock(JacksonEvent.class);
@@ -281,8 +289,8 @@ public class BulkIngesterTest {
         final EventHandle eventHandle = mock(EventHandle.class);
         when(event.getEventHandle()).thenReturn(eventHandle);
         final String index = UUID.randomUUID().toString();
-        when(event.formatString(versionExpression, expressionEvaluator)).thenThrow(exceptionType);
-        when(event.formatString(indexConfiguration.getIndexAlias(), expressionEvaluator)).thenReturn(index);
+        when(expressionEvaluator.isValidExpressionStatement(versionStatement)).thenReturn(true);
+        when(expressionEvaluator.evaluate(versionStatement, event)).thenThrow(exceptionType);
         final Record<Event> eventRecord = new Record<>(event);
 
         final BulkIngester objectUnderTest = createObjectUnderTest();
@@ -352,7 +360,8 @@ public class BulkIngesterTest {
 
     @Test
     void output_with_invalid_version_expression_result_catches_RuntimeException_and_creates_DLQObject() throws IOException {
-        final String versionExpression = UUID.randomUUID().toString();
+        final String versionStatement = UUID.randomUUID().toString();
+        final String versionExpression = "${" + versionStatement + "}";
         when(indexConfiguration.getVersionExpression()).thenReturn(versionExpression);
 
         final Event event = mock(JacksonEvent.class);
@@ -361,8 +370,8 @@ public class BulkIngesterTest {
         final EventHandle eventHandle = mock(EventHandle.class);
         when(event.getEventHandle()).thenReturn(eventHandle);
         final String index = UUID.randomUUID().toString();
-        when(event.formatString(versionExpression, expressionEvaluator)).thenThrow(RuntimeException.class);
-        when(event.formatString(indexConfiguration.getIndexAlias(), expressionEvaluator)).thenReturn(index);
+        when(expressionEvaluator.isValidExpressionStatement(versionStatement)).thenReturn(true);
+        when(expressionEvaluator.evaluate(versionStatement, event)).thenThrow(RuntimeException.class);
         final Record<Event> eventRecord = new Record<>(event);
 
         final BulkIngester objectUnderTest = createObjectUnderTest();
@@ -462,6 +471,33 @@ public class BulkIngesterTest {
         assertThat(isExternalVersioning, equalTo(false));
     }
 
+    @Test
+    void constructor_without_max_in_flight_bulk_requests_does_not_create_dispatcher() throws Exception {
+        final BulkIngester objectUnderTest = createObjectUnderTest();
+
+        final Object bulkRequestDispatcher = getField(objectUnderTest, "bulkRequestDispatcher");
+        assertThat(bulkRequestDispatcher, nullValue());
+        verify(pluginMetrics, never()).gauge(eq(BULKREQUESTS_IN_FLIGHT), any(), any());
+    }
+
+    @Test
+    void constructor_with_max_in_flight_bulk_requests_creates_dispatcher_and_shutdown_stops_it() throws Exception {
+        when(indexConfiguration.getMaxInFlightBulkRequests()).thenReturn(4);
+        when(indexConfiguration.getMaxInFlightBulkSize()).thenReturn(-1L);
+
+        final BulkIngester objectUnderTest = createObjectUnderTest();
+
+        final BulkRequestDispatcher bulkRequestDispatcher = getField(objectUnderTest, "bulkRequestDispatcher");
+        assertThat(bulkRequestDispatcher, notNullValue());
+        verify(pluginMetrics).gauge(eq(BULKREQUESTS_IN_FLIGHT), eq(bulkRequestDispatcher), any());
+        verify(pluginMetrics).gauge(eq(BULKREQUEST_IN_FLIGHT_BYTES), eq(bulkRequestDispatcher), any());
+
+        objectUnderTest.shutdown();
+
+        final ExecutorService bulkExecutorService = getField(objectUnderTest, "bulkExecutorService");
+        assertThat(bulkExecutorService.isShutdown(), equalTo(true));
+    }
+
     private static Stream<Arguments> externalVersionTypeProvider() {
         return Stream.of(
                 Arguments.of(VersionType.External),
@@ -0,0 +1,157 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkRequestDispatcherTest {
+    private static final long TIMEOUT_SECONDS = 5L;
+
+    private ExecutorService executorService;
+    private ExecutorService callerExecutorService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+        callerExecutorService = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        callerExecutorService.shutdownNow();
+    }
+
+    @Test
+    void constructor_with_invalid_limits_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new BulkRequestDispatcher(0, 100L, executorService));
+        assertThrows(IllegalArgumentException.class, () -> new BulkRequestDispatcher(2, 0L, executorService));
+    }
+
+    @Test
+    void dispatch_runs_requests_concurrently_up_to_the_request_limit() throws Exception {
+        final BulkRequestDispatcher objectUnderTest = new BulkRequestDispatcher(2, Long.MAX_VALUE, executorService);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(2);
+
+        objectUnderTest.dispatch(10L, () -> awaitLatch(started, release));
+        objectUnderTest.dispatch(10L, () -> awaitLatch(started, release));
+
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(2));
+        assertThat(objectUnderTest.getInFlightBytes(), equalTo(20L));
+
+        final Future<?> blockedDispatch = callerExecutorService.submit(() -> {
+            objectUnderTest.dispatch(10L, () -> { });
+            return null;
+        });
+        assertThrows(TimeoutException.class, () -> blockedDispatch.get(200, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        blockedDispatch.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(objectUnderTest.awaitInFlightRequests(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(0));
+        assertThat(objectUnderTest.getInFlightBytes(), equalTo(0L));
+    }
+
+    @Test
+    void dispatch_blocks_when_outstanding_bytes_would_exceed_the_limit() throws Exception {
+        final BulkRequestDispatcher objectUnderTest = new BulkRequestDispatcher(4, 100L, executorService);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+
+        objectUnderTest.dispatch(80L, () -> awaitLatch(started, release));
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        final Future<?> blockedDispatch = callerExecutorService.submit(() -> {
+            objectUnderTest.dispatch(30L, () -> { });
+            return null;
+        });
+        assertThrows(TimeoutException.class, () -> blockedDispatch.get(200, TimeUnit.MILLISECONDS));
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(1));
+
+        release.countDown();
+        blockedDispatch.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(objectUnderTest.awaitInFlightRequests(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void dispatch_admits_a_request_larger_than_the_byte_limit_when_idle() throws Exception {
+        final BulkRequestDispatcher objectUnderTest = new BulkRequestDispatcher(2, 100L, executorService);
+        final AtomicInteger executions = new AtomicInteger();
+
+        objectUnderTest.dispatch(1_000L, executions::incrementAndGet);
+
+        assertTrue(objectUnderTest.awaitInFlightRequests(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertThat(executions.get(), equalTo(1));
+    }
+
+    @Test
+    void capacity_is_released_when_the_request_throws() throws Exception {
+        final BulkRequestDispatcher objectUnderTest = new BulkRequestDispatcher(2, 100L, executorService);
+
+        objectUnderTest.dispatch(50L, () -> {
+            throw new RuntimeException("bulk failure");
+        });
+
+        assertTrue(objectUnderTest.awaitInFlightRequests(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertThat(objectUnderTest.getInFlightBytes(), equalTo(0L));
+    }
+
+    @Test
+    void capacity_is_released_when_the_executor_rejects_the_request() {
+        executorService.shutdown();
+        final BulkRequestDispatcher objectUnderTest = new BulkRequestDispatcher(2, 100L, executorService);
+
+        assertThrows(RejectedExecutionException.class, () -> objectUnderTest.dispatch(50L, () -> { }));
+
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(0));
+        assertThat(objectUnderTest.getInFlightBytes(), equalTo(0L));
+    }
+
+    @Test
+    void awaitInFlightRequests_returns_false_on_timeout() throws Exception {
+        final BulkRequestDispatcher objectUnderTest = new BulkRequestDispatcher(2, 100L, executorService);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        objectUnderTest.dispatch(10L, () -> awaitLatch(started, release));
+
+        assertFalse(objectUnderTest.awaitInFlightRequests(50, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        assertTrue(objectUnderTest.awaitInFlightRequests(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private static void awaitLatch(final CountDownLatch started, final CountDownLatch release) {
+        started.countDown();
+        try {
+            release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
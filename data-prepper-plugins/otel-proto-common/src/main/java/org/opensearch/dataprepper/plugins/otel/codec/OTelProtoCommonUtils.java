@@ -6,11 +6,14 @@
 package org.opensearch.dataprepper.plugins.otel.codec;
 
 import com.google.protobuf.ByteString;
-import org.apache.commons.codec.binary.Hex;
+import com.google.protobuf.UnsafeByteOperations;
+import org.apache.commons.codec.DecoderException;
+
 import java.time.Instant;
 
 public class OTelProtoCommonUtils {
     public static final long NANO_MULTIPLIER = 1_000 * 1_000 * 1_000;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
     public static String convertUnixNanosToISO8601(final long unixNano) {
         return Instant.ofEpochSecond(0L, unixNano).toString();
     }
@@ -20,8 +23,49 @@ public class OTelProtoCommonUtils {
         return instant.getEpochSecond() * NANO_MULTIPLIER + instant.getNano();
     }
 
+    /**
+     * Encodes the bytes as lower case hex without copying them out of the {@link ByteString} first.
+     *
+     * @param bs the bytes, such as a trace or span id
+     * @return the hex string
+     */
     public static String convertByteStringToString(ByteString bs) {
-        return Hex.encodeHexString(bs.toByteArray());
+        final int size = bs.size();
+        final char[] hex = new char[size * 2];
+        for (int i = 0; i < size; i++) {
+            final int value = bs.byteAt(i) & 0xFF;
+            hex[2 * i] = HEX_DIGITS[value >>> 4];
+            hex[2 * i + 1] = HEX_DIGITS[value & 0x0F];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Decodes a hex string, such as a trace or span id, into a {@link ByteString} which wraps the
+     * decoded bytes without copying them again.
+     *
+     * @param hex the hex string
+     * @return the decoded bytes
+     * @throws DecoderException if the string has an odd length or contains a non-hex character
+     */
+    public static ByteString convertStringToByteString(final String hex) throws DecoderException {
+        final int length = hex.length();
+        if ((length & 0x01) != 0) {
+            throw new DecoderException("Odd number of characters.");
+        }
+        final byte[] bytes = new byte[length / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (toDigit(hex.charAt(2 * i), 2 * i) << 4 | toDigit(hex.charAt(2 * i + 1), 2 * i + 1));
+        }
+        return UnsafeByteOperations.unsafeWrap(bytes);
+    }
+
+    private static int toDigit(final char ch, final int index) throws DecoderException {
+        final int digit = Character.digit(ch, 16);
+        if (digit == -1) {
+            throw new DecoderException("Illegal hexadecimal character " + ch + " at index " + index);
+        }
+        return digit;
     }
 
 }
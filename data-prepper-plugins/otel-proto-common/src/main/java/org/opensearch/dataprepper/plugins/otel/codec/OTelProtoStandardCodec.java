@@ -6,7 +6,6 @@
 package org.opensearch.dataprepper.plugins.otel.codec;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.protobuf.ByteString;
 import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceRequest;
 import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
@@ -28,7 +27,6 @@ import io.opentelemetry.proto.trace.v1.ResourceSpans;
 import io.opentelemetry.proto.trace.v1.ScopeSpans;
 import io.opentelemetry.proto.trace.v1.Status;
 import org.apache.commons.codec.DecoderException;
-import org.apache.commons.codec.binary.Hex;
 import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.model.log.JacksonStandardOTelLog;
 import org.opensearch.dataprepper.model.log.Log;
@@ -82,6 +80,7 @@ import java.util.stream.Stream;
 import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.OTelProtoDecoder.getServiceName;
 import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCommonUtils.convertByteStringToString;
 import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCommonUtils.convertISO8601ToNanos;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCommonUtils.convertStringToByteString;
 import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCommonUtils.convertUnixNanosToISO8601;
 
 /**
@@ -226,8 +225,7 @@ public class OTelProtoStandardCodec {
         }
 
         protected Map<String, Object> convertKeyValueToAttributes(List<KeyValue> attributesList) {
-             return attributesList.stream()
-                .collect(Collectors.toMap(i -> i.getKey(), i -> convertAnyValue(i.getValue())));
+            return OTelProtoStandardCodec.convertKeyValueToAttributes(attributesList);
         }
 
         protected List<Span> parseResourceSpans(final ResourceSpans resourceSpans, final Instant timeReceived) {
@@ -291,12 +289,13 @@ public class OTelProtoStandardCodec {
                           final Function<T, Map<String, Object>> scopeAttributesGetter,
                           final String serviceName, final Map<String, Object> resourceAttributes,
                           final Instant timeReceived) {
-            return spans.stream()
-                    .map(span -> {
-                        final Map<String, Object> scopeAttributes = scopeAttributesGetter.apply(scope);
-                        return parseSpan(span, scopeAttributes, schemaUrl, serviceName, resourceAttributes, timeReceived);
-                    })
-                    .collect(Collectors.toList());
+            // The scope attributes are the same for every span in the scope, so they are converted once and shared
+            final Map<String, Object> scopeAttributes = scopeAttributesGetter.apply(scope);
+            final List<Span> parsedSpans = new ArrayList<>(spans.size());
+            for (final io.opentelemetry.proto.trace.v1.Span span : spans) {
+                parsedSpans.add(parseSpan(span, scopeAttributes, schemaUrl, serviceName, resourceAttributes, timeReceived));
+            }
+            return parsedSpans;
         }
 
         protected List<OpenTelemetryLog> processLogsList(final List<LogRecord> logsList,
@@ -351,9 +350,9 @@ public class OTelProtoStandardCodec {
                     .withResource(resourceAttributes)
                     .withAttributes(convertKeyValueToAttributes(sp.getAttributesList()))
                     .withDroppedAttributesCount(sp.getDroppedAttributesCount())
-                    .withEvents(sp.getEventsList().stream().map(this::getSpanEvent).collect(Collectors.toList()))
+                    .withEvents(getSpanEvents(sp.getEventsList()))
                     .withDroppedEventsCount(sp.getDroppedEventsCount())
-                    .withLinks(sp.getLinksList().stream().map(this::getLink).collect(Collectors.toList()))
+                    .withLinks(getLinks(sp.getLinksList()))
                     .withDroppedLinksCount(sp.getDroppedLinksCount())
                     .withDurationInNanos(sp.getEndTimeUnixNano() - sp.getStartTimeUnixNano())
                     .withTimeReceived(timeReceived)
@@ -377,17 +376,36 @@ public class OTelProtoStandardCodec {
                 case DOUBLE_VALUE:
                     return value.getDoubleValue();
                 case ARRAY_VALUE:
-                    return value.getArrayValue().getValuesList().stream()
-                        .map(OTelProtoStandardCodec::convertAnyValue)
-                        .collect(Collectors.toList());
+                    return convertArrayValue(value.getArrayValue());
                 case KVLIST_VALUE:
-                    return value.getKvlistValue().getValuesList().stream()
-                            .collect(Collectors.toMap(i -> i.getKey(), i -> convertAnyValue(i.getValue())));
+                    return OTelProtoStandardCodec.convertKeyValueToAttributes(value.getKvlistValue().getValuesList());
                 default:
                     throw new OTelDecodingException("Unknown case");
             }
         }
 
+        private List<SpanEvent> getSpanEvents(final List<io.opentelemetry.proto.trace.v1.Span.Event> events) {
+            if (events.isEmpty()) {
+                return Collections.emptyList();
+            }
+            final List<SpanEvent> spanEvents = new ArrayList<>(events.size());
+            for (final io.opentelemetry.proto.trace.v1.Span.Event event : events) {
+                spanEvents.add(getSpanEvent(event));
+            }
+            return spanEvents;
+        }
+
+        private List<Link> getLinks(final List<io.opentelemetry.proto.trace.v1.Span.Link> links) {
+            if (links.isEmpty()) {
+                return Collections.emptyList();
+            }
+            final List<Link> convertedLinks = new ArrayList<>(links.size());
+            for (final io.opentelemetry.proto.trace.v1.Span.Link link : links) {
+                convertedLinks.add(getLink(link));
+            }
+            return convertedLinks;
+        }
+
         protected SpanEvent getSpanEvent(final io.opentelemetry.proto.trace.v1.Span.Event event) {
             return DefaultSpanEvent.builder()
                     .withTime(getTimeISO8601(event))
@@ -408,11 +426,11 @@ public class OTelProtoStandardCodec {
         }
 
         protected Map<String, Object> getSpanAttributes(final io.opentelemetry.proto.trace.v1.Span span) {
-            return span.getAttributesList().stream().collect(Collectors.toMap(i -> i.getKey(), i -> convertAnyValue(i.getValue())));
+            return OTelProtoStandardCodec.convertKeyValueToAttributes(span.getAttributesList());
         }
 
         protected Map<String, Object> getResourceAttributes(final Resource resource, final String schemaUrl) {
-            Map<String, Object> attributes = resource.getAttributesList().stream().collect(Collectors.toMap(i -> i.getKey(), i -> convertAnyValue(i.getValue())));
+            Map<String, Object> attributes = OTelProtoStandardCodec.convertKeyValueToAttributes(resource.getAttributesList());
             return Map.of(ATTRIBUTES_KEY, attributes, DROPPED_ATTRIBUTES_COUNT_KEY, resource.getDroppedAttributesCount(), SCHEMA_URL_KEY, schemaUrl);
         }
 
@@ -772,7 +790,7 @@ public class OTelProtoStandardCodec {
         }
 
         protected Map<String, Object> convertKeyValueToAttributes(List<KeyValue> keyValues) {
-            return keyValues.stream().collect(Collectors.toMap(i -> i.getKey(), i -> convertAnyValue(i.getValue())));
+            return OTelProtoStandardCodec.convertKeyValueToAttributes(keyValues);
         }
 
         protected List<KeyValue> convertAttributesToKeyValue(final Map<String, Object> attributes) throws UnsupportedEncodingException {
@@ -855,8 +873,8 @@ public class OTelProtoStandardCodec {
 
         protected io.opentelemetry.proto.trace.v1.Span.Link convertSpanLink(final Link link) throws DecoderException, UnsupportedEncodingException {
             final io.opentelemetry.proto.trace.v1.Span.Link.Builder builder = io.opentelemetry.proto.trace.v1.Span.Link.newBuilder();
-            builder.setSpanId(ByteString.copyFrom(Hex.decodeHex(link.getSpanId())));
-            builder.setTraceId(ByteString.copyFrom(Hex.decodeHex(link.getTraceId())));
+            builder.setSpanId(convertStringToByteString(link.getSpanId()));
+            builder.setTraceId(convertStringToByteString(link.getTraceId()));
             builder.setTraceState(link.getTraceState());
             builder.setDroppedAttributesCount(link.getDroppedAttributesCount());
             final List<KeyValue> attributeKeyValueList = new ArrayList<>();
@@ -872,9 +890,9 @@ public class OTelProtoStandardCodec {
                 throws DecoderException, UnsupportedEncodingException {
             final Map<String, Object> allAttributes = span.getAttributes();
             io.opentelemetry.proto.trace.v1.Span.Builder builder = io.opentelemetry.proto.trace.v1.Span.newBuilder()
-                    .setSpanId(ByteString.copyFrom(Hex.decodeHex(span.getSpanId())))
-                    .setParentSpanId(ByteString.copyFrom(Hex.decodeHex(span.getParentSpanId())))
-                    .setTraceId(ByteString.copyFrom(Hex.decodeHex(span.getTraceId())))
+                    .setSpanId(convertStringToByteString(span.getSpanId()))
+                    .setParentSpanId(convertStringToByteString(span.getParentSpanId()))
+                    .setTraceId(convertStringToByteString(span.getTraceId()))
                     .setTraceState(span.getTraceState())
                     .setName(span.getName())
                     .setKind(io.opentelemetry.proto.trace.v1.Span.SpanKind.valueOf(span.getKind()))
@@ -1323,11 +1341,11 @@ public class OTelProtoStandardCodec {
             }
             
             if (exemplar.getSpanId() != null && !exemplar.getSpanId().isEmpty()) {
-                builder.setSpanId(ByteString.copyFrom(Hex.decodeHex(exemplar.getSpanId())));
+                builder.setSpanId(convertStringToByteString(exemplar.getSpanId()));
             }
             
             if (exemplar.getTraceId() != null && !exemplar.getTraceId().isEmpty()) {
-                builder.setTraceId(ByteString.copyFrom(Hex.decodeHex(exemplar.getTraceId())));
+                builder.setTraceId(convertStringToByteString(exemplar.getTraceId()));
             }
             
             if (exemplar.getAttributes() != null) {
@@ -1371,10 +1389,10 @@ public class OTelProtoStandardCodec {
                 
                 // Set trace context
                 if (otelLog.getTraceId() != null && !otelLog.getTraceId().isEmpty()) {
-                    builder.setTraceId(ByteString.copyFrom(Hex.decodeHex(otelLog.getTraceId())));
+                    builder.setTraceId(convertStringToByteString(otelLog.getTraceId()));
                 }
                 if (otelLog.getSpanId() != null && !otelLog.getSpanId().isEmpty()) {
-                    builder.setSpanId(ByteString.copyFrom(Hex.decodeHex(otelLog.getSpanId())));
+                    builder.setSpanId(convertStringToByteString(otelLog.getSpanId()));
                 }
                 
                 // Set flags
@@ -1429,12 +1447,9 @@ public class OTelProtoStandardCodec {
              * as Json string.
              */
             case ARRAY_VALUE:
-                return value.getArrayValue().getValuesList().stream()
-                    .map(OTelProtoStandardCodec::convertAnyValue)
-                    .collect(Collectors.toList());
+                return convertArrayValue(value.getArrayValue());
             case KVLIST_VALUE:
-                return value.getKvlistValue().getValuesList().stream()
-                        .collect(Collectors.toMap(i -> i.getKey(), i -> convertAnyValue(i.getValue())));
+                return convertKeyValueToAttributes(value.getKvlistValue().getValuesList());
             default:
                 throw new RuntimeException(String.format("Can not convert AnyValue of type %s", value.getValueCase()));
         }
@@ -1579,9 +1594,34 @@ public class OTelProtoStandardCodec {
         return buckets;
     }
 
+    /**
+     * Converts OTLP key values into a map. Like the collector this replaces, a repeated key or a null value is rejected.
+     *
+     * @param attributesList the key values
+     * @return the attributes keyed by name
+     */
     static Map<String, Object> convertKeyValueToAttributes(List<KeyValue> attributesList) {
-         return attributesList.stream()
-            .collect(Collectors.toMap(i -> i.getKey(), i -> convertAnyValue(i.getValue())));
+        final Map<String, Object> attributes = new HashMap<>(hashMapCapacity(attributesList.size()));
+        for (final KeyValue keyValue : attributesList) {
+            final Object value = Objects.requireNonNull(convertAnyValue(keyValue.getValue()));
+            if (attributes.putIfAbsent(keyValue.getKey(), value) != null) {
+                throw new IllegalStateException(String.format("Duplicate key %s", keyValue.getKey()));
+            }
+        }
+        return attributes;
+    }
+
+    static List<Object> convertArrayValue(final ArrayValue arrayValue) {
+        final List<AnyValue> values = arrayValue.getValuesList();
+        final List<Object> convertedValues = new ArrayList<>(values.size());
+        for (final AnyValue value : values) {
+            convertedValues.add(convertAnyValue(value));
+        }
+        return convertedValues;
+    }
+
+    private static int hashMapCapacity(final int size) {
+        return (int) (size / 0.75f) + 1;
     }
 
     /**
@@ -6,11 +6,13 @@
 package org.opensearch.dataprepper.plugins.otel.codec;
 
 import com.google.protobuf.ByteString;
+import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Hex;
 
 import org.junit.jupiter.api.Test;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -34,4 +36,30 @@ public class OTelProtoCommonUtilsTest {
         final String testString = UUID.randomUUID().toString();
         assertThat(ByteString.copyFrom(Hex.decodeHex(OTelProtoCommonUtils.convertByteStringToString(ByteString.copyFromUtf8(testString)))).toStringUtf8(), equalTo(testString));
     }
+
+    @Test
+    public void test_convertByteStringToString_matches_commons_codec() {
+        final byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        assertThat(OTelProtoCommonUtils.convertByteStringToString(ByteString.copyFrom(bytes)), equalTo(Hex.encodeHexString(bytes)));
+        assertThat(OTelProtoCommonUtils.convertByteStringToString(ByteString.EMPTY), equalTo(""));
+    }
+
+    @Test
+    public void test_convertStringToByteString() throws Exception {
+        final String testString = UUID.randomUUID().toString();
+        final String hex = Hex.encodeHexString(testString.getBytes());
+
+        assertThat(OTelProtoCommonUtils.convertStringToByteString(hex).toStringUtf8(), equalTo(testString));
+        assertThat(OTelProtoCommonUtils.convertStringToByteString(hex.toUpperCase()).toStringUtf8(), equalTo(testString));
+        assertThat(OTelProtoCommonUtils.convertStringToByteString(""), equalTo(ByteString.EMPTY));
+    }
+
+    @Test
+    public void test_convertStringToByteString_with_invalid_hex_throws() {
+        assertThrows(DecoderException.class, () -> OTelProtoCommonUtils.convertStringToByteString("abc"));
+        assertThrows(DecoderException.class, () -> OTelProtoCommonUtils.convertStringToByteString("zz"));
+    }
 }
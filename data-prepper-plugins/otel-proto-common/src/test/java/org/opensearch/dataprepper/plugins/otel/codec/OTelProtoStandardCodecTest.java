@@ -1162,6 +1162,28 @@ public class OTelProtoStandardCodecTest {
         MatcherAssert.assertThat(((boolean) o), Matchers.equalTo(true));
     }
 
+    @Test
+    public void testConvertAnyValueNestedArrayAndKeyValueList() {
+        final AnyValue value = AnyValue.newBuilder().setKvlistValue(KeyValueList.newBuilder()
+                .addValues(KeyValue.newBuilder().setKey("int").setValue(AnyValue.newBuilder().setIntValue(3)))
+                .addValues(KeyValue.newBuilder().setKey("array").setValue(AnyValue.newBuilder().setArrayValue(ArrayValue.newBuilder()
+                        .addValues(AnyValue.newBuilder().setStringValue("a"))
+                        .addValues(AnyValue.newBuilder().setDoubleValue(1.5))))))
+                .build();
+
+        final Object o = OTelProtoStandardCodec.convertAnyValue(value);
+
+        MatcherAssert.assertThat(o, Matchers.equalTo(Map.of("int", 3L, "array", List.of("a", 1.5))));
+    }
+
+    @Test
+    public void testConvertKeyValueToAttributesWithDuplicateKeyThrows() {
+        final KeyValue keyValue = KeyValue.newBuilder().setKey("key").setValue(AnyValue.newBuilder().setStringValue("value")).build();
+
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> OTelProtoStandardCodec.convertKeyValueToAttributes(List.of(keyValue, keyValue)));
+    }
+
     @Test
     public void testUnsupportedTypeToAnyValue() {
         Assertions.assertThrows(RuntimeException.class,
@@ -12,6 +12,7 @@ package org.opensearch.dataprepper.plugins.processor.oteltrace;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
@@ -24,19 +25,17 @@ import org.opensearch.dataprepper.model.trace.Span;
 import io.micrometer.core.instrument.util.StringUtils;
 import org.opensearch.dataprepper.plugins.processor.oteltrace.model.SpanSet;
 import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceGroup;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceIdKey;
 import org.opensearch.dataprepper.plugins.otel.common.OTelSpanDerivationUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -48,12 +47,17 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
     private static final Logger LOG = LoggerFactory.getLogger(OTelTraceRawProcessor.class);
     public static final String TRACE_GROUP_CACHE_COUNT_METRIC_NAME = "traceGroupCacheCount";
     public static final String SPAN_SET_COUNT_METRIC_NAME = "spanSetCount";
+    public static final String SPAN_SET_SPAN_COUNT_METRIC_NAME = "spanSetSpanCount";
+    public static final String EVICTED_SPANS_METRIC_NAME = "evictedSpans";
 
     private final long traceFlushInterval;
+    private final long maxBufferedSpans;
 
-    private final Map<String, SpanSet> traceIdSpanSetMap = new ConcurrentHashMap<>();
+    private final SpanSetStore spanSetStore = new SpanSetStore(SEC_TO_MILLIS);
 
-    private final Cache<String, TraceGroup> traceIdTraceGroupCache;
+    private final Cache<TraceIdKey, TraceGroup> traceIdTraceGroupCache;
+
+    private final Counter evictedSpansCounter;
 
     private long lastTraceFlushTime = 0L;
 
@@ -68,6 +72,7 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
                                  final PluginMetrics pluginMetrics) {
         super(pluginMetrics);
         traceFlushInterval = SEC_TO_MILLIS * otelTraceRawProcessorConfig.getTraceFlushIntervalSeconds();
+        maxBufferedSpans = otelTraceRawProcessorConfig.getMaxBufferedSpans();
         traceIdTraceGroupCache = Caffeine.newBuilder()
           .maximumSize(otelTraceRawProcessorConfig.getTraceGroupCacheMaxSize())
           .expireAfterWrite(otelTraceRawProcessorConfig.getTraceGroupCacheTimeToLive().toMillis(), TimeUnit.MILLISECONDS)
@@ -75,7 +80,9 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
 
 
         pluginMetrics.gauge(TRACE_GROUP_CACHE_COUNT_METRIC_NAME, traceIdTraceGroupCache, cache -> (double) cache.estimatedSize());
-        pluginMetrics.gauge(SPAN_SET_COUNT_METRIC_NAME, traceIdSpanSetMap, cache -> (double) cache.size());
+        pluginMetrics.gauge(SPAN_SET_COUNT_METRIC_NAME, spanSetStore, store -> (double) store.size());
+        pluginMetrics.gauge(SPAN_SET_SPAN_COUNT_METRIC_NAME, spanSetStore, store -> (double) store.getSpanCount());
+        evictedSpansCounter = pluginMetrics.counter(EVICTED_SPANS_METRIC_NAME);
 
         LOG.info("Configured Trace Raw Processor with a trace flush interval of {} ms.", traceFlushInterval);
     }
@@ -135,20 +142,18 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
      */
     private List<Span> processRootSpan(final Span parentSpan) {
         final TraceGroup traceGroup = TraceGroup.fromSpan(parentSpan);
-        final String parentSpanTraceId = parentSpan.getTraceId();
+        final TraceIdKey parentSpanTraceId = TraceIdKey.fromTraceId(parentSpan.getTraceId());
         traceIdTraceGroupCache.put(parentSpanTraceId, traceGroup);
 
         final List<Span> recordsToFlush = new LinkedList<>();
         recordsToFlush.add(parentSpan);
 
-        final SpanSet spanSet = traceIdSpanSetMap.get(parentSpanTraceId);
+        final SpanSet spanSet = spanSetStore.remove(parentSpanTraceId);
         if (spanSet != null) {
             for (final Span span : spanSet.getSpans()) {
                 fillInTraceGroupInfo(span, traceGroup);
                 recordsToFlush.add(span);
             }
-
-            traceIdSpanSetMap.remove(parentSpanTraceId);
         }
 
         return recordsToFlush;
@@ -162,20 +167,14 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
      * @return Optional containing childSpan if its traceGroup is in memory, otherwise an empty Optional
      */
     private Optional<Span> processChildSpan(final Span childSpan) {
-        final String childSpanTraceId = childSpan.getTraceId();
+        final TraceIdKey childSpanTraceId = TraceIdKey.fromTraceId(childSpan.getTraceId());
         final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(childSpanTraceId);
 
         if (traceGroup != null) {
             fillInTraceGroupInfo(childSpan, traceGroup);
             return Optional.of(childSpan);
         } else {
-            traceIdSpanSetMap.compute(childSpanTraceId, (traceId, spanSet) -> {
-                if (spanSet == null) {
-                    spanSet = new SpanSet();
-                }
-                spanSet.addSpan(childSpan);
-                return spanSet;
-            });
+            spanSetStore.addSpan(childSpanTraceId, childSpan);
 
             return Optional.empty();
         }
@@ -184,44 +183,30 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
     /**
      * Periodically flush spans from memory. Typically all spans of a trace are written
      * once the trace's root span arrives, however some child spans my arrive after the root span.
-     * This method ensures "orphaned" child spans are eventually flushed from memory.
+     * This method ensures "orphaned" child spans are eventually flushed from memory. When more spans
+     * than the configured maximum are held, the oldest span sets are flushed early.
      * @return List of RawSpans to be sent down the pipeline
      */
     private List<Span> getTracesToFlushByGarbageCollection() {
         final List<Span> recordsToFlush = new LinkedList<>();
 
-        if (shouldGarbageCollect()) {
+        if (shouldGarbageCollect() || shouldEvict()) {
             final boolean isLockAcquired = traceFlushLock.tryLock();
 
             if (isLockAcquired) {
                 try {
                     final long now = System.currentTimeMillis();
-                    lastTraceFlushTime = now;
-
-                    final Iterator<Map.Entry<String, SpanSet>> entryIterator = traceIdSpanSetMap.entrySet().iterator();
-                    while (entryIterator.hasNext()) {
-                        final Map.Entry<String, SpanSet> entry = entryIterator.next();
-                        final String traceId = entry.getKey();
-                        final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(traceId);
-                        final SpanSet spanSet = entry.getValue();
-                        final long traceTime = spanSet.getTimeSeen();
-                        if (now - traceTime >= traceFlushInterval || isShuttingDown) {
-                            final Set<Span> spans = spanSet.getSpans();
-                            if (traceGroup != null) {
-                                spans.forEach(span -> {
-                                    fillInTraceGroupInfo(span, traceGroup);
-                                    fillInServiceName(span);
-                                    recordsToFlush.add(span);
-                                });
-                            } else {
-                                LOG.warn("There are {} spans with missing trace groups. Unable to populate with trace group information.", spans.size());
-                                spans.forEach(span -> {
-                                    recordsToFlush.add(span);
-                                    LOG.debug("Missing trace group for SpanId: {}", span.getSpanId());
-                                });
-                            }
-                            entryIterator.remove();
-                        }
+                    if (now - lastTraceFlushTime >= traceFlushInterval || isShuttingDown) {
+                        lastTraceFlushTime = now;
+                        final long cutoffTime = isShuttingDown ? Long.MAX_VALUE : now - traceFlushInterval;
+                        spanSetStore.removeCreatedBefore(cutoffTime,
+                                (traceIdKey, spanSet) -> addSpansToFlush(traceIdKey, spanSet, recordsToFlush));
+                    }
+                    if (shouldEvict()) {
+                        final int flushedSpanCount = recordsToFlush.size();
+                        spanSetStore.removeOldestUntil(maxBufferedSpans,
+                                (traceIdKey, spanSet) -> addSpansToFlush(traceIdKey, spanSet, recordsToFlush));
+                        evictedSpansCounter.increment(recordsToFlush.size() - flushedSpanCount);
                     }
                     if (!recordsToFlush.isEmpty()) {
                         LOG.info("Flushing {} records", recordsToFlush.size());
@@ -235,6 +220,24 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
         return recordsToFlush;
     }
 
+    private void addSpansToFlush(final TraceIdKey traceIdKey, final SpanSet spanSet, final List<Span> recordsToFlush) {
+        final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(traceIdKey);
+        final Set<Span> spans = spanSet.getSpans();
+        if (traceGroup != null) {
+            spans.forEach(span -> {
+                fillInTraceGroupInfo(span, traceGroup);
+                fillInServiceName(span);
+                recordsToFlush.add(span);
+            });
+        } else {
+            LOG.warn("There are {} spans with missing trace groups. Unable to populate with trace group information.", spans.size());
+            spans.forEach(span -> {
+                recordsToFlush.add(span);
+                LOG.debug("Missing trace group for SpanId: {}", span.getSpanId());
+            });
+        }
+    }
+
     private void fillInTraceGroupInfo(final Span span, final TraceGroup traceGroup) {
         span.setTraceGroup(traceGroup.getTraceGroup());
         span.setTraceGroupFields(traceGroup.getTraceGroupFields());
@@ -249,6 +252,10 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
         return System.currentTimeMillis() - lastTraceFlushTime >= traceFlushInterval || isShuttingDown;
     }
 
+    private boolean shouldEvict() {
+        return maxBufferedSpans > 0 && spanSetStore.getSpanCount() > maxBufferedSpans;
+    }
+
     /**
      * Forces a flush of all spans in memory
      */
@@ -258,7 +265,7 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
 
         if (isLockAcquired) {
             try {
-                LOG.info("Preparing for shutdown, will attempt to flush {} spans", traceIdSpanSetMap.size());
+                LOG.info("Preparing for shutdown, will attempt to flush {} spans", spanSetStore.getSpanCount());
                 isShuttingDown = true;
             } finally {
                 prepareForShutdownLock.unlock();
@@ -268,7 +275,7 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
 
     @Override
     public boolean isReadyForShutdown() {
-        return traceIdSpanSetMap.isEmpty();
+        return spanSetStore.isEmpty();
     }
 
     @Override
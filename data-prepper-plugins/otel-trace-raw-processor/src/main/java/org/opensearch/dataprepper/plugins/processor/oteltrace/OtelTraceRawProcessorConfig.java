@@ -41,6 +41,12 @@ public class OtelTraceRawProcessorConfig {
             "Default is <code>1000000</code>.")
     private long traceGroupCacheMaxSize = MAX_TRACE_ID_CACHE_SIZE;
 
+    @JsonProperty(value = "max_buffered_spans", defaultValue = "0")
+    @JsonPropertyDescription("Represents the maximum number of descendant spans held in memory while waiting for their root span. " +
+            "When exceeded, the oldest traces are flushed without waiting for <code>trace_flush_interval</code>. " +
+            "Default is <code>0</code>, which does not limit the number of spans.")
+    private long maxBufferedSpans = 0L;
+
     public long getTraceFlushIntervalSeconds() {
         return traceFlushInterval;
     }
@@ -52,4 +58,8 @@ public class OtelTraceRawProcessorConfig {
     public long getTraceGroupCacheMaxSize() {
         return traceGroupCacheMaxSize;
     }
+
+    public long getMaxBufferedSpans() {
+        return maxBufferedSpans;
+    }
 }
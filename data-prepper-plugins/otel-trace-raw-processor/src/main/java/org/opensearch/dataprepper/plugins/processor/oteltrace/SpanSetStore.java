@@ -0,0 +1,163 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.SpanSet;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceIdKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Holds the span sets of traces whose root span has not arrived yet.
+ * <p>
+ * Span sets are also indexed by the time bucket in which they were created, so finding expired
+ * span sets only visits the expired buckets rather than every trace in memory. Changes to a trace's
+ * span set and to its index entry are made while holding that trace's map entry, so the index never
+ * loses a span set which is still in memory.
+ */
+class SpanSetStore {
+    private final Map<TraceIdKey, SpanSet> spanSets = new ConcurrentHashMap<>();
+    private final Map<Long, Set<TraceIdKey>> expiryBuckets = new ConcurrentHashMap<>();
+    private final AtomicLong spanCount = new AtomicLong();
+    private final long bucketMillis;
+
+    SpanSetStore(final long bucketMillis) {
+        this.bucketMillis = bucketMillis;
+    }
+
+    void addSpan(final TraceIdKey traceIdKey, final Span span) {
+        spanSets.compute(traceIdKey, (key, spanSet) -> {
+            if (spanSet == null) {
+                spanSet = new SpanSet();
+                expiryBuckets.compute(getBucket(spanSet), (bucket, keys) -> {
+                    final Set<TraceIdKey> bucketKeys = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+                    bucketKeys.add(key);
+                    return bucketKeys;
+                });
+            }
+            if (spanSet.addSpan(span)) {
+                spanCount.incrementAndGet();
+            }
+            return spanSet;
+        });
+    }
+
+    /**
+     * Removes the span set of a trace.
+     *
+     * @param traceIdKey the trace id
+     * @return the removed span set, or null if the trace has none
+     */
+    SpanSet remove(final TraceIdKey traceIdKey) {
+        final SpanSet[] removedSpanSet = new SpanSet[1];
+        spanSets.computeIfPresent(traceIdKey, (key, spanSet) -> {
+            removeFromIndex(key, spanSet);
+            removedSpanSet[0] = spanSet;
+            return null;
+        });
+        return removedSpanSet[0];
+    }
+
+    /**
+     * Removes every span set created at or before the given time.
+     *
+     * @param cutoffMillis the latest creation time to remove
+     * @param consumer receives each removed span set
+     */
+    void removeCreatedBefore(final long cutoffMillis, final BiConsumer<TraceIdKey, SpanSet> consumer) {
+        final long cutoffBucket = Math.floorDiv(cutoffMillis, bucketMillis);
+        for (final Long bucket : expiryBuckets.keySet()) {
+            if (bucket <= cutoffBucket) {
+                removeFromBucket(bucket, spanSet -> spanSet.getTimeSeen() <= cutoffMillis, consumer);
+            }
+        }
+    }
+
+    /**
+     * Removes span sets, oldest first, until the store holds at most the given number of spans.
+     *
+     * @param maxSpanCount the number of spans to keep at most
+     * @param consumer receives each removed span set
+     */
+    void removeOldestUntil(final long maxSpanCount, final BiConsumer<TraceIdKey, SpanSet> consumer) {
+        final List<Long> buckets = new ArrayList<>(expiryBuckets.keySet());
+        Collections.sort(buckets);
+        for (final Long bucket : buckets) {
+            if (spanCount.get() <= maxSpanCount) {
+                return;
+            }
+            removeFromBucket(bucket, spanSet -> spanCount.get() > maxSpanCount, consumer);
+        }
+    }
+
+    private void removeFromBucket(final long bucket, final Predicate<SpanSet> shouldRemove,
+                                  final BiConsumer<TraceIdKey, SpanSet> consumer) {
+        final Set<TraceIdKey> keys = expiryBuckets.get(bucket);
+        if (keys == null) {
+            return;
+        }
+        for (final TraceIdKey traceIdKey : keys) {
+            final SpanSet[] removedSpanSet = new SpanSet[1];
+            spanSets.computeIfPresent(traceIdKey, (key, spanSet) -> {
+                if (getBucket(spanSet) != bucket || !shouldRemove.test(spanSet)) {
+                    return spanSet;
+                }
+                keys.remove(key);
+                spanCount.addAndGet(-spanSet.getSpans().size());
+                removedSpanSet[0] = spanSet;
+                return null;
+            });
+            if (removedSpanSet[0] != null) {
+                consumer.accept(traceIdKey, removedSpanSet[0]);
+            }
+        }
+        expiryBuckets.computeIfPresent(bucket, (key, bucketKeys) -> bucketKeys.isEmpty() ? null : bucketKeys);
+    }
+
+    private void removeFromIndex(final TraceIdKey traceIdKey, final SpanSet spanSet) {
+        spanCount.addAndGet(-spanSet.getSpans().size());
+        expiryBuckets.computeIfPresent(getBucket(spanSet), (bucket, keys) -> {
+            keys.remove(traceIdKey);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private long getBucket(final SpanSet spanSet) {
+        return Math.floorDiv(spanSet.getTimeSeen(), bucketMillis);
+    }
+
+    /**
+     * @return the number of traces with a span set
+     */
+    int size() {
+        return spanSets.size();
+    }
+
+    /**
+     * @return the number of spans across all span sets
+     */
+    long getSpanCount() {
+        return spanCount.get();
+    }
+
+    boolean isEmpty() {
+        return spanSets.isEmpty();
+    }
+}
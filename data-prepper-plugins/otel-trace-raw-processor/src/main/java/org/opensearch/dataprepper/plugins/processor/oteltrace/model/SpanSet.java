@@ -33,7 +33,11 @@ public class SpanSet {
         return timeSeen;
     }
 
-    public void addSpan(final Span span) {
-        spans.add(span);
+    /**
+     * @param span the span to add
+     * @return true if the span was not already in the set
+     */
+    public boolean addSpan(final Span span) {
+        return spans.add(span);
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace.model;
+
+import java.util.Objects;
+
+/**
+ * Map key for a trace id. A 16-byte trace id in hex form is held as two longs, which is
+ * smaller than the string and cheaper to hash and compare. Any other value is kept as is.
+ */
+public final class TraceIdKey {
+    private static final int HEX_TRACE_ID_LENGTH = 32;
+    private static final int HEX_LONG_LENGTH = 16;
+
+    private final long high;
+    private final long low;
+    private final String traceId;
+
+    private TraceIdKey(final long high, final long low, final String traceId) {
+        this.high = high;
+        this.low = low;
+        this.traceId = traceId;
+    }
+
+    public static TraceIdKey fromTraceId(final String traceId) {
+        if (traceId != null && traceId.length() == HEX_TRACE_ID_LENGTH && isHex(traceId)) {
+            return new TraceIdKey(parseHex(traceId, 0), parseHex(traceId, HEX_LONG_LENGTH), null);
+        }
+        return new TraceIdKey(0L, 0L, traceId);
+    }
+
+    private static boolean isHex(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.digit(value.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseHex(final String value, final int offset) {
+        long result = 0L;
+        for (int i = offset; i < offset + HEX_LONG_LENGTH; i++) {
+            result = (result << 4) | Character.digit(value.charAt(i), 16);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final TraceIdKey that = (TraceIdKey) o;
+        return high == that.high && low == that.low && Objects.equals(traceId, that.traceId);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(high);
+        result = 31 * result + Long.hashCode(low);
+        return traceId == null ? result : 31 * result + traceId.hashCode();
+    }
+}
@@ -12,6 +12,7 @@ package org.opensearch.dataprepper.plugins.processor.oteltrace;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
 import org.assertj.core.api.Assertions;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.AfterEach;
@@ -406,6 +407,21 @@ class OTelTraceRawProcessorTest {
         assertThat(actualFunction.applyAsDouble(actualMeasuredObject), equalTo(1.0));
     }
 
+    @Test
+    void maxBufferedSpans_flushes_the_oldest_span_sets_early() {
+        final Counter evictedSpansCounter = mock(Counter.class);
+        when(pluginMetrics.counter(OTelTraceRawProcessor.EVICTED_SPANS_METRIC_NAME)).thenReturn(evictedSpansCounter);
+        when(config.getMaxBufferedSpans()).thenReturn(2L);
+        oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
+
+        final Collection<Record<Span>> processedRecords = oTelTraceRawProcessor.doExecute(TEST_TWO_TRACE_GROUP_MISSING_ROOT_RECORDS);
+
+        assertThat(processedRecords.size(), equalTo(2));
+        assertThat(getMissingTraceGroupFieldsSpanCount(processedRecords), equalTo(2));
+        assertFalse(oTelTraceRawProcessor.isReadyForShutdown());
+        verify(evictedSpansCounter).increment(2);
+    }
+
     @ParameterizedTest
     @CsvSource({
             "0, 4",
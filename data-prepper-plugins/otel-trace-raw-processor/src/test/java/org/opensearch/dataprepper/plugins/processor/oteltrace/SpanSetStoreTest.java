@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.SpanSet;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceIdKey;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class SpanSetStoreTest {
+    private static final long BUCKET_MILLIS = 1_000L;
+
+    private SpanSetStore createObjectUnderTest() {
+        return new SpanSetStore(BUCKET_MILLIS);
+    }
+
+    private static TraceIdKey randomTraceIdKey() {
+        return TraceIdKey.fromTraceId(UUID.randomUUID().toString().replace("-", ""));
+    }
+
+    @Test
+    void addSpan_groups_spans_by_trace() {
+        final SpanSetStore objectUnderTest = createObjectUnderTest();
+        final TraceIdKey traceIdKey = randomTraceIdKey();
+
+        objectUnderTest.addSpan(traceIdKey, mock(Span.class));
+        objectUnderTest.addSpan(traceIdKey, mock(Span.class));
+        objectUnderTest.addSpan(randomTraceIdKey(), mock(Span.class));
+
+        assertThat(objectUnderTest.size(), equalTo(2));
+        assertThat(objectUnderTest.getSpanCount(), equalTo(3L));
+        assertFalse(objectUnderTest.isEmpty());
+    }
+
+    @Test
+    void remove_returns_the_span_set_and_updates_the_counts() {
+        final SpanSetStore objectUnderTest = createObjectUnderTest();
+        final TraceIdKey traceIdKey = randomTraceIdKey();
+        final Span span = mock(Span.class);
+        objectUnderTest.addSpan(traceIdKey, span);
+
+        final SpanSet spanSet = objectUnderTest.remove(traceIdKey);
+
+        assertTrue(spanSet.getSpans().contains(span));
+        assertThat(objectUnderTest.remove(traceIdKey), nullValue());
+        assertThat(objectUnderTest.getSpanCount(), equalTo(0L));
+        assertTrue(objectUnderTest.isEmpty());
+    }
+
+    @Test
+    void removeCreatedBefore_removes_only_expired_span_sets() {
+        final SpanSetStore objectUnderTest = createObjectUnderTest();
+        final TraceIdKey traceIdKey = randomTraceIdKey();
+        objectUnderTest.addSpan(traceIdKey, mock(Span.class));
+        final long now = System.currentTimeMillis();
+
+        final Map<TraceIdKey, SpanSet> removed = new HashMap<>();
+        objectUnderTest.removeCreatedBefore(now - 60_000L, removed::put);
+        assertTrue(removed.isEmpty());
+        assertThat(objectUnderTest.size(), equalTo(1));
+
+        objectUnderTest.removeCreatedBefore(now, removed::put);
+        assertThat(removed.size(), equalTo(1));
+        assertThat(removed.get(traceIdKey).getSpans().size(), equalTo(1));
+        assertTrue(objectUnderTest.isEmpty());
+        assertThat(objectUnderTest.getSpanCount(), equalTo(0L));
+    }
+
+    @Test
+    void removed_trace_can_be_added_again() {
+        final SpanSetStore objectUnderTest = createObjectUnderTest();
+        final TraceIdKey traceIdKey = randomTraceIdKey();
+        objectUnderTest.addSpan(traceIdKey, mock(Span.class));
+        objectUnderTest.remove(traceIdKey);
+
+        objectUnderTest.addSpan(traceIdKey, mock(Span.class));
+
+        final Map<TraceIdKey, SpanSet> removed = new HashMap<>();
+        objectUnderTest.removeCreatedBefore(Long.MAX_VALUE, removed::put);
+        assertThat(removed.size(), equalTo(1));
+        assertTrue(objectUnderTest.isEmpty());
+    }
+
+    @Test
+    void removeOldestUntil_removes_span_sets_until_under_the_limit() {
+        final SpanSetStore objectUnderTest = createObjectUnderTest();
+        for (int i = 0; i < 5; i++) {
+            objectUnderTest.addSpan(randomTraceIdKey(), mock(Span.class));
+        }
+
+        final Map<TraceIdKey, SpanSet> removed = new HashMap<>();
+        objectUnderTest.removeOldestUntil(2, removed::put);
+
+        assertThat(removed.size(), equalTo(3));
+        assertThat(objectUnderTest.getSpanCount(), equalTo(2L));
+        assertThat(objectUnderTest.size(), equalTo(2));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TraceIdKeyTest {
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    @Test
+    void fromTraceId_with_same_hex_trace_id_is_equal() {
+        assertThat(TraceIdKey.fromTraceId(TRACE_ID), equalTo(TraceIdKey.fromTraceId(new String(TRACE_ID))));
+        assertThat(TraceIdKey.fromTraceId(TRACE_ID).hashCode(), equalTo(TraceIdKey.fromTraceId(TRACE_ID).hashCode()));
+    }
+
+    @Test
+    void fromTraceId_is_case_insensitive_for_hex_trace_ids() {
+        assertThat(TraceIdKey.fromTraceId(TRACE_ID.toUpperCase()), equalTo(TraceIdKey.fromTraceId(TRACE_ID)));
+    }
+
+    @Test
+    void fromTraceId_with_different_halves_is_not_equal() {
+        assertThat(TraceIdKey.fromTraceId("00000000000000000000000000000001"),
+                not(equalTo(TraceIdKey.fromTraceId("00000000000000010000000000000000"))));
+    }
+
+    @Test
+    void fromTraceId_with_non_hex_trace_id_uses_the_string() {
+        final String traceId = "not-a-hex-trace-id-of-length-32!";
+
+        assertThat(TraceIdKey.fromTraceId(traceId), equalTo(TraceIdKey.fromTraceId(traceId)));
+        assertThat(TraceIdKey.fromTraceId(traceId), not(equalTo(TraceIdKey.fromTraceId(TRACE_ID))));
+        assertThat(TraceIdKey.fromTraceId(null), equalTo(TraceIdKey.fromTraceId(null)));
+        assertThat(TraceIdKey.fromTraceId("abc"), not(equalTo(TraceIdKey.fromTraceId("abd"))));
+    }
+}
@@ -12,15 +12,19 @@ package org.opensearch.dataprepper.plugins.sink.otlp;
 
 import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceRequest;
 import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceResponse;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
 import io.opentelemetry.proto.logs.v1.ResourceLogs;
+import io.opentelemetry.proto.logs.v1.ScopeLogs;
+import io.opentelemetry.proto.resource.v1.Resource;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.log.Log;
 import org.opensearch.dataprepper.plugins.otel.codec.OTelProtoStandardCodec;
 import software.amazon.awssdk.utils.Pair;
 
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * Handler for OTLP log signals.
@@ -45,14 +49,32 @@ public class OtlpLogHandler implements OtlpSignalHandler<ResourceLogs> {
         return encodedData.getSerializedSize();
     }
 
+    /**
+     * Builds the export request, grouping the log records of events which share a resource and scope into a single
+     * {@link ResourceLogs} and {@link ScopeLogs} so that the resource and scope are serialized once per request.
+     */
     @Override
     public byte[] buildRequestPayload(final List<Pair<ResourceLogs, EventHandle>> batch) {
-        final ExportLogsServiceRequest request = ExportLogsServiceRequest.newBuilder()
-                .addAllResourceLogs(batch.stream()
-                        .map(Pair::left)
-                        .collect(Collectors.toList()))
-                .build();
-        return request.toByteArray();
+        final Map<Pair<Resource, String>, Map<Pair<InstrumentationScope, String>, ScopeLogs.Builder>> scopeLogsByResource = new LinkedHashMap<>();
+        for (final Pair<ResourceLogs, EventHandle> encodedEvent : batch) {
+            final ResourceLogs resourceLogs = encodedEvent.left();
+            final Map<Pair<InstrumentationScope, String>, ScopeLogs.Builder> scopeLogsByScope = scopeLogsByResource.computeIfAbsent(
+                    Pair.of(resourceLogs.getResource(), resourceLogs.getSchemaUrl()), key -> new LinkedHashMap<>());
+            for (final ScopeLogs scopeLogs : resourceLogs.getScopeLogsList()) {
+                scopeLogsByScope.computeIfAbsent(Pair.of(scopeLogs.getScope(), scopeLogs.getSchemaUrl()),
+                                key -> ScopeLogs.newBuilder().setScope(key.left()).setSchemaUrl(key.right()))
+                        .addAllLogRecords(scopeLogs.getLogRecordsList());
+            }
+        }
+
+        final ExportLogsServiceRequest.Builder requestBuilder = ExportLogsServiceRequest.newBuilder();
+        scopeLogsByResource.forEach((resourceKey, scopeLogsByScope) -> {
+            final ResourceLogs.Builder resourceLogsBuilder = requestBuilder.addResourceLogsBuilder()
+                    .setResource(resourceKey.left())
+                    .setSchemaUrl(resourceKey.right());
+            scopeLogsByScope.values().forEach(resourceLogsBuilder::addScopeLogs);
+        });
+        return requestBuilder.build().toByteArray();
     }
 
     @Override
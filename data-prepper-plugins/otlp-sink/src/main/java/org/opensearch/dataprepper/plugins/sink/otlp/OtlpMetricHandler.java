@@ -12,15 +12,19 @@ package org.opensearch.dataprepper.plugins.sink.otlp;
 
 import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
 import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceResponse;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
 import io.opentelemetry.proto.metrics.v1.ResourceMetrics;
+import io.opentelemetry.proto.metrics.v1.ScopeMetrics;
+import io.opentelemetry.proto.resource.v1.Resource;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.metric.Metric;
 import org.opensearch.dataprepper.plugins.otel.codec.OTelProtoStandardCodec;
 import software.amazon.awssdk.utils.Pair;
 
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * Handler for OTLP metric signals.
@@ -45,14 +49,32 @@ public class OtlpMetricHandler implements OtlpSignalHandler<ResourceMetrics> {
         return encodedData.getSerializedSize();
     }
 
+    /**
+     * Builds the export request, grouping the metrics of events which share a resource and scope into a single
+     * {@link ResourceMetrics} and {@link ScopeMetrics} so that the resource and scope are serialized once per request.
+     */
     @Override
     public byte[] buildRequestPayload(final List<Pair<ResourceMetrics, EventHandle>> batch) {
-        final ExportMetricsServiceRequest request = ExportMetricsServiceRequest.newBuilder()
-                .addAllResourceMetrics(batch.stream()
-                        .map(Pair::left)
-                        .collect(Collectors.toList()))
-                .build();
-        return request.toByteArray();
+        final Map<Pair<Resource, String>, Map<Pair<InstrumentationScope, String>, ScopeMetrics.Builder>> scopeMetricsByResource = new LinkedHashMap<>();
+        for (final Pair<ResourceMetrics, EventHandle> encodedEvent : batch) {
+            final ResourceMetrics resourceMetrics = encodedEvent.left();
+            final Map<Pair<InstrumentationScope, String>, ScopeMetrics.Builder> scopeMetricsByScope = scopeMetricsByResource.computeIfAbsent(
+                    Pair.of(resourceMetrics.getResource(), resourceMetrics.getSchemaUrl()), key -> new LinkedHashMap<>());
+            for (final ScopeMetrics scopeMetrics : resourceMetrics.getScopeMetricsList()) {
+                scopeMetricsByScope.computeIfAbsent(Pair.of(scopeMetrics.getScope(), scopeMetrics.getSchemaUrl()),
+                                key -> ScopeMetrics.newBuilder().setScope(key.left()).setSchemaUrl(key.right()))
+                        .addAllMetrics(scopeMetrics.getMetricsList());
+            }
+        }
+
+        final ExportMetricsServiceRequest.Builder requestBuilder = ExportMetricsServiceRequest.newBuilder();
+        scopeMetricsByResource.forEach((resourceKey, scopeMetricsByScope) -> {
+            final ResourceMetrics.Builder resourceMetricsBuilder = requestBuilder.addResourceMetricsBuilder()
+                    .setResource(resourceKey.left())
+                    .setSchemaUrl(resourceKey.right());
+            scopeMetricsByScope.values().forEach(resourceMetricsBuilder::addScopeMetrics);
+        });
+        return requestBuilder.build().toByteArray();
     }
 
     @Override
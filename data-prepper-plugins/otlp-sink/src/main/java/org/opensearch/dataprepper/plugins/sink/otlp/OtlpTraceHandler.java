@@ -12,15 +12,19 @@ package org.opensearch.dataprepper.plugins.sink.otlp;
 
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceResponse;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.resource.v1.Resource;
 import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.trace.Span;
 import org.opensearch.dataprepper.plugins.otel.codec.OTelProtoStandardCodec;
 import software.amazon.awssdk.utils.Pair;
 
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * Handler for OTLP trace signals.
@@ -45,14 +49,32 @@ public class OtlpTraceHandler implements OtlpSignalHandler<ResourceSpans> {
         return encodedData.getSerializedSize();
     }
 
+    /**
+     * Builds the export request, grouping the spans of events which share a resource and scope into a single
+     * {@link ResourceSpans} and {@link ScopeSpans} so that the resource and scope are serialized once per request.
+     */
     @Override
     public byte[] buildRequestPayload(final List<Pair<ResourceSpans, EventHandle>> batch) {
-        final ExportTraceServiceRequest request = ExportTraceServiceRequest.newBuilder()
-                .addAllResourceSpans(batch.stream()
-                        .map(Pair::left)
-                        .collect(Collectors.toList()))
-                .build();
-        return request.toByteArray();
+        final Map<Pair<Resource, String>, Map<Pair<InstrumentationScope, String>, ScopeSpans.Builder>> scopeSpansByResource = new LinkedHashMap<>();
+        for (final Pair<ResourceSpans, EventHandle> encodedEvent : batch) {
+            final ResourceSpans resourceSpans = encodedEvent.left();
+            final Map<Pair<InstrumentationScope, String>, ScopeSpans.Builder> scopeSpansByScope = scopeSpansByResource.computeIfAbsent(
+                    Pair.of(resourceSpans.getResource(), resourceSpans.getSchemaUrl()), key -> new LinkedHashMap<>());
+            for (final ScopeSpans scopeSpans : resourceSpans.getScopeSpansList()) {
+                scopeSpansByScope.computeIfAbsent(Pair.of(scopeSpans.getScope(), scopeSpans.getSchemaUrl()),
+                                key -> ScopeSpans.newBuilder().setScope(key.left()).setSchemaUrl(key.right()))
+                        .addAllSpans(scopeSpans.getSpansList());
+            }
+        }
+
+        final ExportTraceServiceRequest.Builder requestBuilder = ExportTraceServiceRequest.newBuilder();
+        scopeSpansByResource.forEach((resourceKey, scopeSpansByScope) -> {
+            final ResourceSpans.Builder resourceSpansBuilder = requestBuilder.addResourceSpansBuilder()
+                    .setResource(resourceKey.left())
+                    .setSchemaUrl(resourceKey.right());
+            scopeSpansByScope.values().forEach(resourceSpansBuilder::addScopeSpans);
+        });
+        return requestBuilder.build().toByteArray();
     }
 
     @Override
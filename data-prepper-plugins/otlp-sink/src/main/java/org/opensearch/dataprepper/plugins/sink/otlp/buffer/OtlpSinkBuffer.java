@@ -32,10 +32,13 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A signal-agnostic back-pressure buffer for OTLP sink.
  * Uses a signal handler to encode and send events of a specific type.
+ * <p>
+ * The configured number of workers drain the queue concurrently, each building and sending its own batches.
  */
 public class OtlpSinkBuffer {
     private static final Logger LOG = LoggerFactory.getLogger(OtlpSinkBuffer.class);
@@ -51,6 +54,7 @@ public class OtlpSinkBuffer {
     private final int maxEvents;
     private final long maxBatchBytes;
     private final long flushTimeoutMillis;
+    private final int workers;
 
     private final ExecutorService executor;
 
@@ -80,11 +84,13 @@ public class OtlpSinkBuffer {
         this.maxEvents = config.getMaxEvents();
         this.maxBatchBytes = config.getMaxBatchSize();
         this.flushTimeoutMillis = config.getFlushTimeoutMillis();
+        this.workers = config.getWorkers();
 
         this.queue = new LinkedBlockingQueue<>(getQueueCapacity());
         sinkMetrics.registerQueueGauges(queue);
 
-        this.executor = Executors.newSingleThreadExecutor(r -> {
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, r -> {
             final Thread t = new Thread(() -> {
                 try {
                     r.run();
@@ -93,7 +99,7 @@ public class OtlpSinkBuffer {
                     sinkMetrics.incrementErrorsCount();
                     restartWorker();
                 }
-            }, "otlp-sink-buffer-thread");
+            }, "otlp-sink-buffer-thread-" + threadCount.incrementAndGet());
             t.setDaemon(false);
             return t;
         });
@@ -105,7 +111,9 @@ public class OtlpSinkBuffer {
 
     public void start() {
         running = true;
-        executor.execute(this::run);
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::run);
+        }
     }
 
     public void stop() {
@@ -144,6 +152,7 @@ public class OtlpSinkBuffer {
 
     /**
      * Worker loop that batches events by count, size, or time and then flushes them.
+     * Each worker keeps its own batch, so the thresholds apply per worker.
      * <p>
      * Continues running as long as {@link #running} is true or the queue is not empty.
      * Handles encoding failures, timeout-based flush, and final flush on shutdown.
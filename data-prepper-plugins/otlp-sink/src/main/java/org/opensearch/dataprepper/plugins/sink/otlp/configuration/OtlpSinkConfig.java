@@ -49,6 +49,14 @@ public class OtlpSinkConfig {
     @Min(value = 0)
     private int maxRetries = 5;
 
+    /**
+     * The number of threads per signal type which batch, encode and send events.
+     */
+    @Getter
+    @JsonProperty("workers")
+    @Min(value = 1)
+    private int workers = 1;
+
     /**
      * The threshold configuration for sending spans to the OTLP endpoint.
      * This field is kept private and its contents should be accessed via the generated getter methods.
@@ -10,9 +10,16 @@
 
 package org.opensearch.dataprepper.plugins.sink.otlp;
 
+import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceRequest;
 import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceResponse;
 import io.opentelemetry.proto.collector.logs.v1.ExportLogsPartialSuccess;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.logs.v1.LogRecord;
 import io.opentelemetry.proto.logs.v1.ResourceLogs;
+import io.opentelemetry.proto.logs.v1.ScopeLogs;
+import io.opentelemetry.proto.resource.v1.Resource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.event.EventHandle;
@@ -21,6 +28,7 @@ import org.opensearch.dataprepper.plugins.otel.codec.OTelProtoStandardCodec;
 import software.amazon.awssdk.utils.Pair;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -78,6 +86,32 @@ class OtlpLogHandlerTest {
         assertTrue(payload.length > 0);
     }
 
+    @Test
+    void testBuildRequestPayload_groupsLogRecordsSharingResourceAndScope() throws Exception {
+        final Resource resource = createResource("checkout");
+        final Resource otherResource = createResource("payments");
+        final InstrumentationScope scope = InstrumentationScope.newBuilder().setName("io.opentelemetry.http").build();
+        final EventHandle handle = mock(EventHandle.class);
+        final List<Pair<ResourceLogs, EventHandle>> batch = List.of(
+                Pair.of(createResourceLogs(resource, scope, "first"), handle),
+                Pair.of(createResourceLogs(otherResource, scope, "second"), handle),
+                Pair.of(createResourceLogs(resource, scope, "third"), handle));
+
+        final ExportLogsServiceRequest request = ExportLogsServiceRequest.parseFrom(handler.buildRequestPayload(batch));
+
+        assertEquals(2, request.getResourceLogsCount());
+        assertEquals(resource, request.getResourceLogs(0).getResource());
+        assertEquals(1, request.getResourceLogs(0).getScopeLogsCount());
+        assertEquals(scope, request.getResourceLogs(0).getScopeLogs(0).getScope());
+        assertEquals(List.of("first", "third"), request.getResourceLogs(0).getScopeLogs(0).getLogRecordsList().stream()
+                .map(LogRecord::getSeverityText)
+                .collect(Collectors.toList()));
+        assertEquals(otherResource, request.getResourceLogs(1).getResource());
+        assertEquals(List.of("second"), request.getResourceLogs(1).getScopeLogs(0).getLogRecordsList().stream()
+                .map(LogRecord::getSeverityText)
+                .collect(Collectors.toList()));
+    }
+
     @Test
     void testParsePartialSuccess_withPartialSuccess() throws Exception {
         final ExportLogsServiceResponse response = ExportLogsServiceResponse.newBuilder()
@@ -101,4 +135,21 @@ class OtlpLogHandlerTest {
         assertEquals(0L, result.left());
         assertEquals("", result.right());
     }
+
+    private static Resource createResource(final String serviceName) {
+        return Resource.newBuilder()
+                .addAttributes(KeyValue.newBuilder()
+                        .setKey("service.name")
+                        .setValue(AnyValue.newBuilder().setStringValue(serviceName)))
+                .build();
+    }
+
+    private static ResourceLogs createResourceLogs(final Resource resource, final InstrumentationScope scope, final String name) {
+        return ResourceLogs.newBuilder()
+                .setResource(resource)
+                .addScopeLogs(ScopeLogs.newBuilder()
+                        .setScope(scope)
+                        .addLogRecords(LogRecord.newBuilder().setSeverityText(name)))
+                .build();
+    }
 }
@@ -10,9 +10,15 @@
 
 package org.opensearch.dataprepper.plugins.sink.otlp;
 
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
 import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceResponse;
 import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsPartialSuccess;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
 import io.opentelemetry.proto.metrics.v1.ResourceMetrics;
+import io.opentelemetry.proto.metrics.v1.ScopeMetrics;
+import io.opentelemetry.proto.resource.v1.Resource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.event.EventHandle;
@@ -21,6 +27,7 @@ import org.opensearch.dataprepper.plugins.otel.codec.OTelProtoStandardCodec;
 import software.amazon.awssdk.utils.Pair;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -78,6 +85,32 @@ class OtlpMetricHandlerTest {
         assertTrue(payload.length > 0);
     }
 
+    @Test
+    void testBuildRequestPayload_groupsMetricsSharingResourceAndScope() throws Exception {
+        final Resource resource = createResource("checkout");
+        final Resource otherResource = createResource("payments");
+        final InstrumentationScope scope = InstrumentationScope.newBuilder().setName("io.opentelemetry.http").build();
+        final EventHandle handle = mock(EventHandle.class);
+        final List<Pair<ResourceMetrics, EventHandle>> batch = List.of(
+                Pair.of(createResourceMetrics(resource, scope, "first"), handle),
+                Pair.of(createResourceMetrics(otherResource, scope, "second"), handle),
+                Pair.of(createResourceMetrics(resource, scope, "third"), handle));
+
+        final ExportMetricsServiceRequest request = ExportMetricsServiceRequest.parseFrom(handler.buildRequestPayload(batch));
+
+        assertEquals(2, request.getResourceMetricsCount());
+        assertEquals(resource, request.getResourceMetrics(0).getResource());
+        assertEquals(1, request.getResourceMetrics(0).getScopeMetricsCount());
+        assertEquals(scope, request.getResourceMetrics(0).getScopeMetrics(0).getScope());
+        assertEquals(List.of("first", "third"), request.getResourceMetrics(0).getScopeMetrics(0).getMetricsList().stream()
+                .map(io.opentelemetry.proto.metrics.v1.Metric::getName)
+                .collect(Collectors.toList()));
+        assertEquals(otherResource, request.getResourceMetrics(1).getResource());
+        assertEquals(List.of("second"), request.getResourceMetrics(1).getScopeMetrics(0).getMetricsList().stream()
+                .map(io.opentelemetry.proto.metrics.v1.Metric::getName)
+                .collect(Collectors.toList()));
+    }
+
     @Test
     void testParsePartialSuccess_withPartialSuccess() throws Exception {
         final ExportMetricsServiceResponse response = ExportMetricsServiceResponse.newBuilder()
@@ -101,4 +134,21 @@ class OtlpMetricHandlerTest {
         assertEquals(0L, result.left());
         assertEquals("", result.right());
     }
+
+    private static Resource createResource(final String serviceName) {
+        return Resource.newBuilder()
+                .addAttributes(KeyValue.newBuilder()
+                        .setKey("service.name")
+                        .setValue(AnyValue.newBuilder().setStringValue(serviceName)))
+                .build();
+    }
+
+    private static ResourceMetrics createResourceMetrics(final Resource resource, final InstrumentationScope scope, final String name) {
+        return ResourceMetrics.newBuilder()
+                .setResource(resource)
+                .addScopeMetrics(ScopeMetrics.newBuilder()
+                        .setScope(scope)
+                        .addMetrics(io.opentelemetry.proto.metrics.v1.Metric.newBuilder().setName(name)))
+                .build();
+    }
 }
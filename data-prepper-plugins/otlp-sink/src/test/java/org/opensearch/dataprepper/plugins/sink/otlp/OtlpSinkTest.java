@@ -58,6 +58,7 @@ class OtlpSinkTest {
         when(mockConfig.getMaxBatchSize()).thenReturn(1_000_000L);
         when(mockConfig.getFlushTimeoutMillis()).thenReturn(100L);
         when(mockConfig.getMaxRetries()).thenReturn(2);
+        when(mockConfig.getWorkers()).thenReturn(1);
 
         mockMetrics = mock(PluginMetrics.class);
         mockSetting = mock(PluginSetting.class);
@@ -10,8 +10,14 @@
 
 package org.opensearch.dataprepper.plugins.sink.otlp;
 
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceResponse;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.resource.v1.Resource;
 import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.event.EventHandle;
@@ -20,6 +26,7 @@ import org.opensearch.dataprepper.plugins.otel.codec.OTelProtoStandardCodec;
 import software.amazon.awssdk.utils.Pair;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -77,6 +84,32 @@ class OtlpTraceHandlerTest {
         assertTrue(payload.length > 0);
     }
 
+    @Test
+    void testBuildRequestPayload_groupsSpansSharingResourceAndScope() throws Exception {
+        final Resource resource = createResource("checkout");
+        final Resource otherResource = createResource("payments");
+        final InstrumentationScope scope = InstrumentationScope.newBuilder().setName("io.opentelemetry.http").build();
+        final EventHandle handle = mock(EventHandle.class);
+        final List<Pair<ResourceSpans, EventHandle>> batch = List.of(
+                Pair.of(createResourceSpans(resource, scope, "first"), handle),
+                Pair.of(createResourceSpans(otherResource, scope, "second"), handle),
+                Pair.of(createResourceSpans(resource, scope, "third"), handle));
+
+        final ExportTraceServiceRequest request = ExportTraceServiceRequest.parseFrom(handler.buildRequestPayload(batch));
+
+        assertEquals(2, request.getResourceSpansCount());
+        assertEquals(resource, request.getResourceSpans(0).getResource());
+        assertEquals(1, request.getResourceSpans(0).getScopeSpansCount());
+        assertEquals(scope, request.getResourceSpans(0).getScopeSpans(0).getScope());
+        assertEquals(List.of("first", "third"), request.getResourceSpans(0).getScopeSpans(0).getSpansList().stream()
+                .map(io.opentelemetry.proto.trace.v1.Span::getName)
+                .collect(Collectors.toList()));
+        assertEquals(otherResource, request.getResourceSpans(1).getResource());
+        assertEquals(List.of("second"), request.getResourceSpans(1).getScopeSpans(0).getSpansList().stream()
+                .map(io.opentelemetry.proto.trace.v1.Span::getName)
+                .collect(Collectors.toList()));
+    }
+
     @Test
     void testParsePartialSuccess_withPartialSuccess() throws Exception {
         final ExportTraceServiceResponse response = ExportTraceServiceResponse.newBuilder()
@@ -100,4 +133,21 @@ class OtlpTraceHandlerTest {
         assertEquals(0L, result.left());
         assertEquals("", result.right());
     }
+
+    private static Resource createResource(final String serviceName) {
+        return Resource.newBuilder()
+                .addAttributes(KeyValue.newBuilder()
+                        .setKey("service.name")
+                        .setValue(AnyValue.newBuilder().setStringValue(serviceName)))
+                .build();
+    }
+
+    private static ResourceSpans createResourceSpans(final Resource resource, final InstrumentationScope scope, final String name) {
+        return ResourceSpans.newBuilder()
+                .setResource(resource)
+                .addScopeSpans(ScopeSpans.newBuilder()
+                        .setScope(scope)
+                        .addSpans(io.opentelemetry.proto.trace.v1.Span.newBuilder().setName(name)))
+                .build();
+    }
 }
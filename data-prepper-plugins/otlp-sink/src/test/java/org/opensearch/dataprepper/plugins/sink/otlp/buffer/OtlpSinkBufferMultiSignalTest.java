@@ -29,13 +29,19 @@ import org.opensearch.dataprepper.plugins.sink.otlp.http.OtlpHttpSender;
 import org.opensearch.dataprepper.plugins.sink.otlp.metrics.OtlpSinkMetrics;
 import software.amazon.awssdk.regions.Region;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -59,6 +65,7 @@ class OtlpSinkBufferMultiSignalTest {
         when(config.getMaxBatchSize()).thenReturn(1_000_000L);
         when(config.getFlushTimeoutMillis()).thenReturn(100L);
         when(config.getAwsRegion()).thenReturn(Region.of("us-west-2"));
+        when(config.getWorkers()).thenReturn(1);
 
         metrics = mock(OtlpSinkMetrics.class);
         handler = mock(OtlpSignalHandler.class);
@@ -156,6 +163,34 @@ class OtlpSinkBufferMultiSignalTest {
         buffer.stop();
     }
 
+    @Test
+    void testMultipleWorkers_processEventsConcurrently() throws Exception {
+        when(config.getWorkers()).thenReturn(2);
+        when(config.getMaxEvents()).thenReturn(1);
+        final CountDownLatch bothWorkersEncoding = new CountDownLatch(2);
+        final Set<String> encodingThreads = ConcurrentHashMap.newKeySet();
+        when(handler.encodeEvent(any(Event.class))).thenAnswer(invocation -> {
+            encodingThreads.add(Thread.currentThread().getName());
+            bothWorkersEncoding.countDown();
+            bothWorkersEncoding.await(2, SECONDS);
+            return ResourceSpans.getDefaultInstance();
+        });
+        when(handler.getSerializedSize(any())).thenReturn(10L);
+
+        buffer = new OtlpSinkBuffer(config, metrics, handler, sender, OtlpSignalType.TRACE);
+        buffer.start();
+
+        buffer.add(createMockSpanRecord());
+        buffer.add(createMockSpanRecord());
+
+        await().atMost(3, SECONDS).untilAsserted(() ->
+            verify(sender, times(2)).send(any(), any(OtlpSignalHandler.class), any(OtlpSignalType.class))
+        );
+        assertEquals(2, encodingThreads.size());
+
+        buffer.stop();
+    }
+
     @Test
     void testEncodeFailure_incrementsErrorMetrics() throws Exception {
         when(handler.encodeEvent(any(Event.class))).thenThrow(new RuntimeException("encode failed"));
@@ -33,6 +33,7 @@ class OtlpSinkConfigTest {
 
     private static final String EXPECTED_ENDPOINT = "https://example.com/otlp";
     private static final int DEFAULT_MAX_RETRIES = 5;
+    private static final int DEFAULT_WORKERS = 1;
 
     private static final int CUSTOM_MAX_EVENTS = 100;
     private static final String CUSTOM_BATCH_SIZE = "2mb";
@@ -139,6 +140,7 @@ class OtlpSinkConfigTest {
 
         assertEquals(EXPECTED_ENDPOINT, config.getEndpoint());
         assertEquals(DEFAULT_MAX_RETRIES, config.getMaxRetries());
+        assertEquals(DEFAULT_WORKERS, config.getWorkers());
         assertEquals(DEFAULT_MAX_EVENTS, config.getMaxEvents());
         assertEquals(DEFAULT_BATCH_BYTES, config.getMaxBatchSize());
         assertEquals(DEFAULT_FLUSH_TIMEOUT, config.getFlushTimeoutMillis());
@@ -153,6 +155,7 @@ class OtlpSinkConfigTest {
                 "endpoint:      \"" + EXPECTED_ENDPOINT + "\"",
                 "aws: {}",
                 "max_retries:   3",
+                "workers:       4",
                 "threshold:",
                 "  max_events:     " + CUSTOM_MAX_EVENTS,
                 "  max_batch_size: \"" + CUSTOM_BATCH_SIZE + "\"",
@@ -163,6 +166,7 @@ class OtlpSinkConfigTest {
 
         assertEquals(EXPECTED_ENDPOINT, config.getEndpoint());
         assertEquals(3, config.getMaxRetries());
+        assertEquals(4, config.getWorkers());
         assertEquals(CUSTOM_MAX_EVENTS, config.getMaxEvents());
         assertEquals(CUSTOM_BATCH_BYTES, config.getMaxBatchSize());
         assertEquals(CUSTOM_FLUSH_TIMEOUT, config.getFlushTimeoutMillis());
@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The comparison of a {@link ParquetRowFilter}.
+ */
+public enum ParquetFilterOperator {
+    EQUALS("eq"),
+    NOT_EQUALS("not_eq"),
+    LESS_THAN("lt"),
+    LESS_THAN_OR_EQUALS("lt_eq"),
+    GREATER_THAN("gt"),
+    GREATER_THAN_OR_EQUALS("gt_eq");
+
+    private static final Map<String, ParquetFilterOperator> OPTIONS_MAP = Arrays.stream(ParquetFilterOperator.values())
+            .collect(Collectors.toMap(
+                    value -> value.option,
+                    value -> value
+            ));
+
+    private final String option;
+
+    ParquetFilterOperator(final String option) {
+        this.option = option;
+    }
+
+    @JsonValue
+    public String getOption() {
+        return option;
+    }
+
+    @JsonCreator
+    static ParquetFilterOperator fromOptionValue(final String option) {
+        final ParquetFilterOperator operator = OPTIONS_MAP.get(option);
+        if (operator == null) {
+            throw new IllegalArgumentException("Unknown filter operator " + option + ". Valid options are "
+                    + Arrays.stream(values()).map(ParquetFilterOperator::getOption).collect(Collectors.toList()));
+        }
+        return operator;
+    }
+}
@@ -7,9 +7,13 @@ package org.opensearch.dataprepper.plugins.codec.parquet;
 
 import org.apache.avro.generic.GenericRecord;
 import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.avro.AvroSchemaConverter;
 import org.apache.parquet.conf.ParquetConfiguration;
 import org.apache.parquet.conf.PlainParquetConfiguration;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.schema.MessageType;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.codec.DecompressionEngine;
@@ -28,15 +32,22 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 
+import static org.apache.parquet.avro.AvroReadSupport.AVRO_READ_SCHEMA;
+import static org.apache.parquet.avro.AvroReadSupport.AVRO_REQUESTED_PROJECTION;
 import static org.apache.parquet.avro.AvroReadSupport.READ_INT96_AS_FIXED;
 
 /**
  * An implementation of {@link InputCodec} which parses parquet records into fields.
+ * <p>
+ * When columns are configured, only those columns and the columns used by filters are read.
+ * When filters are configured, row groups whose statistics or dictionaries rule out a match are
+ * skipped and the remaining rows are filtered before they are converted to events.
  */
-@DataPrepperPlugin(name = "parquet", pluginType = InputCodec.class)
+@DataPrepperPlugin(name = "parquet", pluginType = InputCodec.class, pluginConfigurationType = ParquetInputCodecConfig.class)
 public class ParquetInputCodec implements InputCodec {
 
     static final String EVENT_TYPE = "event";
@@ -48,13 +59,18 @@ public class ParquetInputCodec implements InputCodec {
     private static final Logger LOG = LoggerFactory.getLogger(ParquetInputCodec.class);
 
     private final ParquetConfiguration configuration;
+    private final ParquetInputCodecConfig parquetInputCodecConfig;
     private final EventFactory eventFactory;
 
-    @DataPrepperPluginConstructor
     public ParquetInputCodec(final EventFactory eventFactory) {
+        this(new ParquetInputCodecConfig(), eventFactory);
+    }
+
+    @DataPrepperPluginConstructor
+    public ParquetInputCodec(final ParquetInputCodecConfig parquetInputCodecConfig, final EventFactory eventFactory) {
+        this.parquetInputCodecConfig = Objects.requireNonNull(parquetInputCodecConfig);
         this.eventFactory = eventFactory;
-        configuration = new PlainParquetConfiguration();
-        configuration.setBoolean(READ_INT96_AS_FIXED, true);
+        configuration = createConfiguration();
     }
 
     @Override
@@ -81,8 +97,7 @@ public class ParquetInputCodec implements InputCodec {
     }
 
     private void parseParquetFile(final InputFile inputFile, final Consumer<Record<Event>> eventConsumer) throws IOException {
-        try (ParquetReader<GenericRecord> reader = AvroParquetReader.<GenericRecord>builder(inputFile, this.configuration)
-                .build()) {
+        try (ParquetReader<GenericRecord> reader = createReader(inputFile)) {
             GenericRecordJsonEncoder encoder = new GenericRecordJsonEncoder();
             GenericRecord record = null;
 
@@ -102,4 +117,37 @@ public class ParquetInputCodec implements InputCodec {
         }
     }
 
+    private ParquetReader<GenericRecord> createReader(final InputFile inputFile) throws IOException {
+        final List<String> columns = parquetInputCodecConfig.getColumns();
+        final List<ParquetRowFilter> filters = parquetInputCodecConfig.getFilters();
+        if (columns.isEmpty() && filters.isEmpty()) {
+            return AvroParquetReader.<GenericRecord>builder(inputFile, configuration).build();
+        }
+
+        final MessageType fileSchema;
+        try (ParquetFileReader fileReader = ParquetFileReader.open(inputFile)) {
+            fileSchema = fileReader.getFooter().getFileMetaData().getSchema();
+        }
+
+        final ParquetConfiguration readConfiguration = createConfiguration();
+        if (!columns.isEmpty()) {
+            final String projection = new AvroSchemaConverter(readConfiguration)
+                    .convert(ParquetReadPlan.project(fileSchema, ParquetReadPlan.withFilterColumns(columns, filters)))
+                    .toString();
+            readConfiguration.set(AVRO_REQUESTED_PROJECTION, projection);
+            readConfiguration.set(AVRO_READ_SCHEMA, projection);
+        }
+
+        final AvroParquetReader.Builder<GenericRecord> builder = AvroParquetReader.builder(inputFile, readConfiguration);
+        if (!filters.isEmpty()) {
+            builder.withFilter(FilterCompat.get(ParquetReadPlan.createPredicate(fileSchema, filters)));
+        }
+        return builder.build();
+    }
+
+    private static ParquetConfiguration createConfiguration() {
+        final ParquetConfiguration parquetConfiguration = new PlainParquetConfiguration();
+        parquetConfiguration.setBoolean(READ_INT96_AS_FIXED, true);
+        return parquetConfiguration;
+    }
 }
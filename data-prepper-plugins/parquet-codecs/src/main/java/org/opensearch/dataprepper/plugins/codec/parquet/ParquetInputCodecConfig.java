@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configuration class for the parquet input codec.
+ */
+public class ParquetInputCodecConfig {
+    @JsonProperty("columns")
+    private List<String> columns;
+
+    @JsonProperty("filters")
+    @Valid
+    private List<ParquetRowFilter> filters;
+
+    public ParquetInputCodecConfig() {
+    }
+
+    ParquetInputCodecConfig(final List<String> columns, final List<ParquetRowFilter> filters) {
+        this.columns = columns;
+        this.filters = filters;
+    }
+
+    /**
+     * The top-level columns to read. Other columns are not fetched or decoded.
+     * An empty list reads every column.
+     *
+     * @return the column names
+     */
+    public List<String> getColumns() {
+        return columns == null ? Collections.emptyList() : columns;
+    }
+
+    /**
+     * Conditions which every row must meet. They are checked against row group statistics
+     * and dictionaries first, so row groups which cannot match are skipped without being read.
+     *
+     * @return the row filters
+     */
+    public List<ParquetRowFilter> getFilters() {
+        return filters == null ? Collections.emptyList() : filters;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Translates a {@link ParquetInputCodecConfig} into a read schema and a filter predicate
+ * for a particular Parquet file schema.
+ */
+class ParquetReadPlan {
+    private ParquetReadPlan() {
+    }
+
+    /**
+     * Returns the file schema reduced to the given top-level columns.
+     *
+     * @param fileSchema the schema of the Parquet file
+     * @param columns the column names to keep
+     * @return the projected schema
+     * @throws IllegalArgumentException if the file has none of the columns
+     */
+    static MessageType project(final MessageType fileSchema, final List<String> columns) {
+        final List<Type> projectedFields = new ArrayList<>(columns.size());
+        for (final Type field : fileSchema.getFields()) {
+            if (columns.contains(field.getName())) {
+                projectedFields.add(field);
+            }
+        }
+        if (projectedFields.isEmpty()) {
+            throw new IllegalArgumentException("The Parquet file has none of the configured columns " + columns);
+        }
+        return new MessageType(fileSchema.getName(), projectedFields);
+    }
+
+    /**
+     * Returns the columns together with the top-level columns used by the filters. Parquet evaluates
+     * row filters against the values it reads, so a filter column missing from the projection would
+     * be treated as null.
+     *
+     * @param columns the configured column names
+     * @param filters the row filters
+     * @return the column names to read
+     */
+    static List<String> withFilterColumns(final List<String> columns, final List<ParquetRowFilter> filters) {
+        final Set<String> readColumns = new LinkedHashSet<>(columns);
+        for (final ParquetRowFilter filter : filters) {
+            readColumns.add(filter.getColumn().split("\\.")[0]);
+        }
+        return new ArrayList<>(readColumns);
+    }
+
+    /**
+     * Returns a predicate which requires all of the given filters to match.
+     *
+     * @param fileSchema the schema of the Parquet file
+     * @param filters the row filters, of which there must be at least one
+     * @return the combined predicate
+     * @throws IllegalArgumentException if a filter refers to a missing or unsupported column
+     */
+    static FilterPredicate createPredicate(final MessageType fileSchema, final List<ParquetRowFilter> filters) {
+        FilterPredicate predicate = null;
+        for (final ParquetRowFilter filter : filters) {
+            final FilterPredicate filterPredicate = createPredicate(fileSchema, filter);
+            predicate = predicate == null ? filterPredicate : FilterApi.and(predicate, filterPredicate);
+        }
+        return predicate;
+    }
+
+    private static FilterPredicate createPredicate(final MessageType fileSchema, final ParquetRowFilter filter) {
+        final String columnPath = filter.getColumn();
+        final String[] path = columnPath.split("\\.");
+        if (!fileSchema.containsPath(path) || !fileSchema.getType(path).isPrimitive()) {
+            throw new IllegalArgumentException("The Parquet file has no primitive column " + columnPath);
+        }
+        final Object value = filter.getValue();
+        if (value == null && filter.getOperator() != ParquetFilterOperator.EQUALS
+                && filter.getOperator() != ParquetFilterOperator.NOT_EQUALS) {
+            throw new IllegalArgumentException("The filter on column " + columnPath + " requires a value for " + filter.getOperator().getOption());
+        }
+
+        final PrimitiveType.PrimitiveTypeName typeName = fileSchema.getType(path).asPrimitiveType().getPrimitiveTypeName();
+        switch (typeName) {
+            case INT32:
+                return compare(FilterApi.intColumn(columnPath), filter.getOperator(),
+                        value == null ? null : toWholeNumber(value, columnPath, BigDecimal::intValueExact));
+            case INT64:
+                return compare(FilterApi.longColumn(columnPath), filter.getOperator(),
+                        value == null ? null : toWholeNumber(value, columnPath, BigDecimal::longValueExact));
+            case FLOAT:
+                return compare(FilterApi.floatColumn(columnPath), filter.getOperator(),
+                        value == null ? null : Float.valueOf(toNumber(value).floatValue()));
+            case DOUBLE:
+                return compare(FilterApi.doubleColumn(columnPath), filter.getOperator(),
+                        value == null ? null : Double.valueOf(toNumber(value).doubleValue()));
+            case BINARY:
+                return compare(FilterApi.binaryColumn(columnPath), filter.getOperator(),
+                        value == null ? null : Binary.fromString(value.toString()));
+            case BOOLEAN:
+                final Operators.BooleanColumn booleanColumn = FilterApi.booleanColumn(columnPath);
+                final Boolean booleanValue = value == null ? null : value instanceof Boolean ? (Boolean) value : Boolean.valueOf(value.toString());
+                if (filter.getOperator() == ParquetFilterOperator.EQUALS) {
+                    return FilterApi.eq(booleanColumn, booleanValue);
+                } else if (filter.getOperator() == ParquetFilterOperator.NOT_EQUALS) {
+                    return FilterApi.notEq(booleanColumn, booleanValue);
+                }
+                throw new IllegalArgumentException("Boolean column " + columnPath + " only supports eq and not_eq");
+            default:
+                throw new IllegalArgumentException("Filters are not supported on " + typeName + " column " + columnPath);
+        }
+    }
+
+    private static Number toNumber(final Object value) {
+        return value instanceof Number ? (Number) value : new BigDecimal(value.toString());
+    }
+
+    /**
+     * Integer columns only accept whole numbers within their range, since truncating a value such as 2.5
+     * would change which rows a {@code lt}, {@code lt_eq} or {@code eq} filter matches.
+     */
+    private static <T> T toWholeNumber(final Object value, final String columnPath, final Function<BigDecimal, T> exactConversion) {
+        try {
+            return exactConversion.apply(new BigDecimal(value.toString()));
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException("The filter on integer column " + columnPath
+                    + " requires a whole number within the column range but was " + value, e);
+        }
+    }
+
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt> FilterPredicate compare(
+            final C column, final ParquetFilterOperator operator, final T value) {
+        switch (operator) {
+            case EQUALS:
+                return FilterApi.eq(column, value);
+            case NOT_EQUALS:
+                return FilterApi.notEq(column, value);
+            case LESS_THAN:
+                return FilterApi.lt(column, value);
+            case LESS_THAN_OR_EQUALS:
+                return FilterApi.ltEq(column, value);
+            case GREATER_THAN:
+                return FilterApi.gt(column, value);
+            case GREATER_THAN_OR_EQUALS:
+                return FilterApi.gtEq(column, value);
+            default:
+                throw new IllegalArgumentException("Unsupported filter operator " + operator);
+        }
+    }
+}
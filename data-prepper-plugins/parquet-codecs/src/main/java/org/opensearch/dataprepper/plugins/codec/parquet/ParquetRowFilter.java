@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * A condition on a single primitive Parquet column, such as {@code status gt 499}.
+ */
+public class ParquetRowFilter {
+    @JsonProperty("column")
+    @NotEmpty
+    private String column;
+
+    @JsonProperty("operator")
+    @NotNull
+    private ParquetFilterOperator operator;
+
+    @JsonProperty("value")
+    private Object value;
+
+    public ParquetRowFilter() {
+    }
+
+    ParquetRowFilter(final String column, final ParquetFilterOperator operator, final Object value) {
+        this.column = column;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    /**
+     * The dot-separated path of the column to compare.
+     *
+     * @return the column path
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    public ParquetFilterOperator getOperator() {
+        return operator;
+    }
+
+    /**
+     * The value to compare the column with. A null value is only valid for {@code eq} and
+     * {@code not_eq}, which then match null and non-null values respectively.
+     *
+     * @return the value
+     */
+    public Object getValue() {
+        return value;
+    }
+}
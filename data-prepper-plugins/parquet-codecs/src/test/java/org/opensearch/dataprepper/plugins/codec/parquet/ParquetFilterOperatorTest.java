@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParquetFilterOperatorTest {
+    @ParameterizedTest
+    @EnumSource(ParquetFilterOperator.class)
+    void fromOptionValue_returns_the_operator_for_its_option(final ParquetFilterOperator operator) {
+        assertThat(ParquetFilterOperator.fromOptionValue(operator.getOption()), equalTo(operator));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "EQ", "ne", "greater_than"})
+    void fromOptionValue_throws_for_unknown_option(final String option) {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ParquetFilterOperator.fromOptionValue(option));
+
+        assertThat(exception.getMessage(), containsString("gt_eq"));
+    }
+}
@@ -228,6 +228,101 @@ public class ParquetInputCodecTest {
         }
     }
 
+    @Test
+    public void parseInputFile_with_columns_reads_only_those_columns() throws IOException {
+        parquetInputCodec = new ParquetInputCodec(new ParquetInputCodecConfig(List.of("id", "value"), null), testEventFactory);
+
+        parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(10)).accept(recordArgumentCaptor.capture());
+
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        for (int i = 0; i < actualRecords.size(); i++) {
+            final Event event = actualRecords.get(i).getData();
+            assertThat(event.toMap().keySet(), containsInAnyOrder("id", "value"));
+            assertThat(event.get("id", String.class), equalTo("id" + i));
+            assertThat(event.get("value", Integer.class), equalTo(i));
+        }
+    }
+
+    @Test
+    public void parseInputFile_with_filters_returns_only_matching_rows() throws IOException {
+        parquetInputCodec = new ParquetInputCodec(new ParquetInputCodecConfig(null, List.of(
+                new ParquetRowFilter("value", ParquetFilterOperator.GREATER_THAN, 5),
+                new ParquetRowFilter("id", ParquetFilterOperator.NOT_EQUALS, "id8"))), testEventFactory);
+
+        parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(3)).accept(recordArgumentCaptor.capture());
+
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        assertThat(actualRecords.get(0).getData().get("value", Integer.class), equalTo(6));
+        assertThat(actualRecords.get(1).getData().get("value", Integer.class), equalTo(7));
+        assertThat(actualRecords.get(2).getData().get("value", Integer.class), equalTo(9));
+        assertThat(actualRecords.get(0).getData().get("metadata", Map.class), notNullValue());
+    }
+
+    @Test
+    public void parseInputStream_with_columns_also_reads_filter_columns() throws IOException {
+        parquetInputCodec = new ParquetInputCodec(new ParquetInputCodecConfig(List.of("id"),
+                List.of(new ParquetRowFilter("value", ParquetFilterOperator.LESS_THAN_OR_EQUALS, "1"))), testEventFactory);
+
+        parquetInputCodec.parse(new FileInputStream(testDataFile), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(2)).accept(recordArgumentCaptor.capture());
+
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        assertThat(actualRecords.get(0).getData().toMap(), equalTo(Map.of("id", "id0", "value", 0)));
+        assertThat(actualRecords.get(1).getData().toMap(), equalTo(Map.of("id", "id1", "value", 1)));
+    }
+
+    @Test
+    public void parseInputFile_with_unknown_column_throws() {
+        parquetInputCodec = new ParquetInputCodec(new ParquetInputCodecConfig(List.of("unknown"), null), testEventFactory);
+
+        assertThrows(IOException.class, () ->
+                parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer));
+
+        verifyNoInteractions(mockConsumer);
+    }
+
+    @Test
+    public void parseInputFile_with_filter_on_unknown_column_throws() {
+        parquetInputCodec = new ParquetInputCodec(new ParquetInputCodecConfig(null,
+                List.of(new ParquetRowFilter("unknown", ParquetFilterOperator.EQUALS, 1))), testEventFactory);
+
+        assertThrows(IOException.class, () ->
+                parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer));
+
+        verifyNoInteractions(mockConsumer);
+    }
+
+    @Test
+    public void parseInputFile_with_fractional_filter_on_integer_column_throws() {
+        parquetInputCodec = new ParquetInputCodec(new ParquetInputCodecConfig(null,
+                List.of(new ParquetRowFilter("value", ParquetFilterOperator.LESS_THAN, 2.5))), testEventFactory);
+
+        assertThrows(IOException.class, () ->
+                parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer));
+
+        verifyNoInteractions(mockConsumer);
+    }
+
+    @Test
+    public void parseInputFile_with_whole_decimal_filter_on_integer_column_returns_matching_rows() throws IOException {
+        parquetInputCodec = new ParquetInputCodec(new ParquetInputCodecConfig(null,
+                List.of(new ParquetRowFilter("value", ParquetFilterOperator.EQUALS, "3.0"))), testEventFactory);
+
+        parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(1)).accept(recordArgumentCaptor.capture());
+        assertThat(recordArgumentCaptor.getValue().getData().get("value", Integer.class), equalTo(3));
+    }
+
     private static void generateTestData(final File file) throws IOException {
         Schema schema = new Schema.Parser().parse(SCHEMA_JSON);
 
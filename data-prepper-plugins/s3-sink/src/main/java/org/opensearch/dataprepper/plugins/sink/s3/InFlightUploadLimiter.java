@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3;
+
+/**
+ * Limits the number of bytes being uploaded to S3 at once. An upload which is larger than the
+ * limit is still allowed once nothing else is in flight, so a single large object never blocks forever.
+ */
+class InFlightUploadLimiter {
+    private final long maxInFlightBytes;
+    private long inFlightBytes;
+
+    InFlightUploadLimiter(final long maxInFlightBytes) {
+        if (maxInFlightBytes <= 0) {
+            throw new IllegalArgumentException("max_in_flight_upload_size must be greater than 0");
+        }
+        this.maxInFlightBytes = maxInFlightBytes;
+    }
+
+    synchronized void acquire(final long bytes) throws InterruptedException {
+        while (inFlightBytes > 0 && inFlightBytes + bytes > maxInFlightBytes) {
+            wait();
+        }
+        inFlightBytes += bytes;
+    }
+
+    synchronized void release(final long bytes) {
+        inFlightBytes = Math.max(0, inFlightBytes - bytes);
+        notifyAll();
+    }
+
+    synchronized long getInFlightBytes() {
+        return inFlightBytes;
+    }
+}
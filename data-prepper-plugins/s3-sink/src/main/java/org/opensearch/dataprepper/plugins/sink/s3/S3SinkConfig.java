@@ -16,6 +16,7 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import org.opensearch.dataprepper.aws.validator.AwsAccountId;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
+import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.BufferTypeOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.compression.CompressionOption;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.AggregateThresholdOptions;
@@ -117,6 +118,9 @@ public class S3SinkConfig {
     @Valid
     private ServerSideEncryptionConfig serverSideEncryptionConfig;
 
+    @JsonProperty("max_in_flight_upload_size")
+    private ByteCount maxInFlightUploadSize;
+
     /**
      * Aws Authentication configuration Options.
      * @return aws authentication options.
@@ -226,4 +230,12 @@ public class S3SinkConfig {
     public ServerSideEncryptionConfig getServerSideEncryptionConfig() {
         return serverSideEncryptionConfig;
     }
+
+    /**
+     * The maximum number of bytes which may be uploading to S3 at once across all groups.
+     * @return the in-flight upload limit, or null when uploads are not limited
+     */
+    public ByteCount getMaxInFlightUploadSize() {
+        return maxInFlightUploadSize;
+    }
 }
@@ -27,13 +27,15 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
 /**
  * Class responsible for create {@link S3Client} object, check thresholds,
  * get new buffer and write records into buffer.
+ * <p>
+ * Each {@link S3Group} is locked on its own, so workers writing to different groups encode,
+ * compress and upload concurrently. A group is closed under its lock when it is flushed, and
+ * writers which find a closed group look up a new one for their event.
  */
 public class S3SinkService {
 
@@ -48,7 +50,6 @@ public class S3SinkService {
     static final String NUMBER_OF_GROUPS_FORCE_FLUSHED = "s3SinkObjectsForceFlushed";
     static final String S3_OBJECTS_SIZE = "s3SinkObjectSizeBytes";
     private final S3SinkConfig s3SinkConfig;
-    private final Lock reentrantLock;
     private final int maxEvents;
     private final ByteCount maxBytes;
     private final Duration maxCollectionDuration;
@@ -64,6 +65,7 @@ public class S3SinkService {
     private final Duration retrySleepTime;
 
     private final S3GroupManager s3GroupManager;
+    private final InFlightUploadLimiter inFlightUploadLimiter;
 
     /**
      * @param s3SinkConfig  s3 sink related configuration.
@@ -80,7 +82,6 @@ public class S3SinkService {
         this.s3SinkConfig = s3SinkConfig;
         this.codecContext = codecContext;
         this.retrySleepTime = retrySleepTime;
-        reentrantLock = new ReentrantLock();
 
         maxEvents = s3SinkConfig.getThresholdOptions().getEventCount();
         maxBytes = s3SinkConfig.getThresholdOptions().getMaximumSize();
@@ -98,68 +99,52 @@ public class S3SinkService {
 
 
         this.s3GroupManager = s3GroupManager;
+        final ByteCount maxInFlightUploadSize = s3SinkConfig.getMaxInFlightUploadSize();
+        inFlightUploadLimiter = maxInFlightUploadSize != null ? new InFlightUploadLimiter(maxInFlightUploadSize.getBytes()) : null;
     }
 
     /**
      * @param records received records and add into buffer.
      */
     void output(Collection<Record<Event>> records) {
-        // Don't acquire the lock if there's no work to be done
+        // Don't do any work if there's nothing to write or flush
         if (records.isEmpty() && s3GroupManager.hasNoGroups()) {
             return;
         }
 
         List<Event> failedEvents = new ArrayList<>();
         Exception sampleException = null;
-        reentrantLock.lock();
-        try {
-            final List<CompletableFuture<?>> completableFutures = new ArrayList<>();
-            for (Record<Event> record : records) {
-                final Event event = record.getData();
-                try {
-                    final S3Group s3Group = s3GroupManager.getOrCreateGroupForEvent(event);
-                    final Buffer currentBuffer = s3Group.getBuffer();
-                    final OutputCodec codec = s3Group.getOutputCodec();
-
-                    if (currentBuffer.getEventCount() == 0) {
-                        codec.start(currentBuffer.getOutputStream(), event, codecContext);
-                    }
-
-                    codec.writeEvent(event, currentBuffer.getOutputStream());
-                    int count = currentBuffer.getEventCount() + 1;
-                    currentBuffer.setEventCount(count);
-                    s3Group.addEventHandle(event.getEventHandle());
-
-                    flushToS3IfNeeded(completableFutures, s3Group, false);
-                } catch (Exception ex) {
-                    if(sampleException == null) {
-                        sampleException = ex;
-                    }
-
-                    failedEvents.add(event);
+        final List<CompletableFuture<?>> completableFutures = new ArrayList<>();
+        for (Record<Event> record : records) {
+            final Event event = record.getData();
+            try {
+                writeEvent(completableFutures, event);
+            } catch (Exception ex) {
+                if(sampleException == null) {
+                    sampleException = ex;
                 }
-            }
 
-            for (final S3Group s3Group : s3GroupManager.getS3GroupEntries()) {
-                flushToS3IfNeeded(completableFutures, s3Group, false);
+                failedEvents.add(event);
             }
+        }
 
-            if (s3SinkConfig.getAggregateThresholdOptions() != null) {
-                checkAggregateThresholdsAndFlushIfNeeded(completableFutures);
-            }
+        for (final S3Group s3Group : s3GroupManager.getS3GroupEntries()) {
+            flushGroupIfNeeded(completableFutures, s3Group, false);
+        }
 
-            if (!completableFutures.isEmpty()) {
-                try {
-                    CompletableFuture.allOf(completableFutures.toArray(new CompletableFuture[0]))
-                            .thenRun(() -> LOG.debug("All {} requests to S3 have completed", completableFutures.size()))
-                            .join();
-                } catch (final Exception e) {
-                    LOG.warn("There was an exception while waiting for all requests to complete", e);
-                }
+        if (s3SinkConfig.getAggregateThresholdOptions() != null) {
+            checkAggregateThresholdsAndFlushIfNeeded(completableFutures);
+        }
 
+        if (!completableFutures.isEmpty()) {
+            try {
+                CompletableFuture.allOf(completableFutures.toArray(new CompletableFuture[0]))
+                        .thenRun(() -> LOG.debug("All {} requests to S3 have completed", completableFutures.size()))
+                        .join();
+            } catch (final Exception e) {
+                LOG.warn("There was an exception while waiting for all requests to complete", e);
             }
-        } finally {
-            reentrantLock.unlock();
+
         }
 
         if(!failedEvents.isEmpty()) {
@@ -171,7 +156,55 @@ public class S3SinkService {
         }
     }
 
+    private void writeEvent(final List<CompletableFuture<?>> completableFutures, final Event event) throws IOException {
+        while (true) {
+            final S3Group s3Group = s3GroupManager.getOrCreateGroupForEvent(event);
+            s3Group.lock();
+            try {
+                if (s3Group.isClosed()) {
+                    // Another worker flushed this group after it was looked up
+                    continue;
+                }
+                final Buffer currentBuffer = s3Group.getBuffer();
+                final OutputCodec codec = s3Group.getOutputCodec();
+
+                if (currentBuffer.getEventCount() == 0) {
+                    codec.start(currentBuffer.getOutputStream(), event, codecContext);
+                }
+
+                codec.writeEvent(event, currentBuffer.getOutputStream());
+                int count = currentBuffer.getEventCount() + 1;
+                currentBuffer.setEventCount(count);
+                s3Group.addEventHandle(event.getEventHandle());
+
+                flushToS3IfNeeded(completableFutures, s3Group, false);
+                return;
+            } finally {
+                s3Group.unlock();
+            }
+        }
+    }
+
+    /**
+     * Locks the group and flushes it unless another worker already has.
+     *
+     * @param completableFutures completableFutures
+     * @param s3Group s3 group
+     * @param forceFlush force flush flag
+     * @return whether the flush was attempted
+     */
+    private boolean flushGroupIfNeeded(final List<CompletableFuture<?>> completableFutures, final S3Group s3Group, final boolean forceFlush) {
+        s3Group.lock();
+        try {
+            return !s3Group.isClosed() && flushToS3IfNeeded(completableFutures, s3Group, forceFlush);
+        } finally {
+            s3Group.unlock();
+        }
+    }
+
     /**
+     * Flushes the group if a threshold is exceeded. The caller must hold the group lock.
+     *
      * @param completableFutures completableFutures
      * @param s3Group s3 group
      * @param forceFlush force flush flag
@@ -182,13 +215,15 @@ public class S3SinkService {
                 s3Group.getBuffer().getSize(), s3Group.getBuffer().getEventCount(), s3Group.getBuffer().getDuration());
         if (forceFlush || ThresholdCheck.checkThresholdExceed(s3Group.getBuffer(), maxEvents, maxBytes, maxCollectionDuration)) {
 
+            s3Group.close();
             s3GroupManager.removeGroup(s3Group);
             try {
 
                 s3Group.getOutputCodec().complete(s3Group.getBuffer().getOutputStream());
                 String s3Key = s3Group.getBuffer().getKey();
+                final long objectSize = s3Group.getBuffer().getSize();
                 LOG.info("Writing {} to S3 with {} events and size of {} bytes.",
-                        s3Key, s3Group.getBuffer().getEventCount(), s3Group.getBuffer().getSize());
+                        s3Key, s3Group.getBuffer().getEventCount(), objectSize);
 
                 final Consumer<Boolean> consumeOnGroupCompletion = (success) -> {
                     if (success) {
@@ -206,8 +241,22 @@ public class S3SinkService {
                     }
                 };
 
-                final Optional<CompletableFuture<?>> completableFuture = s3Group.getBuffer().flushToS3(consumeOnGroupCompletion, this::handleFailures);
-                completableFuture.ifPresent(completableFutures::add);
+                acquireUploadCapacity(objectSize);
+                final Optional<CompletableFuture<?>> completableFuture;
+                try {
+                    completableFuture = s3Group.getBuffer().flushToS3(consumeOnGroupCompletion, this::handleFailures);
+                } catch (final RuntimeException e) {
+                    releaseUploadCapacity(objectSize);
+                    throw e;
+                }
+                if (completableFuture.isPresent()) {
+                    if (inFlightUploadLimiter != null) {
+                        completableFuture.get().whenComplete((result, ex) -> releaseUploadCapacity(objectSize));
+                    }
+                    completableFutures.add(completableFuture.get());
+                } else {
+                    releaseUploadCapacity(objectSize);
+                }
 
                 return true;
             } catch (final IOException e) {
@@ -218,6 +267,24 @@ public class S3SinkService {
         return false;
     }
 
+    private void acquireUploadCapacity(final long bytes) throws IOException {
+        if (inFlightUploadLimiter == null) {
+            return;
+        }
+        try {
+            inFlightUploadLimiter.acquire(bytes);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for in-flight uploads to complete", e);
+        }
+    }
+
+    private void releaseUploadCapacity(final long bytes) {
+        if (inFlightUploadLimiter != null) {
+            inFlightUploadLimiter.release(bytes);
+        }
+    }
+
     private void handleFailures(final Throwable e) {
         LOG.error("Exception occurred while uploading records to s3 bucket: {}", e.getMessage());
     }
@@ -235,7 +302,7 @@ public class S3SinkService {
             for (final S3Group s3Group : s3GroupManager.getS3GroupsSortedBySize()) {
                 LOG.info("Forcing a flush of object with key {} due to aggregate_threshold of {} bytes being reached", s3Group.getBuffer().getKey(), aggregateThresholdBytes);
 
-                final boolean flushed = flushToS3IfNeeded(completableFutures, s3Group, true);
+                final boolean flushed = flushGroupIfNeeded(completableFutures, s3Group, true);
                 numberOfObjectsForceFlushed.increment();
 
                 if (flushed) {
@@ -260,32 +327,27 @@ public class S3SinkService {
         }
 
         LOG.info("Shutdown initiated. Flushing {} remaining S3 groups to S3.", s3GroupManager.getNumberOfGroups());
-        reentrantLock.lock();
-        try {
-            final List<CompletableFuture<?>> completableFutures = new ArrayList<>();
-
-            // Force flush all remaining groups
-            for (final S3Group s3Group : s3GroupManager.getS3GroupEntries()) {
-                LOG.info("Force flushing group with key {} containing {} events and {} bytes during shutdown",
-                        s3Group.getBuffer().getKey(), s3Group.getBuffer().getEventCount(), s3Group.getBuffer().getSize());
-                flushToS3IfNeeded(completableFutures, s3Group, true);
-                numberOfObjectsForceFlushed.increment();
-            }
+        final List<CompletableFuture<?>> completableFutures = new ArrayList<>();
+
+        // Force flush all remaining groups
+        for (final S3Group s3Group : s3GroupManager.getS3GroupEntries()) {
+            LOG.info("Force flushing group with key {} containing {} events and {} bytes during shutdown",
+                    s3Group.getBuffer().getKey(), s3Group.getBuffer().getEventCount(), s3Group.getBuffer().getSize());
+            flushGroupIfNeeded(completableFutures, s3Group, true);
+            numberOfObjectsForceFlushed.increment();
+        }
 
-            // Wait for all uploads to complete
-            if (!completableFutures.isEmpty()) {
-                try {
-                    LOG.info("Waiting for {} uploads to complete during shutdown", completableFutures.size());
-                    CompletableFuture.allOf(completableFutures.toArray(new CompletableFuture[0]))
-                            .thenRun(() -> LOG.info("All {} uploads completed during shutdown", completableFutures.size()))
-                            .join();
-                    LOG.info("All remaining groups have been flushed to S3 during shutdown");
-                } catch (final Exception e) {
-                    LOG.error("Exception occurred while waiting for uploads to complete during shutdown", e);
-                }
+        // Wait for all uploads to complete
+        if (!completableFutures.isEmpty()) {
+            try {
+                LOG.info("Waiting for {} uploads to complete during shutdown", completableFutures.size());
+                CompletableFuture.allOf(completableFutures.toArray(new CompletableFuture[0]))
+                        .thenRun(() -> LOG.info("All {} uploads completed during shutdown", completableFutures.size()))
+                        .join();
+                LOG.info("All remaining groups have been flushed to S3 during shutdown");
+            } catch (final Exception e) {
+                LOG.error("Exception occurred while waiting for uploads to complete during shutdown", e);
             }
-        } finally {
-            reentrantLock.unlock();
         }
     }
 }
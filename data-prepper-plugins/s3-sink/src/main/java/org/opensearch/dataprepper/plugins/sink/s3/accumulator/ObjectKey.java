@@ -7,11 +7,14 @@ package org.opensearch.dataprepper.plugins.sink.s3.accumulator;
 
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventFormatTemplate;
 import org.opensearch.dataprepper.plugins.s3keyindex.S3ObjectIndexUtility;
 import org.opensearch.dataprepper.plugins.sink.s3.S3SinkConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -27,6 +30,12 @@ public class ObjectKey {
 
     static final String REPLACEMENT_FOR_NON_EXISTENT_KEYS = "";
 
+    /**
+     * The path prefix and name pattern come from the sink configuration, so there are only a few
+     * formats and each is parsed once rather than for every event.
+     */
+    private static final Map<String, EventFormatTemplate> FORMAT_TEMPLATES = new ConcurrentHashMap<>();
+
     private ObjectKey(){}
 
     /**
@@ -52,7 +61,7 @@ public class ObjectKey {
         if (pathPrefix == null) {
             return "";
         }
-        String pathPrefixExpressionResult = expressionEvaluator != null ? event.formatString(pathPrefix, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS) : pathPrefix;
+        String pathPrefixExpressionResult = expressionEvaluator != null ? getFormatTemplate(pathPrefix).render(event, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS) : pathPrefix;
         StringBuilder s3ObjectPath = new StringBuilder();
         if (pathPrefixExpressionResult != null && !pathPrefixExpressionResult.isEmpty()) {
             String[] pathPrefixList = pathPrefixExpressionResult.split("\\/");
@@ -81,7 +90,7 @@ public class ObjectKey {
                                         final Event event,
                                         final ExpressionEvaluator expressionEvaluator) {
         String configNamePattern = s3SinkConfig.getObjectKeyOptions().getNamePattern();
-        String configNamePatternExpressionResult = event.formatString(configNamePattern, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS);
+        String configNamePatternExpressionResult = getFormatTemplate(configNamePattern).render(event, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS);
         int extensionIndex = configNamePatternExpressionResult.lastIndexOf('.');
         if (extensionIndex > 0) {
             return S3ObjectIndexUtility.getObjectNameWithDateTimeId(configNamePatternExpressionResult.substring(0, extensionIndex)) + "."
@@ -91,4 +100,8 @@ public class ObjectKey {
                     (codecExtension!=null? codecExtension : DEFAULT_CODEC_FILE_EXTENSION);
         }
     }
+
+    private static EventFormatTemplate getFormatTemplate(final String format) {
+        return FORMAT_TEMPLATES.computeIfAbsent(format, EventFormatTemplate::compile);
+    }
 }
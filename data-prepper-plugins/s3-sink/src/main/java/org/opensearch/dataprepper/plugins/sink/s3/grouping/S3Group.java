@@ -11,7 +11,13 @@ import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * The buffer, codec and event handles for one S3 object being built. Writers must hold the
+ * group lock while using the buffer or codec, and must not use a group once it is closed.
+ */
 public class S3Group implements Comparable<S3Group> {
 
     private final Buffer buffer;
@@ -22,6 +28,10 @@ public class S3Group implements Comparable<S3Group> {
 
     private final Collection<EventHandle> groupEventHandles;
 
+    private final Lock lock;
+
+    private volatile boolean closed;
+
     public S3Group(final S3GroupIdentifier s3GroupIdentifier,
                    final Buffer buffer,
                    final OutputCodec outputCodec) {
@@ -29,6 +39,27 @@ public class S3Group implements Comparable<S3Group> {
         this.s3GroupIdentifier = s3GroupIdentifier;
         this.outputCodec = outputCodec;
         this.groupEventHandles = new LinkedList<>();
+        this.lock = new ReentrantLock();
+    }
+
+    public void lock() {
+        lock.lock();
+    }
+
+    public void unlock() {
+        lock.unlock();
+    }
+
+    /**
+     * Marks this group as flushed. Writers which looked the group up before it was closed
+     * must look up a new group for their events.
+     */
+    public void close() {
+        closed = true;
+    }
+
+    public boolean isClosed() {
+        return closed;
     }
 
     public Buffer getBuffer() {
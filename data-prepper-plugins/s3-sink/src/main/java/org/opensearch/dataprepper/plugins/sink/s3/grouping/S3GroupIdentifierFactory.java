@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.sink.s3.grouping;
 
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventFormatTemplate;
 import org.opensearch.dataprepper.plugins.sink.s3.KeyGenerator;
 import org.opensearch.dataprepper.plugins.sink.s3.S3SinkConfig;
 import org.opensearch.dataprepper.plugins.sink.s3.S3BucketSelector;
@@ -27,6 +28,7 @@ public class S3GroupIdentifierFactory {
 
     private final S3SinkConfig s3SinkConfig;
     private final S3BucketSelector s3BucketSelector;
+    private final EventFormatTemplate bucketNameTemplate;
 
     private static final String BUCKET_NAME_REPLACEMENT_FOR_NON_EXISTING_KEYS = "";
 
@@ -38,6 +40,8 @@ public class S3GroupIdentifierFactory {
         this.expressionEvaluator = expressionEvaluator;
         this.s3SinkConfig = s3SinkConfig;
         this.s3BucketSelector = s3BucketSelector;
+        this.bucketNameTemplate = s3BucketSelector == null && s3SinkConfig.getBucketName() != null ?
+                EventFormatTemplate.compile(s3SinkConfig.getBucketName()) : null;
 
         dynamicExpressions = expressionEvaluator.extractDynamicExpressionsFromFormatExpression(s3SinkConfig.getObjectKeyOptions().getPathPrefix());
         dynamicExpressions.addAll(expressionEvaluator.extractDynamicExpressionsFromFormatExpression(s3SinkConfig.getObjectKeyOptions().getNamePattern()));
@@ -54,8 +58,13 @@ public class S3GroupIdentifierFactory {
     public S3GroupIdentifier getS3GroupIdentifierForEvent(final Event event) {
 
         final String fullObjectKey = keyGenerator.generateKeyForEvent(event);
-        final String fullBucketName = s3BucketSelector != null ? s3BucketSelector.getBucketName() :
-                event.formatString(s3SinkConfig.getBucketName(), expressionEvaluator, BUCKET_NAME_REPLACEMENT_FOR_NON_EXISTING_KEYS);
+        final String fullBucketName;
+        if (s3BucketSelector != null) {
+            fullBucketName = s3BucketSelector.getBucketName();
+        } else {
+            fullBucketName = bucketNameTemplate != null ?
+                    bucketNameTemplate.render(event, expressionEvaluator, BUCKET_NAME_REPLACEMENT_FOR_NON_EXISTING_KEYS) : null;
+        }
 
         final Map<String, Object> groupIdentificationHash = new HashMap<>();
 
@@ -21,10 +21,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 
+import java.util.AbstractCollection;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
 
 public class S3GroupManager {
 
@@ -65,31 +69,43 @@ public class S3GroupManager {
     public int getNumberOfGroups() { return allGroups.size(); }
 
     public void removeGroup(final S3Group s3Group) {
-        allGroups.remove(s3Group.getS3GroupIdentifier());
+        allGroups.remove(s3Group.getS3GroupIdentifier(), s3Group);
     }
 
     public Collection<S3Group> getS3GroupEntries() {
         return allGroups.values();
     }
 
+    /**
+     * Returns the groups from largest to smallest. The sizes are captured once into a heap and the
+     * groups are ordered lazily as the collection is iterated, so callers which only need the few
+     * largest groups do not pay for a full sort. Groups keep growing while they are iterated, so
+     * the order reflects the sizes at the time of this call.
+     *
+     * @return the groups ordered by descending size
+     */
     public Collection<S3Group> getS3GroupsSortedBySize() {
-        return allGroups.values().stream().sorted(Collections.reverseOrder()).collect(Collectors.toList());
+        final List<SizedGroup> sizedGroups = new ArrayList<>(allGroups.size());
+        for (final S3Group s3Group : allGroups.values()) {
+            sizedGroups.add(new SizedGroup(s3Group, s3Group.getBuffer().getSize()));
+        }
+        return new SizeOrderedGroups(sizedGroups);
     }
 
     public S3Group getOrCreateGroupForEvent(final Event event) {
 
         final S3GroupIdentifier s3GroupIdentifier = s3GroupIdentifierFactory.getS3GroupIdentifierForEvent(event);
 
-        if (allGroups.containsKey(s3GroupIdentifier)) {
-            return allGroups.get(s3GroupIdentifier);
-        } else {
-            final Buffer bufferForNewGroup =  bufferFactory.getBuffer(s3Client, s3GroupIdentifier::getFullBucketName, s3GroupIdentifier::getGroupIdentifierFullObjectKey, s3SinkConfig.getDefaultBucket(), s3GroupIdentifier::getMetadata,  bucketOwnerProvider, s3SinkConfig.getServerSideEncryptionConfig());
-            final OutputCodec outputCodec = codecFactory.provideCodec();
-            final S3Group s3Group = new S3Group(s3GroupIdentifier, bufferForNewGroup, outputCodec);
-            allGroups.put(s3GroupIdentifier, s3Group);
-            LOG.debug("Created a new S3 group. Total number of groups: {}", allGroups.size());
-            return s3Group;
+        final S3Group existingGroup = allGroups.get(s3GroupIdentifier);
+        if (existingGroup != null) {
+            return existingGroup;
         }
+        return allGroups.computeIfAbsent(s3GroupIdentifier, identifier -> {
+            final Buffer bufferForNewGroup =  bufferFactory.getBuffer(s3Client, identifier::getFullBucketName, identifier::getGroupIdentifierFullObjectKey, s3SinkConfig.getDefaultBucket(), identifier::getMetadata,  bucketOwnerProvider, s3SinkConfig.getServerSideEncryptionConfig());
+            final OutputCodec outputCodec = codecFactory.provideCodec();
+            LOG.debug("Created a new S3 group. Total number of groups: {}", allGroups.size() + 1);
+            return new S3Group(identifier, bufferForNewGroup, outputCodec);
+        });
     }
 
     public long recalculateAndGetGroupSize() {
@@ -101,4 +117,49 @@ public class S3GroupManager {
 
         return totalSize;
     }
+
+    private static class SizedGroup {
+        private final S3Group s3Group;
+        private final long size;
+
+        private SizedGroup(final S3Group s3Group, final long size) {
+            this.s3Group = s3Group;
+            this.size = size;
+        }
+    }
+
+    private static class SizeOrderedGroups extends AbstractCollection<S3Group> {
+        private final List<SizedGroup> sizedGroups;
+
+        private SizeOrderedGroups(final List<SizedGroup> sizedGroups) {
+            this.sizedGroups = sizedGroups;
+        }
+
+        @Override
+        public Iterator<S3Group> iterator() {
+            final PriorityQueue<SizedGroup> heap = new PriorityQueue<>(Math.max(1, sizedGroups.size()),
+                    (first, second) -> Long.compare(second.size, first.size));
+            heap.addAll(sizedGroups);
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return !heap.isEmpty();
+                }
+
+                @Override
+                public S3Group next() {
+                    final SizedGroup sizedGroup = heap.poll();
+                    if (sizedGroup == null) {
+                        throw new NoSuchElementException();
+                    }
+                    return sizedGroup.s3Group;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return sizedGroups.size();
+        }
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InFlightUploadLimiterTest {
+
+    @Test
+    void constructor_with_non_positive_limit_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new InFlightUploadLimiter(0));
+    }
+
+    @Test
+    void acquire_within_limit_does_not_block() throws InterruptedException {
+        final InFlightUploadLimiter objectUnderTest = new InFlightUploadLimiter(100);
+
+        objectUnderTest.acquire(40);
+        objectUnderTest.acquire(60);
+
+        assertThat(objectUnderTest.getInFlightBytes(), equalTo(100L));
+
+        objectUnderTest.release(60);
+        assertThat(objectUnderTest.getInFlightBytes(), equalTo(40L));
+    }
+
+    @Test
+    void acquire_larger_than_limit_is_allowed_when_nothing_is_in_flight() throws InterruptedException {
+        final InFlightUploadLimiter objectUnderTest = new InFlightUploadLimiter(100);
+
+        objectUnderTest.acquire(500);
+
+        assertThat(objectUnderTest.getInFlightBytes(), equalTo(500L));
+    }
+
+    @Test
+    void acquire_over_limit_waits_for_release() throws Exception {
+        final InFlightUploadLimiter objectUnderTest = new InFlightUploadLimiter(100);
+        objectUnderTest.acquire(80);
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> acquire = executorService.submit(() -> {
+                objectUnderTest.acquire(50);
+                return null;
+            });
+            assertThrows(TimeoutException.class, () -> acquire.get(100, TimeUnit.MILLISECONDS));
+
+            objectUnderTest.release(80);
+
+            acquire.get(5, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(objectUnderTest.getInFlightBytes(), equalTo(50L));
+    }
+}
@@ -56,6 +56,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -445,6 +446,60 @@ class S3SinkServiceTest {
         verify(buffer, times(1)).flushToS3(any(Consumer.class), any(Consumer.class));
     }
 
+    @Test
+    void output_writes_to_a_new_group_when_the_group_was_closed_by_another_worker() throws IOException {
+        final Event event = JacksonEvent.fromMessage(UUID.randomUUID().toString());
+
+        final S3Group closedGroup = mock(S3Group.class);
+        when(closedGroup.isClosed()).thenReturn(true);
+
+        final Buffer buffer = mock(Buffer.class);
+        when(buffer.getDuration()).thenReturn(Duration.ZERO);
+        when(buffer.getOutputStream()).thenReturn(mock(OutputStream.class));
+        final S3Group openGroup = mock(S3Group.class);
+        when(openGroup.getBuffer()).thenReturn(buffer);
+        when(openGroup.getOutputCodec()).thenReturn(codec);
+
+        when(s3GroupManager.getOrCreateGroupForEvent(event)).thenReturn(closedGroup).thenReturn(openGroup);
+        when(s3GroupManager.getS3GroupEntries()).thenReturn(Collections.emptyList());
+
+        final S3SinkService s3SinkService = createObjectUnderTest();
+        s3SinkService.output(List.of(new Record<>(event)));
+
+        final InOrder inOrder = inOrder(closedGroup);
+        inOrder.verify(closedGroup).lock();
+        inOrder.verify(closedGroup).unlock();
+        verify(closedGroup, never()).getBuffer();
+        verify(codec).writeEvent(eq(event), any(OutputStream.class));
+        verify(openGroup).addEventHandle(event.getEventHandle());
+        verify(openGroup).unlock();
+        verify(buffer, never()).flushToS3(any(Consumer.class), any(Consumer.class));
+    }
+
+    @Test
+    void output_with_max_in_flight_upload_size_releases_capacity_when_uploads_complete() throws IOException {
+        when(s3SinkConfig.getMaxInFlightUploadSize()).thenReturn(ByteCount.ofBytes(100));
+
+        final Buffer buffer = mock(Buffer.class);
+        when(buffer.getEventCount()).thenReturn(MAX_EVENTS);
+        when(buffer.getSize()).thenReturn(500L);
+        when(buffer.getKey()).thenReturn(UUID.randomUUID().toString());
+        when(buffer.flushToS3(any(Consumer.class), any(Consumer.class)))
+                .thenAnswer(invocation -> Optional.of(CompletableFuture.completedFuture(null)));
+
+        final S3Group s3Group = mock(S3Group.class);
+        when(s3Group.getBuffer()).thenReturn(buffer);
+        when(s3Group.getOutputCodec()).thenReturn(codec);
+        when(s3GroupManager.getOrCreateGroupForEvent(any(Event.class))).thenReturn(s3Group);
+        when(s3GroupManager.getS3GroupEntries()).thenReturn(Collections.singletonList(s3Group));
+
+        final S3SinkService s3SinkService = createObjectUnderTest();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> s3SinkService.output(generateRandomStringEventRecord()));
+
+        verify(buffer, times(51)).flushToS3(any(Consumer.class), any(Consumer.class));
+    }
+
     @Test
     void test_output_with_no_incoming_records_or_buffered_records_short_circuits() throws IOException {
         when(s3GroupManager.hasNoGroups()).thenReturn(true);
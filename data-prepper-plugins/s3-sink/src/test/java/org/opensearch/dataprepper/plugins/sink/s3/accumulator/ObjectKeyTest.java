@@ -19,10 +19,10 @@ import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.plugins.sink.s3.S3SinkConfig;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.ObjectKeyOptions;
 
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.when;
-import static org.opensearch.dataprepper.plugins.sink.s3.accumulator.ObjectKey.REPLACEMENT_FOR_NON_EXISTENT_KEYS;
 
 @ExtendWith(MockitoExtension.class)
 class ObjectKeyTest {
@@ -48,7 +48,6 @@ class ObjectKeyTest {
         final String pathPrefix = "events/%{yyyy}/%{MM}/%{dd}/";
 
         when(objectKeyOptions.getPathPrefix()).thenReturn(pathPrefix);
-        when(event.formatString(pathPrefix, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS)).thenReturn(pathPrefix);
         String pathPrefixResult = ObjectKey.buildingPathPrefix(s3SinkConfig, event, expressionEvaluator);
         Assertions.assertNotNull(pathPrefixResult);
         assertThat(pathPrefixResult, startsWith("events"));
@@ -59,7 +58,6 @@ class ObjectKeyTest {
         final String namePattern = "my-elb-%{yyyy-MM-dd'T'hh-mm-ss}";
 
         when(objectKeyOptions.getNamePattern()).thenReturn(namePattern);
-        when(event.formatString(namePattern, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS)).thenReturn(namePattern);
         String objectFileName = ObjectKey.objectFileName(s3SinkConfig, null, event, expressionEvaluator);
         Assertions.assertNotNull(objectFileName);
         assertThat(objectFileName, startsWith("my-elb"));
@@ -71,7 +69,6 @@ class ObjectKeyTest {
 
         when(s3SinkConfig.getObjectKeyOptions().getNamePattern())
                 .thenReturn(namePattern);
-        when(event.formatString(namePattern, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS)).thenReturn(namePattern);
         String objectFileName = ObjectKey.objectFileName(s3SinkConfig, null, event, expressionEvaluator);
         Assertions.assertNotNull(objectFileName);
         Assertions.assertTrue(objectFileName.contains(".pdf"));
@@ -83,12 +80,22 @@ class ObjectKeyTest {
 
         when(s3SinkConfig.getObjectKeyOptions().getNamePattern())
                 .thenReturn(namePattern);
-        when(event.formatString(namePattern, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS)).thenReturn(namePattern);
         String objectFileName = ObjectKey.objectFileName(s3SinkConfig, null, event, expressionEvaluator);
         Assertions.assertNotNull(objectFileName);
         Assertions.assertTrue(objectFileName.contains(".json"));
     }
 
+    @Test
+    void test_buildingPathPrefix_replaces_event_keys() {
+        when(objectKeyOptions.getPathPrefix()).thenReturn("logs/${service}/${missing}/");
+        final Event jacksonEvent = JacksonEvent.builder()
+                .withData("{\"service\": \"checkout\"}")
+                .withEventType("event")
+                .build();
+
+        assertThat(ObjectKey.buildingPathPrefix(s3SinkConfig, jacksonEvent, expressionEvaluator), equalTo("logs/checkout/"));
+    }
+
     @ParameterizedTest
     @NullAndEmptySource
     void test_buildingPathPrefix_with_null_formatString_result(final String pathPrefix) {
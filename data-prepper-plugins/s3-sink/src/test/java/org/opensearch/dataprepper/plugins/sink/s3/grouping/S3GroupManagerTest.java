@@ -262,4 +262,28 @@ public class S3GroupManagerTest {
         assertThat(objectUnderTest.getNumberOfGroups(), equalTo(2));
         assertThat(sortedGroupsAfterRemoval, contains(thirdGroup, firstGroup));
     }
+
+    @Test
+    void removeGroup_does_not_remove_a_newer_group_with_the_same_identifier() {
+        final String defaultBucket = UUID.randomUUID().toString();
+        when(s3SinkConfig.getDefaultBucket()).thenReturn(defaultBucket);
+
+        final Event event = mock(Event.class);
+        final S3GroupIdentifier s3GroupIdentifier = mock(S3GroupIdentifier.class);
+        when(s3GroupIdentifierFactory.getS3GroupIdentifierForEvent(event)).thenReturn(s3GroupIdentifier);
+        when(bufferFactory.getBuffer(eq(s3Client), any(Supplier.class), any(Supplier.class), eq(defaultBucket), any(Function.class), eq(bucketOwnerProvider), any()))
+                .thenReturn(mock(Buffer.class)).thenReturn(mock(Buffer.class));
+        when(codecFactory.provideCodec()).thenReturn(mock(OutputCodec.class));
+
+        final S3GroupManager objectUnderTest = createObjectUnderTest();
+
+        final S3Group firstGroup = objectUnderTest.getOrCreateGroupForEvent(event);
+        objectUnderTest.removeGroup(firstGroup);
+        final S3Group secondGroup = objectUnderTest.getOrCreateGroupForEvent(event);
+        objectUnderTest.removeGroup(firstGroup);
+
+        assertThat(secondGroup == firstGroup, equalTo(false));
+        assertThat(objectUnderTest.getNumberOfGroups(), equalTo(1));
+        assertThat(objectUnderTest.getS3GroupEntries(), contains(secondGroup));
+    }
 }
@@ -57,4 +57,20 @@ public class S3GroupTest {
         assertThat(largeGroup.compareTo(smallGroup), equalTo(1));
         assertThat(largeGroup.compareTo(anotherLargeGroup), equalTo(0));
     }
+
+    @Test
+    void close_marks_the_group_closed() {
+        final S3Group objectUnderTest = new S3Group(mock(S3GroupIdentifier.class), mock(Buffer.class), mock(OutputCodec.class));
+
+        assertThat(objectUnderTest.isClosed(), equalTo(false));
+
+        objectUnderTest.lock();
+        try {
+            objectUnderTest.close();
+        } finally {
+            objectUnderTest.unlock();
+        }
+
+        assertThat(objectUnderTest.isClosed(), equalTo(true));
+    }
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 
 @JsonPropertyOrder
 @JsonClassDescription("The <code>service_map</code> processor uses OpenTelemetry data to create a distributed service map for " +
@@ -19,6 +20,7 @@ public class ServiceMapProcessorConfig {
     static final int DEFAULT_WINDOW_DURATION = 180;
     static final String DEFAULT_DB_PATH = "data/service-map/";
     static final String DB_PATH = "db_path";
+    static final String STORAGE_TYPE = "storage_type";
 
     @JsonProperty(value = WINDOW_DURATION, defaultValue = "" + DEFAULT_WINDOW_DURATION)
     @JsonPropertyDescription("Represents the fixed time window, in seconds, " +
@@ -31,6 +33,13 @@ public class ServiceMapProcessorConfig {
             "when processing service-map data.")
     private String dbPath = DEFAULT_DB_PATH;
 
+    @NotNull
+    @JsonProperty(value = STORAGE_TYPE, defaultValue = "heap")
+    @JsonPropertyDescription("Where the span and trace group windows are kept. Use <code>heap</code> to keep them on the Java heap, " +
+            "or <code>memory_mapped</code> to keep them in memory-mapped files under <code>db_path</code> so that large " +
+            "windows do not add heap pressure. Default is <code>heap</code>.")
+    private ServiceMapStorageType storageType = ServiceMapStorageType.HEAP;
+
     public int getWindowDuration() {
         return windowDuration;
     }
@@ -38,4 +47,8 @@ public class ServiceMapProcessorConfig {
     public String getDbPath() {
         return dbPath;
     }
+
+    public ServiceMapStorageType getStorageType() {
+        return storageType;
+    }
 }
@@ -23,11 +23,17 @@ import com.google.common.collect.Sets;
 import com.google.common.primitives.SignedBytes;
 import org.apache.commons.codec.binary.Hex;
 import org.opensearch.dataprepper.plugins.processor.state.MapDbProcessorState;
+import org.opensearch.dataprepper.plugins.processor.state.MapDbStorageType;
+import org.opensearch.dataprepper.plugins.processor.state.ProcessorStateSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.File;
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.util.Arrays;
 import java.util.Collection;
@@ -46,8 +52,8 @@ import java.util.concurrent.atomic.AtomicInteger;
         pluginConfigurationType = ServiceMapProcessorConfig.class)
 public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>, Record<Event>> implements RequiresPeerForwarding {
 
-    static final String SPANS_DB_SIZE = "spansDbSize";
-    static final String TRACE_GROUP_DB_SIZE = "traceGroupDbSize";
+    static final String SPANS_DB_ALLOCATED_SIZE = "spansDbAllocatedSize";
+    static final String TRACE_GROUP_DB_ALLOCATED_SIZE = "traceGroupDbAllocatedSize";
     static final String SPANS_DB_COUNT = "spansDbCount";
     static final String TRACE_GROUP_DB_COUNT = "traceGroupDbCount";
     static final String RELATIONSHIP_COUNT = "relationshipCount";
@@ -58,6 +64,8 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final Collection<Record<Event>> EMPTY_COLLECTION = Collections.emptySet();
     private static final Integer TO_MILLIS = 1_000;
+    private static final ServiceMapStateDataSerializer STATE_DATA_SERIALIZER = new ServiceMapStateDataSerializer();
+    private static final TraceGroupNameSerializer TRACE_GROUP_NAME_SERIALIZER = new TraceGroupNameSerializer();
 
     // TODO: This should not be tracked in this class, move it up to the creator
     private static final AtomicInteger processorsCreated = new AtomicInteger(0);
@@ -87,7 +95,8 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
                 new File(serviceMapProcessorConfig.getDbPath()),
                 Clock.systemUTC(),
                 pipelineDescription.getNumberOfProcessWorkers(),
-                pluginMetrics);
+                pluginMetrics,
+                serviceMapProcessorConfig.getStorageType());
     }
 
     ServiceMapStatefulProcessor(final long windowDurationMillis,
@@ -95,6 +104,15 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
                                        final Clock clock,
                                        final int processWorkers,
                                        final PluginMetrics pluginMetrics) {
+        this(windowDurationMillis, databasePath, clock, processWorkers, pluginMetrics, ServiceMapStorageType.HEAP);
+    }
+
+    ServiceMapStatefulProcessor(final long windowDurationMillis,
+                                       final File databasePath,
+                                       final Clock clock,
+                                       final int processWorkers,
+                                       final PluginMetrics pluginMetrics,
+                                       final ServiceMapStorageType storageType) {
         super(pluginMetrics);
 
         ServiceMapStatefulProcessor.clock = clock;
@@ -105,18 +123,23 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
             ServiceMapStatefulProcessor.windowDurationMillis = windowDurationMillis;
             ServiceMapStatefulProcessor.dbPath = createPath(databasePath);
 
-            currentWindow = new MapDbProcessorState<>(dbPath, getNewDbName(), processWorkers);
-            previousWindow = new MapDbProcessorState<>(dbPath, getNewDbName() + EMPTY_SUFFIX, processWorkers);
-            currentTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName(), processWorkers);
-            previousTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName() + EMPTY_SUFFIX, processWorkers);
+            final MapDbStorageType mapDbStorageType = storageType != null ? storageType.getMapDbStorageType() : MapDbStorageType.HEAP;
+            currentWindow = new MapDbProcessorState<>(dbPath, getNewDbName(), processWorkers,
+                    mapDbStorageType, STATE_DATA_SERIALIZER);
+            previousWindow = new MapDbProcessorState<>(dbPath, getNewDbName() + EMPTY_SUFFIX, processWorkers,
+                    mapDbStorageType, STATE_DATA_SERIALIZER);
+            currentTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName(), processWorkers,
+                    mapDbStorageType, TRACE_GROUP_NAME_SERIALIZER);
+            previousTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName() + EMPTY_SUFFIX, processWorkers,
+                    mapDbStorageType, TRACE_GROUP_NAME_SERIALIZER);
             currentIsolatedServiceNodes = Sets.newConcurrentHashSet();
             previousIsolatedServiceNodes = Sets.newConcurrentHashSet();
 
             allThreadsCyclicBarrier = new CyclicBarrier(processWorkers);
         }
 
-        pluginMetrics.gauge(SPANS_DB_SIZE, this, serviceMapStateful -> serviceMapStateful.getSpansDbSize());
-        pluginMetrics.gauge(TRACE_GROUP_DB_SIZE, this, serviceMapStateful -> serviceMapStateful.getTraceGroupDbSize());
+        pluginMetrics.gauge(SPANS_DB_ALLOCATED_SIZE, this, serviceMapStateful -> serviceMapStateful.getSpansDbAllocatedSize());
+        pluginMetrics.gauge(TRACE_GROUP_DB_ALLOCATED_SIZE, this, serviceMapStateful -> serviceMapStateful.getTraceGroupDbAllocatedSize());
         pluginMetrics.gauge(SPANS_DB_COUNT, this, serviceMapStateful -> serviceMapStateful.getSpansDbCount());
         pluginMetrics.gauge(TRACE_GROUP_DB_COUNT, this, serviceMapStateful -> serviceMapStateful.getTraceGroupDbCount());
         pluginMetrics.gauge(RELATIONSHIP_COUNT, this, serviceMapStateful -> serviceMapStateful.getRelationshipCount());
@@ -362,9 +385,9 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
 
 
     /**
-     * @return Spans database size in bytes
+     * @return Allocated size of the spans database files in bytes, or 0 for heap storage
      */
-    public double getSpansDbSize() {
+    public double getSpansDbAllocatedSize() {
         return currentWindow.sizeInBytes() + previousWindow.sizeInBytes();
     }
 
@@ -373,9 +396,9 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     }
 
     /**
-     * @return Trace group database size in bytes
+     * @return Allocated size of the trace group database files in bytes, or 0 for heap storage
      */
-    public double getTraceGroupDbSize() {
+    public double getTraceGroupDbAllocatedSize() {
         return currentTraceGroupWindow.sizeInBytes() + previousTraceGroupWindow.sizeInBytes();
     }
     public double getTraceGroupDbCount() {
@@ -423,7 +446,7 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         return Collections.singleton("traceId");
     }
 
-    private static class ServiceMapStateData implements Serializable {
+    static class ServiceMapStateData implements Serializable {
         public String serviceName;
         public byte[] parentSpanId;
         public byte[] traceId;
@@ -445,6 +468,70 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         }
     }
 
+    /**
+     * Writes state data as length-prefixed fields, which is far smaller than its Java serialized form.
+     */
+    static class ServiceMapStateDataSerializer implements ProcessorStateSerializer<ServiceMapStateData> {
+        @Override
+        public void serialize(final DataOutput output, final ServiceMapStateData value) throws IOException {
+            writeString(output, value.serviceName);
+            writeBytes(output, value.parentSpanId);
+            writeBytes(output, value.traceId);
+            writeString(output, value.spanKind);
+            writeString(output, value.name);
+        }
+
+        @Override
+        public ServiceMapStateData deserialize(final DataInput input) throws IOException {
+            return new ServiceMapStateData(
+                    readString(input),
+                    readBytes(input),
+                    readBytes(input),
+                    readString(input),
+                    readString(input));
+        }
+    }
+
+    static class TraceGroupNameSerializer implements ProcessorStateSerializer<String> {
+        @Override
+        public void serialize(final DataOutput output, final String value) throws IOException {
+            writeString(output, value);
+        }
+
+        @Override
+        public String deserialize(final DataInput input) throws IOException {
+            return readString(input);
+        }
+    }
+
+    private static void writeString(final DataOutput output, final String value) throws IOException {
+        writeBytes(output, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(final DataInput input) throws IOException {
+        final byte[] bytes = readBytes(input);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(final DataOutput output, final byte[] value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        output.writeInt(value.length);
+        output.write(value);
+    }
+
+    private static byte[] readBytes(final DataInput input) throws IOException {
+        final int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return bytes;
+    }
+
     private static class ServiceNodeData implements Serializable {
         public String serviceName;
         public byte[] traceId;
@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import org.opensearch.dataprepper.plugins.processor.state.MapDbStorageType;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public enum ServiceMapStorageType {
+    HEAP("heap", MapDbStorageType.HEAP),
+    MEMORY_MAPPED("memory_mapped", MapDbStorageType.MEMORY_MAPPED);
+
+    private static final Map<String, ServiceMapStorageType> OPTIONS_MAP = Arrays.stream(ServiceMapStorageType.values())
+            .collect(Collectors.toMap(
+                    value -> value.option,
+                    value -> value
+            ));
+
+    private final String option;
+    private final MapDbStorageType mapDbStorageType;
+
+    ServiceMapStorageType(final String option, final MapDbStorageType mapDbStorageType) {
+        this.option = option;
+        this.mapDbStorageType = mapDbStorageType;
+    }
+
+    @JsonValue
+    public String getOption() {
+        return option;
+    }
+
+    MapDbStorageType getMapDbStorageType() {
+        return mapDbStorageType;
+    }
+
+    @JsonCreator
+    static ServiceMapStorageType fromOptionValue(final String option) {
+        return OPTIONS_MAP.get(option);
+    }
+}
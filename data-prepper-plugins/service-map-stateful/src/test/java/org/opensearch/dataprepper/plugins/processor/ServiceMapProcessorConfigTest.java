@@ -2,6 +2,7 @@ package org.opensearch.dataprepper.plugins.processor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.plugins.processor.state.MapDbStorageType;
 import org.opensearch.dataprepper.test.helper.ReflectivelySetField;
 
 import java.util.Random;
@@ -25,6 +26,14 @@ class ServiceMapProcessorConfigTest {
     void testDefaultConfig() {
         assertThat(serviceMapProcessorConfig.getWindowDuration(), equalTo(DEFAULT_WINDOW_DURATION));
         assertThat(serviceMapProcessorConfig.getDbPath(), equalTo(ServiceMapProcessorConfig.DEFAULT_DB_PATH));
+        assertThat(serviceMapProcessorConfig.getStorageType(), equalTo(ServiceMapStorageType.HEAP));
+    }
+
+    @Test
+    void storageType_is_read_from_option_value() {
+        assertThat(ServiceMapStorageType.fromOptionValue("heap"), equalTo(ServiceMapStorageType.HEAP));
+        assertThat(ServiceMapStorageType.fromOptionValue("memory_mapped"), equalTo(ServiceMapStorageType.MEMORY_MAPPED));
+        assertThat(ServiceMapStorageType.MEMORY_MAPPED.getMapDbStorageType(), equalTo(MapDbStorageType.MEMORY_MAPPED));
     }
 
     @Test
@@ -20,6 +20,10 @@ import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.trace.Span;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.lang.reflect.Field;
 import java.time.Clock;
@@ -271,15 +275,15 @@ public class ServiceMapStatefulProcessorTest {
         assertTrue(evaluateEdges(relationshipsFound).containsAll(expectedSourceDests));
 
         // Verify gauges
-        final List<Measurement> spansDbSizeMeasurementList = MetricsTestUtil.getMeasurementList(
+        final List<Measurement> spansDbAllocatedSizeMeasurementList = MetricsTestUtil.getMeasurementList(
                 new StringJoiner(MetricNames.DELIMITER).add("testPipelineName").add("testServiceMapProcessor")
-                        .add(ServiceMapStatefulProcessor.SPANS_DB_SIZE).toString());
-        assertThat(spansDbSizeMeasurementList.size(), equalTo(1));
+                        .add(ServiceMapStatefulProcessor.SPANS_DB_ALLOCATED_SIZE).toString());
+        assertThat(spansDbAllocatedSizeMeasurementList.size(), equalTo(1));
 
-        final List<Measurement> traceGroupDbSizeMeasurementList = MetricsTestUtil.getMeasurementList(
+        final List<Measurement> traceGroupDbAllocatedSizeMeasurementList = MetricsTestUtil.getMeasurementList(
                 new StringJoiner(MetricNames.DELIMITER).add("testPipelineName").add("testServiceMapProcessor")
-                        .add(ServiceMapStatefulProcessor.TRACE_GROUP_DB_SIZE).toString());
-        assertThat(traceGroupDbSizeMeasurementList.size(), equalTo(1));
+                        .add(ServiceMapStatefulProcessor.TRACE_GROUP_DB_ALLOCATED_SIZE).toString());
+        assertThat(traceGroupDbAllocatedSizeMeasurementList.size(), equalTo(1));
 
         final List<Measurement> spansDbCountMeasurementList = MetricsTestUtil.getMeasurementList(
                 new StringJoiner(MetricNames.DELIMITER).add("testPipelineName").add("testServiceMapProcessor")
@@ -424,6 +428,46 @@ public class ServiceMapStatefulProcessorTest {
         serviceMapStateful.shutdown();
     }
 
+    @Test
+    public void testMemoryMappedStorageWithEventRecordData() throws Exception {
+        final File path = new File(ServiceMapProcessorConfig.DEFAULT_DB_PATH);
+        final ServiceMapStatefulProcessor serviceMapStateful = new ServiceMapStatefulProcessor(
+                100, path, Clock.systemUTC(), 1, pluginMetrics, ServiceMapStorageType.MEMORY_MAPPED);
+
+        final String traceId1 = Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(16));
+        final Span frontendSpans1 = ServiceMapTestUtils.getSpan(
+                FRONTEND_SERVICE, "reset_password", Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)), "", traceId1, SPAN_KIND_CLIENT);
+        final Span authenticationSpansServer = ServiceMapTestUtils.getSpan(
+                AUTHENTICATION_SERVICE, "reset", Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)),
+                frontendSpans1.getSpanId(), traceId1, io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER);
+
+        serviceMapStateful.execute(Arrays.asList(new Record<>(frontendSpans1), new Record<>(authenticationSpansServer)));
+
+        assertThat(serviceMapStateful.getSpansDbCount(), equalTo(2.0));
+        assertThat(serviceMapStateful.getTraceGroupDbCount(), equalTo(1.0));
+        assertTrue(serviceMapStateful.getSpansDbAllocatedSize() > 0);
+
+        serviceMapStateful.shutdown();
+    }
+
+    @Test
+    public void testServiceMapStateDataSerializerRoundTrip() throws Exception {
+        final ServiceMapStatefulProcessor.ServiceMapStateDataSerializer serializer = new ServiceMapStatefulProcessor.ServiceMapStateDataSerializer();
+        final ServiceMapStatefulProcessor.ServiceMapStateData stateData = new ServiceMapStatefulProcessor.ServiceMapStateData(
+                FRONTEND_SERVICE, null, ServiceMapTestUtils.getRandomBytes(16), SPAN_KIND_CLIENT.name(), "reset");
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        serializer.serialize(new DataOutputStream(outputStream), stateData);
+        final ServiceMapStatefulProcessor.ServiceMapStateData result = serializer.deserialize(
+                new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+
+        assertThat(result.serviceName, equalTo(stateData.serviceName));
+        assertThat(result.parentSpanId, nullValue());
+        assertThat(result.traceId, equalTo(stateData.traceId));
+        assertThat(result.spanKind, equalTo(stateData.spanKind));
+        assertThat(result.name, equalTo(stateData.name));
+    }
+
     @Test
     public void testGetIdentificationKeys() {
         when(pipelineDescription.getNumberOfProcessWorkers()).thenReturn(4);
@@ -6,13 +6,16 @@ import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import org.apache.commons.lang3.Range;
+import org.opensearch.dataprepper.common.regex.MultiPatternMatcher;
 import org.opensearch.dataprepper.model.annotations.AlsoRequired;
 import org.opensearch.dataprepper.plugins.processor.mutateevent.TargetType;
 import org.opensearch.dataprepper.typeconverter.TypeConverter;
 import com.google.common.annotations.VisibleForTesting;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -24,7 +27,8 @@ public class TargetsParameterConfig {
     static final String REGEX_KEY = "regex";
     private final LinkedHashMap<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
     private final Map<String, Object> individualMappings = new HashMap<>();
-    private final Map<Pattern, Object> compiledPatterns = new HashMap<>();
+    private final Map<Pattern, Object> compiledPatterns = new LinkedHashMap<>();
+    private MultiPatternMatcher patternMatcher = MultiPatternMatcher.compile(List.of());
     @JsonProperty("target")
     @JsonPropertyDescription("The key that specifies the field in the output in which the translated value will be placed.")
     @NotNull
@@ -108,6 +112,10 @@ public class TargetsParameterConfig {
         return compiledPatterns;
     }
 
+    public MultiPatternMatcher fetchPatternMatcher() {
+        return patternMatcher;
+    }
+
     @AssertTrue(message = "pattern option is mandatory while configuring regex option")
     public boolean isPatternPresent() {
         return regexParameterConfig == null || regexParameterConfig.getPatterns() != null;
@@ -153,6 +161,7 @@ public class TargetsParameterConfig {
         individualMappings.putAll(parser.fetchIndividualMappings());
         rangeMappings.putAll(parser.fetchRangeMappings());
         compiledPatterns.putAll(parser.fetchCompiledPatterns());
+        patternMatcher = MultiPatternMatcher.compile(new ArrayList<>(compiledPatterns.keySet()));
     }
 
 }
@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.processor.translate;
 
 import org.apache.commons.lang3.Range;
 import org.apache.commons.lang3.math.NumberUtils;
+import org.opensearch.dataprepper.common.regex.MultiPatternMatcher;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
@@ -24,6 +25,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -227,7 +229,11 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
             return Optional.empty();
         }
         final boolean exact = targetConfig.getRegexParameterConfiguration().getExact();
-        for (Pattern pattern : compiledPatterns.keySet()) {
+        final MultiPatternMatcher patternMatcher = targetConfig.fetchPatternMatcher();
+        // Patterns which are not candidates cannot match or be found in the source value
+        final BitSet candidates = patternMatcher.candidates(sourceValue);
+        for (int index = candidates.nextSetBit(0); index >= 0; index = candidates.nextSetBit(index + 1)) {
+            final Pattern pattern = patternMatcher.getPattern(index);
             Matcher matcher = pattern.matcher(sourceValue);
             if (matcher.matches()) {
                 return Optional.of(compiledPatterns.get(pattern));
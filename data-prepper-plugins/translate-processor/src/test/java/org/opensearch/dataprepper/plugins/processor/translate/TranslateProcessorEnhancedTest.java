@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.common.regex.MultiPatternMatcher;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
@@ -220,6 +221,7 @@ class TranslateProcessorEnhancedTest {
         Map<Pattern, Object> patterns = new HashMap<>();
         patterns.put(Pattern.compile("valid.*"), "result");
         lenient().when(targetsParameterConfig.fetchCompiledPatterns()).thenReturn(patterns);
+        lenient().when(targetsParameterConfig.fetchPatternMatcher()).thenReturn(MultiPatternMatcher.compile(new ArrayList<>(patterns.keySet())));
         lenient().when(targetsParameterConfig.getRegexParameterConfiguration()).thenReturn(mockRegexConfig);
         lenient().when(mockRegexConfig.getExact()).thenReturn(true);
 
@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -428,6 +429,28 @@ class TranslateProcessorTest {
         assertFalse(translatedNegativeRecords.get(0).getData().containsKey("targetField"));
     }
 
+    @Test
+    void test_regex_patterns_are_matched_in_configured_order() {
+        final Map<String, Object> patterns = new LinkedHashMap<>();
+        for (int i = 0; i < 50; i++) {
+            patterns.put("^status-" + i + "-.*$", "statusValue" + i);
+        }
+        patterns.put("^status-1.*$", "laterValue");
+        patterns.put("^[a-z]+-7-.*$", "characterClassValue");
+        when(mockRegexConfig.getPatterns()).thenReturn(patterns);
+        targetsParameterConfig = new TargetsParameterConfig(null, "targetField", mockRegexConfig, null, null, null);
+        when(mappingsParameterConfig.getTargetsParameterConfigs()).thenReturn(List.of(targetsParameterConfig));
+
+        final TranslateProcessor processor = createObjectUnderTest();
+        final List<Record<Event>> translatedRecords = (List<Record<Event>>) processor.doExecute(List.of(
+                getEvent("status-1-ok"), getEvent("status-17-ok"), getEvent("other-7-ok"), getEvent("status-x")));
+
+        assertThat(translatedRecords.get(0).getData().get("targetField", String.class), is("statusValue1"));
+        assertThat(translatedRecords.get(1).getData().get("targetField", String.class), is("statusValue17"));
+        assertThat(translatedRecords.get(2).getData().get("targetField", String.class), is("characterClassValue"));
+        assertFalse(translatedRecords.get(3).getData().containsKey("targetField"));
+    }
+
     @Test
     void test_nested_records_with_default_value() {
         final Map<String, Object> testJson = Map.of("collection", List.of(